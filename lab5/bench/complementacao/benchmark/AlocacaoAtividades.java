@@ -0,0 +1,85 @@
+package complementacao.benchmark;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import complementacao.controller.UsuarioController;
+import complementacao.enums.TipoAtividade;
+import complementacao.model.Usuario;
+import complementacao.model.atividade.SolicitacaoAtividade;
+import complementacao.util.CodificadorSenha;
+
+/**
+ * Mede a alocação de memória da geração de códigos e da criação de atividades.
+ *
+ * A geração do código é comparada com a versão anterior, reproduzida aqui como referência, que formatava o CPF
+ * com uma expressão regular e criava uma lista vazia a cada chamada. A criação de atividades é medida uma a uma
+ * e em lotes por {@link UsuarioController#criarAtividades}, que autentica uma vez por lote; nos lotes, o tempo
+ * e a alocação informados são os do lote inteiro.
+ *
+ * Argumentos, todos opcionais e nesta ordem:
+ * <ol>
+ * <li>quantidade de estudantes (padrão 10000);</li>
+ * <li>atividades por lote (padrão 100);</li>
+ * <li>duração do aquecimento de cada operação, em milissegundos (padrão 1000);</li>
+ * <li>duração da medição de cada operação, em milissegundos (padrão 2000).</li>
+ * </ol>
+ *
+ * @author Isadora Lucena
+ */
+public class AlocacaoAtividades {
+	private static final String SENHA = "senha1234567";
+
+	private static String cpf(long numero) {
+		String digitos = Long.toString(numero);
+		return "0".repeat(11 - digitos.length()) + digitos;
+	}
+
+	/**
+	 * Geração de código anterior, com a expressão regular compilada a cada chamada.
+	 */
+	private static String gerarCodigoComExpressaoRegular(String cpf, Map<TipoAtividade, List<Object>> atividades, TipoAtividade tipo) {
+		int tamanho = atividades.getOrDefault(tipo, new ArrayList<>()).size() + 1;
+		return cpf.replaceAll("(\\d{3})(\\d{3})(\\d{3})(\\d{2})", "$1.$2.$3-$4") + "_" + tamanho;
+	}
+
+	/**
+	 * Executa as medições.
+	 *
+	 * @param args Estudantes, atividades por lote, aquecimento e medição, como descrito na classe.
+	 */
+	public static void main(String[] args) {
+		int tamanho = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+		int tamanhoLote = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+		long aquecimento = args.length > 2 ? Long.parseLong(args[2]) : 1000;
+		long medicao = args.length > 3 ? Long.parseLong(args[3]) : 2000;
+
+		CodificadorSenha codificador = new CodificadorSenha(CodificadorSenha.ALGORITMO_PADRAO, 1, TimeUnit.MINUTES.toNanos(30));
+		UsuarioController controller = new UsuarioController(codificador);
+		String[] cpfs = new String[tamanho];
+		for (int i = 0; i < tamanho; i++) {
+			cpfs[i] = cpf(i);
+			controller.criarEstudante("Estudante " + i, cpfs[i], SENHA, "2023." + i);
+		}
+		List<SolicitacaoAtividade> lote = new ArrayList<>(tamanhoLote);
+		for (int i = 0; i < tamanhoLote; i++) {
+			lote.add(new SolicitacaoAtividade("monitoria", 1, "P" + (i % 4)));
+		}
+		Usuario usuario = new Usuario("Estudante", cpf(12345678900L), SENHA, "2023.1", codificador);
+		Map<TipoAtividade, List<Object>> atividades = new EnumMap<>(TipoAtividade.class);
+
+		Medidor medidor = new Medidor(aquecimento, medicao);
+		medidor.imprimirCabecalho();
+		medidor.medir("gerarCodigoAtividade (regex, anterior)", tamanho,
+				i -> gerarCodigoComExpressaoRegular(usuario.getCpf(), atividades, TipoAtividade.MONITORIA));
+		medidor.medir("gerarCodigoAtividade", tamanho, i -> usuario.gerarCodigoAtividade(TipoAtividade.MONITORIA));
+		medidor.medir("criarAtividadeMonitoria", tamanho,
+				i -> controller.criarAtividadeMonitoria(cpfs[(int) (i % tamanho)], SENHA, 1, "P1"));
+		medidor.medir("criarAtividades/lote de " + tamanhoLote, tamanho,
+				i -> controller.criarAtividades(cpfs[(int) (i % tamanho)], SENHA, lote));
+		System.out.println("# " + medidor.getDescarte());
+	}
+}
@@ -0,0 +1,85 @@
+package complementacao.benchmark;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Random;
+
+import complementacao.enums.TipoAtividade;
+import complementacao.util.ClassificadorPalavrasChave;
+
+/**
+ * Mede a conversão de textos em {@link TipoAtividade} pelo {@link ClassificadorPalavrasChave}, comparada com a
+ * versão anterior, reproduzida aqui como referência, que removia os acentos com o {@link Normalizer} e uma
+ * expressão regular e procurava as palavras-chave de cada tipo com um fluxo.
+ *
+ * São medidos dois cenários: poucos textos repetidos, como os nomes de tipos digitados pelos usuários, que o
+ * classificador responde pela cache; e {@value #QUANTIDADE_ENTRADAS} descrições distintas, maiores que a cache,
+ * que percorrem o autômato. Nas descrições, uma parte dos textos tem acentos e passa pelo {@link Normalizer}
+ * nas duas versões; na tabela, a coluna de usuários informa o percentual de textos com acentos.
+ *
+ * Argumentos, todos opcionais e nesta ordem:
+ * <ol>
+ * <li>percentual de textos com acentos (padrão 50);</li>
+ * <li>duração do aquecimento de cada operação, em milissegundos (padrão 1000);</li>
+ * <li>duração da medição de cada operação, em milissegundos (padrão 2000).</li>
+ * </ol>
+ *
+ * @author Isadora Lucena
+ */
+public class BenchmarkClassificador {
+	private static final int QUANTIDADE_ENTRADAS = 1024;
+	private static final String[] REPETIDAS = { "monitoria", "Estágio", "pesquisa", "representação estudantil" };
+	private static final String[] DESCRICOES_ASCII = { "Monitoria de Calculo %d", "Estagio na empresa %d",
+			"Projeto de extensao %d", "Representacao estudantil no centro %d", "Trabalho voluntario %d" };
+	private static final String[] DESCRICOES_ACENTOS = { "Monitoria de Cálculo %d", "Estágio na empresa %d",
+			"Projeto de extensão %d", "Representação estudantil no centro %d", "Trabalho voluntário %d" };
+
+	private static String[] descrever(Random aleatorio, int percentualAcentos) {
+		String[] entradas = new String[QUANTIDADE_ENTRADAS];
+		for (int i = 0; i < entradas.length; i++) {
+			String[] modelos = aleatorio.nextInt(100) < percentualAcentos ? DESCRICOES_ACENTOS : DESCRICOES_ASCII;
+			entradas[i] = String.format(modelos[aleatorio.nextInt(modelos.length)], i);
+		}
+		return entradas;
+	}
+
+	/**
+	 * Conversão anterior, com a remoção de acentos por expressão regular e a busca das palavras-chave por fluxos.
+	 */
+	private static TipoAtividade converterAnterior(String texto, List<List<String>> palavrasChave) {
+		String textoNormalizado = Normalizer.normalize(texto, Normalizer.Form.NFD).replaceAll("\\p{M}", "").toLowerCase();
+		TipoAtividade[] tipos = TipoAtividade.values();
+		for (int i = 0; i < tipos.length; i++) {
+			if (palavrasChave.get(i).stream().anyMatch(textoNormalizado::contains)) return tipos[i];
+		}
+		throw new IllegalArgumentException("Atividade inválida");
+	}
+
+	/**
+	 * Executa as medições.
+	 *
+	 * @param args Percentual de textos com acentos, aquecimento e medição, como descrito na classe.
+	 */
+	public static void main(String[] args) {
+		int percentualAcentos = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+		long aquecimento = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+		long medicao = args.length > 2 ? Long.parseLong(args[2]) : 2000;
+
+		String[] descricoes = descrever(new Random(42), percentualAcentos);
+		int mascara = QUANTIDADE_ENTRADAS - 1;
+		List<List<String>> palavrasChave = List.of(List.of("pesquisa", "extensao"), List.of("monitoria", "ensino"),
+				List.of("estagio", "trabalho"), List.of("representacao", "estudantil"));
+
+		Medidor medidor = new Medidor(aquecimento, medicao);
+		medidor.imprimirCabecalho();
+		medidor.medir("descricoes", percentualAcentos,
+				i -> TipoAtividade.converterStringEmAtividade(descricoes[(int) i & mascara]));
+		medidor.medir("descricoes (anterior)", percentualAcentos,
+				i -> converterAnterior(descricoes[(int) i & mascara], palavrasChave));
+		medidor.medir("repetidas", percentualAcentos,
+				i -> TipoAtividade.converterStringEmAtividade(REPETIDAS[(int) i & 3]));
+		medidor.medir("repetidas (anterior)", percentualAcentos,
+				i -> converterAnterior(REPETIDAS[(int) i & 3], palavrasChave));
+		System.out.println("# " + medidor.getDescarte());
+	}
+}
@@ -0,0 +1,118 @@
+package complementacao.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import complementacao.controller.DicaController;
+import complementacao.controller.UsuarioController;
+import complementacao.facade.Facade;
+import complementacao.util.CodificadorSenha;
+
+/**
+ * Mede as principais operações da {@link Facade} em cenários com quantidades crescentes de usuários.
+ *
+ * Para cada tamanho, um novo sistema é populado com os usuários, com algumas dicas e com estudantes que já
+ * alcançaram a meta de créditos; em seguida cada operação é aquecida e medida pelo {@link Medidor}.
+ * Não há dependências além das classes do sistema: basta compilar {@code src} e {@code bench} juntos.
+ *
+ * Argumentos, todos opcionais e nesta ordem:
+ * <ol>
+ * <li>tamanhos separados por vírgula (padrão {@code 1000,100000,1000000});</li>
+ * <li>duração do aquecimento de cada operação, em milissegundos (padrão 1000);</li>
+ * <li>duração da medição de cada operação, em milissegundos (padrão 2000);</li>
+ * <li>iterações da derivação das senhas (padrão 1). Com o valor de produção,
+ *     {@link CodificadorSenha#ITERACOES_PADRAO}, popular um milhão de usuários leva dezenas de minutos,
+ *     e o cadastro passa a medir apenas o custo da derivação.</li>
+ * </ol>
+ *
+ * @author Isadora Lucena
+ */
+public class BenchmarkFacade {
+	private static final String SENHA = "senha1234567";
+	private static final int MAXIMO_ESTUDANTES_NA_META = 10000;
+
+	private final int tamanho;
+	private final Facade facade;
+	private final int[] posicoesDicas;
+	private final String[] autoresDicas;
+	private final String[] estudantesNaMeta;
+
+	private BenchmarkFacade(int tamanho, int iteracoesKdf) {
+		this.tamanho = tamanho;
+		UsuarioController usuarioController = new UsuarioController(
+				new CodificadorSenha(CodificadorSenha.ALGORITMO_PADRAO, iteracoesKdf, TimeUnit.MINUTES.toNanos(30)));
+		this.facade = new Facade(usuarioController, new DicaController(usuarioController));
+
+		for (int i = 0; i < tamanho; i++) {
+			facade.criarEstudante("Estudante " + i, cpf(i), SENHA, "2023." + i);
+		}
+
+		this.estudantesNaMeta = new String[Math.min(MAXIMO_ESTUDANTES_NA_META, Math.max(1, tamanho / 10))];
+		for (int i = 0; i < estudantesNaMeta.length; i++) {
+			estudantesNaMeta[i] = cpf(i);
+			facade.criarAtividadePesquisaExtensaoEmEstudante(estudantesNaMeta[i], SENHA, 24, "PET");
+			facade.criarAtividadeEstagioEmEstudante(estudantesNaMeta[i], SENHA, 1080, "Empresa");
+		}
+
+		this.posicoesDicas = new int[Math.max(1, tamanho / 10)];
+		this.autoresDicas = new String[posicoesDicas.length];
+		for (int i = 0; i < posicoesDicas.length; i++) {
+			autoresDicas[i] = cpf(i * 10 % tamanho);
+			posicoesDicas[i] = facade.adicionarDica(autoresDicas[i], SENHA, i % 2 == 0 ? "monitoria" : "estagio");
+			facade.adicionarElementoTextoDica(autoresDicas[i], SENHA, posicoesDicas[i], "Dica número " + i + " ".repeat(110));
+		}
+	}
+
+	private static String cpf(long numero) {
+		String digitos = Long.toString(numero);
+		return "0".repeat(11 - digitos.length()) + digitos;
+	}
+
+	private String usuario(long iteracao) {
+		return cpf(iteracao % tamanho);
+	}
+
+	/**
+	 * Mede primeiro as consultas, sobre o cenário recém-populado, e depois as operações que o alteram,
+	 * já que estas acrescentam usuários, atividades e elementos a cada execução.
+	 */
+	private void executar(Medidor medidor) {
+		medidor.medir("listarUsuariosRankingDicas", tamanho, i -> facade.listarUsuariosRankingDicas());
+		medidor.medir("exibirEstudantes", tamanho, i -> facade.exibirEstudantes());
+		medidor.medir("gerarRelatorioFinal", tamanho,
+				i -> facade.gerarRelatorioFinal(estudantesNaMeta[(int) (i % estudantesNaMeta.length)], SENHA));
+		medidor.medir("listarDicasDetalhes", tamanho, i -> facade.listarDicasDetalhes());
+		medidor.medir("criarEstudante", tamanho,
+				i -> facade.criarEstudante("Novo " + i, cpf(tamanho + i), SENHA, "2024.1"));
+		medidor.medir("criarAtividadeMonitoriaEmEstudante", tamanho,
+				i -> facade.criarAtividadeMonitoriaEmEstudante(usuario(i), SENHA, 1, "P1"));
+		medidor.medir("criarAtividadePesquisaExtensaoEmEstudante", tamanho,
+				i -> facade.criarAtividadePesquisaExtensaoEmEstudante(usuario(i), SENHA, 12, "PIBIC"));
+		medidor.medir("criarAtividadeEstagioEmEstudante", tamanho,
+				i -> facade.criarAtividadeEstagioEmEstudante(usuario(i), SENHA, 300, "Empresa"));
+		medidor.medir("criarAtividadeRepresentacaoEstudantil", tamanho,
+				i -> facade.criarAtividadeRepresentacaoEstudantil(usuario(i), SENHA, 2, "Diretoria"));
+		medidor.medir("adicionarElementoTextoDica", tamanho, i -> {
+			int dica = (int) (i % posicoesDicas.length);
+			return facade.adicionarElementoTextoDica(autoresDicas[dica], SENHA, posicoesDicas[dica], "Texto da dica " + i);
+		});
+	}
+
+	/**
+	 * Executa as medições.
+	 *
+	 * @param args Tamanhos, aquecimento, medição e iterações da derivação das senhas, como descrito na classe.
+	 */
+	public static void main(String[] args) {
+		String[] tamanhos = (args.length > 0 ? args[0] : "1000,100000,1000000").split(",");
+		long aquecimento = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+		long medicao = args.length > 2 ? Long.parseLong(args[2]) : 2000;
+		int iteracoesKdf = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+
+		Medidor medidor = new Medidor(aquecimento, medicao);
+		medidor.imprimirCabecalho();
+		for (String tamanho : tamanhos) {
+			new BenchmarkFacade(Integer.parseInt(tamanho.trim()), iteracoesKdf).executar(medidor);
+		}
+		System.out.println("# " + medidor.getDescarte());
+	}
+}
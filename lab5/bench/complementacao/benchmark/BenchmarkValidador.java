@@ -0,0 +1,119 @@
+package complementacao.benchmark;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+import complementacao.util.Validador;
+
+/**
+ * Mede a validação de CPFs e a conversão de datas do {@link Validador} sobre uma mistura de entradas válidas e
+ * inválidas, comparando a consulta sem exceções, a validação que lança {@link complementacao.util.ExcecaoValidacao}
+ * (sem pilha de chamadas) e a versão anterior, reproduzida aqui como referência, que compilava uma expressão
+ * regular ou criava um formatador a cada chamada e lançava exceções com a pilha completa.
+ *
+ * As entradas inválidas reproduzem os erros mais comuns: CPF formatado com pontos e hífen, com letras ou com
+ * tamanho errado, e data com dia ou mês fora do intervalo ou em outro formato. Na tabela, a coluna de usuários
+ * informa o percentual de entradas inválidas.
+ *
+ * Argumentos, todos opcionais e nesta ordem:
+ * <ol>
+ * <li>percentual de entradas inválidas (padrão 10);</li>
+ * <li>duração do aquecimento de cada operação, em milissegundos (padrão 1000);</li>
+ * <li>duração da medição de cada operação, em milissegundos (padrão 2000).</li>
+ * </ol>
+ *
+ * @author Isadora Lucena
+ */
+public class BenchmarkValidador {
+	private static final int QUANTIDADE_ENTRADAS = 1024;
+	private static final String[] CPFS_INVALIDOS = { "123.456.789-00", "1234567890a", "1234567890", "" };
+	private static final String[] DATAS_INVALIDAS = { "32/01/2024", "15/13/2024", "2024-01-15", "15/1/2024" };
+
+	private static String[] misturar(Random aleatorio, int percentualInvalidas, String[] invalidas, boolean cpf) {
+		String[] entradas = new String[QUANTIDADE_ENTRADAS];
+		for (int i = 0; i < entradas.length; i++) {
+			if (aleatorio.nextInt(100) < percentualInvalidas) {
+				entradas[i] = invalidas[aleatorio.nextInt(invalidas.length)];
+			} else if (cpf) {
+				entradas[i] = String.format("%011d", aleatorio.nextLong(100_000_000_000L));
+			} else {
+				entradas[i] = String.format("%02d/%02d/%04d", 1 + aleatorio.nextInt(28), 1 + aleatorio.nextInt(12), 2000 + aleatorio.nextInt(30));
+			}
+		}
+		return entradas;
+	}
+
+	private static Object validarCpf(String cpf) {
+		try {
+			Validador.validarCPF(cpf);
+			return cpf;
+		} catch (IllegalArgumentException e) {
+			return e.getMessage();
+		}
+	}
+
+	private static Object validarData(String data) {
+		try {
+			return Validador.validarEConverterData(data);
+		} catch (IllegalArgumentException e) {
+			return e.getMessage();
+		}
+	}
+
+	/**
+	 * Validação de CPF anterior, com a expressão regular compilada a cada chamada.
+	 */
+	private static Object validarCpfAnterior(String cpf) {
+		try {
+			if (cpf == null || cpf.isBlank() || cpf.length() != Validador.MAX_DIGITOS_CPF || !cpf.matches("\\d+")) {
+				throw new IllegalArgumentException("CPF inválido.");
+			}
+			return cpf;
+		} catch (IllegalArgumentException e) {
+			return e.getMessage();
+		}
+	}
+
+	/**
+	 * Conversão de data anterior, com um formatador criado a cada chamada.
+	 */
+	private static Object validarDataAnterior(String data) {
+		try {
+			try {
+				return LocalDate.parse(data, DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+			} catch (DateTimeParseException e) {
+				throw new IllegalArgumentException("Data inválida! Use o formato dd/MM/yyyy.");
+			}
+		} catch (IllegalArgumentException e) {
+			return e.getMessage();
+		}
+	}
+
+	/**
+	 * Executa as medições.
+	 *
+	 * @param args Percentual de entradas inválidas, aquecimento e medição, como descrito na classe.
+	 */
+	public static void main(String[] args) {
+		int percentualInvalidas = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+		long aquecimento = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+		long medicao = args.length > 2 ? Long.parseLong(args[2]) : 2000;
+
+		Random aleatorio = new Random(42);
+		String[] cpfs = misturar(aleatorio, percentualInvalidas, CPFS_INVALIDOS, true);
+		String[] datas = misturar(aleatorio, percentualInvalidas, DATAS_INVALIDAS, false);
+		int mascara = QUANTIDADE_ENTRADAS - 1;
+
+		Medidor medidor = new Medidor(aquecimento, medicao);
+		medidor.imprimirCabecalho();
+		medidor.medir("cpfValido", percentualInvalidas, i -> Validador.cpfValido(cpfs[(int) i & mascara]));
+		medidor.medir("validarCPF", percentualInvalidas, i -> validarCpf(cpfs[(int) i & mascara]));
+		medidor.medir("validarCPF (regex, anterior)", percentualInvalidas, i -> validarCpfAnterior(cpfs[(int) i & mascara]));
+		medidor.medir("converterDataOuNulo", percentualInvalidas, i -> Validador.converterDataOuNulo(datas[(int) i & mascara]));
+		medidor.medir("validarEConverterData", percentualInvalidas, i -> validarData(datas[(int) i & mascara]));
+		medidor.medir("validarEConverterData (anterior)", percentualInvalidas, i -> validarDataAnterior(datas[(int) i & mascara]));
+		System.out.println("# " + medidor.getDescarte());
+	}
+}
@@ -0,0 +1,169 @@
+package complementacao.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import complementacao.controller.DicaController;
+import complementacao.controller.UsuarioController;
+import complementacao.facade.Facade;
+import complementacao.http.ServidorHttp;
+import complementacao.metricas.HistogramaLatencia;
+import complementacao.util.CodificadorSenha;
+
+/**
+ * Teste de carga local do {@link ServidorHttp}: inicia o servidor em uma porta livre, com estudantes,
+ * atividades e dicas já cadastrados, e dispara clientes simultâneos contra ele.
+ *
+ * Cada cliente faz suas requisições em sequência, cada uma logo após a resposta da anterior, de modo que
+ * todos os clientes ficam com uma requisição em andamento ao mesmo tempo. As requisições alternam entre
+ * relatório parcial, créditos por atividade, listagem paginada de dicas e cadastro de monitoria, sempre com
+ * as credenciais de um dos estudantes. São usadas apenas as classes do sistema e o {@link HttpClient} do JDK.
+ *
+ * Argumentos, todos opcionais e nesta ordem:
+ * <ol>
+ * <li>clientes simultâneos (padrão 10000);</li>
+ * <li>requisições por cliente (padrão 10);</li>
+ * <li>estudantes cadastrados (padrão 10000);</li>
+ * <li>iterações da derivação das senhas (padrão 1), como em {@link BenchmarkFacade}.</li>
+ * </ol>
+ *
+ * Com muitos clientes, o limite de arquivos abertos do sistema precisa comportar uma conexão por cliente
+ * em cada lado.
+ *
+ * @author Isadora Lucena
+ */
+public class CargaServidorHttp {
+	private static final String SENHA = "senha1234567";
+
+	private final int clientes;
+	private final int requisicoesPorCliente;
+	private final int estudantes;
+	private final HttpClient cliente;
+	private final URI base;
+	private final HistogramaLatencia latencias = new HistogramaLatencia();
+	private final LongAdder sucessos = new LongAdder();
+	private final LongAdder errosHttp = new LongAdder();
+	private final LongAdder falhasConexao = new LongAdder();
+
+	private CargaServidorHttp(int clientes, int requisicoesPorCliente, int estudantes, int porta) {
+		this.clientes = clientes;
+		this.requisicoesPorCliente = requisicoesPorCliente;
+		this.estudantes = estudantes;
+		this.cliente = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+		this.base = URI.create("http://localhost:" + porta + "/");
+	}
+
+	private static Facade popular(int estudantes, int iteracoesKdf) {
+		UsuarioController usuarioController = new UsuarioController(
+				new CodificadorSenha(CodificadorSenha.ALGORITMO_PADRAO, iteracoesKdf, TimeUnit.MINUTES.toNanos(30)));
+		Facade facade = new Facade(usuarioController, new DicaController(usuarioController));
+		for (int i = 0; i < estudantes; i++) {
+			facade.criarEstudante("Estudante " + i, cpf(i), SENHA, "2023." + i);
+			facade.criarAtividadeEstagioEmEstudante(cpf(i), SENHA, 300, "Empresa " + i % 50);
+			if (i % 10 == 0) {
+				int posicao = facade.adicionarDica(cpf(i), SENHA, i % 20 == 0 ? "monitoria" : "estagio");
+				facade.adicionarElementoTextoDica(cpf(i), SENHA, posicao, "Dica número " + i);
+			}
+		}
+		return facade;
+	}
+
+	private static String cpf(long numero) {
+		String digitos = Long.toString(numero);
+		return "0".repeat(11 - digitos.length()) + digitos;
+	}
+
+	private HttpRequest requisicao(int indiceCliente, int iteracao) {
+		String credenciais = "\"cpf\": \"" + cpf(indiceCliente % estudantes) + "\", \"senha\": \"" + SENHA + "\"";
+		String operacao;
+		String corpo;
+		switch (iteracao % 4) {
+		case 0 -> {
+			operacao = "gerarRelatorioParcial";
+			corpo = "{" + credenciais + ", \"salvar\": false}";
+		}
+		case 1 -> {
+			operacao = "creditosAtividade";
+			corpo = "{" + credenciais + ", \"tipo\": \"ESTAGIO\"}";
+		}
+		case 2 -> {
+			operacao = "listarDicas";
+			corpo = "{\"inicio\": " + indiceCliente % 100 + ", \"quantidade\": 10}";
+		}
+		default -> {
+			operacao = "criarAtividadeMonitoriaEmEstudante";
+			corpo = "{" + credenciais + ", \"unidadeAcumulada\": 1, \"disciplina\": \"P" + iteracao + "\"}";
+		}
+		}
+		return HttpRequest.newBuilder(base.resolve(operacao))
+				.timeout(Duration.ofMinutes(2))
+				.POST(HttpRequest.BodyPublishers.ofString(corpo))
+				.build();
+	}
+
+	private CompletableFuture<Void> executarCliente(int indiceCliente, int iteracao) {
+		if (iteracao == requisicoesPorCliente) return CompletableFuture.completedFuture(null);
+		long inicio = System.nanoTime();
+		return cliente.sendAsync(requisicao(indiceCliente, iteracao), HttpResponse.BodyHandlers.discarding())
+				.handle((resposta, erro) -> {
+					latencias.registrar(System.nanoTime() - inicio);
+					if (erro != null) {
+						falhasConexao.increment();
+					} else if (resposta.statusCode() == 200) {
+						sucessos.increment();
+					} else {
+						errosHttp.increment();
+					}
+					return null;
+				})
+				.thenCompose(ignorado -> executarCliente(indiceCliente, iteracao + 1));
+	}
+
+	private void executar() {
+		long inicio = System.nanoTime();
+		CompletableFuture<?>[] execucoes = new CompletableFuture<?>[clientes];
+		for (int i = 0; i < clientes; i++) {
+			execucoes[i] = executarCliente(i, 0);
+		}
+		CompletableFuture.allOf(execucoes).join();
+		double segundos = (System.nanoTime() - inicio) / 1e9;
+
+		long total = latencias.quantidade();
+		long[] percentis = latencias.percentis(0.5, 0.99, 0.999);
+		System.out.println(String.format(Locale.ROOT, "clientes=%d requisicoes=%d sucessos=%d errosHttp=%d falhasConexao=%d",
+				clientes, total, sucessos.sum(), errosHttp.sum(), falhasConexao.sum()));
+		System.out.println(String.format(Locale.ROOT, "duracao=%.1fs vazao=%.0f req/s p50=%.1fms p99=%.1fms p999=%.1fms max=%.1fms",
+				segundos, total / segundos, percentis[0] / 1e6, percentis[1] / 1e6, percentis[2] / 1e6, latencias.maximo() / 1e6));
+	}
+
+	/**
+	 * Executa o teste de carga.
+	 *
+	 * @param args Clientes, requisições por cliente, estudantes e iterações da derivação das senhas, como descrito na classe.
+	 * @throws IOException se o servidor não puder ser iniciado.
+	 */
+	public static void main(String[] args) throws IOException {
+		int clientes = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+		int requisicoesPorCliente = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+		int estudantes = args.length > 2 ? Integer.parseInt(args[2]) : 10000;
+		int iteracoesKdf = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+
+		Facade facade = popular(estudantes, iteracoesKdf);
+		ServidorHttp servidor = new ServidorHttp(facade, 0);
+		servidor.iniciar();
+		try {
+			new CargaServidorHttp(clientes, requisicoesPorCliente, estudantes, servidor.getPorta()).executar();
+			System.out.print(facade.formatarMetricas());
+		} finally {
+			servidor.parar(0);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package complementacao.benchmark;
+
+import complementacao.metricas.HistogramaLatencia;
+import complementacao.metricas.MetricasOperacoes;
+
+/**
+ * Mede o custo de registrar métricas quando várias threads registram a mesma operação ao mesmo tempo, que é o
+ * caso da {@link complementacao.facade.Facade} sob carga: todas as chamadas de um método caem no mesmo
+ * {@link HistogramaLatencia} e, como as latências se repetem, nas mesmas poucas faixas.
+ *
+ * Para cada quantidade de threads, de 1 até o máximo dobrando a cada passo, são medidos o registro direto no
+ * histograma compartilhado e uma chamada vazia medida de três formas: por {@link MetricasOperacoes#medir}, que
+ * procura as métricas pelo nome; pela {@link MetricasOperacoes.Metrica} obtida uma vez, como faz a fachada; e
+ * por {@link MetricasOperacoes.Metrica#iniciar()} e {@link MetricasOperacoes.Metrica#concluir(long)}, sem criar a
+ * chamada. Sem disputa, o tempo por operação se mantém constante com mais threads enquanto houver processadores
+ * livres.
+ *
+ * Argumentos, todos opcionais e nesta ordem:
+ * <ol>
+ * <li>quantidade máxima de threads (padrão: duas vezes a quantidade de processadores);</li>
+ * <li>duração do aquecimento de cada medição, em milissegundos (padrão 1000);</li>
+ * <li>duração de cada medição, em milissegundos (padrão 2000).</li>
+ * </ol>
+ *
+ * @author Isadora Lucena
+ */
+public class ContencaoMetricas {
+	private static final int FAIXAS_USADAS = 4;
+	private static final String[] RESULTADOS = { "a", "b", "c", "d" };
+
+	/**
+	 * Executa as medições.
+	 *
+	 * @param args Quantidade máxima de threads, aquecimento e medição, como descrito na classe.
+	 */
+	public static void main(String[] args) {
+		int maximoThreads = args.length > 0 ? Integer.parseInt(args[0]) : 2 * Runtime.getRuntime().availableProcessors();
+		long aquecimento = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+		long medicao = args.length > 2 ? Long.parseLong(args[2]) : 2000;
+
+		Medidor medidor = new Medidor(aquecimento, medicao);
+		medidor.imprimirCabecalho();
+		for (int threads = 1; threads <= maximoThreads; threads *= 2) {
+			HistogramaLatencia histograma = new HistogramaLatencia();
+			medidor.medirEmParalelo("registrar/" + threads + " threads", 0, threads, i -> {
+				histograma.registrar(1000 + (i % FAIXAS_USADAS) * 200);
+				return null;
+			});
+
+			MetricasOperacoes metricas = new MetricasOperacoes();
+			medidor.medirEmParalelo("medir/" + threads + " threads", 0, threads, i -> {
+				String resultado = RESULTADOS[(int) i & (RESULTADOS.length - 1)];
+				return metricas.medir("operacao", () -> resultado);
+			});
+
+			MetricasOperacoes.Metrica metrica = metricas.metrica("operacao");
+			medidor.medirEmParalelo("metrica.medir/" + threads + " threads", 0, threads, i -> {
+				String resultado = RESULTADOS[(int) i & (RESULTADOS.length - 1)];
+				return metrica.medir(() -> resultado);
+			});
+			medidor.medirEmParalelo("iniciar+concluir/" + threads + " threads", 0, threads, i -> {
+				long inicio = metrica.iniciar();
+				metrica.concluir(inicio);
+				return null;
+			});
+		}
+		System.out.println("# " + medidor.getDescarte());
+	}
+}
@@ -0,0 +1,83 @@
+package complementacao.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import complementacao.controller.UsuarioController;
+import complementacao.util.CodificadorSenha;
+
+/**
+ * Compara o custo de autenticação por chamada com e sem a sessão autenticada do {@link CodificadorSenha}.
+ *
+ * Dois controladores recebem os mesmos estudantes: um com sessões de 30 minutos e outro com sessões
+ * desativadas. Em ambos é medida uma consulta barata, {@link UsuarioController#creditosAtividade}, de modo que o
+ * tempo medido seja quase todo de autenticação: sem sessão, cada chamada executa a derivação da senha; com
+ * sessão, apenas a primeira. Também são medidas uma senha incorreta, que sempre executa a derivação, e a
+ * derivação isolada, como referência.
+ *
+ * Argumentos, todos opcionais e nesta ordem:
+ * <ol>
+ * <li>quantidade de estudantes (padrão 256);</li>
+ * <li>iterações da derivação das senhas (padrão {@link CodificadorSenha#ITERACOES_PADRAO});</li>
+ * <li>duração do aquecimento de cada operação, em milissegundos (padrão 1000);</li>
+ * <li>duração da medição de cada operação, em milissegundos (padrão 2000).</li>
+ * </ol>
+ *
+ * @author Isadora Lucena
+ */
+public class CustoAutenticacao {
+	private static final String SENHA = "senha1234567";
+
+	private static String cpf(long numero) {
+		String digitos = Long.toString(numero);
+		return "0".repeat(11 - digitos.length()) + digitos;
+	}
+
+	private static UsuarioController popular(CodificadorSenha codificador, String[] cpfs) {
+		UsuarioController controller = new UsuarioController(codificador);
+		for (int i = 0; i < cpfs.length; i++) {
+			controller.criarEstudante("Estudante " + i, cpfs[i], SENHA, "2023." + i);
+		}
+		return controller;
+	}
+
+	private static Object tentarSenhaIncorreta(UsuarioController controller, String cpf) {
+		try {
+			return controller.creditosAtividade(cpf, "senhaincorreta", "monitoria");
+		} catch (SecurityException e) {
+			return e.getMessage();
+		}
+	}
+
+	/**
+	 * Executa as medições.
+	 *
+	 * @param args Estudantes, iterações, aquecimento e medição, como descrito na classe.
+	 */
+	public static void main(String[] args) {
+		int tamanho = args.length > 0 ? Integer.parseInt(args[0]) : 256;
+		int iteracoes = args.length > 1 ? Integer.parseInt(args[1]) : CodificadorSenha.ITERACOES_PADRAO;
+		long aquecimento = args.length > 2 ? Long.parseLong(args[2]) : 1000;
+		long medicao = args.length > 3 ? Long.parseLong(args[3]) : 2000;
+
+		String[] cpfs = new String[tamanho];
+		for (int i = 0; i < tamanho; i++) {
+			cpfs[i] = cpf(i);
+		}
+		CodificadorSenha comSessao = new CodificadorSenha(CodificadorSenha.ALGORITMO_PADRAO, iteracoes, TimeUnit.MINUTES.toNanos(30));
+		CodificadorSenha semSessao = new CodificadorSenha(CodificadorSenha.ALGORITMO_PADRAO, iteracoes, 0);
+		UsuarioController controllerComSessao = popular(comSessao, cpfs);
+		UsuarioController controllerSemSessao = popular(semSessao, cpfs);
+		byte[] sal = semSessao.gerarSal();
+
+		Medidor medidor = new Medidor(aquecimento, medicao);
+		medidor.imprimirCabecalho();
+		medidor.medir("autenticar com sessao", tamanho,
+				i -> controllerComSessao.creditosAtividade(cpfs[(int) (i % tamanho)], SENHA, "monitoria"));
+		medidor.medir("autenticar sem sessao", tamanho,
+				i -> controllerSemSessao.creditosAtividade(cpfs[(int) (i % tamanho)], SENHA, "monitoria"));
+		medidor.medir("senha incorreta com sessao", tamanho,
+				i -> tentarSenhaIncorreta(controllerComSessao, cpfs[(int) (i % tamanho)]));
+		medidor.medir("derivacao da senha", tamanho, i -> semSessao.codificar(SENHA, sal));
+		System.out.println("# " + medidor.getDescarte());
+	}
+}
@@ -0,0 +1,70 @@
+package complementacao.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import complementacao.controller.UsuarioController;
+import complementacao.util.CodificadorSenha;
+
+/**
+ * Mede como a vazão do {@link UsuarioController} cresce com a quantidade de threads quando cada thread altera e
+ * consulta estudantes diferentes: o cadastro é um mapa concorrente e cada operação trava apenas o monitor do
+ * próprio estudante, então a vazão deve crescer linearmente até a quantidade de processadores.
+ *
+ * Para cada quantidade de threads, de 1 até o máximo dobrando a cada passo, são medidas a criação de atividades,
+ * o crédito de bonificação e a geração de relatórios parciais. Cada thread percorre os estudantes a partir de
+ * uma posição diferente. As senhas já foram conferidas antes da medição, e as operações usam a sessão
+ * autenticada, de modo que a derivação das senhas não domina o tempo.
+ *
+ * Argumentos, todos opcionais e nesta ordem:
+ * <ol>
+ * <li>quantidade de estudantes (padrão 10000);</li>
+ * <li>quantidade máxima de threads (padrão: duas vezes a quantidade de processadores);</li>
+ * <li>duração do aquecimento de cada medição, em milissegundos (padrão 1000);</li>
+ * <li>duração de cada medição, em milissegundos (padrão 2000).</li>
+ * </ol>
+ *
+ * @author Isadora Lucena
+ */
+public class EscalabilidadeUsuarios {
+	private static final String SENHA = "senha1234567";
+
+	private static String cpf(long numero) {
+		String digitos = Long.toString(numero);
+		return "0".repeat(11 - digitos.length()) + digitos;
+	}
+
+	/**
+	 * Executa as medições.
+	 *
+	 * @param args Estudantes, quantidade máxima de threads, aquecimento e medição, como descrito na classe.
+	 */
+	public static void main(String[] args) {
+		int tamanho = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+		int maximoThreads = args.length > 1 ? Integer.parseInt(args[1]) : 2 * Runtime.getRuntime().availableProcessors();
+		long aquecimento = args.length > 2 ? Long.parseLong(args[2]) : 1000;
+		long medicao = args.length > 3 ? Long.parseLong(args[3]) : 2000;
+
+		UsuarioController controller = new UsuarioController(
+				new CodificadorSenha(CodificadorSenha.ALGORITMO_PADRAO, 1, TimeUnit.MINUTES.toNanos(30)));
+		String[] cpfs = new String[tamanho];
+		for (int i = 0; i < tamanho; i++) {
+			cpfs[i] = cpf(i);
+			controller.criarEstudante("Estudante " + i, cpfs[i], SENHA, "2023." + i);
+			controller.verificarMetaAlcancada(cpfs[i], SENHA);
+		}
+
+		Medidor medidor = new Medidor(aquecimento, medicao);
+		medidor.imprimirCabecalho();
+		for (int threads = 1; threads <= maximoThreads; threads *= 2) {
+			medidor.medirEmParalelo("criarAtividadeMonitoria/" + threads, tamanho, threads,
+					i -> controller.criarAtividadeMonitoria(cpfs[(int) (i % tamanho)], SENHA, 1, "P1"));
+			medidor.medirEmParalelo("atualizarBonificacao/" + threads, tamanho, threads, i -> {
+				controller.atualizarBonificacao(cpfs[(int) (i % tamanho)], SENHA, 1);
+				return null;
+			});
+			medidor.medirEmParalelo("gerarRelatorioParcial/" + threads, tamanho, threads,
+					i -> controller.gerarRelatorioParcial(cpfs[(int) (i % tamanho)], SENHA, false));
+		}
+		System.out.println("# " + medidor.getDescarte());
+	}
+}
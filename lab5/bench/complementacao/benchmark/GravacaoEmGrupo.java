@@ -0,0 +1,104 @@
+package complementacao.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import complementacao.controller.DicaController;
+import complementacao.controller.UsuarioController;
+import complementacao.facade.Facade;
+import complementacao.persistencia.RegistroOperacoes;
+import complementacao.util.CodificadorSenha;
+
+/**
+ * Mede o custo do {@link RegistroOperacoes} nas alterações da {@link Facade}, comparando a sincronização de cada
+ * operação com o disco (janela zero) com a confirmação em grupo com janelas de 1 e 10 milissegundos.
+ *
+ * Para cada janela e cada quantidade de threads, de 1 até o máximo dobrando a cada passo, é medida a alteração da
+ * descrição de uma atividade de estudantes diferentes, que gera um registro pequeno por operação. O tempo por
+ * operação inclui a espera pela gravação; com uma única thread, a vazão mostra a latência de cada confirmação, e
+ * com várias, quantas operações cada sincronização com o disco consegue agrupar. Uma medição sem registro serve de
+ * referência.
+ *
+ * Argumentos, todos opcionais e nesta ordem:
+ * <ol>
+ * <li>diretório dos segmentos do registro (padrão: um diretório temporário, apagado ao final);</li>
+ * <li>quantidade máxima de threads (padrão 16);</li>
+ * <li>duração do aquecimento de cada medição, em milissegundos (padrão 1000);</li>
+ * <li>duração de cada medição, em milissegundos (padrão 2000).</li>
+ * </ol>
+ *
+ * @author Isadora Lucena
+ */
+public class GravacaoEmGrupo {
+	private static final String SENHA = "senha1234567";
+	private static final int QUANTIDADE_ESTUDANTES = 1024;
+	private static final long[] JANELAS_MILLIS = { 0, 1, 10 };
+
+	private static String cpf(long numero) {
+		String digitos = Long.toString(numero);
+		return "0".repeat(11 - digitos.length()) + digitos;
+	}
+
+	private static void apagar(Path diretorio) throws IOException {
+		try (var arquivos = Files.list(diretorio)) {
+			for (Path arquivo : arquivos.toList()) Files.delete(arquivo);
+		}
+		Files.delete(diretorio);
+	}
+
+	private static void medir(Medidor medidor, Facade facade, String[] cpfs, String[] codigos, String nome, int maximoThreads) {
+		for (int threads = 1; threads <= maximoThreads; threads *= 2) {
+			medidor.medirEmParalelo(nome + "/" + threads + " threads", QUANTIDADE_ESTUDANTES, threads, i -> {
+				int estudante = (int) (i % QUANTIDADE_ESTUDANTES);
+				return facade.alterarDescricaoAtividade(cpfs[estudante], SENHA, codigos[estudante], "descricao " + (i & 7));
+			});
+		}
+	}
+
+	/**
+	 * Executa as medições.
+	 *
+	 * @param args Diretório, quantidade máxima de threads, aquecimento e medição, como descrito na classe.
+	 * @throws IOException se o registro não puder ser criado ou gravado.
+	 */
+	public static void main(String[] args) throws IOException {
+		boolean temporario = args.length == 0 || args[0].isEmpty();
+		Path diretorio = temporario ? Files.createTempDirectory("registro") : Files.createDirectories(Path.of(args[0]));
+		int maximoThreads = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+		long aquecimento = args.length > 2 ? Long.parseLong(args[2]) : 1000;
+		long medicao = args.length > 3 ? Long.parseLong(args[3]) : 2000;
+
+		UsuarioController usuarioController = new UsuarioController(
+				new CodificadorSenha(CodificadorSenha.ALGORITMO_PADRAO, 1, TimeUnit.MINUTES.toNanos(30)));
+		Facade facade = new Facade(usuarioController, new DicaController(usuarioController));
+		String[] cpfs = new String[QUANTIDADE_ESTUDANTES];
+		String[] codigos = new String[QUANTIDADE_ESTUDANTES];
+		for (int i = 0; i < QUANTIDADE_ESTUDANTES; i++) {
+			cpfs[i] = cpf(i);
+			facade.criarEstudante("Estudante " + i, cpfs[i], SENHA, "2023." + i);
+			facade.criarAtividadeMonitoriaEmEstudante(cpfs[i], SENHA, 1, "P1");
+			codigos[i] = cpfs[i].substring(0, 3) + "." + cpfs[i].substring(3, 6) + "." + cpfs[i].substring(6, 9) + "-"
+					+ cpfs[i].substring(9) + "_1";
+		}
+
+		Medidor medidor = new Medidor(aquecimento, medicao);
+		medidor.imprimirCabecalho();
+		try {
+			medir(medidor, facade, cpfs, codigos, "sem registro", maximoThreads);
+			for (long janela : JANELAS_MILLIS) {
+				String registro = diretorio.resolve("operacoes-" + janela + "ms.log").toString();
+				facade.ativarRegistroOperacoes(registro, janela);
+				medir(medidor, facade, cpfs, codigos, "janela " + janela + " ms", maximoThreads);
+				facade.desativarRegistroOperacoes();
+			}
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		} finally {
+			if (temporario) apagar(diretorio);
+		}
+		System.out.println("# " + medidor.getDescarte());
+	}
+}
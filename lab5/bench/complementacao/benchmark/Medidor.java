@@ -0,0 +1,195 @@
+package complementacao.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede uma operação repetindo-a por um intervalo fixo de tempo, depois de um aquecimento, e informa a
+ * vazão (operações por segundo), o tempo médio por operação e a alocação de memória por operação e por segundo.
+ *
+ * A alocação é obtida do contador de bytes alocados pela thread atual, exposto pela JVM em
+ * {@link com.sun.management.ThreadMXBean}, o mesmo usado pelo perfilador de GC do JMH. As operações são
+ * executadas na thread que chama o medidor ou, em {@link #medirEmParalelo}, por várias threads ao mesmo tempo.
+ *
+ * @author Isadora Lucena
+ */
+public class Medidor {
+	private static final int TAMANHO_MAXIMO_LOTE = 1024;
+	private static final long LOTE_MAXIMO_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+	private final long aquecimentoNanos;
+	private final long medicaoNanos;
+	private final com.sun.management.ThreadMXBean threads;
+	private long descarte;
+
+	/**
+	 * Cria um medidor.
+	 *
+	 * @param aquecimentoMillis Duração do aquecimento de cada operação, em milissegundos.
+	 * @param medicaoMillis     Duração da medição de cada operação, em milissegundos.
+	 */
+	public Medidor(long aquecimentoMillis, long medicaoMillis) {
+		this.aquecimentoNanos = TimeUnit.MILLISECONDS.toNanos(aquecimentoMillis);
+		this.medicaoNanos = TimeUnit.MILLISECONDS.toNanos(medicaoMillis);
+		this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		threads.setThreadAllocatedMemoryEnabled(true);
+	}
+
+	/**
+	 * Operação medida. O valor retornado é consumido pelo medidor, para que a JVM não descarte o trabalho.
+	 */
+	@FunctionalInterface
+	public interface Operacao {
+		/**
+		 * Executa a operação uma vez.
+		 *
+		 * @param iteracao Número da execução, a partir de 0, útil para variar os dados de entrada.
+		 * @return Qualquer resultado da operação.
+		 */
+		Object executar(long iteracao);
+	}
+
+	/**
+	 * Aquece e mede uma operação, imprimindo uma linha com os resultados.
+	 *
+	 * @param nome     Nome da operação.
+	 * @param tamanho  Quantidade de usuários no cenário.
+	 * @param operacao Operação a ser medida.
+	 */
+	public void medir(String nome, int tamanho, Operacao operacao) {
+		long[] descarteLocal = new long[1];
+		long iteracao = executarPor(aquecimentoNanos, operacao, 0, descarteLocal);
+
+		long threadId = Thread.currentThread().getId();
+		long bytesAntes = threads.getThreadAllocatedBytes(threadId);
+		long inicio = System.nanoTime();
+		long operacoes = executarPor(medicaoNanos, operacao, iteracao, descarteLocal) - iteracao;
+		long decorrido = System.nanoTime() - inicio;
+		long bytes = threads.getThreadAllocatedBytes(threadId) - bytesAntes;
+		descarte += descarteLocal[0];
+
+		imprimir(nome, tamanho, operacoes, decorrido, decorrido, bytes);
+	}
+
+	/**
+	 * Aquece e mede uma operação executada ao mesmo tempo por várias threads, imprimindo uma linha com a vazão
+	 * somada das threads, o tempo médio de cada operação em uma thread e a alocação somada das threads.
+	 *
+	 * Cada thread se aquece sozinha; a medição começa para todas ao mesmo tempo, depois que todas terminam o
+	 * aquecimento. Cada thread parte de um número de execução diferente, para que threads distintas não usem os
+	 * mesmos dados de entrada ao mesmo tempo.
+	 *
+	 * @param nome              Nome da operação.
+	 * @param tamanho           Quantidade de usuários no cenário.
+	 * @param quantidadeThreads Quantidade de threads que executam a operação.
+	 * @param operacao          Operação a ser medida, que precisa poder ser chamada por várias threads.
+	 * @throws IllegalArgumentException se a quantidade de threads não for positiva.
+	 */
+	public void medirEmParalelo(String nome, int tamanho, int quantidadeThreads, Operacao operacao) {
+		if (quantidadeThreads <= 0) throw new IllegalArgumentException("A quantidade de threads precisa ser positiva.");
+		CountDownLatch aquecidas = new CountDownLatch(quantidadeThreads);
+		CountDownLatch largada = new CountDownLatch(1);
+		long[] operacoes = new long[quantidadeThreads];
+		long[] bytes = new long[quantidadeThreads];
+		long[] fins = new long[quantidadeThreads];
+		long[] descartes = new long[quantidadeThreads];
+		Thread[] executoras = new Thread[quantidadeThreads];
+		for (int t = 0; t < quantidadeThreads; t++) {
+			int indice = t;
+			executoras[t] = new Thread(() -> {
+				long[] descarteLocal = new long[1];
+				long iteracao = executarPor(aquecimentoNanos, operacao, (long) indice << 32, descarteLocal);
+				aquecidas.countDown();
+				try {
+					largada.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				long threadId = Thread.currentThread().getId();
+				long bytesAntes = threads.getThreadAllocatedBytes(threadId);
+				operacoes[indice] = executarPor(medicaoNanos, operacao, iteracao, descarteLocal) - iteracao;
+				fins[indice] = System.nanoTime();
+				bytes[indice] = threads.getThreadAllocatedBytes(threadId) - bytesAntes;
+				descartes[indice] = descarteLocal[0];
+			}, "medidor-" + t);
+			executoras[t].start();
+		}
+
+		long inicio;
+		try {
+			aquecidas.await();
+			inicio = System.nanoTime();
+			largada.countDown();
+			for (Thread executora : executoras) {
+				executora.join();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Medição interrompida.", e);
+		}
+
+		long totalOperacoes = 0;
+		long totalBytes = 0;
+		long fim = inicio;
+		for (int t = 0; t < quantidadeThreads; t++) {
+			totalOperacoes += operacoes[t];
+			totalBytes += bytes[t];
+			fim = Math.max(fim, fins[t]);
+			descarte += descartes[t];
+		}
+		long decorrido = fim - inicio;
+		imprimir(nome, tamanho, totalOperacoes, decorrido, decorrido * quantidadeThreads, totalBytes);
+	}
+
+	/**
+	 * Imprime uma linha de resultados. O tempo de execução é a soma do tempo de todas as threads, do qual sai o
+	 * tempo médio de cada operação.
+	 */
+	private static void imprimir(String nome, int tamanho, long operacoes, long decorrido, long tempoExecucao, long bytes) {
+		double segundos = decorrido / 1e9;
+		System.out.println(String.format(Locale.ROOT, "%-40s %9d %14.1f %14.1f %14.1f %12.1f",
+				nome, tamanho, operacoes / segundos, tempoExecucao / 1e3 / operacoes,
+				(double) bytes / operacoes, bytes / segundos / (1024 * 1024)));
+	}
+
+	/**
+	 * Imprime o cabeçalho da tabela de resultados.
+	 */
+	public void imprimirCabecalho() {
+		System.out.println(String.format(Locale.ROOT, "%-40s %9s %14s %14s %14s %12s",
+				"operacao", "usuarios", "ops/s", "us/op", "bytes/op", "MB/s"));
+	}
+
+	/**
+	 * Valor acumulado dos resultados das operações, impresso ao final para impedir que a JVM elimine as chamadas.
+	 *
+	 * @return Valor acumulado.
+	 */
+	public long getDescarte() {
+		return descarte;
+	}
+
+	/**
+	 * Executa a operação até completar a duração. O relógio é consultado a cada lote de operações; o lote começa
+	 * com uma operação e dobra enquanto dura menos que um milissegundo, de modo que operações rápidas não pagam o
+	 * custo do relógio a cada execução e operações lentas não ultrapassam muito a duração. Os resultados são
+	 * acumulados em {@code descarte[0]}, próprio da thread que executa a operação.
+	 */
+	private static long executarPor(long duracaoNanos, Operacao operacao, long iteracao, long[] descarte) {
+		long agora = System.nanoTime();
+		long fim = agora + duracaoNanos;
+		int lote = 1;
+		do {
+			long inicioLote = agora;
+			for (int i = 0; i < lote; i++) {
+				Object resultado = operacao.executar(iteracao++);
+				descarte[0] += resultado == null ? 0 : resultado.hashCode();
+			}
+			agora = System.nanoTime();
+			if (agora - inicioLote < LOTE_MAXIMO_NANOS && lote < TAMANHO_MAXIMO_LOTE) lote *= 2;
+		} while (agora < fim);
+		return iteracao;
+	}
+}
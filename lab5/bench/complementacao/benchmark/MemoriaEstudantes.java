@@ -0,0 +1,120 @@
+package complementacao.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import complementacao.controller.ArmazemColunarEstudantes;
+import complementacao.controller.UsuarioController;
+import complementacao.util.CodificadorSenha;
+import complementacao.util.PoolTextos;
+
+/**
+ * Mede a memória ocupada por estudante no {@link UsuarioController}, em que cada estudante é um grafo de
+ * objetos, e no {@link ArmazemColunarEstudantes}, em que os dados ficam em colunas de tipos primitivos.
+ *
+ * Para cada modo, a memória ocupada do heap é lida depois de coletas de lixo forçadas, antes e depois de
+ * cadastrar os estudantes; a diferença dividida pela quantidade de estudantes é a memória por estudante,
+ * incluindo os índices de cada cadastro. Por padrão, os estudantes não têm atividades; quando têm, elas
+ * alternam entre estágios em 2000 empresas e monitorias em 300 disciplinas, e ao final são mostradas as
+ * estatísticas do {@link PoolTextos} compartilhado, que canoniza esses nomes.
+ *
+ * Argumentos, todos opcionais e nesta ordem:
+ * <ol>
+ * <li>quantidade de estudantes (padrão 10000000);</li>
+ * <li>modos separados por vírgula, entre {@code objetos} e {@code colunar} (padrão {@code colunar,objetos});</li>
+ * <li>iterações da derivação das senhas (padrão 1), que não alteram a memória, apenas o tempo de cadastro;</li>
+ * <li>atividades por estudante (padrão 0).</li>
+ * </ol>
+ *
+ * Com 10 milhões de estudantes, o modo {@code objetos} precisa de um heap de mais de 8 GB
+ * ({@code -Xmx10g}); o modo {@code colunar}, de cerca de 2 GB.
+ *
+ * @author Isadora Lucena
+ */
+public class MemoriaEstudantes {
+	private static final String SENHA = "senha1234567";
+
+	private static String cpf(long numero) {
+		String digitos = Long.toString(numero);
+		return "0".repeat(11 - digitos.length()) + digitos;
+	}
+
+	private static long memoriaOcupada(MemoryMXBean memoria) {
+		long anterior = Long.MAX_VALUE;
+		long atual = memoria.getHeapMemoryUsage().getUsed();
+		for (int i = 0; i < 10 && atual < anterior; i++) {
+			System.gc();
+			anterior = atual;
+			atual = memoria.getHeapMemoryUsage().getUsed();
+		}
+		return atual;
+	}
+
+	private static Object popular(String modo, int quantidade, int atividades, CodificadorSenha codificador) {
+		switch (modo) {
+		case "objetos" -> {
+			UsuarioController controller = new UsuarioController(codificador);
+			for (int i = 0; i < quantidade; i++) {
+				controller.criarEstudante("Estudante " + i, cpf(i), SENHA, "2023." + i);
+				for (int j = 0; j < atividades; j++) {
+					if (j % 2 == 0) {
+						controller.criarAtividadeEstagio(cpf(i), SENHA, 300, "Empresa " + (i + j) % 2000);
+					} else {
+						controller.criarAtividadeMonitoria(cpf(i), SENHA, 1, "Disciplina " + (i + j) % 300);
+					}
+				}
+			}
+			return controller;
+		}
+		case "colunar" -> {
+			ArmazemColunarEstudantes armazem = new ArmazemColunarEstudantes(codificador);
+			for (int i = 0; i < quantidade; i++) {
+				armazem.criarEstudante("Estudante " + i, cpf(i), SENHA, "2023." + i);
+				for (int j = 0; j < atividades; j++) {
+					if (j % 2 == 0) {
+						armazem.criarAtividadeEstagio(cpf(i), SENHA, 300, "Empresa " + (i + j) % 2000);
+					} else {
+						armazem.criarAtividadeMonitoria(cpf(i), SENHA, 1, "Disciplina " + (i + j) % 300);
+					}
+				}
+			}
+			return armazem;
+		}
+		default -> throw new IllegalArgumentException("Modo inválido: " + modo);
+		}
+	}
+
+	/**
+	 * Executa as medições.
+	 *
+	 * @param args Quantidade de estudantes, modos, iterações da derivação das senhas e atividades por estudante,
+	 *             como descrito na classe.
+	 */
+	public static void main(String[] args) {
+		int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+		String[] modos = (args.length > 1 ? args[1] : "colunar,objetos").split(",");
+		int iteracoesKdf = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+		int atividades = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+		CodificadorSenha codificador = new CodificadorSenha(CodificadorSenha.ALGORITMO_PADRAO, iteracoesKdf, TimeUnit.MINUTES.toNanos(30));
+		MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+
+		System.out.println(String.format(Locale.ROOT, "%-10s %12s %14s %14s %12s",
+				"modo", "estudantes", "MB", "bytes/estud.", "cadastro(s)"));
+		for (String modo : modos) {
+			long antes = memoriaOcupada(memoria);
+			long inicio = System.nanoTime();
+			Object cadastro = popular(modo.trim(), quantidade, atividades, codificador);
+			double segundos = (System.nanoTime() - inicio) / 1e9;
+			long depois = memoriaOcupada(memoria);
+			Reference.reachabilityFence(cadastro);
+
+			long bytes = depois - antes;
+			System.out.println(String.format(Locale.ROOT, "%-10s %12d %14.1f %14.1f %12.1f",
+					modo.trim(), quantidade, bytes / (1024.0 * 1024), (double) bytes / quantidade, segundos));
+		}
+		if (atividades > 0) System.out.println(PoolTextos.compartilhado().formatarEstatisticas());
+	}
+}
@@ -0,0 +1,107 @@
+package complementacao.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import complementacao.controller.DicaController;
+import complementacao.controller.UsuarioController;
+import complementacao.facade.Facade;
+import complementacao.model.atividade.SolicitacaoAtividade;
+import complementacao.persistencia.GerenciadorSnapshot;
+import complementacao.util.CodificadorSenha;
+
+/**
+ * Mede a partida a frio a partir de um snapshot: popula um sistema com estudantes, atividades e dicas, grava
+ * o snapshot em um arquivo temporário e o restaura algumas vezes, informando o tempo de cada restauração.
+ *
+ * A primeira restauração inclui o aquecimento da JVM e a leitura do arquivo do disco; as seguintes mostram o
+ * tempo com o código já compilado e o arquivo no cache do sistema operacional.
+ *
+ * Argumentos, todos opcionais e nesta ordem:
+ * <ol>
+ * <li>quantidade de estudantes (padrão 1000000);</li>
+ * <li>atividades por estudante (padrão 2);</li>
+ * <li>restaurações (padrão 3);</li>
+ * <li>iterações da derivação das senhas (padrão 1), que só alteram o tempo para popular o sistema, já que a
+ *     restauração não recalcula as senhas.</li>
+ * </ol>
+ *
+ * Com um milhão de estudantes e duas atividades cada, o sistema populado e o restaurado cabem em
+ * {@code -Xmx4g}.
+ *
+ * @author Isadora Lucena
+ */
+public class RestauracaoSnapshot {
+	private static final String SENHA = "senha1234567";
+
+	private static String cpf(long numero) {
+		String digitos = Long.toString(numero);
+		return "0".repeat(11 - digitos.length()) + digitos;
+	}
+
+	private static void popular(UsuarioController usuarioController, DicaController dicaController, int quantidade, int atividades) {
+		List<SolicitacaoAtividade> solicitacoes = new ArrayList<>();
+		for (int j = 0; j < atividades; j++) {
+			solicitacoes.add(j % 2 == 0
+					? new SolicitacaoAtividade("estagio", 300, "Empresa " + j)
+					: new SolicitacaoAtividade("monitoria", 1, "Disciplina " + j));
+		}
+		for (int i = 0; i < quantidade; i++) {
+			usuarioController.criarEstudante("Estudante " + i, cpf(i), SENHA, "2023." + i);
+			if (!solicitacoes.isEmpty()) usuarioController.criarAtividades(cpf(i), SENHA, solicitacoes);
+			if (i % 100 == 0) {
+				int posicao = dicaController.adicionarDica(cpf(i), SENHA, "monitoria");
+				dicaController.adicionarElementoTextoDica(cpf(i), SENHA, posicao, "Dica número " + i);
+			}
+		}
+	}
+
+	/**
+	 * Executa as medições.
+	 *
+	 * @param args Estudantes, atividades por estudante, restaurações e iterações da derivação das senhas,
+	 *             como descrito na classe.
+	 * @throws IOException se o snapshot não puder ser gravado ou lido.
+	 */
+	public static void main(String[] args) throws IOException {
+		int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		int atividades = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+		int restauracoes = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+		int iteracoesKdf = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+
+		UsuarioController usuarioController = new UsuarioController(
+				new CodificadorSenha(CodificadorSenha.ALGORITMO_PADRAO, iteracoesKdf, TimeUnit.MINUTES.toNanos(30)));
+		DicaController dicaController = new DicaController(usuarioController);
+		long inicio = System.nanoTime();
+		popular(usuarioController, dicaController, quantidade, atividades);
+		System.out.println(String.format(Locale.ROOT, "popular: estudantes=%d atividades/estud.=%d duracao=%.1fs",
+				quantidade, atividades, (System.nanoTime() - inicio) / 1e9));
+
+		Path arquivo = Files.createTempFile("snapshot", ".bin");
+		try {
+			GerenciadorSnapshot gerenciador = new GerenciadorSnapshot();
+			inicio = System.nanoTime();
+			gerenciador.salvar(arquivo, usuarioController, dicaController);
+			System.out.println(String.format(Locale.ROOT, "salvar: %.1f MB em %.2fs",
+					Files.size(arquivo) / (1024.0 * 1024), (System.nanoTime() - inicio) / 1e9));
+			usuarioController = null;
+			dicaController = null;
+
+			for (int i = 1; i <= restauracoes; i++) {
+				System.gc();
+				inicio = System.nanoTime();
+				Facade restaurada = gerenciador.carregar(arquivo);
+				double segundos = (System.nanoTime() - inicio) / 1e9;
+				System.out.println(String.format(Locale.ROOT, "restaurar #%d: %.2fs (%.0f estudantes/s) estudantes=%d",
+						i, segundos, quantidade / segundos, restaurada.exibirEstudantes(0, Integer.MAX_VALUE).size()));
+			}
+		} finally {
+			Files.deleteIfExists(arquivo);
+		}
+	}
+}
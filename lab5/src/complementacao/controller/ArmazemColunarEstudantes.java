@@ -0,0 +1,630 @@
+package complementacao.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import complementacao.enums.TipoAtividade;
+import complementacao.model.Usuario;
+import complementacao.model.atividade.Atividade;
+import complementacao.util.CodificadorSenha;
+import complementacao.util.Validador;
+
+/**
+ * Cadastro compacto de estudantes para turmas muito grandes, alternativo ao {@link UsuarioController}.
+ *
+ * Em vez de um {@link Usuario} por estudante, cada estudante recebe um identificador denso (a ordem de
+ * cadastro) e seus dados ficam em colunas de tipos primitivos: o CPF compactado em um {@code long}, a
+ * bonificação, os créditos acumulados, os créditos por {@link TipoAtividade}, o sal e o hash da senha, e o
+ * nome e a matrícula codificados em UTF-8. As colunas são divididas em páginas de 4096 estudantes, de modo
+ * que o cadastro nunca copia as colunas inteiras. O CPF é localizado por uma tabela de espalhamento aberta,
+ * também de tipos primitivos. As atividades só são alocadas para os estudantes que cadastram alguma.
+ *
+ * As operações têm os mesmos nomes, validações e mensagens das operações correspondentes do
+ * {@link UsuarioController}; as listagens seguem a ordem de cadastro. As sessões de autenticação são
+ * guardadas à parte e ocupam memória apenas enquanto o estudante está ativo.
+ *
+ * O cadastro pode ser usado por várias threads ao mesmo tempo: novos estudantes são incluídos sob uma trava
+ * de escrita, as consultas ao índice usam a trava de leitura correspondente e as alterações de um estudante
+ * são feitas sob uma entre várias travas, escolhida pelo identificador. O hash da senha é sempre calculado
+ * fora das travas.
+ *
+ * @author Isadora Lucena
+ */
+public class ArmazemColunarEstudantes {
+	private static final TipoAtividade[] TIPOS_ATIVIDADE = TipoAtividade.values();
+	private static final int QUANTIDADE_TIPOS = TIPOS_ATIVIDADE.length;
+	private static final int BITS_PAGINA = 12;
+	private static final int TAMANHO_PAGINA = 1 << BITS_PAGINA;
+	private static final int MASCARA_PAGINA = TAMANHO_PAGINA - 1;
+	private static final int QUANTIDADE_TRAVAS = 256;
+	private static final int CAPACIDADE_INICIAL_INDICE = 1024;
+	private static final long CHAVE_VAZIA = -1;
+	private static final int MAXIMO_CREDITOS = Usuario.getMaximoCreditos();
+
+	private final CodificadorSenha codificadorSenha;
+	private final ReentrantReadWriteLock estrutura;
+	private final Object[] travas;
+	private final ConcurrentMap<Integer, Sessao> sessoes;
+	private Pagina[] paginas;
+	private int quantidade;
+	private long[] chavesIndice;
+	private int[] idsIndice;
+	private int larguraSal;
+	private int larguraHash;
+
+	/**
+	 * Cria um cadastro vazio, com o codificador de senhas padrão.
+	 */
+	public ArmazemColunarEstudantes() {
+		this(new CodificadorSenha());
+	}
+
+	/**
+	 * Cria um cadastro vazio, usando o codificador informado para gerar e conferir as senhas.
+	 *
+	 * @param codificadorSenha Codificador de senhas dos estudantes.
+	 */
+	public ArmazemColunarEstudantes(CodificadorSenha codificadorSenha) {
+		this.codificadorSenha = codificadorSenha;
+		this.estrutura = new ReentrantReadWriteLock();
+		this.travas = new Object[QUANTIDADE_TRAVAS];
+		for (int i = 0; i < QUANTIDADE_TRAVAS; i++) {
+			travas[i] = new Object();
+		}
+		this.sessoes = new ConcurrentHashMap<>();
+		this.paginas = new Pagina[16];
+		this.chavesIndice = new long[CAPACIDADE_INICIAL_INDICE];
+		this.idsIndice = new int[CAPACIDADE_INICIAL_INDICE];
+		Arrays.fill(chavesIndice, CHAVE_VAZIA);
+	}
+
+	private static final class Pagina {
+		private final long[] cpfs = new long[TAMANHO_PAGINA];
+		private final int[] bonificacoes = new int[TAMANHO_PAGINA];
+		private final byte[] creditosAcumulados = new byte[TAMANHO_PAGINA];
+		private final int[] creditosPorTipo = new int[TAMANHO_PAGINA * QUANTIDADE_TIPOS];
+		private final byte[] sais;
+		private final byte[] hashes;
+		private final int[] fimTextos = new int[TAMANHO_PAGINA];
+		private byte[] textos = new byte[TAMANHO_PAGINA * 16];
+		private volatile Map<TipoAtividade, List<Atividade>>[] atividades;
+
+		private Pagina(int larguraSal, int larguraHash) {
+			this.sais = new byte[TAMANHO_PAGINA * larguraSal];
+			this.hashes = new byte[TAMANHO_PAGINA * larguraHash];
+		}
+
+		// Java não cria vetores de tipos genéricos; o vetor só recebe mapas do tipo declarado.
+		@SuppressWarnings({"rawtypes", "unchecked"})
+		private synchronized Map<TipoAtividade, List<Atividade>>[] criarAtividades() {
+			if (atividades == null) atividades = new Map[TAMANHO_PAGINA];
+			return atividades;
+		}
+	}
+
+	private static final class Sessao {
+		private final byte[] resumo;
+		private final long validade;
+
+		private Sessao(byte[] resumo, long validade) {
+			this.resumo = resumo;
+			this.validade = validade;
+		}
+	}
+
+	/**
+	 * Cadastra um novo estudante.
+	 *
+	 * @param nome      Nome do estudante.
+	 * @param cpf       CPF do estudante.
+	 * @param senha     Senha de acesso.
+	 * @param matricula Matrícula institucional.
+	 * @return {@code true} se o estudante for cadastrado.
+	 * @throws IllegalArgumentException se algum dado for inválido ou já existir um estudante com o mesmo CPF.
+	 */
+	public boolean criarEstudante(String nome, String cpf, String senha, String matricula) {
+		Validador.validarString(nome, "Nome não pode ser nulo ou vazio.");
+		Validador.validarCPF(cpf);
+		Validador.validarSenha(senha);
+		Validador.validarString(matricula, "Matrícula não pode ser nula ou vazia.");
+		long chave = Long.parseLong(cpf);
+		if (buscarId(chave) >= 0) throw new IllegalArgumentException("Usuário com este CPF já existe.");
+
+		byte[] sal = codificadorSenha.gerarSal();
+		byte[] hash = codificadorSenha.codificar(senha.trim(), sal);
+		byte[] texto = codificarTexto(nome.trim(), matricula.trim());
+
+		estrutura.writeLock().lock();
+		try {
+			if (buscarIdSemTrava(chave) >= 0) throw new IllegalArgumentException("Usuário com este CPF já existe.");
+			int id = quantidade;
+			Pagina pagina = paginaParaCadastro(id, sal.length, hash.length);
+			int posicao = id & MASCARA_PAGINA;
+			pagina.cpfs[posicao] = chave;
+			System.arraycopy(sal, 0, pagina.sais, posicao * larguraSal, larguraSal);
+			System.arraycopy(hash, 0, pagina.hashes, posicao * larguraHash, larguraHash);
+			int inicioTexto = posicao == 0 ? 0 : pagina.fimTextos[posicao - 1];
+			if (inicioTexto + texto.length > pagina.textos.length) {
+				pagina.textos = Arrays.copyOf(pagina.textos, Math.max(pagina.textos.length * 2, inicioTexto + texto.length));
+			}
+			System.arraycopy(texto, 0, pagina.textos, inicioTexto, texto.length);
+			pagina.fimTextos[posicao] = inicioTexto + texto.length;
+			inserirNoIndice(chave, id);
+			quantidade++;
+		} finally {
+			estrutura.writeLock().unlock();
+		}
+		return true;
+	}
+
+	private Pagina paginaParaCadastro(int id, int tamanhoSal, int tamanhoHash) {
+		if (quantidade == 0) {
+			larguraSal = tamanhoSal;
+			larguraHash = tamanhoHash;
+		} else if (tamanhoSal != larguraSal || tamanhoHash != larguraHash) {
+			throw new IllegalStateException("O codificador gerou um sal ou hash de tamanho diferente.");
+		}
+		int indicePagina = id >>> BITS_PAGINA;
+		if (indicePagina == paginas.length) paginas = Arrays.copyOf(paginas, paginas.length * 2);
+		if (paginas[indicePagina] == null) paginas[indicePagina] = new Pagina(larguraSal, larguraHash);
+		return paginas[indicePagina];
+	}
+
+	private static byte[] codificarTexto(String nome, String matricula) {
+		byte[] bytesNome = nome.getBytes(StandardCharsets.UTF_8);
+		byte[] bytesMatricula = matricula.getBytes(StandardCharsets.UTF_8);
+		byte[] texto = new byte[tamanhoVariavel(bytesNome.length) + bytesNome.length + bytesMatricula.length];
+		int posicao = escreverVariavel(texto, 0, bytesNome.length);
+		System.arraycopy(bytesNome, 0, texto, posicao, bytesNome.length);
+		System.arraycopy(bytesMatricula, 0, texto, posicao + bytesNome.length, bytesMatricula.length);
+		return texto;
+	}
+
+	private static int tamanhoVariavel(int valor) {
+		int bytes = 1;
+		while ((valor >>>= 7) != 0) bytes++;
+		return bytes;
+	}
+
+	private static int escreverVariavel(byte[] destino, int posicao, int valor) {
+		while ((valor & ~0x7F) != 0) {
+			destino[posicao++] = (byte) ((valor & 0x7F) | 0x80);
+			valor >>>= 7;
+		}
+		destino[posicao++] = (byte) valor;
+		return posicao;
+	}
+
+	private static int espalhar(long chave) {
+		long h = chave * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	private int buscarId(long chave) {
+		estrutura.readLock().lock();
+		try {
+			return buscarIdSemTrava(chave);
+		} finally {
+			estrutura.readLock().unlock();
+		}
+	}
+
+	private int buscarIdSemTrava(long chave) {
+		int mascara = chavesIndice.length - 1;
+		for (int i = espalhar(chave) & mascara; ; i = (i + 1) & mascara) {
+			long atual = chavesIndice[i];
+			if (atual == chave) return idsIndice[i];
+			if (atual == CHAVE_VAZIA) return -1;
+		}
+	}
+
+	private void inserirNoIndice(long chave, int id) {
+		if ((quantidade + 1) * 2 > chavesIndice.length) {
+			long[] chavesAntigas = chavesIndice;
+			int[] idsAntigos = idsIndice;
+			chavesIndice = new long[chavesAntigas.length * 2];
+			idsIndice = new int[chavesAntigas.length * 2];
+			Arrays.fill(chavesIndice, CHAVE_VAZIA);
+			for (int i = 0; i < chavesAntigas.length; i++) {
+				if (chavesAntigas[i] != CHAVE_VAZIA) colocarNoIndice(chavesAntigas[i], idsAntigos[i]);
+			}
+		}
+		colocarNoIndice(chave, id);
+	}
+
+	private void colocarNoIndice(long chave, int id) {
+		int mascara = chavesIndice.length - 1;
+		int i = espalhar(chave) & mascara;
+		while (chavesIndice[i] != CHAVE_VAZIA) i = (i + 1) & mascara;
+		chavesIndice[i] = chave;
+		idsIndice[i] = id;
+	}
+
+	private Pagina pagina(int id) {
+		estrutura.readLock().lock();
+		try {
+			return paginas[id >>> BITS_PAGINA];
+		} finally {
+			estrutura.readLock().unlock();
+		}
+	}
+
+	private Object trava(int id) {
+		return travas[id & (QUANTIDADE_TRAVAS - 1)];
+	}
+
+	/**
+	 * Verifica se o CPF e a senha correspondem a um estudante cadastrado.
+	 *
+	 * @param cpf   CPF do estudante.
+	 * @param senha Senha do estudante.
+	 * @return {@code true} se a autenticação for bem-sucedida.
+	 */
+	public boolean autenticar(String cpf, String senha) {
+		return buscarIdAutenticado(cpf, senha) >= 0;
+	}
+
+	private int obterIdAutenticado(String cpf, String senha) {
+		int id = buscarIdAutenticado(cpf, senha);
+		if (id < 0) throw new SecurityException("Autenticação falhou.");
+		return id;
+	}
+
+	private int buscarIdAutenticado(String cpf, String senha) {
+		if (!Validador.cpfValido(cpf) || senha == null) return -1;
+		int id = buscarId(Long.parseLong(cpf));
+		if (id < 0) return -1;
+		Pagina pagina = pagina(id);
+		int posicao = id & MASCARA_PAGINA;
+
+		byte[] sal;
+		byte[] hash;
+		synchronized (trava(id)) {
+			sal = Arrays.copyOfRange(pagina.sais, posicao * larguraSal, (posicao + 1) * larguraSal);
+			hash = Arrays.copyOfRange(pagina.hashes, posicao * larguraHash, (posicao + 1) * larguraHash);
+		}
+		byte[] resumo = codificadorSenha.resumoSessao(senha, sal);
+		Sessao sessao = sessoes.get(id);
+		if (sessao != null) {
+			if (System.nanoTime() - sessao.validade >= 0) {
+				sessoes.remove(id, sessao);
+			} else if (MessageDigest.isEqual(resumo, sessao.resumo)) {
+				return id;
+			}
+		}
+		if (!codificadorSenha.confere(senha, sal, hash)) return -1;
+
+		synchronized (trava(id)) {
+			if (!Arrays.equals(pagina.sais, posicao * larguraSal, (posicao + 1) * larguraSal, sal, 0, larguraSal)) return -1;
+			if (codificadorSenha.getDuracaoSessaoNanos() > 0) {
+				sessoes.put(id, new Sessao(resumo, System.nanoTime() + codificadorSenha.getDuracaoSessaoNanos()));
+			}
+		}
+		return id;
+	}
+
+	/**
+	 * Retorna o nome do estudante autenticado.
+	 *
+	 * @param cpf   CPF do estudante.
+	 * @param senha Senha do estudante.
+	 * @return Nome do estudante.
+	 * @throws SecurityException se a autenticação falhar.
+	 */
+	public String getNome(String cpf, String senha) {
+		int id = obterIdAutenticado(cpf, senha);
+		return lerTexto(pagina(id), id & MASCARA_PAGINA, true);
+	}
+
+	/**
+	 * Lê o nome ou a matrícula de um estudante. A leitura é feita sob a trava de leitura, pois o cadastro de
+	 * outros estudantes da mesma página pode substituir o vetor de textos por um maior.
+	 */
+	private String lerTexto(Pagina pagina, int posicao, boolean nome) {
+		estrutura.readLock().lock();
+		try {
+			byte[] textos = pagina.textos;
+			int inicio = posicao == 0 ? 0 : pagina.fimTextos[posicao - 1];
+			int fim = pagina.fimTextos[posicao];
+			int tamanhoNome = 0;
+			int deslocamento = 0;
+			byte b;
+			do {
+				b = textos[inicio++];
+				tamanhoNome |= (b & 0x7F) << deslocamento;
+				deslocamento += 7;
+			} while ((b & 0x80) != 0);
+			return nome
+					? new String(textos, inicio, tamanhoNome, StandardCharsets.UTF_8)
+					: new String(textos, inicio + tamanhoNome, fim - inicio - tamanhoNome, StandardCharsets.UTF_8);
+		} finally {
+			estrutura.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Altera a senha de um estudante autenticado.
+	 *
+	 * @param cpf         CPF do estudante.
+	 * @param senhaAntiga Senha atual do estudante.
+	 * @param novaSenha   Nova senha que será definida.
+	 * @return {@code true} se a senha for alterada.
+	 * @throws SecurityException        se a autenticação falhar.
+	 * @throws IllegalArgumentException se a nova senha for inválida.
+	 */
+	public boolean alterarSenhaEstudante(String cpf, String senhaAntiga, String novaSenha) {
+		int id = obterIdAutenticado(cpf, senhaAntiga);
+		Validador.validarSenha(novaSenha);
+		byte[] sal = codificadorSenha.gerarSal();
+		byte[] hash = codificadorSenha.codificar(novaSenha, sal);
+		Pagina pagina = pagina(id);
+		int posicao = id & MASCARA_PAGINA;
+		synchronized (trava(id)) {
+			System.arraycopy(sal, 0, pagina.sais, posicao * larguraSal, larguraSal);
+			System.arraycopy(hash, 0, pagina.hashes, posicao * larguraHash, larguraHash);
+			sessoes.remove(id);
+		}
+		return true;
+	}
+
+	/**
+	 * Soma uma bonificação à do estudante autenticado.
+	 *
+	 * @param cpf   CPF do estudante.
+	 * @param senha Senha do estudante.
+	 * @param bonus Valor da bonificação a ser adicionada.
+	 * @throws SecurityException        se a autenticação falhar.
+	 * @throws IllegalArgumentException se a bonificação for negativa.
+	 */
+	public void atualizarBonificacao(String cpf, String senha, int bonus) {
+		Validador.validarBonificacaoPositiva(bonus);
+		int id = obterIdAutenticado(cpf, senha);
+		Pagina pagina = pagina(id);
+		synchronized (trava(id)) {
+			pagina.bonificacoes[id & MASCARA_PAGINA] += bonus;
+		}
+	}
+
+	/**
+	 * Cria uma atividade do tipo Estágio para o estudante autenticado.
+	 *
+	 * @param cpf              CPF do estudante.
+	 * @param senha            Senha do estudante.
+	 * @param unidadeAcumulada Quantidade de unidades acumuladas pela atividade.
+	 * @param nomeEmpresa      Nome da empresa onde o estágio foi realizado.
+	 * @return Mensagem de confirmação do cadastro.
+	 */
+	public String criarAtividadeEstagio(String cpf, String senha, int unidadeAcumulada, String nomeEmpresa) {
+		return criarAtividade(cpf, senha, unidadeAcumulada, TipoAtividade.ESTAGIO, nomeEmpresa);
+	}
+
+	/**
+	 * Cria uma atividade do tipo Pesquisa ou Extensão para o estudante autenticado.
+	 *
+	 * @param cpf              CPF do estudante.
+	 * @param senha            Senha do estudante.
+	 * @param unidadeAcumulada Quantidade de unidades acumuladas pela atividade.
+	 * @param subtipo          Subtipo da atividade.
+	 * @return Mensagem de confirmação do cadastro.
+	 */
+	public String criarAtividadePesquisaExtensao(String cpf, String senha, int unidadeAcumulada, String subtipo) {
+		return criarAtividade(cpf, senha, unidadeAcumulada, TipoAtividade.PESQUISA_EXTENSAO, subtipo);
+	}
+
+	/**
+	 * Cria uma atividade do tipo Representação Estudantil para o estudante autenticado.
+	 *
+	 * @param cpf              CPF do estudante.
+	 * @param senha            Senha do estudante.
+	 * @param unidadeAcumulada Quantidade de unidades acumuladas pela atividade.
+	 * @param subtipo          Subtipo da atividade.
+	 * @return Mensagem de confirmação do cadastro.
+	 */
+	public String criarAtividadeRepresentacaoEstudantil(String cpf, String senha, int unidadeAcumulada, String subtipo) {
+		return criarAtividade(cpf, senha, unidadeAcumulada, TipoAtividade.REPRESENTACAO_ESTUDANTIL, subtipo);
+	}
+
+	/**
+	 * Cria uma atividade do tipo Monitoria para o estudante autenticado.
+	 *
+	 * @param cpf              CPF do estudante.
+	 * @param senha            Senha do estudante.
+	 * @param unidadeAcumulada Quantidade de unidades acumuladas pela atividade.
+	 * @param disciplina       Disciplina na qual a monitoria foi realizada.
+	 * @return Mensagem de confirmação do cadastro.
+	 */
+	public String criarAtividadeMonitoria(String cpf, String senha, int unidadeAcumulada, String disciplina) {
+		return criarAtividade(cpf, senha, unidadeAcumulada, TipoAtividade.MONITORIA, disciplina);
+	}
+
+	private String criarAtividade(String cpf, String senha, int unidadeAcumulada, TipoAtividade tipo, String dadoComplementar) {
+		int id = obterIdAutenticado(cpf, senha);
+		Pagina pagina = pagina(id);
+		int posicao = id & MASCARA_PAGINA;
+		Map<TipoAtividade, List<Atividade>>[] atividades = pagina.atividades;
+		if (atividades == null) atividades = pagina.criarAtividades();
+
+		synchronized (trava(id)) {
+			Map<TipoAtividade, List<Atividade>> doEstudante = atividades[posicao];
+			List<Atividade> doTipo = doEstudante == null ? null : doEstudante.get(tipo);
+			String codigo = formatarCpf(pagina.cpfs[posicao]) + "_" + ((doTipo == null ? 0 : doTipo.size()) + 1);
+			Atividade atividade = Atividade.criar(tipo, codigo, unidadeAcumulada, dadoComplementar);
+
+			if (doEstudante == null) {
+				doEstudante = new EnumMap<>(TipoAtividade.class);
+				atividades[posicao] = doEstudante;
+			}
+			doEstudante.computeIfAbsent(tipo, t -> new ArrayList<>(1)).add(atividade);
+			pagina.creditosPorTipo[posicao * QUANTIDADE_TIPOS + tipo.ordinal()] += atividade.getCreditos();
+			pagina.creditosAcumulados[posicao] =
+					(byte) Math.min(pagina.creditosAcumulados[posicao] + atividade.getCreditos(), MAXIMO_CREDITOS);
+			return "Atividade cadastrada com sucesso.";
+		}
+	}
+
+	private static String formatarCpf(long chave) {
+		String cpf = formatarChave(chave);
+		return cpf.substring(0, 3) + "." + cpf.substring(3, 6) + "." + cpf.substring(6, 9) + "-" + cpf.substring(9);
+	}
+
+	private static String formatarChave(long chave) {
+		String digitos = Long.toString(chave);
+		return "0".repeat(11 - digitos.length()) + digitos;
+	}
+
+	/**
+	 * Retorna os créditos acumulados pelo estudante autenticado em um tipo de atividade.
+	 *
+	 * @param cpf   CPF do estudante.
+	 * @param senha Senha do estudante.
+	 * @param tipo  Tipo da atividade (ex: "estagio", "monitoria").
+	 * @return Créditos acumulados no tipo.
+	 * @throws SecurityException        se a autenticação falhar.
+	 * @throws IllegalArgumentException se o tipo for inválido.
+	 */
+	public int creditosAtividade(String cpf, String senha, String tipo) {
+		int id = obterIdAutenticado(cpf, senha);
+		TipoAtividade atividade = TipoAtividade.converterStringEmAtividade(tipo);
+		Pagina pagina = pagina(id);
+		synchronized (trava(id)) {
+			return pagina.creditosPorTipo[(id & MASCARA_PAGINA) * QUANTIDADE_TIPOS + atividade.ordinal()];
+		}
+	}
+
+	/**
+	 * Gera o mapa de créditos do estudante autenticado, no mesmo formato do {@link UsuarioController}.
+	 *
+	 * @param cpf   CPF do estudante.
+	 * @param senha Senha do estudante.
+	 * @return Créditos por tipo de atividade, seguidos dos créditos totais.
+	 * @throws SecurityException se a autenticação falhar.
+	 */
+	public String gerarMapaCreditosAtividades(String cpf, String senha) {
+		int id = obterIdAutenticado(cpf, senha);
+		Pagina pagina = pagina(id);
+		int posicao = id & MASCARA_PAGINA;
+		StringBuilder mapa = new StringBuilder();
+		synchronized (trava(id)) {
+			for (TipoAtividade tipo : TIPOS_ATIVIDADE) {
+				mapa.append(tipo.name()).append(": ")
+					.append(pagina.creditosPorTipo[posicao * QUANTIDADE_TIPOS + tipo.ordinal()]).append("\n");
+			}
+			mapa.append("Créditos Totais: ").append(pagina.creditosAcumulados[posicao]).append("/").append(MAXIMO_CREDITOS);
+		}
+		return mapa.toString();
+	}
+
+	/**
+	 * Verifica se o estudante autenticado alcançou o máximo de créditos.
+	 *
+	 * @param cpf   CPF do estudante.
+	 * @param senha Senha do estudante.
+	 * @return {@code true} se a meta foi alcançada.
+	 * @throws SecurityException se a autenticação falhar.
+	 */
+	public boolean verificarMetaAlcancada(String cpf, String senha) {
+		int id = obterIdAutenticado(cpf, senha);
+		Pagina pagina = pagina(id);
+		synchronized (trava(id)) {
+			return pagina.creditosAcumulados[id & MASCARA_PAGINA] == MAXIMO_CREDITOS;
+		}
+	}
+
+	/**
+	 * Altera a descrição de uma atividade do estudante autenticado.
+	 *
+	 * @param cpf             CPF do estudante.
+	 * @param senha           Senha do estudante.
+	 * @param codigoAtividade Código da atividade.
+	 * @param descricao       Nova descrição.
+	 * @return {@code true} se a atividade existir e for alterada.
+	 * @throws SecurityException se a autenticação falhar.
+	 */
+	public boolean alterarDescricaoAtividade(String cpf, String senha, String codigoAtividade, String descricao) {
+		int id = obterIdAutenticado(cpf, senha);
+		synchronized (trava(id)) {
+			Atividade atividade = buscarAtividade(id, codigoAtividade);
+			if (atividade == null) return false;
+			atividade.setDescricao(descricao);
+			return true;
+		}
+	}
+
+	/**
+	 * Altera o link de comprovação de uma atividade do estudante autenticado.
+	 *
+	 * @param cpf             CPF do estudante.
+	 * @param senha           Senha do estudante.
+	 * @param codigoAtividade Código da atividade.
+	 * @param linkComprovacao Novo link de comprovação.
+	 * @return {@code true} se a atividade existir e for alterada.
+	 * @throws SecurityException se a autenticação falhar.
+	 */
+	public boolean alterarComprovacaoAtividade(String cpf, String senha, String codigoAtividade, String linkComprovacao) {
+		int id = obterIdAutenticado(cpf, senha);
+		synchronized (trava(id)) {
+			Atividade atividade = buscarAtividade(id, codigoAtividade);
+			if (atividade == null) return false;
+			atividade.setDocumentacaoComprobatoria(linkComprovacao);
+			return true;
+		}
+	}
+
+	private Atividade buscarAtividade(int id, String codigoAtividade) {
+		Map<TipoAtividade, List<Atividade>>[] atividades = pagina(id).atividades;
+		if (codigoAtividade == null || atividades == null || atividades[id & MASCARA_PAGINA] == null) return null;
+		for (List<Atividade> doTipo : atividades[id & MASCARA_PAGINA].values()) {
+			for (Atividade atividade : doTipo) {
+				if (atividade.getId().equals(codigoAtividade)) return atividade;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Retorna uma página dos estudantes, na ordem de cadastro, no mesmo formato do {@link UsuarioController}.
+	 *
+	 * @param inicio     Posição do primeiro estudante da página (começando em 0).
+	 * @param quantidade Quantidade máxima de estudantes na página.
+	 * @return Lista de estudantes da página.
+	 * @throws IllegalArgumentException se o início ou a quantidade forem negativos.
+	 */
+	public List<String> exibirEstudantes(int inicio, int quantidade) {
+		Validador.validarPaginacao(inicio, quantidade);
+		int fim = (int) Math.min((long) inicio + quantidade, quantidadeEstudantes());
+		List<String> estudantes = new ArrayList<>(Math.max(fim - inicio, 0));
+		for (int id = inicio; id < fim; id++) {
+			Pagina pagina = pagina(id);
+			int posicao = id & MASCARA_PAGINA;
+			int bonificacao;
+			synchronized (trava(id)) {
+				bonificacao = pagina.bonificacoes[posicao];
+			}
+			estudantes.add("Nome: " + lerTexto(pagina, posicao, true) + ", matrícula: " + lerTexto(pagina, posicao, false)
+					+ ", bônus: " + bonificacao);
+		}
+		return estudantes;
+	}
+
+	/**
+	 * Retorna a quantidade de estudantes cadastrados.
+	 *
+	 * @return Quantidade de estudantes.
+	 */
+	public int quantidadeEstudantes() {
+		estrutura.readLock().lock();
+		try {
+			return quantidade;
+		} finally {
+			estrutura.readLock().unlock();
+		}
+	}
+}
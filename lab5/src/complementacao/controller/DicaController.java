@@ -1,23 +1,42 @@
 package complementacao.controller;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import complementacao.enums.TipoAtividade;
+import complementacao.model.Usuario;
 import complementacao.model.dica.*;
+import complementacao.util.IndiceInvertido;
 import complementacao.util.Validador;
 
 /**
  * Controlador responsável pelo gerenciamento de dicas criadas por usuários.
  * Permite adicionar dicas, adicionar elementos às dicas e listá-las.
  * 
+ * Além da lista de dicas, o controlador mantém índices das posições das dicas por tema e por autor,
+ * atualizados a cada cadastro, para que as listagens filtradas não percorram o catálogo inteiro.
+ * O conteúdo pesquisável dos elementos também é mantido em um {@link IndiceInvertido}, atualizado a cada
+ * elemento adicionado, que permite buscar dicas por palavras sem formatar o catálogo.
+ * 
+ * O controlador pode ser usado por várias threads ao mesmo tempo. A lista e os índices são protegidos
+ * pelo monitor do próprio controlador, que é mantido apenas para localizar ou cadastrar dicas; a formatação
+ * das listagens acontece fora dele. A adição de um elemento e o crédito de sua bonificação ao autor
+ * são feitos em um único passo, sob o monitor do usuário.
+ * 
  * @author Isadora Lucena
  */
 public class DicaController {
 	private List<Dica> dicas;
+	private Map<TipoAtividade, List<Integer>> posicoesPorTema;
+	private Map<String, List<Integer>> posicoesPorAutor;
+	private IndiceInvertido indiceTextual;
 	private UsuarioController usuarioController;
+	private volatile ObservadorAlteracoes observador;
 	
 	/**
 	 * Constrói o controlador de dicas com referência ao controlador de usuários.
@@ -26,7 +45,21 @@ public class DicaController {
 	 */
 	public DicaController(UsuarioController usuarioController) {
 		dicas = new ArrayList<Dica>();
+		posicoesPorTema = new EnumMap<>(TipoAtividade.class);
+		posicoesPorAutor = new HashMap<>();
+		indiceTextual = new IndiceInvertido();
 		this.usuarioController = usuarioController;
+		this.observador = ObservadorAlteracoes.NENHUM;
+	}
+	
+	/**
+	 * Define quem recebe as dicas criadas e os elementos adicionados, como o registro de operações.
+	 * As reconstruções feitas pelos métodos {@code restaurar*} não são repassadas ao observador.
+	 *
+	 * @param observador Observador das alterações, ou {@link ObservadorAlteracoes#NENHUM}.
+	 */
+	public void setObservadorAlteracoes(ObservadorAlteracoes observador) {
+		this.observador = observador;
 	}
 	
 	/**
@@ -47,17 +80,115 @@ public class DicaController {
 	public int adicionarDica(String cpf, String senha, String tema) {
 		String nomeAutor = usuarioController.getNome(cpf, senha);
 		TipoAtividade atividade = TipoAtividade.converterStringEmAtividade(tema.trim());
-		dicas.add(new Dica(nomeAutor, atividade));
-		return dicas.size() - 1;
+		return incluirNovaDica(new Dica(nomeAutor, atividade));
 	}
 	
-	private boolean adicionarElementoDica(String cpf, String senha, int posicao, ElementoDica elemento) {
-		validarPosicaoDica(posicao);
+	private synchronized int incluirNovaDica(Dica dica) {
+		int posicao = incluirDica(dica);
+		observador.dicaAdicionada(posicao, dica);
+		return posicao;
+	}
+	
+	private synchronized int incluirDica(Dica dica) {
+		dicas.add(dica);
+		int posicao = dicas.size() - 1;
+		indexarDica(posicao, dica);
+		indexarElementos(posicao, dica.getElementos(), 0);
+		return posicao;
+	}
+	
+	private void indexarDica(int posicao, Dica dica) {
+		posicoesPorTema.computeIfAbsent(dica.getTema(), tema -> new ArrayList<>()).add(posicao);
+		posicoesPorAutor.computeIfAbsent(chaveAutor(dica.getNomeAutor()), autor -> new ArrayList<>()).add(posicao);
+	}
+	
+	private void indexarElementos(int posicao, List<ElementoDica> elementos, int primeiro) {
+		for (int i = primeiro; i < elementos.size(); i++) {
+			indiceTextual.indexar(posicao, elementos.get(i).getTextoPesquisavel());
+		}
+	}
+	
+	private String chaveAutor(String nomeAutor) {
+		return Usuario.normalizarNome(nomeAutor);
+	}
+	
+	/**
+	 * Adiciona ao fim da lista uma dica já construída, como uma dica restaurada de um arquivo.
+	 * Os elementos da dica não geram bonificação, pois ela já foi concedida quando foram criados.
+	 * 
+	 * @param dica Dica a ser adicionada.
+	 * @return A posição (índice) da dica adicionada na lista.
+	 */
+	public int restaurarDica(Dica dica) {
+		return incluirDica(dica);
+	}
+	
+	/**
+	 * Cria uma dica sem elementos na posição informada, a menos que ela já exista.
+	 * Usado na reaplicação do registro de operações, em que os elementos chegam em registros próprios.
+	 *
+	 * @param posicao   Posição da dica.
+	 * @param nomeAutor Nome do autor da dica.
+	 * @param tema      Tema da dica.
+	 * @throws IllegalArgumentException se a posição for negativa ou deixar uma lacuna na lista.
+	 */
+	public synchronized void restaurarDica(int posicao, String nomeAutor, TipoAtividade tema) {
+		if (posicao < 0 || posicao > dicas.size()) throw new IllegalArgumentException("Dica fora de ordem: " + posicao);
+		if (posicao == dicas.size()) incluirDica(new Dica(nomeAutor, tema));
+	}
+
+	/**
+	 * Acrescenta um elemento a uma dica, a menos que ela já possua um elemento no índice informado.
+	 * O elemento não gera bonificação, que é restaurada à parte. Usado na reaplicação do registro de operações.
+	 *
+	 * @param posicao  Posição da dica.
+	 * @param indice   Posição do elemento na dica.
+	 * @param elemento Elemento a ser acrescentado.
+	 * @throws IndexOutOfBoundsException se a posição da dica não existir.
+	 * @throws IllegalArgumentException se faltarem elementos anteriores ao índice.
+	 */
+	public void restaurarElemento(int posicao, int indice, ElementoDica elemento) {
+		Dica dica = getDica(posicao);
+		synchronized (dica) {
+			int quantidade = dica.getQuantidadeElementos();
+			if (indice > quantidade) throw new IllegalArgumentException("Elemento fora de ordem na dica " + posicao + ": " + indice);
+			if (indice < quantidade) return;
+			dica.adicionarElementoDica(elemento);
+		}
+		indiceTextual.indexar(posicao, elemento.getTextoPesquisavel());
+	}
 
-	    Dica dica = dicas.get(posicao);
-	    dica.adicionarElementoDica(elemento);
+	/**
+	 * Retorna a dica na posição informada.
+	 *
+	 * @param posicao Posição da dica.
+	 * @return A dica.
+	 * @throws IndexOutOfBoundsException se a posição não existir.
+	 */
+	public synchronized Dica getDica(int posicao) {
+		validarPosicaoDica(posicao);
+		return dicas.get(posicao);
+	}
 
-	    usuarioController.atualizarBonificacao(cpf, senha, dica.getBonusUltimoElementoDica());
+	/**
+	 * Retorna todas as dicas, na ordem de suas posições.
+	 * 
+	 * @return Lista não modificável com as dicas cadastradas no momento da chamada.
+	 */
+	public synchronized List<Dica> getDicas() {
+		return List.copyOf(dicas);
+	}
+	
+	private boolean adicionarElementoDica(String cpf, String senha, int posicao, ElementoDica elemento) {
+	    Dica dica = getDica(posicao);
+	    usuarioController.atualizarBonificacao(cpf, senha, () -> {
+	    	synchronized (dica) {
+	    		int bonus = dica.adicionarElementoDica(elemento);
+	    		observador.elementoAdicionado(posicao, dica.getQuantidadeElementos() - 1, elemento);
+	    		return bonus;
+	    	}
+	    });
+	    indiceTextual.indexar(posicao, elemento.getTextoPesquisavel());
 	    return true;
 	}
 
@@ -134,12 +265,11 @@ public class DicaController {
 	}
 
 	private List<String> listarTodasAsDicas(Function<Dica, String> visualizacao) {
-	    return dicas.stream().map(visualizacao).collect(Collectors.toList());
+	    return getDicas().stream().map(visualizacao).collect(Collectors.toList());
 	}
 
 	private String listarUmaDica(int posicao, Function<Dica, String> visualizacao) {
-	    validarPosicaoDica(posicao);
-	    return visualizacao.apply(dicas.get(posicao));
+	    return visualizacao.apply(getDica(posicao));
 	}
 	
 	/**
@@ -160,6 +290,49 @@ public class DicaController {
 	    return listarTodasAsDicas (Dica::visualizacaoDetalhada);
 	}
 
+	/**
+	 * Lista, em formato resumido, uma página das dicas. Apenas as dicas da página são formatadas.
+	 * 
+	 * @param inicio     Posição da primeira dica da página (começando em 0).
+	 * @param quantidade Quantidade máxima de dicas na página.
+	 * @return Lista de dicas resumidas da página.
+	 * @throws IllegalArgumentException se o início ou a quantidade forem negativos.
+	 */
+	public List<String> listarDicas(int inicio, int quantidade) {
+		return listarPagina(inicio, quantidade, Dica::visualizacaoResumida);
+	}
+	
+	/**
+	 * Lista, com detalhes completos, uma página das dicas. Apenas as dicas da página são formatadas.
+	 * 
+	 * @param inicio     Posição da primeira dica da página (começando em 0).
+	 * @param quantidade Quantidade máxima de dicas na página.
+	 * @return Lista de dicas detalhadas da página.
+	 * @throws IllegalArgumentException se o início ou a quantidade forem negativos.
+	 */
+	public List<String> listarDicasDetalhes(int inicio, int quantidade) {
+		return listarPagina(inicio, quantidade, Dica::visualizacaoDetalhada);
+	}
+	
+	private List<String> listarPagina(int inicio, int quantidade, Function<Dica, String> visualizacao) {
+		Validador.validarPaginacao(inicio, quantidade);
+		return formatar(selecionarPagina(inicio, quantidade), visualizacao);
+	}
+	
+	private synchronized List<Dica> selecionarPagina(int inicio, int quantidade) {
+		if (inicio >= dicas.size()) return List.of();
+		int fim = (int) Math.min((long) inicio + quantidade, dicas.size());
+		return List.copyOf(dicas.subList(inicio, fim));
+	}
+	
+	private List<String> formatar(List<Dica> selecionadas, Function<Dica, String> visualizacao) {
+		List<String> pagina = new ArrayList<>(selecionadas.size());
+		for (Dica dica : selecionadas) {
+			pagina.add(visualizacao.apply(dica));
+		}
+		return pagina;
+	}
+
 	/**
 	 * Lista uma dica específica em formato resumido.
 	 * 
@@ -179,4 +352,72 @@ public class DicaController {
 	public String listarDicaDetalhes(int posicao) {
 	    return listarUmaDica(posicao, Dica::visualizacaoDetalhada);
 	}
+
+	/**
+	 * Lista, em formato resumido, uma página das dicas de um tema, na ordem de cadastro.
+	 * Apenas as dicas da página são formatadas.
+	 * 
+	 * @param tema       Tema das dicas, representado como uma string. Será convertido para {@link TipoAtividade}.
+	 * @param inicio     Posição da primeira dica da página, entre as dicas do tema (começando em 0).
+	 * @param quantidade Quantidade máxima de dicas na página.
+	 * @return Lista de dicas resumidas da página.
+	 * @throws IllegalArgumentException se o tema for inválido ou se a paginação for inválida.
+	 */
+	public List<String> listarDicasPorTema(String tema, int inicio, int quantidade) {
+		Validador.validarString(tema, "Tema não pode ser nulo ou vazio.");
+		TipoAtividade atividade = TipoAtividade.converterStringEmAtividade(tema.trim());
+		return listarPaginaIndice(posicoesPorTema, atividade, inicio, quantidade);
+	}
+	
+	/**
+	 * Lista, em formato resumido, uma página das dicas de um autor, na ordem de cadastro.
+	 * A comparação do nome ignora acentos e capitalização.
+	 * 
+	 * @param nomeAutor  Nome do autor das dicas.
+	 * @param inicio     Posição da primeira dica da página, entre as dicas do autor (começando em 0).
+	 * @param quantidade Quantidade máxima de dicas na página.
+	 * @return Lista de dicas resumidas da página.
+	 * @throws IllegalArgumentException se o nome for nulo ou vazio ou se a paginação for inválida.
+	 */
+	public List<String> listarDicasPorAutor(String nomeAutor, int inicio, int quantidade) {
+		Validador.validarString(nomeAutor, "Nome do autor não pode ser nulo ou vazio.");
+		return listarPaginaIndice(posicoesPorAutor, chaveAutor(nomeAutor), inicio, quantidade);
+	}
+	
+	private List<String> listarPaginaIndice(Map<?, List<Integer>> indice, Object chave, int inicio, int quantidade) {
+		Validador.validarPaginacao(inicio, quantidade);
+		return formatar(selecionarPaginaIndice(indice, chave, inicio, quantidade), Dica::visualizacaoResumida);
+	}
+	
+	private synchronized List<Dica> selecionarPaginaIndice(Map<?, List<Integer>> indice, Object chave, int inicio, int quantidade) {
+		List<Integer> posicoes = indice.get(chave);
+		if (posicoes == null || inicio >= posicoes.size()) return List.of();
+		
+		int fim = (int) Math.min((long) inicio + quantidade, posicoes.size());
+		List<Dica> selecionadas = new ArrayList<>(fim - inicio);
+		for (int posicao : posicoes.subList(inicio, fim)) {
+			selecionadas.add(dicas.get(posicao));
+		}
+		return selecionadas;
+	}
+	
+	/**
+	 * Busca dicas que contenham todas as palavras da consulta nos textos, cabeçalhos, títulos ou fontes
+	 * de seus elementos, ignorando acentos e capitalização. As dicas são ordenadas pela quantidade de
+	 * ocorrências das palavras, da maior para a menor, e retornadas em formato resumido.
+	 * 
+	 * @param consulta   Palavras procuradas.
+	 * @param inicio     Posição do primeiro resultado da página (começando em 0).
+	 * @param quantidade Quantidade máxima de dicas na página.
+	 * @return Lista de dicas resumidas da página.
+	 * @throws IllegalArgumentException se a consulta for nula ou vazia ou se a paginação for inválida.
+	 */
+	public List<String> buscarDicas(String consulta, int inicio, int quantidade) {
+		List<Integer> posicoes = indiceTextual.buscar(consulta, inicio, quantidade);
+		List<Dica> encontradas = new ArrayList<>(posicoes.size());
+		for (int posicao : posicoes) {
+			encontradas.add(getDica(posicao));
+		}
+		return formatar(encontradas, Dica::visualizacaoResumida);
+	}
 }
@@ -0,0 +1,105 @@
+package complementacao.controller;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import complementacao.enums.TipoAtividade;
+import complementacao.model.Usuario;
+
+/**
+ * Estatísticas de créditos de todos os estudantes cadastrados: distribuição dos créditos por tipo de
+ * atividade, créditos médios por tipo e quantidade de estudantes que alcançaram o máximo de créditos.
+ *
+ * As estatísticas são mantidas de forma incremental: cada alteração informa apenas a diferença entre os
+ * créditos anteriores e os atuais de um estudante, e as consultas leem contadores já agregados, sem percorrer
+ * os estudantes. Os contadores são {@link LongAdder}, então estudantes diferentes podem ser atualizados em
+ * paralelo; durante atualizações concorrentes uma consulta pode refletir parte delas.
+ *
+ * A distribuição de créditos de um tipo é contada de 0 até o máximo de créditos de um estudante; créditos
+ * acima desse valor são contados na última faixa.
+ *
+ * @author Isadora Lucena
+ */
+class EstatisticasCreditos {
+	private static final TipoAtividade[] TIPOS_ATIVIDADE = TipoAtividade.values();
+	private final int maximoCreditos;
+	private final LongAdder estudantes;
+	private final LongAdder estudantesNoMaximo;
+	private final LongAdder[] somaCreditosPorTipo;
+	private final LongAdder[][] distribuicaoPorTipo;
+
+	EstatisticasCreditos() {
+		this.maximoCreditos = Usuario.getMaximoCreditos();
+		this.estudantes = new LongAdder();
+		this.estudantesNoMaximo = new LongAdder();
+		this.somaCreditosPorTipo = new LongAdder[TIPOS_ATIVIDADE.length];
+		this.distribuicaoPorTipo = new LongAdder[TIPOS_ATIVIDADE.length][maximoCreditos + 1];
+		for (int tipo = 0; tipo < TIPOS_ATIVIDADE.length; tipo++) {
+			somaCreditosPorTipo[tipo] = new LongAdder();
+			for (int faixa = 0; faixa <= maximoCreditos; faixa++) {
+				distribuicaoPorTipo[tipo][faixa] = new LongAdder();
+			}
+		}
+	}
+
+	/**
+	 * Soma às estatísticas os créditos atuais de um estudante. Deve ser chamado sob o monitor do estudante.
+	 */
+	void adicionarEstudante(Usuario usuario) {
+		contabilizarEstudante(usuario, 1);
+	}
+
+	/**
+	 * Retira das estatísticas os créditos atuais de um estudante. Deve ser chamado sob o monitor do estudante.
+	 */
+	void removerEstudante(Usuario usuario) {
+		contabilizarEstudante(usuario, -1);
+	}
+
+	/**
+	 * Registra a mudança dos créditos de um estudante em um tipo de atividade e no total acumulado.
+	 */
+	void atualizarCreditos(TipoAtividade tipo, int creditosAntes, int creditosDepois, int totalAntes, int totalDepois) {
+		int indice = tipo.ordinal();
+		somaCreditosPorTipo[indice].add(creditosDepois - creditosAntes);
+		if (faixa(creditosAntes) != faixa(creditosDepois)) {
+			distribuicaoPorTipo[indice][faixa(creditosAntes)].decrement();
+			distribuicaoPorTipo[indice][faixa(creditosDepois)].increment();
+		}
+		if (totalAntes != totalDepois) {
+			if (totalAntes == maximoCreditos) estudantesNoMaximo.decrement();
+			if (totalDepois == maximoCreditos) estudantesNoMaximo.increment();
+		}
+	}
+
+	private void contabilizarEstudante(Usuario usuario, int sinal) {
+		estudantes.add(sinal);
+		if (usuario.getCreditosAcumulados() == maximoCreditos) estudantesNoMaximo.add(sinal);
+		for (TipoAtividade tipo : TIPOS_ATIVIDADE) {
+			int creditos = usuario.creditosAtividade(tipo);
+			somaCreditosPorTipo[tipo.ordinal()].add(sinal * (long) creditos);
+			distribuicaoPorTipo[tipo.ordinal()][faixa(creditos)].add(sinal);
+		}
+	}
+
+	private int faixa(int creditos) {
+		return Math.min(Math.max(creditos, 0), maximoCreditos);
+	}
+
+	double percentualEstudantesNoMaximo() {
+		long total = estudantes.sum();
+		return total == 0 ? 0 : 100.0 * estudantesNoMaximo.sum() / total;
+	}
+
+	double mediaCreditos(TipoAtividade tipo) {
+		long total = estudantes.sum();
+		return total == 0 ? 0 : (double) somaCreditosPorTipo[tipo.ordinal()].sum() / total;
+	}
+
+	long[] distribuicaoCreditos(TipoAtividade tipo) {
+		long[] distribuicao = new long[maximoCreditos + 1];
+		for (int faixa = 0; faixa <= maximoCreditos; faixa++) {
+			distribuicao[faixa] = distribuicaoPorTipo[tipo.ordinal()][faixa].sum();
+		}
+		return distribuicao;
+	}
+}
@@ -0,0 +1,256 @@
+package complementacao.controller;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import complementacao.model.Usuario;
+
+/**
+ * Índice de estudantes por nome, em ordem crescente de uma chave única por estudante, como o nome normalizado
+ * seguido do CPF.
+ *
+ * Como o {@link RankingBonificacao}, o índice é uma árvore de busca balanceada (treap) em que cada nó guarda o
+ * tamanho de sua subárvore, de modo que o início de uma página, inclusive dentro de um intervalo de chaves, é
+ * encontrado descendo a árvore uma única vez: uma página de k estudantes custa O(log n + k), e não
+ * O(inicio + k) como ao pular os primeiros estudantes de uma lista ordenada. Estudantes não são retirados do
+ * índice, pois a chave de um estudante não muda.
+ *
+ * As consultas usam a trava de leitura e podem ser feitas em paralelo; inclusões usam a trava de escrita,
+ * mantida apenas durante a descida na árvore. A iteração percorre o índice em blocos, cada um consultado a
+ * partir da chave do último estudante do bloco anterior, sem manter a trava entre os blocos; inclusões feitas
+ * durante a iteração aparecem se a chave vier depois do bloco corrente.
+ *
+ * @author Isadora Lucena
+ */
+class IndiceNomes implements Iterable<Usuario> {
+	private static final int TAMANHO_BLOCO_ITERACAO = 256;
+	private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+	private No raiz;
+
+	private static final class No {
+		private final String chave;
+		private final Usuario usuario;
+		private int prioridade;
+		private int tamanho = 1;
+		private No esquerda;
+		private No direita;
+
+		private No(String chave, Usuario usuario) {
+			this.chave = chave;
+			this.usuario = usuario;
+			this.prioridade = ThreadLocalRandom.current().nextInt();
+		}
+	}
+
+	/**
+	 * Inclui um estudante com a chave informada.
+	 *
+	 * @return {@code false} se a chave já constava no índice.
+	 */
+	boolean adicionar(String chave, Usuario usuario) {
+		No novo = new No(chave, usuario);
+		trava.writeLock().lock();
+		try {
+			if (contem(chave)) return false;
+			raiz = inserir(raiz, novo);
+			return true;
+		} finally {
+			trava.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Monta o índice de uma só vez, a partir de entradas já ordenadas pela chave, em tempo linear, como em
+	 * {@link RankingBonificacao#montar(List)}. Substitui o conteúdo do índice.
+	 */
+	void montar(List<Map.Entry<String, Usuario>> ordenadas) {
+		int niveis = 32 - Integer.numberOfLeadingZeros(ordenadas.size());
+		long faixa = niveis == 0 ? 0 : (1L << 32) / niveis;
+		No novaRaiz = montar(ordenadas, 0, ordenadas.size() - 1, 0, faixa);
+
+		trava.writeLock().lock();
+		try {
+			raiz = novaRaiz;
+		} finally {
+			trava.writeLock().unlock();
+		}
+	}
+
+	private static No montar(List<Map.Entry<String, Usuario>> ordenadas, int inicio, int fim, int nivel, long faixa) {
+		if (inicio > fim) return null;
+		int meio = (inicio + fim) >>> 1;
+		Map.Entry<String, Usuario> entrada = ordenadas.get(meio);
+		No no = new No(entrada.getKey(), entrada.getValue());
+		long teto = Integer.MAX_VALUE - nivel * faixa;
+		no.prioridade = (int) (teto - ThreadLocalRandom.current().nextLong(faixa));
+		no.esquerda = montar(ordenadas, inicio, meio - 1, nivel + 1, faixa);
+		no.direita = montar(ordenadas, meio + 1, fim, nivel + 1, faixa);
+		atualizarTamanho(no);
+		return no;
+	}
+
+	/**
+	 * Retorna os estudantes de uma página do intervalo de chaves informado, em ordem crescente de chave.
+	 *
+	 * @param de         Menor chave do intervalo, inclusive, ou {@code null} para começar na primeira chave.
+	 * @param ate        Maior chave do intervalo, exclusive, ou {@code null} para ir até a última chave.
+	 * @param inicio     Posição do primeiro estudante da página dentro do intervalo (começando em 0). Não pode
+	 *                   ser negativa.
+	 * @param quantidade Quantidade máxima de estudantes na página. Não pode ser negativa.
+	 */
+	List<Usuario> pagina(String de, String ate, int inicio, int quantidade) {
+		trava.readLock().lock();
+		try {
+			int primeiro = de == null ? 0 : contar(de, false);
+			int limite = ate == null ? tamanho(raiz) : contar(ate, false);
+			int disponiveis = Math.max(0, limite - primeiro - inicio);
+			List<No> nos = new ArrayList<>(Math.min(quantidade, disponiveis));
+			coletar(raiz, primeiro + inicio, Math.min(quantidade, disponiveis), nos);
+			List<Usuario> pagina = new ArrayList<>(nos.size());
+			for (No no : nos) pagina.add(no.usuario);
+			return pagina;
+		} finally {
+			trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retorna a quantidade de estudantes no índice.
+	 */
+	int tamanho() {
+		trava.readLock().lock();
+		try {
+			return tamanho(raiz);
+		} finally {
+			trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Percorre os estudantes em ordem crescente de chave, em blocos consultados pela chave, como descrito na classe.
+	 */
+	@Override
+	public Iterator<Usuario> iterator() {
+		return new Iterator<>() {
+			private List<No> bloco = List.of();
+			private int posicao;
+			private boolean ultimoBloco;
+
+			@Override
+			public boolean hasNext() {
+				if (posicao < bloco.size()) return true;
+				if (ultimoBloco) return false;
+				String ultimaChave = bloco.isEmpty() ? null : bloco.get(bloco.size() - 1).chave;
+				bloco = blocoApos(ultimaChave);
+				posicao = 0;
+				ultimoBloco = bloco.size() < TAMANHO_BLOCO_ITERACAO;
+				return !bloco.isEmpty();
+			}
+
+			@Override
+			public Usuario next() {
+				if (!hasNext()) throw new NoSuchElementException();
+				return bloco.get(posicao++).usuario;
+			}
+		};
+	}
+
+	private List<No> blocoApos(String chave) {
+		trava.readLock().lock();
+		try {
+			int primeiro = chave == null ? 0 : contar(chave, true);
+			List<No> bloco = new ArrayList<>(TAMANHO_BLOCO_ITERACAO);
+			coletar(raiz, primeiro, Math.min(TAMANHO_BLOCO_ITERACAO, Math.max(0, tamanho(raiz) - primeiro)), bloco);
+			return bloco;
+		} finally {
+			trava.readLock().unlock();
+		}
+	}
+
+	private boolean contem(String chave) {
+		No no = raiz;
+		while (no != null) {
+			int comparacao = chave.compareTo(no.chave);
+			if (comparacao == 0) return true;
+			no = comparacao < 0 ? no.esquerda : no.direita;
+		}
+		return false;
+	}
+
+	/**
+	 * Conta as chaves menores que a informada ou, se {@code inclusive}, menores ou iguais a ela.
+	 */
+	private int contar(String chave, boolean inclusive) {
+		int anteriores = 0;
+		No no = raiz;
+		while (no != null) {
+			int comparacao = chave.compareTo(no.chave);
+			if (comparacao < 0 || (comparacao == 0 && !inclusive)) {
+				no = no.esquerda;
+			} else {
+				anteriores += tamanho(no.esquerda) + 1;
+				no = no.direita;
+			}
+		}
+		return anteriores;
+	}
+
+	private static void coletar(No no, int inicio, int quantidade, List<No> pagina) {
+		if (no == null || pagina.size() == quantidade) return;
+		int tamanhoEsquerda = tamanho(no.esquerda);
+		if (inicio < tamanhoEsquerda) coletar(no.esquerda, inicio, quantidade, pagina);
+		if (pagina.size() == quantidade) return;
+		if (inicio <= tamanhoEsquerda) pagina.add(no);
+		coletar(no.direita, Math.max(0, inicio - tamanhoEsquerda - 1), quantidade, pagina);
+	}
+
+	private static No inserir(No no, No novo) {
+		if (no == null) return novo;
+		if (novo.prioridade > no.prioridade) {
+			No[] partes = dividir(no, novo.chave);
+			novo.esquerda = partes[0];
+			novo.direita = partes[1];
+			atualizarTamanho(novo);
+			return novo;
+		}
+		if (novo.chave.compareTo(no.chave) < 0) {
+			no.esquerda = inserir(no.esquerda, novo);
+		} else {
+			no.direita = inserir(no.direita, novo);
+		}
+		atualizarTamanho(no);
+		return no;
+	}
+
+	/**
+	 * Divide a subárvore entre os nós com chave menor que a informada e os demais.
+	 */
+	private static No[] dividir(No no, String chave) {
+		if (no == null) return new No[2];
+		No[] partes;
+		if (chave.compareTo(no.chave) <= 0) {
+			partes = dividir(no.esquerda, chave);
+			no.esquerda = partes[1];
+			partes[1] = no;
+		} else {
+			partes = dividir(no.direita, chave);
+			no.direita = partes[0];
+			partes[0] = no;
+		}
+		atualizarTamanho(no);
+		return partes;
+	}
+
+	private static int tamanho(No no) {
+		return no == null ? 0 : no.tamanho;
+	}
+
+	private static void atualizarTamanho(No no) {
+		no.tamanho = 1 + tamanho(no.esquerda) + tamanho(no.direita);
+	}
+}
@@ -0,0 +1,101 @@
+package complementacao.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import complementacao.model.Usuario;
+import complementacao.model.atividade.Atividade;
+import complementacao.model.dica.Dica;
+import complementacao.model.dica.ElementoDica;
+
+/**
+ * Recebe cada alteração feita pelos controladores, como o registro de operações, que grava
+ * a alteração em si e não o estado completo do usuário ou da dica.
+ *
+ * Os métodos são chamados sob o monitor do usuário ou da dica alterados (ou do controlador de dicas,
+ * na criação de uma dica), logo após a alteração. Assim, alterações de um mesmo usuário ou de uma mesma
+ * dica chegam na ordem em que foram feitas, e o estado lido durante a chamada é o que a alteração deixou.
+ * Por isso, as implementações devem ser rápidas e nunca esperar por outras threads.
+ *
+ * Todos os métodos têm implementação vazia, e {@link #NENHUM} ignora todas as alterações.
+ *
+ * @author Isadora Lucena
+ */
+public interface ObservadorAlteracoes {
+	/**
+	 * Observador que ignora todas as alterações.
+	 */
+	ObservadorAlteracoes NENHUM = new ObservadorAlteracoes() {};
+
+	/**
+	 * Um estudante foi criado.
+	 *
+	 * @param usuario Estudante criado.
+	 */
+	default void estudanteCriado(Usuario usuario) {
+	}
+
+	/**
+	 * A senha de um estudante foi alterada.
+	 *
+	 * @param usuario Estudante cuja senha foi alterada.
+	 */
+	default void senhaAlterada(Usuario usuario) {
+	}
+
+	/**
+	 * Atividades de um estudante foram criadas ou tiveram a descrição ou a comprovação alteradas.
+	 *
+	 * @param usuario    Estudante dono das atividades.
+	 * @param atividades Atividades criadas ou alteradas.
+	 */
+	default void atividadesAlteradas(Usuario usuario, List<Atividade> atividades) {
+	}
+
+	/**
+	 * Um relatório foi salvo no histórico de um estudante.
+	 *
+	 * @param usuario   Estudante dono do histórico.
+	 * @param data      Data em que o relatório foi salvo.
+	 * @param indice    Posição do relatório entre os salvos na mesma data, começando em 0.
+	 * @param relatorio Conteúdo do relatório.
+	 */
+	default void relatorioSalvo(Usuario usuario, LocalDate data, int indice, String relatorio) {
+	}
+
+	/**
+	 * Os relatórios salvos em uma data foram excluídos do histórico de um estudante.
+	 *
+	 * @param usuario Estudante dono do histórico.
+	 * @param data    Data dos relatórios excluídos.
+	 */
+	default void historicoExcluido(Usuario usuario, LocalDate data) {
+	}
+
+	/**
+	 * A bonificação de um estudante foi alterada.
+	 *
+	 * @param usuario Estudante cuja bonificação foi alterada.
+	 */
+	default void bonificacaoAlterada(Usuario usuario) {
+	}
+
+	/**
+	 * Uma dica foi criada, ainda sem elementos.
+	 *
+	 * @param posicao Posição da dica.
+	 * @param dica    Dica criada.
+	 */
+	default void dicaAdicionada(int posicao, Dica dica) {
+	}
+
+	/**
+	 * Um elemento foi acrescentado ao fim de uma dica.
+	 *
+	 * @param posicao  Posição da dica.
+	 * @param indice   Posição do elemento na dica, começando em 0.
+	 * @param elemento Elemento acrescentado.
+	 */
+	default void elementoAdicionado(int posicao, int indice, ElementoDica elemento) {
+	}
+}
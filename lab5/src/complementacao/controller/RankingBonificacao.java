@@ -0,0 +1,268 @@
+package complementacao.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import complementacao.model.Usuario;
+
+/**
+ * Ranking de usuários por bonificação, em ordem decrescente e com empates desfeitos pelo CPF.
+ *
+ * O ranking é uma árvore de busca balanceada (treap) em que cada nó guarda o tamanho de sua subárvore, de modo
+ * que a posição de um usuário e o início de uma página são encontrados descendo a árvore uma única vez, em
+ * O(log n), sem percorrer os usuários que vêm antes. Cada nó guarda a bonificação que o usuário tinha ao ser
+ * incluído; por isso, quem altera a bonificação deve retirar o usuário antes e incluí-lo de novo depois, sob o
+ * monitor do usuário.
+ *
+ * As consultas usam a trava de leitura e podem ser feitas em paralelo; inclusões e retiradas usam a trava
+ * de escrita, mantida apenas durante a descida na árvore.
+ *
+ * @author Isadora Lucena
+ */
+class RankingBonificacao {
+	private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+	private No raiz;
+
+	private static final class No {
+		private final Usuario usuario;
+		private final int bonificacao;
+		private final String cpf;
+		private int prioridade;
+		private int tamanho = 1;
+		private No esquerda;
+		private No direita;
+
+		private No(Usuario usuario, int bonificacao) {
+			this.usuario = usuario;
+			this.bonificacao = bonificacao;
+			this.cpf = usuario.getCpf();
+			this.prioridade = ThreadLocalRandom.current().nextInt();
+		}
+	}
+
+	/**
+	 * Inclui um usuário com sua bonificação atual. Deve ser chamado sob o monitor do usuário.
+	 *
+	 * @return {@code false} se o usuário já constava no ranking com essa bonificação.
+	 */
+	boolean adicionar(Usuario usuario) {
+		No novo = new No(usuario, usuario.getBonificacao());
+		trava.writeLock().lock();
+		try {
+			if (buscar(novo.bonificacao, novo.cpf) != null) return false;
+			raiz = inserir(raiz, novo);
+			return true;
+		} finally {
+			trava.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Monta o ranking de uma só vez, a partir de usuários já ordenados como no ranking, em tempo linear: a árvore
+	 * é construída perfeitamente balanceada, e cada nível recebe prioridades aleatórias de uma faixa abaixo da
+	 * faixa do nível anterior, de modo que cada nó tenha prioridade maior que a de seus filhos. Substitui o
+	 * conteúdo do ranking.
+	 */
+	void montar(List<Usuario> ordenados) {
+		int niveis = 32 - Integer.numberOfLeadingZeros(ordenados.size());
+		long faixa = niveis == 0 ? 0 : (1L << 32) / niveis;
+		No novaRaiz = montar(ordenados, 0, ordenados.size() - 1, 0, faixa);
+
+		trava.writeLock().lock();
+		try {
+			raiz = novaRaiz;
+		} finally {
+			trava.writeLock().unlock();
+		}
+	}
+
+	private static No montar(List<Usuario> ordenados, int inicio, int fim, int nivel, long faixa) {
+		if (inicio > fim) return null;
+		int meio = (inicio + fim) >>> 1;
+		Usuario usuario = ordenados.get(meio);
+		No no = new No(usuario, usuario.getBonificacao());
+		long teto = Integer.MAX_VALUE - nivel * faixa;
+		no.prioridade = (int) (teto - ThreadLocalRandom.current().nextLong(faixa));
+		no.esquerda = montar(ordenados, inicio, meio - 1, nivel + 1, faixa);
+		no.direita = montar(ordenados, meio + 1, fim, nivel + 1, faixa);
+		atualizarTamanho(no);
+		return no;
+	}
+
+	/**
+	 * Retira um usuário, localizado pela sua bonificação atual. Deve ser chamado sob o monitor do usuário.
+	 *
+	 * @return {@code true} se o usuário constava no ranking.
+	 */
+	boolean remover(Usuario usuario) {
+		int bonificacao = usuario.getBonificacao();
+		String cpf = usuario.getCpf();
+		trava.writeLock().lock();
+		try {
+			if (buscar(bonificacao, cpf) == null) return false;
+			raiz = remover(raiz, bonificacao, cpf);
+			return true;
+		} finally {
+			trava.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Retorna a posição que um usuário com a bonificação e o CPF informados ocupa no ranking, começando em 1.
+	 */
+	int posicao(int bonificacao, String cpf) {
+		trava.readLock().lock();
+		try {
+			int anteriores = 0;
+			No no = raiz;
+			while (no != null) {
+				int comparacao = comparar(bonificacao, cpf, no);
+				if (comparacao < 0) {
+					no = no.esquerda;
+				} else {
+					anteriores += tamanho(no.esquerda);
+					if (comparacao == 0) break;
+					anteriores++;
+					no = no.direita;
+				}
+			}
+			return anteriores + 1;
+		} finally {
+			trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retorna os usuários de uma página do ranking, na ordem do ranking.
+	 *
+	 * @param inicio     Posição do primeiro usuário da página (começando em 0). Não pode ser negativa.
+	 * @param quantidade Quantidade máxima de usuários na página. Não pode ser negativa.
+	 */
+	List<Usuario> pagina(int inicio, int quantidade) {
+		trava.readLock().lock();
+		try {
+			int disponiveis = Math.max(0, tamanho(raiz) - inicio);
+			List<Usuario> pagina = new ArrayList<>(Math.min(quantidade, disponiveis));
+			coletar(raiz, inicio, Math.min(quantidade, disponiveis), pagina);
+			return pagina;
+		} finally {
+			trava.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retorna a quantidade de usuários no ranking.
+	 */
+	int tamanho() {
+		trava.readLock().lock();
+		try {
+			return tamanho(raiz);
+		} finally {
+			trava.readLock().unlock();
+		}
+	}
+
+	private No buscar(int bonificacao, String cpf) {
+		No no = raiz;
+		while (no != null) {
+			int comparacao = comparar(bonificacao, cpf, no);
+			if (comparacao == 0) return no;
+			no = comparacao < 0 ? no.esquerda : no.direita;
+		}
+		return null;
+	}
+
+	private static void coletar(No no, int inicio, int quantidade, List<Usuario> pagina) {
+		if (no == null || pagina.size() == quantidade) return;
+		int tamanhoEsquerda = tamanho(no.esquerda);
+		if (inicio < tamanhoEsquerda) coletar(no.esquerda, inicio, quantidade, pagina);
+		if (pagina.size() == quantidade) return;
+		if (inicio <= tamanhoEsquerda) pagina.add(no.usuario);
+		coletar(no.direita, Math.max(0, inicio - tamanhoEsquerda - 1), quantidade, pagina);
+	}
+
+	private static No inserir(No no, No novo) {
+		if (no == null) return novo;
+		if (novo.prioridade > no.prioridade) {
+			No[] partes = dividir(no, novo.bonificacao, novo.cpf);
+			novo.esquerda = partes[0];
+			novo.direita = partes[1];
+			atualizarTamanho(novo);
+			return novo;
+		}
+		if (comparar(novo.bonificacao, novo.cpf, no) < 0) {
+			no.esquerda = inserir(no.esquerda, novo);
+		} else {
+			no.direita = inserir(no.direita, novo);
+		}
+		atualizarTamanho(no);
+		return no;
+	}
+
+	/**
+	 * Divide a subárvore entre os nós que vêm antes da chave informada e os que vêm depois.
+	 */
+	private static No[] dividir(No no, int bonificacao, String cpf) {
+		if (no == null) return new No[2];
+		No[] partes;
+		if (comparar(bonificacao, cpf, no) <= 0) {
+			partes = dividir(no.esquerda, bonificacao, cpf);
+			no.esquerda = partes[1];
+			partes[1] = no;
+		} else {
+			partes = dividir(no.direita, bonificacao, cpf);
+			no.direita = partes[0];
+			partes[0] = no;
+		}
+		atualizarTamanho(no);
+		return partes;
+	}
+
+	private static No remover(No no, int bonificacao, String cpf) {
+		int comparacao = comparar(bonificacao, cpf, no);
+		if (comparacao == 0) return unir(no.esquerda, no.direita);
+		if (comparacao < 0) {
+			no.esquerda = remover(no.esquerda, bonificacao, cpf);
+		} else {
+			no.direita = remover(no.direita, bonificacao, cpf);
+		}
+		atualizarTamanho(no);
+		return no;
+	}
+
+	private static No unir(No esquerda, No direita) {
+		if (esquerda == null) return direita;
+		if (direita == null) return esquerda;
+		if (esquerda.prioridade > direita.prioridade) {
+			esquerda.direita = unir(esquerda.direita, direita);
+			atualizarTamanho(esquerda);
+			return esquerda;
+		}
+		direita.esquerda = unir(esquerda, direita.esquerda);
+		atualizarTamanho(direita);
+		return direita;
+	}
+
+	/**
+	 * Ordem do ranking: bonificação decrescente e, nos empates, CPF crescente.
+	 */
+	static int comparar(Usuario primeiro, Usuario segundo) {
+		if (primeiro.getBonificacao() != segundo.getBonificacao()) return primeiro.getBonificacao() > segundo.getBonificacao() ? -1 : 1;
+		return primeiro.getCpf().compareTo(segundo.getCpf());
+	}
+
+	private static int comparar(int bonificacao, String cpf, No no) {
+		if (bonificacao != no.bonificacao) return bonificacao > no.bonificacao ? -1 : 1;
+		return cpf.compareTo(no.cpf);
+	}
+
+	private static int tamanho(No no) {
+		return no == null ? 0 : no.tamanho;
+	}
+
+	private static void atualizarTamanho(No no) {
+		no.tamanho = 1 + tamanho(no.esquerda) + tamanho(no.direita);
+	}
+}
@@ -1,45 +1,114 @@
 package complementacao.controller;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
 
 import complementacao.enums.TipoAtividade;
 import complementacao.model.Usuario;
 import complementacao.model.atividade.*;
+import complementacao.util.CodificadorSenha;
 import complementacao.util.Validador;
 /**
  * Controlador responsável por gerenciar operações relacionadas aos usuários do sistema,
  * como criação de estudante, autenticação, criação e manipulação de atividades complementares
  * e geração de relatórios.
  * 
+ * O controlador pode ser usado por várias threads ao mesmo tempo: o cadastro é mantido em um
+ * {@link ConcurrentHashMap} indexado pelo CPF e as operações compostas sobre um mesmo usuário
+ * são executadas sob o monitor desse usuário, de modo que estudantes diferentes não disputam a mesma trava.
+ * 
  * @author Isadora Lucena
  */
 public class UsuarioController {
-	private Map<String, Usuario> usuarios;
+	private static final TipoAtividade[] TIPOS_ATIVIDADE = TipoAtividade.values();
+	private static final int ESTUDANTES_POR_BLOCO_EXPORTACAO = 256;
+	private static final int TAMANHO_BUFFER_EXPORTACAO = 64 * 1024;
+	private ConcurrentMap<String, Usuario> usuarios;
+	private RankingBonificacao rankingDicas;
+	private IndiceNomes estudantesPorNome;
+	private CodificadorSenha codificadorSenha;
+	private LongAdder acertosCacheRelatorios;
+	private LongAdder falhasCacheRelatorios;
+	private EstatisticasCreditos estatisticasCreditos;
+	private volatile ObservadorAlteracoes observador;
 
 	/**
 	 * Inicializa o controlador com um mapa vazio de usuários.
 	 */
 	public UsuarioController() {
-		this.usuarios = new HashMap<String, Usuario>();
+		this(new CodificadorSenha());
+	}
+	
+	/**
+	 * Inicializa o controlador com um mapa vazio de usuários, usando o codificador
+	 * informado para gerar e conferir as senhas dos estudantes.
+	 *
+	 * @param codificadorSenha Codificador de senhas dos estudantes.
+	 */
+	public UsuarioController(CodificadorSenha codificadorSenha) {
+		this.codificadorSenha = codificadorSenha;
+		this.usuarios = new ConcurrentHashMap<String, Usuario>();
+		this.rankingDicas = new RankingBonificacao();
+		this.estudantesPorNome = new IndiceNomes();
+		this.acertosCacheRelatorios = new LongAdder();
+		this.falhasCacheRelatorios = new LongAdder();
+		this.estatisticasCreditos = new EstatisticasCreditos();
+		this.observador = ObservadorAlteracoes.NENHUM;
+	}
+	
+	/**
+	 * Define quem recebe as alterações feitas nos estudantes, como o registro de operações.
+	 * As reconstruções feitas pelos métodos {@code restaurar*} não são repassadas ao observador.
+	 *
+	 * @param observador Observador das alterações, ou {@link ObservadorAlteracoes#NENHUM}.
+	 */
+	public void setObservadorAlteracoes(ObservadorAlteracoes observador) {
+		this.observador = observador;
+	}
+	
+	/**
+	 * Retorna quem recebe as alterações feitas nos estudantes.
+	 *
+	 * @return Observador das alterações.
+	 */
+	public ObservadorAlteracoes getObservadorAlteracoes() {
+		return observador;
 	}
 	
 	private void verificarUsuarioDuplicado(String cpf) {
-		if (usuarios.containsKey(cpf)) {
+		if (cpf != null && usuarios.containsKey(cpf)) {
             throw new IllegalArgumentException("Usuário com este CPF já existe.");
         }
 	}
 	
-	private boolean usuarioExiste(String cpf) {
-		return usuarios.containsKey(cpf);
-	}
-	
 	/**
 	 * Atualiza a bonificação de um usuário autenticado.
+	 * O usuário é reposicionado no ranking de dicas, que é mantido ordenado a cada atualização.
 	 *
 	 * @param cpf    CPF do usuário.
 	 * @param senha  Senha do usuário.
@@ -50,7 +119,37 @@ public class UsuarioController {
 	public void atualizarBonificacao(String cpf, String senha, int bonus) {
 	    Validador.validarBonificacaoPositiva(bonus);
 	    Usuario usuario = obterUsuarioAutenticado(cpf, senha);
-	    usuario.atualizaBonificacao(bonus);
+	    synchronized (usuario) {
+	    	rankingDicas.remover(usuario);
+	    	usuario.atualizaBonificacao(bonus);
+	    	rankingDicas.adicionar(usuario);
+	    	observador.bonificacaoAlterada(usuario);
+	    }
+	}
+	
+	/**
+	 * Executa uma operação que produz uma bonificação e credita essa bonificação ao usuário autenticado
+	 * como um único passo: a operação é executada sob o monitor do usuário, e nenhuma outra alteração
+	 * do mesmo usuário ocorre entre a operação e o crédito.
+	 *
+	 * @param cpf      CPF do usuário.
+	 * @param senha    Senha do usuário.
+	 * @param operacao Operação executada após a autenticação, que retorna a bonificação a ser creditada.
+	 * @return A bonificação creditada.
+	 * @throws SecurityException se o CPF e a senha não corresponderem a um usuário autenticado.
+	 * @throws IllegalArgumentException se a bonificação produzida for negativa.
+	 */
+	public int atualizarBonificacao(String cpf, String senha, IntSupplier operacao) {
+	    Usuario usuario = obterUsuarioAutenticado(cpf, senha);
+	    synchronized (usuario) {
+	    	int bonus = operacao.getAsInt();
+	    	Validador.validarBonificacaoPositiva(bonus);
+	    	rankingDicas.remover(usuario);
+	    	usuario.atualizaBonificacao(bonus);
+	    	rankingDicas.adicionar(usuario);
+	    	observador.bonificacaoAlterada(usuario);
+	    	return bonus;
+	    }
 	}
 	
 	/**
@@ -78,15 +177,224 @@ public class UsuarioController {
 	public boolean criarEstudante(String nome, String cpf, String senha, String matricula) {
         verificarUsuarioDuplicado(cpf);
         
-        usuarios.put(cpf, new Usuario(nome, cpf, senha, matricula));
+        registrarUsuario(new Usuario(nome, cpf, senha, matricula, codificadorSenha), true);
         return true;
 	}
 	
-	private List<String> listarUsuariosOrdenados(Comparator<Usuario> criterio) {
-	    return usuarios.values().stream()
-	        .sorted(criterio)
-	        .map(Usuario::toString)
-	        .collect(Collectors.toList());
+	/**
+	 * Registra no sistema um usuário já construído, como um estudante restaurado de um arquivo.
+	 * O usuário passa a constar em todas as listagens, com a bonificação e as atividades que já possui.
+	 *
+	 * @param usuario Usuário a ser registrado.
+	 * @throws IllegalArgumentException se já existir um usuário com o mesmo CPF.
+	 */
+	public void restaurarEstudante(Usuario usuario) {
+		registrarUsuario(usuario, false);
+	}
+	
+	/**
+	 * Registra de uma só vez usuários já construídos, como os estudantes restaurados de um snapshot.
+	 *
+	 * Em um controlador vazio, os índices são montados a partir dos usuários ordenados, sem inserções um a um:
+	 * o cadastro por CPF é criado já com a capacidade necessária, e o índice por nome e o ranking são montados
+	 * balanceados em tempo linear. Nesse caso, o controlador não pode estar em
+	 * uso por outras threads durante a restauração. Em um controlador com usuários, cada um é registrado
+	 * como em {@link #restaurarEstudante(Usuario)}.
+	 *
+	 * @param restaurados Usuários a serem registrados.
+	 * @throws IllegalArgumentException se houver CPF repetido ou já cadastrado.
+	 */
+	public void restaurarEstudantes(List<Usuario> restaurados) {
+		if (!usuarios.isEmpty()) {
+			for (Usuario usuario : restaurados) registrarUsuario(usuario, false);
+			return;
+		}
+
+		ConcurrentMap<String, Usuario> porCpf = new ConcurrentHashMap<>(Math.max(16, (int) (restaurados.size() / 0.75f) + 1));
+		for (Usuario usuario : restaurados) {
+			if (porCpf.putIfAbsent(usuario.getCpf(), usuario) != null) {
+				throw new IllegalArgumentException("Usuário com este CPF já existe.");
+			}
+			synchronized (usuario) {
+				estatisticasCreditos.adicionarEstudante(usuario);
+			}
+		}
+
+		IndiceNomes porNome = new IndiceNomes();
+		porNome.montar(ordenarPorNome(restaurados));
+
+		Usuario[] ordenados = restaurados.toArray(new Usuario[0]);
+		Arrays.sort(ordenados, RankingBonificacao::comparar);
+		rankingDicas.montar(Arrays.asList(ordenados));
+		estudantesPorNome = porNome;
+		usuarios = porCpf;
+	}
+	
+	/**
+	 * Substitui o sal e o hash da senha de um estudante, como ao reaplicar o registro de operações.
+	 *
+	 * @param cpf       CPF do estudante.
+	 * @param sal       Sal gravado.
+	 * @param hashSenha Hash da senha gravado.
+	 * @throws IllegalArgumentException se não houver estudante com o CPF.
+	 */
+	public void restaurarSenha(String cpf, byte[] sal, byte[] hashSenha) {
+		buscarRestaurado(cpf).restaurarSenha(sal, hashSenha);
+	}
+	
+	/**
+	 * Cadastra as atividades que o estudante ainda não possui e atualiza a descrição e a comprovação das demais,
+	 * localizadas pelo tipo e pelo código, já que atividades de tipos diferentes podem ter o mesmo código, como ao reaplicar o registro de operações. As estatísticas de créditos acompanham
+	 * as atividades cadastradas.
+	 *
+	 * @param cpf        CPF do estudante.
+	 * @param atividades Atividades gravadas, na ordem em que foram cadastradas.
+	 * @throws IllegalArgumentException se não houver estudante com o CPF.
+	 */
+	public void restaurarAtividades(String cpf, List<Atividade> atividades) {
+		Usuario usuario = buscarRestaurado(cpf);
+		synchronized (usuario) {
+			for (Atividade atividade : atividades) {
+				Atividade existente = usuario.getAtividade(atividade.getTipo(), atividade.getId());
+				if (existente == null) {
+					adicionarAtividade(usuario, atividade.getTipo(), atividade);
+				} else {
+					existente.setDescricao(atividade.getDescricao());
+					existente.setDocumentacaoComprobatoria(atividade.getDocumentacaoComprobatoria());
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Salva um relatório no histórico de um estudante, a menos que ele já tenha sido salvo, como ao reaplicar
+	 * o registro de operações.
+	 *
+	 * @param cpf       CPF do estudante.
+	 * @param data      Data em que o relatório foi salvo.
+	 * @param indice    Posição do relatório entre os salvos na mesma data.
+	 * @param relatorio Conteúdo do relatório.
+	 * @throws IllegalArgumentException se não houver estudante com o CPF ou se faltarem relatórios anteriores da data.
+	 */
+	public void restaurarRelatorio(String cpf, LocalDate data, int indice, String relatorio) {
+		Usuario usuario = buscarRestaurado(cpf);
+		synchronized (usuario) {
+			int salvos = usuario.getQuantidadeRelatorios(data);
+			if (indice > salvos) throw new IllegalArgumentException("Relatório fora de ordem no histórico: " + data);
+			if (indice == salvos) usuario.salvarRelatorio(data, relatorio);
+		}
+	}
+	
+	/**
+	 * Exclui do histórico de um estudante os relatórios de uma data, se houver, como ao reaplicar o registro
+	 * de operações.
+	 *
+	 * @param cpf  CPF do estudante.
+	 * @param data Data dos relatórios.
+	 * @throws IllegalArgumentException se não houver estudante com o CPF.
+	 */
+	public void restaurarExclusaoHistorico(String cpf, LocalDate data) {
+		buscarRestaurado(cpf).excluirItemHistorico(data);
+	}
+	
+	/**
+	 * Define a bonificação de um estudante, reposicionando-o no ranking, como ao reaplicar o registro de operações.
+	 *
+	 * @param cpf         CPF do estudante.
+	 * @param bonificacao Bonificação gravada.
+	 * @throws IllegalArgumentException se não houver estudante com o CPF.
+	 */
+	public void restaurarBonificacao(String cpf, int bonificacao) {
+		Usuario usuario = buscarRestaurado(cpf);
+		synchronized (usuario) {
+			rankingDicas.remover(usuario);
+			usuario.atualizaBonificacao(bonificacao - usuario.getBonificacao());
+			rankingDicas.adicionar(usuario);
+		}
+	}
+	
+	private Usuario buscarRestaurado(String cpf) {
+		Usuario usuario = buscarUsuario(cpf);
+		if (usuario == null) throw new IllegalArgumentException("Estudante não encontrado: " + cpf);
+		return usuario;
+	}
+
+	/**
+	 * Retorna o usuário com o CPF informado, sem autenticação. Destina-se a componentes internos,
+	 * como o registro de operações, que precisam acessar o estado de um usuário já autenticado.
+	 *
+	 * @param cpf CPF do usuário.
+	 * @return O usuário, ou {@code null} se não houver usuário com esse CPF.
+	 */
+	public Usuario buscarUsuario(String cpf) {
+		return cpf == null ? null : usuarios.get(cpf);
+	}
+
+	private void registrarUsuario(Usuario usuario, boolean novo) {
+		synchronized (usuario) {
+			if (usuarios.putIfAbsent(usuario.getCpf(), usuario) != null) {
+				throw new IllegalArgumentException("Usuário com este CPF já existe.");
+			}
+			rankingDicas.adicionar(usuario);
+			estatisticasCreditos.adicionarEstudante(usuario);
+			if (novo) observador.estudanteCriado(usuario);
+		}
+        estudantesPorNome.adicionar(chaveNome(usuario), usuario);
+	}
+	
+	/**
+	 * Retorna todos os usuários cadastrados, em ordem alfabética de nome, como em {@link #exibirEstudantes()}.
+	 * Um snapshot gravado nessa ordem é restaurado sem reordenar o índice por nome.
+	 *
+	 * @return Lista com os usuários cadastrados no momento da chamada.
+	 */
+	public List<Usuario> listarUsuariosCadastrados() {
+		List<Map.Entry<String, Usuario>> entradas = ordenarPorNome(usuarios.values());
+		List<Usuario> cadastrados = new ArrayList<>(entradas.size());
+		for (Map.Entry<String, Usuario> entrada : entradas) {
+			cadastrados.add(entrada.getValue());
+		}
+		return cadastrados;
+	}
+	
+	/**
+	 * Retorna o codificador usado nas senhas dos estudantes.
+	 *
+	 * @return Codificador de senhas.
+	 */
+	public CodificadorSenha getCodificadorSenha() {
+		return codificadorSenha;
+	}
+	
+	/**
+	 * Ordena usuários pela chave do índice por nome, calculada uma única vez por usuário. Usuários que já
+	 * chegam em ordem são ordenados em tempo linear.
+	 */
+	private List<Map.Entry<String, Usuario>> ordenarPorNome(Collection<Usuario> usuarios) {
+		List<Map.Entry<String, Usuario>> entradas = new ArrayList<>(usuarios.size());
+		for (Usuario usuario : usuarios) {
+			entradas.add(Map.entry(chaveNome(usuario), usuario));
+		}
+		entradas.sort(Map.Entry.comparingByKey());
+		return entradas;
+	}
+
+	private String chaveNome(Usuario usuario) {
+		return usuario.getNomeNormalizado() + '\u0000' + usuario.getCpf();
+	}
+	
+	/**
+	 * Formata uma página do índice por nome, no intervalo de chaves [de, ate). O início da página é localizado
+	 * pelo tamanho das subárvores do índice, sem percorrer os estudantes anteriores.
+	 */
+	private List<String> listarPagina(String de, String ate, int inicio, int quantidade) {
+		Validador.validarPaginacao(inicio, quantidade);
+		List<Usuario> estudantes = estudantesPorNome.pagina(de, ate, inicio, quantidade);
+		List<String> pagina = new ArrayList<>(estudantes.size());
+		for (Usuario estudante : estudantes) {
+			pagina.add(estudante.toString());
+		}
+		return pagina;
 	}
 
 	/**
@@ -95,9 +403,39 @@ public class UsuarioController {
 	 * @return Lista de estudantes
 	 */
 	public List<String> exibirEstudantes() {
-		return listarUsuariosOrdenados(
-		        Comparator.comparing(u -> u.getNome().toLowerCase().trim())
-		    );
+		return exibirEstudantes(0, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * Retorna uma página da lista de estudantes ordenados por nome.
+	 * A ordenação ignora acentos e capitalização e é mantida a cada cadastro,
+	 * então nenhuma ordenação é feita no momento da listagem, e a página é
+	 * localizada em O(log n), sem percorrer os estudantes anteriores.
+	 *
+	 * @param inicio     Posição do primeiro estudante da página (começando em 0).
+	 * @param quantidade Quantidade máxima de estudantes na página.
+	 * @return Lista de estudantes da página.
+	 * @throws IllegalArgumentException se o início ou a quantidade forem negativos.
+	 */
+	public List<String> exibirEstudantes(int inicio, int quantidade) {
+		return listarPagina(null, null, inicio, quantidade);
+	}
+	
+	/**
+	 * Retorna uma página dos estudantes cujo nome começa com o prefixo informado,
+	 * ordenados por nome. A comparação ignora acentos e capitalização, e o
+	 * intervalo do prefixo e o início da página são localizados em O(log n).
+	 *
+	 * @param prefixo    Início do nome procurado.
+	 * @param inicio     Posição do primeiro estudante da página (começando em 0).
+	 * @param quantidade Quantidade máxima de estudantes na página.
+	 * @return Lista de estudantes da página.
+	 * @throws IllegalArgumentException se o prefixo for nulo ou se a paginação for inválida.
+	 */
+	public List<String> exibirEstudantesPorPrefixo(String prefixo, int inicio, int quantidade) {
+		if (prefixo == null) throw new IllegalArgumentException("Prefixo não pode ser nulo.");
+		String prefixoNormalizado = Usuario.normalizarNome(prefixo);
+		return listarPagina(prefixoNormalizado, prefixoNormalizado + Character.MAX_VALUE, inicio, quantidade);
 	}
 
 	/**
@@ -106,7 +444,40 @@ public class UsuarioController {
 	 * @return Lista ordenada de usuários por bonificação
 	 */
 	public List<String> listarUsuariosRankingDicas() {
-	    return listarUsuariosOrdenados(Comparator.comparing(Usuario::getBonificacao).reversed());
+	    return listarUsuariosRankingDicas(0, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * Lista uma página do ranking de usuários por bonificação.
+	 * O ranking é mantido ordenado de forma incremental e guarda o tamanho de cada subárvore, então o início
+	 * da página é encontrado em O(log n), sem percorrer as posições anteriores. Empates são desfeitos pelo CPF.
+	 *
+	 * @param inicio     Posição do primeiro usuário da página (começando em 0).
+	 * @param quantidade Quantidade máxima de usuários na página.
+	 * @return Lista de usuários da página, em ordem decrescente de bonificação.
+	 * @throws IllegalArgumentException se o início ou a quantidade forem negativos.
+	 */
+	public List<String> listarUsuariosRankingDicas(int inicio, int quantidade) {
+		Validador.validarPaginacao(inicio, quantidade);
+		List<String> pagina = new ArrayList<>();
+		for (Usuario usuario : rankingDicas.pagina(inicio, quantidade)) {
+			pagina.add(usuario.toString());
+		}
+		return pagina;
+	}
+	
+	/**
+	 * Retorna a posição do usuário autenticado no ranking de dicas, em O(log n). A posição é contada a
+	 * partir da bonificação lida no momento da consulta, sem manter o monitor do usuário.
+	 *
+	 * @param cpf   CPF do usuário.
+	 * @param senha Senha do usuário.
+	 * @return Posição do usuário no ranking, começando em 1.
+	 * @throws SecurityException se a autenticação falhar.
+	 */
+	public int posicaoRankingDicas(String cpf, String senha) {
+		Usuario usuario = obterUsuarioAutenticado(cpf, senha);
+		return rankingDicas.posicao(usuario.getBonificacao(), usuario.getCpf());
 	}
 	
 	/**
@@ -121,7 +492,11 @@ public class UsuarioController {
 	 */
 	public boolean alterarSenhaEstudante(String cpf, String senhaAntiga, String novaSenha) {
 		Usuario usuario = obterUsuarioAutenticado(cpf, senhaAntiga);
-		return usuario.alterarSenhaEstudante(cpf, senhaAntiga, novaSenha);
+		if (!usuario.alterarSenhaEstudante(cpf, senhaAntiga, novaSenha)) return false;
+		synchronized (usuario) {
+			observador.senhaAlterada(usuario);
+		}
+		return true;
 	}
 	
 	/**
@@ -132,33 +507,80 @@ public class UsuarioController {
 	 * @return true se a autenticação for bem-sucedida
 	 */
 	public boolean autenticar(String cpf, String senha) {
-		if (!usuarioExiste(cpf)) return false;
+		return buscarUsuarioAutenticado(cpf, senha) != null;
+	}
+	
+	private Usuario buscarUsuarioAutenticado(String cpf, String senha) {
+		if (cpf == null) return null;
 		Usuario usuario = usuarios.get(cpf);
 		
-		if (!usuario.autenticar(cpf, senha)) return false;
-		return true;
+		if (usuario == null || !usuario.autenticar(cpf, senha)) return null;
+		return usuario;
 	}
 	
 	private Usuario obterUsuarioAutenticado(String cpf, String senha) {
-	    if (!autenticar(cpf, senha)) throw new SecurityException("Autenticação falhou.");
-	    return usuarios.get(cpf);
-	}
-	
-	private Atividade criarAtividadePorTipo(TipoAtividade tipo, String codigo, int unidade, String detalhe) {
-	    return switch (tipo) {
-	        case ESTAGIO -> new AtividadeEstagio(codigo, unidade, detalhe);
-	        case PESQUISA_EXTENSAO -> new AtividadePesquisaExtensao(codigo, unidade, detalhe);
-	        case REPRESENTACAO_ESTUDANTIL -> new AtividadeRepresentacaoEstudantil(codigo, unidade, detalhe);
-	        case MONITORIA -> new AtividadeMonitoria(codigo, unidade, detalhe);
-	    };
+		Usuario usuario = buscarUsuarioAutenticado(cpf, senha);
+	    if (usuario == null) throw new SecurityException("Autenticação falhou.");
+	    return usuario;
 	}
 	
 	private String criarAtividade(String cpf, String senha, int unidadeAcumulada, TipoAtividade tipo, String dadoComplementar) {
 	    Usuario usuario = obterUsuarioAutenticado(cpf, senha);
-	    String codigo = usuario.gerarCodigoAtividade(tipo);
+	    synchronized (usuario) {
+	    	String codigo = usuario.gerarCodigoAtividade(tipo);
 
-	    Atividade atividade = criarAtividadePorTipo(tipo, codigo, unidadeAcumulada, dadoComplementar);
-	    return usuario.adicionarAtividadePorTipo(tipo, atividade);
+	    	Atividade atividade = Atividade.criar(tipo, codigo, unidadeAcumulada, dadoComplementar);
+	    	String mensagem = adicionarAtividade(usuario, tipo, atividade);
+	    	observador.atividadesAlteradas(usuario, List.of(atividade));
+	    	return mensagem;
+	    }
+	}
+	
+	private String adicionarAtividade(Usuario usuario, TipoAtividade tipo, Atividade atividade) {
+		int creditosAntes = usuario.creditosAtividade(tipo);
+		int totalAntes = usuario.getCreditosAcumulados();
+		String mensagem = usuario.adicionarAtividadePorTipo(tipo, atividade);
+		estatisticasCreditos.atualizarCreditos(tipo, creditosAntes, usuario.creditosAtividade(tipo),
+				totalAntes, usuario.getCreditosAcumulados());
+		return mensagem;
+	}
+	
+	/**
+	 * Cria várias atividades para o aluno identificado pelo CPF e senha, com uma única autenticação.
+	 * 
+	 * O cadastro é atômico: todas as atividades são construídas e validadas antes de qualquer uma ser
+	 * adicionada, então um pedido inválido faz com que nenhuma atividade do lote seja cadastrada.
+	 *
+	 * @param cpf          CPF do aluno.
+	 * @param senha        Senha do aluno.
+	 * @param solicitacoes Pedidos de cadastro, na ordem em que as atividades devem ser criadas.
+	 * @return Os códigos das atividades criadas, na mesma ordem dos pedidos.
+	 * @throws SecurityException        se a autenticação falhar.
+	 * @throws IllegalArgumentException se a lista for nula ou algum pedido for inválido.
+	 */
+	public List<String> criarAtividades(String cpf, String senha, List<SolicitacaoAtividade> solicitacoes) {
+		if (solicitacoes == null) throw new IllegalArgumentException("Lista de atividades não pode ser nula.");
+		Usuario usuario = obterUsuarioAutenticado(cpf, senha);
+		
+		synchronized (usuario) {
+			Map<TipoAtividade, Integer> reservadas = new EnumMap<>(TipoAtividade.class);
+			List<Atividade> novas = new ArrayList<>(solicitacoes.size());
+			for (SolicitacaoAtividade solicitacao : solicitacoes) {
+				if (solicitacao == null) throw new IllegalArgumentException("Atividade não pode ser nula.");
+				TipoAtividade tipo = solicitacao.getTipo();
+				String codigo = usuario.gerarCodigoAtividade(tipo, reservadas.getOrDefault(tipo, 0));
+				novas.add(Atividade.criar(tipo, codigo, solicitacao.getUnidadeAcumulada(), solicitacao.getDadoComplementar()));
+				reservadas.merge(tipo, 1, Integer::sum);
+			}
+			
+			List<String> codigos = new ArrayList<>(novas.size());
+			for (int i = 0; i < novas.size(); i++) {
+				adicionarAtividade(usuario, solicitacoes.get(i).getTipo(), novas.get(i));
+				codigos.add(novas.get(i).getId());
+			}
+			if (!novas.isEmpty()) observador.atividadesAlteradas(usuario, novas);
+			return codigos;
+		}
 	}
 	
 	/**
@@ -214,35 +636,36 @@ public class UsuarioController {
 	}
 	
 	private String formatarRelatorio(Usuario usuario, boolean parcial, boolean porAtividade, TipoAtividade tipoAtividade) {
-	    StringBuilder sb = new StringBuilder();
+	    StringBuilder sb = new StringBuilder(128);
+	    formatarRelatorio(sb, usuario, parcial, porAtividade, tipoAtividade);
+	    return sb.toString();
+	}
 
-	    sb.append(String.format("%s, %s, %s.\n", 
-	        usuario.getNome(), 
-	        usuario.getCpf(), 
-	        usuario.getMatricula()));
+	private void formatarRelatorio(StringBuilder sb, Usuario usuario, boolean parcial, boolean porAtividade, TipoAtividade tipoAtividade) {
+	    sb.append(usuario.getNome()).append(", ")
+	      .append(usuario.getCpf()).append(", ")
+	      .append(usuario.getMatricula()).append(".\n");
 
 	    if (porAtividade && tipoAtividade != null) {
-	        sb.append(formatarResumoAtividade(usuario, tipoAtividade));
-	        if (!parcial) return sb.toString();
+	        formatarResumoAtividade(sb, usuario, tipoAtividade);
+	        if (!parcial) return;
 	    }
 
 	    if (!porAtividade) {
-	        for (TipoAtividade tipo : TipoAtividade.values()) {
-	            sb.append(formatarResumoAtividade(usuario, tipo));
+	        for (TipoAtividade tipo : TIPOS_ATIVIDADE) {
+	            formatarResumoAtividade(sb, usuario, tipo);
 	        }
 
 	        if (!parcial) {
 	            sb.append("TOTAL: ").append(usuario.getCreditosAcumulados()).append("\n");
 	        }
 	    }
-
-	    return sb.toString();
 	}
 
-	private String formatarResumoAtividade(Usuario usuario, TipoAtividade tipo) {
-	    int creditos = usuario.creditosAtividade(tipo);
-	    int maximo = usuario.getCreditoMaximoPorAtividade(tipo);
-	    return String.format("%s: %d/%d\n", tipo, creditos, maximo);
+	private void formatarResumoAtividade(StringBuilder sb, Usuario usuario, TipoAtividade tipo) {
+	    sb.append(tipo).append(": ")
+	      .append(usuario.creditosAtividade(tipo)).append('/')
+	      .append(usuario.getCreditoMaximoPorAtividade(tipo)).append('\n');
 	}
 	
 	/**
@@ -271,6 +694,45 @@ public class UsuarioController {
 		return usuario.creditosAtividade(atividade);
 	}
 	
+	/**
+	 * Retorna o percentual de estudantes cadastrados que alcançaram o máximo de créditos.
+	 * O valor é mantido de forma incremental, sem percorrer os estudantes.
+	 *
+	 * @return Percentual entre 0 e 100, ou 0 se não houver estudantes.
+	 */
+	public double percentualEstudantesNaMeta() {
+		return estatisticasCreditos.percentualEstudantesNoMaximo();
+	}
+	
+	/**
+	 * Retorna a média de créditos por estudante em um tipo de atividade, considerando todos os estudantes cadastrados.
+	 *
+	 * @param tipo Tipo da atividade (ex: "estagio", "monitoria").
+	 * @return Média de créditos no tipo, ou 0 se não houver estudantes.
+	 * @throws IllegalArgumentException se o tipo for inválido.
+	 */
+	public double mediaCreditosAtividade(String tipo) {
+		return estatisticasCreditos.mediaCreditos(TipoAtividade.converterStringEmAtividade(tipo));
+	}
+	
+	/**
+	 * Retorna a distribuição dos estudantes pelos créditos obtidos em um tipo de atividade: a posição {@code i}
+	 * da lista contém a quantidade de estudantes com {@code i} créditos no tipo. A última posição, igual ao máximo
+	 * de créditos de um estudante, inclui também os estudantes acima desse valor.
+	 *
+	 * @param tipo Tipo da atividade (ex: "estagio", "monitoria").
+	 * @return Quantidade de estudantes por quantidade de créditos no tipo.
+	 * @throws IllegalArgumentException se o tipo for inválido.
+	 */
+	public List<Long> distribuicaoCreditosAtividade(String tipo) {
+		long[] distribuicao = estatisticasCreditos.distribuicaoCreditos(TipoAtividade.converterStringEmAtividade(tipo));
+		List<Long> resultado = new ArrayList<>(distribuicao.length);
+		for (long quantidade : distribuicao) {
+			resultado.add(quantidade);
+		}
+		return resultado;
+	}
+	
 	/**
 	 * Verifica se o aluno já alcançou a meta total de créditos.
 	 *
@@ -294,7 +756,11 @@ public class UsuarioController {
 	 */
 	public boolean alterarDescricaoAtividade(String cpf, String senha, String codigoAtividade, String descricao) {
 		Usuario usuario = obterUsuarioAutenticado(cpf, senha);
-		return usuario.alterarDescricaoAtividade(codigoAtividade, descricao);
+		synchronized (usuario) {
+			if (!usuario.alterarDescricaoAtividade(codigoAtividade, descricao)) return false;
+			observador.atividadesAlteradas(usuario, List.of(usuario.getAtividade(codigoAtividade)));
+			return true;
+		}
 	}
 	
 	/**
@@ -308,23 +774,113 @@ public class UsuarioController {
 	 */
 	public boolean alterarComprovacaoAtividade(String cpf, String senha, String codigoAtividade, String linkComprovacao) {
 		Usuario usuario = obterUsuarioAutenticado(cpf, senha);
-		return usuario.alterarComprovacaoAtividade(codigoAtividade, linkComprovacao);
+		synchronized (usuario) {
+			if (!usuario.alterarComprovacaoAtividade(codigoAtividade, linkComprovacao)) return false;
+			observador.atividadesAlteradas(usuario, List.of(usuario.getAtividade(codigoAtividade)));
+			return true;
+		}
+	}
+	
+	/**
+	 * Altera a descrição de várias atividades do aluno com uma única autenticação.
+	 *
+	 * @param cpf                 CPF do aluno.
+	 * @param senha               Senha do aluno.
+	 * @param descricoesPorCodigo Mapa do código de cada atividade para sua nova descrição.
+	 * @return Quantidade de atividades alteradas; códigos inexistentes são ignorados.
+	 * @throws SecurityException        se a autenticação falhar.
+	 * @throws IllegalArgumentException se o mapa de alterações for nulo.
+	 */
+	public int alterarDescricoesAtividades(String cpf, String senha, Map<String, String> descricoesPorCodigo) {
+		if (descricoesPorCodigo == null) throw new IllegalArgumentException("Alterações não podem ser nulas.");
+		Usuario usuario = obterUsuarioAutenticado(cpf, senha);
+		synchronized (usuario) {
+			int alteradas = usuario.alterarDescricoesAtividades(descricoesPorCodigo);
+			if (alteradas > 0) observador.atividadesAlteradas(usuario, buscarAtividades(usuario, descricoesPorCodigo.keySet()));
+			return alteradas;
+		}
+	}
+	
+	/**
+	 * Altera o link de comprovação de várias atividades do aluno com uma única autenticação.
+	 *
+	 * @param cpf            CPF do aluno.
+	 * @param senha          Senha do aluno.
+	 * @param linksPorCodigo Mapa do código de cada atividade para seu novo link de comprovação.
+	 * @return Quantidade de atividades alteradas; códigos inexistentes são ignorados.
+	 * @throws SecurityException        se a autenticação falhar.
+	 * @throws IllegalArgumentException se o mapa de alterações for nulo.
+	 */
+	public int alterarComprovacoesAtividades(String cpf, String senha, Map<String, String> linksPorCodigo) {
+		if (linksPorCodigo == null) throw new IllegalArgumentException("Alterações não podem ser nulas.");
+		Usuario usuario = obterUsuarioAutenticado(cpf, senha);
+		synchronized (usuario) {
+			int alteradas = usuario.alterarComprovacoesAtividades(linksPorCodigo);
+			if (alteradas > 0) observador.atividadesAlteradas(usuario, buscarAtividades(usuario, linksPorCodigo.keySet()));
+			return alteradas;
+		}
+	}
+	
+	private List<Atividade> buscarAtividades(Usuario usuario, Collection<String> codigos) {
+		List<Atividade> encontradas = new ArrayList<>(codigos.size());
+		for (String codigo : codigos) {
+			Atividade atividade = usuario.getAtividade(codigo);
+			if (atividade != null) encontradas.add(atividade);
+		}
+		return encontradas;
+	}
+	
+	private int chaveRelatorio(boolean parcial, boolean porAtividade, TipoAtividade tipo) {
+		int tipoRelatorio = (parcial ? 0 : 2) + (porAtividade ? 1 : 0);
+		return tipoRelatorio * (TIPOS_ATIVIDADE.length + 1) + (tipo == null ? TIPOS_ATIVIDADE.length : tipo.ordinal());
+	}
+	
+	/**
+	 * Retorna quantos relatórios foram servidos do cache, sem precisar ser formatados novamente.
+	 *
+	 * @return Quantidade de acertos do cache de relatórios.
+	 */
+	public long getAcertosCacheRelatorios() {
+		return acertosCacheRelatorios.sum();
+	}
+	
+	/**
+	 * Retorna quantos relatórios precisaram ser formatados por não estarem no cache ou estarem desatualizados.
+	 *
+	 * @return Quantidade de falhas do cache de relatórios.
+	 */
+	public long getFalhasCacheRelatorios() {
+		return falhasCacheRelatorios.sum();
 	}
 	
 	private String gerarRelatorio(String cpf, String senha, boolean parcial, boolean porAtividade, String tipo, boolean salvar) {
 	    Usuario usuario = obterUsuarioAutenticado(cpf, senha);
 	    TipoAtividade atividade = tipo == null ? null : TipoAtividade.converterStringEmAtividade(tipo);
 
-	    if (!parcial) {
-	        if (porAtividade && !usuario.metaAlcancadaPorAtividade(atividade)) 
-	            throw new IllegalArgumentException("Meta de créditos da atividade não alcançada.");
-	        if (!porAtividade && !usuario.metaAlcancada()) 
-	            throw new IllegalArgumentException("Meta de créditos não alcançada.");
-	    }
+	    synchronized (usuario) {
+	    	if (!parcial) {
+	    		if (porAtividade && !usuario.metaAlcancadaPorAtividade(atividade)) 
+	    			throw new IllegalArgumentException("Meta de créditos da atividade não alcançada.");
+	    		if (!porAtividade && !usuario.metaAlcancada()) 
+	    			throw new IllegalArgumentException("Meta de créditos não alcançada.");
+	    	}
 
-	    String relatorio = formatarRelatorio(usuario, parcial, porAtividade, atividade);
-	    if (salvar) usuario.salvarRelatorio(LocalDate.now(), relatorio);
-	    return relatorio;
+	    	int chave = chaveRelatorio(parcial, porAtividade, atividade);
+	    	String relatorio = usuario.getRelatorioEmCache(chave);
+	    	if (relatorio == null) {
+	    		falhasCacheRelatorios.increment();
+	    		relatorio = formatarRelatorio(usuario, parcial, porAtividade, atividade);
+	    		usuario.guardarRelatorioEmCache(chave, relatorio);
+	    	} else {
+	    		acertosCacheRelatorios.increment();
+	    	}
+	    	if (salvar) {
+	    		LocalDate hoje = LocalDate.now();
+	    		usuario.salvarRelatorio(hoje, relatorio);
+	    		observador.relatorioSalvo(usuario, hoje, usuario.getQuantidadeRelatorios(hoje) - 1, relatorio);
+	    	}
+	    	return relatorio;
+	    }
 	}
 	
 	/**
@@ -375,6 +931,157 @@ public class UsuarioController {
 	    return gerarRelatorio(cpf, senha, false, true, tipoAtividade, false);
 	}
 
+	/**
+	 * Exporta o relatório final geral de todos os estudantes que alcançaram a meta de créditos, em ordem
+	 * de nome e separados por uma linha em branco. É uma operação administrativa, feita sem a senha dos estudantes.
+	 * 
+	 * Os relatórios são formatados por um executor compartilhado por todas as exportações, com uma thread
+	 * por processador, criado na primeira exportação.
+	 *
+	 * @param saida Destino dos relatórios, codificados em UTF-8. Não é fechado ao final.
+	 * @return Quantidade de relatórios exportados.
+	 * @throws IOException se a gravação falhar.
+	 * @see #exportarRelatoriosFinais(OutputStream, ExecutorService)
+	 */
+	public int exportarRelatoriosFinais(OutputStream saida) throws IOException {
+		return exportarRelatoriosFinais(saida, ExecutorExportacao.COMPARTILHADO);
+	}
+
+	/**
+	 * Exporta o relatório final geral de todos os estudantes que alcançaram a meta de créditos, em ordem
+	 * de nome e separados por uma linha em branco, formatando os relatórios no executor informado.
+	 * 
+	 * Os estudantes são percorridos em blocos consecutivos, formatados em paralelo e gravados na ordem da
+	 * listagem por meio de um único buffer. No máximo duas vezes a quantidade de processadores em blocos ficam
+	 * pendentes ao mesmo tempo, independentemente da quantidade de estudantes, e cada bloco pendente ocupa uma
+	 * posição fixa de um anel cujos buffers de texto e de bytes são reaproveitados pelos blocos seguintes. Os
+	 * relatórios exportados não são salvos no histórico nem guardados no cache de relatórios.
+	 *
+	 * @param saida    Destino dos relatórios, codificados em UTF-8. Não é fechado ao final.
+	 * @param executor Executor em que os blocos são formatados. Não é encerrado ao final.
+	 * @return Quantidade de relatórios exportados.
+	 * @throws IOException se a gravação falhar ou a exportação for interrompida.
+	 */
+	public int exportarRelatoriosFinais(OutputStream saida, ExecutorService executor) throws IOException {
+		int chave = chaveRelatorio(false, false, null);
+		BlocoRelatorios[] blocos = new BlocoRelatorios[2 * Runtime.getRuntime().availableProcessors()];
+		Deque<Future<BlocoRelatorios>> pendentes = new ArrayDeque<>();
+		int proximo = 0;
+		int exportados = 0;
+		try {
+			OutputStream destino = new BufferedOutputStream(saida, TAMANHO_BUFFER_EXPORTACAO);
+			Iterator<Usuario> estudantes = estudantesPorNome.iterator();
+			while (estudantes.hasNext()) {
+				if (pendentes.size() == blocos.length) {
+					exportados += gravarBloco(pendentes.removeFirst(), destino);
+				}
+				if (blocos[proximo] == null) blocos[proximo] = new BlocoRelatorios();
+				BlocoRelatorios bloco = blocos[proximo];
+				proximo = (proximo + 1) % blocos.length;
+				bloco.preencher(estudantes);
+				pendentes.addLast(executor.submit(() -> formatarRelatoriosFinais(bloco, chave)));
+			}
+			while (!pendentes.isEmpty()) {
+				exportados += gravarBloco(pendentes.removeFirst(), destino);
+			}
+			destino.flush();
+			return exportados;
+		} finally {
+			for (Future<BlocoRelatorios> pendente : pendentes) {
+				pendente.cancel(true);
+			}
+		}
+	}
+
+	private BlocoRelatorios formatarRelatoriosFinais(BlocoRelatorios bloco, int chave) {
+		StringBuilder sb = bloco.texto;
+		sb.setLength(0);
+		int quantidade = 0;
+		for (Usuario usuario : bloco.estudantes) {
+			synchronized (usuario) {
+				if (!usuario.metaAlcancada()) continue;
+				String relatorio = usuario.getRelatorioEmCache(chave);
+				if (relatorio == null) {
+					formatarRelatorio(sb, usuario, false, false, null);
+				} else {
+					sb.append(relatorio);
+				}
+			}
+			sb.append('\n');
+			quantidade++;
+		}
+		bloco.codificar(quantidade);
+		return bloco;
+	}
+
+	private static int gravarBloco(Future<BlocoRelatorios> pendente, OutputStream destino) throws IOException {
+		BlocoRelatorios bloco;
+		try {
+			bloco = pendente.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Exportação interrompida.", e);
+		} catch (ExecutionException e) {
+			Throwable causa = e.getCause();
+			if (causa instanceof RuntimeException) throw (RuntimeException) causa;
+			if (causa instanceof Error) throw (Error) causa;
+			throw new IllegalStateException(causa);
+		}
+		destino.write(bloco.conteudo.array(), 0, bloco.conteudo.limit());
+		return bloco.quantidade;
+	}
+
+	/**
+	 * Posição do anel de blocos de uma exportação: os estudantes de um bloco e os buffers em que seus
+	 * relatórios são formatados e codificados, reaproveitados pelos blocos seguintes que ocupam a mesma posição.
+	 * Cada posição é usada por uma única tarefa de cada vez.
+	 */
+	private static final class BlocoRelatorios {
+		private final List<Usuario> estudantes = new ArrayList<>(ESTUDANTES_POR_BLOCO_EXPORTACAO);
+		private final StringBuilder texto = new StringBuilder();
+		private final CharsetEncoder codificador = StandardCharsets.UTF_8.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		private char[] caracteres = new char[0];
+		private ByteBuffer conteudo = ByteBuffer.allocate(0);
+		private int quantidade;
+
+		private void preencher(Iterator<Usuario> origem) {
+			estudantes.clear();
+			while (estudantes.size() < ESTUDANTES_POR_BLOCO_EXPORTACAO && origem.hasNext()) {
+				estudantes.add(origem.next());
+			}
+		}
+
+		private void codificar(int quantidade) {
+			int tamanho = texto.length();
+			if (caracteres.length < tamanho) caracteres = new char[tamanho];
+			texto.getChars(0, tamanho, caracteres, 0);
+			int necessario = (int) Math.ceil(tamanho * (double) codificador.maxBytesPerChar());
+			if (conteudo.capacity() < necessario) conteudo = ByteBuffer.allocate(necessario);
+			conteudo.clear();
+			codificador.reset();
+			codificador.encode(CharBuffer.wrap(caracteres, 0, tamanho), conteudo, true);
+			codificador.flush(conteudo);
+			conteudo.flip();
+			this.quantidade = quantidade;
+		}
+	}
+
+	/**
+	 * Executor compartilhado pelas exportações, criado apenas na primeira exportação. Suas threads são
+	 * daemon, para não impedir o encerramento da aplicação.
+	 */
+	private static final class ExecutorExportacao {
+		private static final AtomicInteger CONTADOR = new AtomicInteger();
+		private static final ExecutorService COMPARTILHADO = Executors.newFixedThreadPool(
+				Runtime.getRuntime().availableProcessors(), tarefa -> {
+					Thread thread = new Thread(tarefa, "exportacao-relatorios-" + CONTADOR.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+
 	/**
 	 * Lista o histórico de relatórios salvos pelo aluno.
 	 *
@@ -388,7 +1095,23 @@ public class UsuarioController {
 	}
 	
 	/**
-	 * Exclui um relatório do histórico com base na data fornecida.
+	 * Lista os relatórios salvos pelo aluno entre as datas informadas, inclusive, em ordem de data.
+	 *
+	 * @param cpf   CPF do aluno.
+	 * @param senha Senha do aluno.
+	 * @param de    Data inicial do intervalo, no formato "dd/MM/yyyy".
+	 * @param ate   Data final do intervalo, no formato "dd/MM/yyyy".
+	 * @return Relatórios do intervalo, cada um precedido de sua data.
+	 * @throws SecurityException        se a autenticação falhar.
+	 * @throws IllegalArgumentException se alguma data for inválida ou a data inicial for posterior à final.
+	 */
+	public String listarHistorico(String cpf, String senha, String de, String ate) {
+		Usuario usuario = obterUsuarioAutenticado(cpf, senha);
+		return usuario.listarHistorico(Validador.validarEConverterData(de), Validador.validarEConverterData(ate));
+	}
+	
+	/**
+	 * Exclui os relatórios do histórico salvos na data fornecida.
 	 *
 	 * @param cpf   CPF do aluno.
 	 * @param senha Senha do aluno.
@@ -400,7 +1123,10 @@ public class UsuarioController {
 		Usuario usuario = obterUsuarioAutenticado(cpf, senha);
 		LocalDate dataFormatada = Validador.validarEConverterData(data);
 		
-		if (!usuario.excluirItemHistorico(dataFormatada)) throw new IllegalArgumentException("Data não encontrada no histórico.");
+		synchronized (usuario) {
+			if (!usuario.excluirItemHistorico(dataFormatada)) throw new IllegalArgumentException("Data não encontrada no histórico.");
+			observador.historicoExcluido(usuario, dataFormatada);
+		}
 		return true;
 	}
 }
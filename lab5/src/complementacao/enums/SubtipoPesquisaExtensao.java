@@ -1,5 +1,9 @@
 package complementacao.enums;
 
+import java.util.List;
+
+import complementacao.util.ClassificadorPalavrasChave;
+
 /**
  * Enumeração dos subtipos de pesquisa e extensão.
  * Representa diferentes programas de iniciação científica ou extensão universitária.
@@ -14,10 +18,13 @@ public enum SubtipoPesquisaExtensao {
     PIVITI,
     PROBEX,
     PDI;
+
+	private static final ClassificadorPalavrasChave<SubtipoPesquisaExtensao> CLASSIFICADOR =
+			new ClassificadorPalavrasChave<>(List.of(values()), subtipo -> List.of(subtipo.name()));
     
     /**
      * Converte uma string em um valor da enumeração {@code SubtipoPesquisaExtensao}.
-     * A comparação ignora diferenças entre maiúsculas e minúsculas.
+     * A comparação ignora espaços nas extremidades, acentos e diferenças entre maiúsculas e minúsculas.
      *
      * @param texto a string a ser convertida
      * @return o subtipo correspondente
@@ -27,12 +34,9 @@ public enum SubtipoPesquisaExtensao {
 		String erro = "Subtipo de pesquisa e extensão inválido";
 	    if (texto == null) throw new IllegalArgumentException(erro);
 
-	    String textoNormalizado = texto.trim().toUpperCase();
-	    for (SubtipoPesquisaExtensao subtipo : SubtipoPesquisaExtensao.values()) {
-	        if (subtipo.name().equals(textoNormalizado)) return subtipo;
-	    }
-
-	    throw new IllegalArgumentException(erro);
+	    SubtipoPesquisaExtensao subtipo = CLASSIFICADOR.identificar(texto);
+	    if (subtipo == null) throw new IllegalArgumentException(erro);
+	    return subtipo;
     }
 
 }
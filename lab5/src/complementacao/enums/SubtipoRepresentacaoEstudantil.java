@@ -1,6 +1,8 @@
 package complementacao.enums;
 
-import java.text.Normalizer;
+import java.util.List;
+
+import complementacao.util.ClassificadorPalavrasChave;
 
 /**
  * Enumeração dos subtipos de representação estudantil.
@@ -12,6 +14,9 @@ import java.text.Normalizer;
 public enum SubtipoRepresentacaoEstudantil {
 	DIRETORIA,
 	COMISSAO;
+
+	private static final ClassificadorPalavrasChave<SubtipoRepresentacaoEstudantil> CLASSIFICADOR =
+			new ClassificadorPalavrasChave<>(List.of(values()), subtipo -> List.of(subtipo.name()));
 	
 	/**
      * Converte uma string para o subtipo correspondente, ignorando acentos e capitalização.
@@ -25,18 +30,8 @@ public enum SubtipoRepresentacaoEstudantil {
 
         if (texto == null) throw new IllegalArgumentException(erro);
 
-        String textoNormalizado = removerAcentos(texto).trim().toLowerCase();
-
-        for (SubtipoRepresentacaoEstudantil subtipo : SubtipoRepresentacaoEstudantil.values()) {
-            if (subtipo.name().toLowerCase().equals(textoNormalizado)) {
-                return subtipo;
-            }
-        }
-        throw new IllegalArgumentException(erro);
-    }
-    
-    private static String removerAcentos(String texto) {
-        return Normalizer.normalize(texto, Normalizer.Form.NFD)
-                         .replaceAll("\\p{M}", "");
+        SubtipoRepresentacaoEstudantil subtipo = CLASSIFICADOR.identificar(texto);
+        if (subtipo == null) throw new IllegalArgumentException(erro);
+        return subtipo;
     }
 }
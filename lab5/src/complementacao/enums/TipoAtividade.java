@@ -1,8 +1,9 @@
 package complementacao.enums;
 
-import java.text.Normalizer;
 import java.util.List;
 
+import complementacao.util.ClassificadorPalavrasChave;
+
 /**
  * Enum que representa os tipos de atividades complementares.
  * Cada tipo possui uma lista de palavras-chave associadas que podem ser usadas
@@ -17,6 +18,9 @@ public enum TipoAtividade {
     ESTAGIO(List.of("estagio", "trabalho")),
     REPRESENTACAO_ESTUDANTIL(List.of("representacao", "estudantil"));
 
+	private static final ClassificadorPalavrasChave<TipoAtividade> CLASSIFICADOR =
+			new ClassificadorPalavrasChave<>(List.of(values()), tipo -> tipo.palavrasChave);
+
 	private final List<String> palavrasChave;
 
     TipoAtividade(List<String> palavrasChave) {
@@ -32,23 +36,9 @@ public enum TipoAtividade {
     public static TipoAtividade converterStringEmAtividade(String texto) {
     	String erro = "Atividade inválida";
 	    if (texto == null) throw new IllegalArgumentException(erro);
-        String textoNormalizado = removerAcentos(texto).toLowerCase();
 
-        for (TipoAtividade atividade : TipoAtividade.values()) {
-            if (atividade.contemPalavraChave(textoNormalizado)) {
-                return atividade;
-            }
-        }
-
-        throw new IllegalArgumentException(erro);
-    }
-    
-    private boolean contemPalavraChave(String texto) {
-        return palavrasChave.stream().anyMatch(texto::contains);
-    }
-    
-    private static String removerAcentos(String texto) {
-        return Normalizer.normalize(texto, Normalizer.Form.NFD)
-                         .replaceAll("\\p{M}", "");
+	    TipoAtividade atividade = CLASSIFICADOR.classificar(texto);
+	    if (atividade == null) throw new IllegalArgumentException(erro);
+	    return atividade;
     }
 }
@@ -1,102 +1,357 @@
 package complementacao.facade;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import complementacao.controller.DicaController;
+import complementacao.controller.ObservadorAlteracoes;
 import complementacao.controller.UsuarioController;
+import complementacao.metricas.MetricasOperacoes;
+import complementacao.metricas.MetricasOperacoes.Metrica;
+import complementacao.metricas.ResumoOperacao;
+import complementacao.model.atividade.SolicitacaoAtividade;
+import complementacao.persistencia.GerenciadorSnapshot;
+import complementacao.persistencia.ImportadorEstudantes;
+import complementacao.persistencia.RegistroOperacoes;
+import complementacao.persistencia.ResultadoImportacao;
+import complementacao.util.PoolTextos;
 
 public class Facade {
-	private UsuarioController usuarioController;
-	private DicaController dicaController;
+	private volatile Estado estado;
+	private final MetricasOperacoes metricas = new MetricasOperacoes();
+	// Obtidas uma vez, para que cada chamada não precise procurar as métricas da operação pelo nome.
+	private final Metrica medicaoSalvarEstado = metricas.metrica("salvarEstado");
+	private final Metrica medicaoCarregarEstado = metricas.metrica("carregarEstado");
+	private final Metrica medicaoRecuperarEstado = metricas.metrica("recuperarEstado");
+	private final Metrica medicaoAtivarRegistroOperacoes = metricas.metrica("ativarRegistroOperacoes");
+	private final Metrica medicaoDesativarRegistroOperacoes = metricas.metrica("desativarRegistroOperacoes");
+	private final Metrica medicaoCriarEstudante = metricas.metrica("criarEstudante");
+	private final Metrica medicaoImportarEstudantes = metricas.metrica("importarEstudantes");
+	private final Metrica medicaoExibirEstudantes = metricas.metrica("exibirEstudantes()");
+	private final Metrica medicaoExibirEstudantesPaginados = metricas.metrica("exibirEstudantes(int,int)");
+	private final Metrica medicaoExibirEstudantesPorPrefixo = metricas.metrica("exibirEstudantesPorPrefixo");
+	private final Metrica medicaoAlterarSenhaEstudante = metricas.metrica("alterarSenhaEstudante");
+	private final Metrica medicaoAdicionarDica = metricas.metrica("adicionarDica");
+	private final Metrica medicaoAdicionarElementoTextoDica = metricas.metrica("adicionarElementoTextoDica");
+	private final Metrica medicaoAdicionarElementoMultimidiaDica = metricas.metrica("adicionarElementoMultimidiaDica");
+	private final Metrica medicaoAdicionarElementoReferenciaDica = metricas.metrica("adicionarElementoReferenciaDica");
+	private final Metrica medicaoListarDicas = metricas.metrica("listarDicas()");
+	private final Metrica medicaoListarDicasDetalhes = metricas.metrica("listarDicasDetalhes()");
+	private final Metrica medicaoListarDicasPaginadas = metricas.metrica("listarDicas(int,int)");
+	private final Metrica medicaoListarDicasDetalhesPaginadas = metricas.metrica("listarDicasDetalhes(int,int)");
+	private final Metrica medicaoListarDicasPorTema = metricas.metrica("listarDicasPorTema");
+	private final Metrica medicaoListarDicasPorAutor = metricas.metrica("listarDicasPorAutor");
+	private final Metrica medicaoBuscarDicas = metricas.metrica("buscarDicas");
+	private final Metrica medicaoListarDica = metricas.metrica("listarDica");
+	private final Metrica medicaoListarDicaDetalhes = metricas.metrica("listarDicaDetalhes");
+	private final Metrica medicaoListarUsuariosRankingDicas = metricas.metrica("listarUsuariosRankingDicas()");
+	private final Metrica medicaoListarUsuariosRankingDicasPaginados = metricas.metrica("listarUsuariosRankingDicas(int,int)");
+	private final Metrica medicaoPosicaoRankingDicas = metricas.metrica("posicaoRankingDicas");
+	private final Metrica medicaoAlterarDescricaoAtividade = metricas.metrica("alterarDescricaoAtividade");
+	private final Metrica medicaoAlterarComprovacaoAtividade = metricas.metrica("alterarComprovacaoAtividade");
+	private final Metrica medicaoAlterarDescricoesAtividades = metricas.metrica("alterarDescricoesAtividades");
+	private final Metrica medicaoAlterarComprovacoesAtividades = metricas.metrica("alterarComprovacoesAtividades");
+	private final Metrica medicaoCriarAtividadeMonitoriaEmEstudante = metricas.metrica("criarAtividadeMonitoriaEmEstudante");
+	private final Metrica medicaoCriarAtividadePesquisaExtensaoEmEstudante = metricas.metrica("criarAtividadePesquisaExtensaoEmEstudante");
+	private final Metrica medicaoCriarAtividadeEstagioEmEstudante = metricas.metrica("criarAtividadeEstagioEmEstudante");
+	private final Metrica medicaoCriarAtividadeRepresentacaoEstudantil = metricas.metrica("criarAtividadeRepresentacaoEstudantil");
+	private final Metrica medicaoCriarAtividadesEmEstudante = metricas.metrica("criarAtividadesEmEstudante");
+	private final Metrica medicaoCreditosAtividade = metricas.metrica("creditosAtividade");
+	private final Metrica medicaoGerarMapaCreditosAtividades = metricas.metrica("gerarMapaCreditosAtividades");
+	private final Metrica medicaoPercentualEstudantesNaMeta = metricas.metrica("percentualEstudantesNaMeta");
+	private final Metrica medicaoMediaCreditosAtividade = metricas.metrica("mediaCreditosAtividade");
+	private final Metrica medicaoDistribuicaoCreditosAtividade = metricas.metrica("distribuicaoCreditosAtividade");
+	private final Metrica medicaoVerificarMetaAlcancada = metricas.metrica("verificarMetaAlcancada");
+	private final Metrica medicaoGerarRelatorioFinal = metricas.metrica("gerarRelatorioFinal");
+	private final Metrica medicaoGerarRelatorioFinalPorAtividade = metricas.metrica("gerarRelatorioFinalPorAtividade");
+	private final Metrica medicaoGerarRelatorioParcial = metricas.metrica("gerarRelatorioParcial");
+	private final Metrica medicaoGerarRelatorioParcialPorAtividade = metricas.metrica("gerarRelatorioParcialPorAtividade");
+	private final Metrica medicaoExportarRelatoriosFinais = metricas.metrica("exportarRelatoriosFinais");
+	private final Metrica medicaoListarHistorico = metricas.metrica("listarHistorico(String,String)");
+	private final Metrica medicaoListarHistoricoPorPeriodo = metricas.metrica("listarHistorico(String,String,String,String)");
+	private final Metrica medicaoExcluirItemHistorico = metricas.metrica("excluirItemHistorico");
+	
+	/**
+	 * Controladores e registro de operações em uso. São imutáveis e trocados de uma só vez, de modo que cada
+	 * chamada lê o campo volátil uma única vez e usa controladores e registro coerentes entre si, mesmo que
+	 * {@link #carregarEstado} ou a ativação do registro ocorram ao mesmo tempo. As trocas são feitas sob o
+	 * monitor da fachada.
+	 */
+	private static final class Estado {
+		private final UsuarioController usuarioController;
+		private final DicaController dicaController;
+		private final RegistroOperacoes registroOperacoes;
+		
+		private Estado(UsuarioController usuarioController, DicaController dicaController, RegistroOperacoes registroOperacoes) {
+			this.usuarioController = usuarioController;
+			this.dicaController = dicaController;
+			this.registroOperacoes = registroOperacoes;
+			ObservadorAlteracoes observador = registroOperacoes == null ? ObservadorAlteracoes.NENHUM : registroOperacoes;
+			usuarioController.setObservadorAlteracoes(observador);
+			dicaController.setObservadorAlteracoes(observador);
+		}
+		
+		private <T> T confirmarAlteracoes(T resultado) {
+			if (registroOperacoes != null) {
+				try {
+					registroOperacoes.confirmarAlteracoes();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+			return resultado;
+		}
+	}
 	
 	public Facade() {
-		usuarioController = new UsuarioController();
-		dicaController = new DicaController(usuarioController);
+		UsuarioController usuarioController = new UsuarioController();
+		estado = new Estado(usuarioController, new DicaController(usuarioController), null);
+	}
+	
+	public Facade(UsuarioController usuarioController, DicaController dicaController) {
+		estado = new Estado(usuarioController, dicaController, null);
+	}
+	
+	public synchronized void salvarEstado(String caminho) throws IOException {
+		medicaoSalvarEstado.medir(() -> {
+			Estado atual = estado;
+			if (atual.registroOperacoes == null) {
+				new GerenciadorSnapshot().salvar(Path.of(caminho), atual.usuarioController, atual.dicaController);
+				return null;
+			}
+			int ultimoSegmento = atual.registroOperacoes.iniciarNovoSegmento();
+			new GerenciadorSnapshot().salvar(Path.of(caminho), atual.usuarioController, atual.dicaController);
+			atual.registroOperacoes.descartarSegmentos(ultimoSegmento);
+			return null;
+		});
+	}
+	public synchronized void carregarEstado(String caminho) throws IOException {
+		medicaoCarregarEstado.medir(() -> {
+			carregar(caminho);
+			return null;
+		});
+	}
+	private void carregar(String caminho) throws IOException {
+		Estado restaurado = new GerenciadorSnapshot().carregar(Path.of(caminho)).estado;
+		Estado anterior = estado;
+		estado = new Estado(restaurado.usuarioController, restaurado.dicaController, anterior.registroOperacoes);
+		anterior.usuarioController.setObservadorAlteracoes(ObservadorAlteracoes.NENHUM);
+		anterior.dicaController.setObservadorAlteracoes(ObservadorAlteracoes.NENHUM);
+	}
+	public synchronized int recuperarEstado(String caminhoSnapshot, String caminhoRegistro) throws IOException {
+		return medicaoRecuperarEstado.medir(() -> {
+			if (Files.exists(Path.of(caminhoSnapshot))) {
+				carregar(caminhoSnapshot);
+			}
+			Estado atual = estado;
+			return RegistroOperacoes.reaplicar(Path.of(caminhoRegistro), atual.usuarioController, atual.dicaController);
+		});
+	}
+	public synchronized void ativarRegistroOperacoes(String caminhoRegistro, long janelaGrupoMillis) throws IOException {
+		medicaoAtivarRegistroOperacoes.medir(() -> {
+			desativar();
+			RegistroOperacoes registroOperacoes = new RegistroOperacoes(Path.of(caminhoRegistro), TimeUnit.MILLISECONDS.toNanos(janelaGrupoMillis));
+			Estado atual = estado;
+			estado = new Estado(atual.usuarioController, atual.dicaController, registroOperacoes);
+			return null;
+		});
+	}
+	public synchronized void desativarRegistroOperacoes() throws IOException {
+		medicaoDesativarRegistroOperacoes.medir(() -> {
+			desativar();
+			return null;
+		});
+	}
+	private void desativar() throws IOException {
+		Estado atual = estado;
+		if (atual.registroOperacoes != null) {
+			estado = new Estado(atual.usuarioController, atual.dicaController, null);
+			atual.registroOperacoes.close();
+		}
+	}
+	
+	private <T> T alterar(Function<Estado, T> alteracao) {
+		Estado atual = estado;
+		return atual.confirmarAlteracoes(alteracao.apply(atual));
 	}
 	
 	public boolean criarEstudante(String nome, String cpf, String senha, String matricula) {
-		return usuarioController.criarEstudante(nome, cpf, senha, matricula);
+		return medicaoCriarEstudante.medir(() -> alterar(atual -> atual.usuarioController.criarEstudante(nome, cpf, senha, matricula)));
+	}
+	public ResultadoImportacao importarEstudantes(String caminho) throws IOException {
+		return medicaoImportarEstudantes.medir(() -> {
+			Estado atual = estado;
+			ImportadorEstudantes importador = new ImportadorEstudantes(atual.usuarioController,
+					() -> atual.confirmarAlteracoes(null), Runtime.getRuntime().availableProcessors());
+			return importador.importar(Path.of(caminho));
+		});
 	}
 	public List<String> exibirEstudantes() {
-		return usuarioController.exibirEstudantes();
+		return medicaoExibirEstudantes.medir(() -> estado.usuarioController.exibirEstudantes());
+	}
+	public List<String> exibirEstudantes(int inicio, int quantidade) {
+		return medicaoExibirEstudantesPaginados.medir(() -> estado.usuarioController.exibirEstudantes(inicio, quantidade));
+	}
+	public List<String> exibirEstudantesPorPrefixo(String prefixo, int inicio, int quantidade) {
+		return medicaoExibirEstudantesPorPrefixo.medir(() -> estado.usuarioController.exibirEstudantesPorPrefixo(prefixo, inicio, quantidade));
 	}
 	public boolean alterarSenhaEstudante(String cpf, String senhaAntiga, String novaSenha) {
-		return usuarioController.alterarSenhaEstudante(cpf, senhaAntiga, novaSenha);
+		return medicaoAlterarSenhaEstudante.medir(() -> alterar(atual -> atual.usuarioController.alterarSenhaEstudante(cpf, senhaAntiga, novaSenha)));
 	}
 	public int adicionarDica(String cpf, String senha, String tema) {
-		return dicaController.adicionarDica(cpf, senha, tema);
-
+		return medicaoAdicionarDica.medir(() -> alterar(atual -> atual.dicaController.adicionarDica(cpf, senha, tema)));
 	}
 	public boolean adicionarElementoTextoDica(String cpf, String senha, int posicao, String texto) {
-		return dicaController.adicionarElementoTextoDica(cpf, senha, posicao, texto);
+		return medicaoAdicionarElementoTextoDica.medir(() -> alterar(atual -> atual.dicaController.adicionarElementoTextoDica(cpf, senha, posicao, texto)));
 	}
 	public boolean adicionarElementoMultimidiaDica(String cpf, String senha, int posicao, String link, String cabecalho, int tempo) {
-		return dicaController.adicionarElementoMultimidiaDica(cpf, senha, posicao, link, cabecalho, tempo);
+		return medicaoAdicionarElementoMultimidiaDica.medir(() -> alterar(atual -> atual.dicaController.adicionarElementoMultimidiaDica(cpf, senha, posicao, link, cabecalho, tempo)));
 	}
 	public boolean adicionarElementoReferenciaDica(String cpf, String senha, int posicao, String titulo, String fonte, int ano, boolean conferida, int importancia) {
-		return dicaController.adicionarElementoReferenciaDica(cpf, senha, posicao, titulo, fonte, ano, conferida, importancia);
+		return medicaoAdicionarElementoReferenciaDica.medir(() -> alterar(atual -> atual.dicaController.adicionarElementoReferenciaDica(cpf, senha, posicao, titulo, fonte, ano, conferida, importancia)));
 	}
 	
 	public List<String> listarDicas() {
-		return dicaController.listarDicas();
+		return medicaoListarDicas.medir(() -> estado.dicaController.listarDicas());
 	}
 	public List<String> listarDicasDetalhes() {
-		return dicaController.listarDicasDetalhes();
+		return medicaoListarDicasDetalhes.medir(() -> estado.dicaController.listarDicasDetalhes());
+	}
+	public List<String> listarDicas(int inicio, int quantidade) {
+		return medicaoListarDicasPaginadas.medir(() -> estado.dicaController.listarDicas(inicio, quantidade));
+	}
+	public List<String> listarDicasDetalhes(int inicio, int quantidade) {
+		return medicaoListarDicasDetalhesPaginadas.medir(() -> estado.dicaController.listarDicasDetalhes(inicio, quantidade));
+	}
+	public List<String> listarDicasPorTema(String tema, int inicio, int quantidade) {
+		return medicaoListarDicasPorTema.medir(() -> estado.dicaController.listarDicasPorTema(tema, inicio, quantidade));
+	}
+	public List<String> listarDicasPorAutor(String nomeAutor, int inicio, int quantidade) {
+		return medicaoListarDicasPorAutor.medir(() -> estado.dicaController.listarDicasPorAutor(nomeAutor, inicio, quantidade));
+	}
+	public List<String> buscarDicas(String consulta, int inicio, int quantidade) {
+		return medicaoBuscarDicas.medir(() -> estado.dicaController.buscarDicas(consulta, inicio, quantidade));
 	}
 	public String listarDica(int posicao) {
-		return dicaController.listarDica(posicao);
+		return medicaoListarDica.medir(() -> estado.dicaController.listarDica(posicao));
 	}
 	public String listarDicaDetalhes(int posicao) {
-		return dicaController.listarDicaDetalhes(posicao);
+		return medicaoListarDicaDetalhes.medir(() -> estado.dicaController.listarDicaDetalhes(posicao));
 	}
 	public List<String> listarUsuariosRankingDicas() {
-		return usuarioController.listarUsuariosRankingDicas();
+		return medicaoListarUsuariosRankingDicas.medir(() -> estado.usuarioController.listarUsuariosRankingDicas());
+	}
+	public List<String> listarUsuariosRankingDicas(int inicio, int quantidade) {
+		return medicaoListarUsuariosRankingDicasPaginados.medir(() -> estado.usuarioController.listarUsuariosRankingDicas(inicio, quantidade));
+	}
+	public int posicaoRankingDicas(String cpf, String senha) {
+		return medicaoPosicaoRankingDicas.medir(() -> estado.usuarioController.posicaoRankingDicas(cpf, senha));
 	}
 
 	public boolean alterarDescricaoAtividade(String cpf, String senha, String codigoAtividade, String descricao) {
-		return usuarioController.alterarDescricaoAtividade(cpf, senha, codigoAtividade, descricao);
+		return medicaoAlterarDescricaoAtividade.medir(() -> alterar(atual -> atual.usuarioController.alterarDescricaoAtividade(cpf, senha, codigoAtividade, descricao)));
 	}
 	public boolean alterarComprovacaoAtividade(String cpf, String senha, String codigoAtividade, String linkComprovacao) {
-		return usuarioController.alterarComprovacaoAtividade(cpf, senha, codigoAtividade, linkComprovacao);
+		return medicaoAlterarComprovacaoAtividade.medir(() -> alterar(atual -> atual.usuarioController.alterarComprovacaoAtividade(cpf, senha, codigoAtividade, linkComprovacao)));
+	}
+	public int alterarDescricoesAtividades(String cpf, String senha, Map<String, String> descricoesPorCodigo) {
+		return medicaoAlterarDescricoesAtividades.medir(() -> alterar(atual -> atual.usuarioController.alterarDescricoesAtividades(cpf, senha, descricoesPorCodigo)));
+	}
+	public int alterarComprovacoesAtividades(String cpf, String senha, Map<String, String> linksPorCodigo) {
+		return medicaoAlterarComprovacoesAtividades.medir(() -> alterar(atual -> atual.usuarioController.alterarComprovacoesAtividades(cpf, senha, linksPorCodigo)));
 	}
 	public String criarAtividadeMonitoriaEmEstudante(String cpf, String senha, int unidadeAcumulada, String disciplina) {
-		return usuarioController.criarAtividadeMonitoria(cpf, senha, unidadeAcumulada, disciplina);
+		return medicaoCriarAtividadeMonitoriaEmEstudante.medir(() -> alterar(atual -> atual.usuarioController.criarAtividadeMonitoria(cpf, senha, unidadeAcumulada, disciplina)));
 	}
 	public String criarAtividadePesquisaExtensaoEmEstudante(String cpf, String senha, int unidadeAcumulada, String subtipo) {
-		return usuarioController.criarAtividadePesquisaExtensao(cpf, senha, unidadeAcumulada, subtipo);
+		return medicaoCriarAtividadePesquisaExtensaoEmEstudante.medir(() -> alterar(atual -> atual.usuarioController.criarAtividadePesquisaExtensao(cpf, senha, unidadeAcumulada, subtipo)));
 	}
 	public String criarAtividadeEstagioEmEstudante(String cpf, String senha, int unidadeAcumulada, String nomeEmpresa) {
-		return usuarioController.criarAtividadeEstagio(cpf, senha, unidadeAcumulada, nomeEmpresa);
+		return medicaoCriarAtividadeEstagioEmEstudante.medir(() -> alterar(atual -> atual.usuarioController.criarAtividadeEstagio(cpf, senha, unidadeAcumulada, nomeEmpresa)));
 	}
 	public String criarAtividadeRepresentacaoEstudantil(String cpf, String senha, int unidadeAcumulada, String subtipo) {
-		return usuarioController.criarAtividadeRepresentacaoEstudantil(cpf, senha, unidadeAcumulada, subtipo);
+		return medicaoCriarAtividadeRepresentacaoEstudantil.medir(() -> alterar(atual -> atual.usuarioController.criarAtividadeRepresentacaoEstudantil(cpf, senha, unidadeAcumulada, subtipo)));
+	}
+	public List<String> criarAtividadesEmEstudante(String cpf, String senha, List<SolicitacaoAtividade> solicitacoes) {
+		return medicaoCriarAtividadesEmEstudante.medir(() -> alterar(atual -> atual.usuarioController.criarAtividades(cpf, senha, solicitacoes)));
 	}
 	public int creditosAtividade(String cpf, String senha, String tipo) {
-		return usuarioController.creditosAtividade(cpf, senha, tipo);
+		return medicaoCreditosAtividade.medir(() -> estado.usuarioController.creditosAtividade(cpf, senha, tipo));
 	}
 	public String gerarMapaCreditosAtividades(String cpf, String senha) {
-		return usuarioController.gerarMapaCreditosAtividades(cpf, senha);
+		return medicaoGerarMapaCreditosAtividades.medir(() -> estado.usuarioController.gerarMapaCreditosAtividades(cpf, senha));
+	}
+	public double percentualEstudantesNaMeta() {
+		return medicaoPercentualEstudantesNaMeta.medir(() -> estado.usuarioController.percentualEstudantesNaMeta());
+	}
+	public double mediaCreditosAtividade(String tipo) {
+		return medicaoMediaCreditosAtividade.medir(() -> estado.usuarioController.mediaCreditosAtividade(tipo));
+	}
+	public List<Long> distribuicaoCreditosAtividade(String tipo) {
+		return medicaoDistribuicaoCreditosAtividade.medir(() -> estado.usuarioController.distribuicaoCreditosAtividade(tipo));
 	}
 	public boolean verificarMetaAlcancada(String cpf, String senha) {
-		return usuarioController.verificarMetaAlcancada(cpf, senha);
+		return medicaoVerificarMetaAlcancada.medir(() -> estado.usuarioController.verificarMetaAlcancada(cpf, senha));
 	}
 
 	public String gerarRelatorioFinal(String cpf, String senha) {
-		return usuarioController.gerarRelatorioFinal(cpf, senha);
+		return medicaoGerarRelatorioFinal.medir(() -> estado.usuarioController.gerarRelatorioFinal(cpf, senha));
 	}
 	public String gerarRelatorioFinalPorAtividade(String cpf, String senha, String tipoAtividade) {
-		return usuarioController.gerarRelatorioFinalPorAtividade(cpf, senha, tipoAtividade);
+		return medicaoGerarRelatorioFinalPorAtividade.medir(() -> estado.usuarioController.gerarRelatorioFinalPorAtividade(cpf, senha, tipoAtividade));
 	}
 	public String gerarRelatorioParcial(String cpf, String senha, boolean salvar) {
-		return usuarioController.gerarRelatorioParcial(cpf, senha, salvar);
+		return medicaoGerarRelatorioParcial.medir(() -> {
+			Estado atual = estado;
+			String relatorio = atual.usuarioController.gerarRelatorioParcial(cpf, senha, salvar);
+			return salvar ? atual.confirmarAlteracoes(relatorio) : relatorio;
+		});
 	}
 	public String gerarRelatorioParcialPorAtividade(String cpf, String senha, boolean salvar, String tipoAtividade) {
-		return usuarioController.gerarRelatorioParcialPorAtividade(cpf, senha, salvar, tipoAtividade);
+		return medicaoGerarRelatorioParcialPorAtividade.medir(() -> {
+			Estado atual = estado;
+			String relatorio = atual.usuarioController.gerarRelatorioParcialPorAtividade(cpf, senha, salvar, tipoAtividade);
+			return salvar ? atual.confirmarAlteracoes(relatorio) : relatorio;
+		});
+	}
+	public int exportarRelatoriosFinais(String caminho) throws IOException {
+		return medicaoExportarRelatoriosFinais.medir(() -> {
+			try (OutputStream saida = Files.newOutputStream(Path.of(caminho))) {
+				return estado.usuarioController.exportarRelatoriosFinais(saida);
+			}
+		});
 	}
 	public String listarHistorico(String cpf, String senha) {
-		return usuarioController.listarHistorico(cpf, senha);
+		return medicaoListarHistorico.medir(() -> estado.usuarioController.listarHistorico(cpf, senha));
+	}
+	public String listarHistorico(String cpf, String senha, String de, String ate) {
+		return medicaoListarHistoricoPorPeriodo.medir(() -> estado.usuarioController.listarHistorico(cpf, senha, de, ate));
 	}
 	public boolean excluirItemHistorico(String cpf, String senha, String data) {
-		return usuarioController.excluirItemHistorico(cpf, senha, data);
+		return medicaoExcluirItemHistorico.medir(() -> alterar(atual -> atual.usuarioController.excluirItemHistorico(cpf, senha, data)));
+	}
+	
+	public Map<String, ResumoOperacao> metricas() {
+		return metricas.resumir();
+	}
+	public String formatarMetricas() {
+		return metricas.formatar();
+	}
+	public String formatarEstatisticasPoolTextos() {
+		return PoolTextos.compartilhado().formatarEstatisticas();
+	}
+	public void iniciarDespejoMetricas(long periodoMillis, Consumer<String> destino) {
+		metricas.iniciarDespejoPeriodico(periodoMillis, destino);
+	}
+	public void pararDespejoMetricas() {
+		metricas.pararDespejoPeriodico();
 	}
-}
\ No newline at end of file
+}
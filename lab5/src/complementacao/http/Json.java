@@ -0,0 +1,228 @@
+package complementacao.http;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Leitura e escrita do subconjunto de JSON usado pelo {@link ServidorHttp}, sem dependências externas.
+ *
+ * As requisições são objetos planos, cujos valores são textos, números, booleanos ou {@code null}; as
+ * respostas podem conter textos, números, booleanos, listas e mapas, aninhados em qualquer profundidade.
+ *
+ * @author Isadora Lucena
+ */
+final class Json {
+	private static final String JSON_INVALIDO = "JSON inválido.";
+	private static final char[] HEXADECIMAL = "0123456789abcdef".toCharArray();
+
+	private Json() {
+	}
+
+	/**
+	 * Lê um objeto JSON plano. Os valores são devolvidos como texto: números e booleanos na forma em que
+	 * aparecem, e {@code null} como ausência do valor.
+	 *
+	 * @param texto Objeto JSON.
+	 * @return Valores do objeto, indexados pelo nome, na ordem em que aparecem.
+	 * @throws IllegalArgumentException se o texto não for um objeto JSON plano válido.
+	 */
+	static Map<String, String> lerObjeto(String texto) {
+		Leitor leitor = new Leitor(texto);
+		Map<String, String> valores = new LinkedHashMap<>();
+		leitor.esperar('{');
+		if (!leitor.consumir('}')) {
+			do {
+				String nome = leitor.lerTexto();
+				leitor.esperar(':');
+				String valor = leitor.lerValor();
+				if (valor != null) valores.put(nome, valor);
+			} while (leitor.consumir(','));
+			leitor.esperar('}');
+		}
+		leitor.esperarFim();
+		return valores;
+	}
+
+	/**
+	 * Escreve um valor como JSON. São aceitos {@code null}, {@link CharSequence}, {@link Number},
+	 * {@link Boolean}, {@link Iterable} e {@link Map}; qualquer outro objeto é escrito como o texto de
+	 * seu {@code toString()}.
+	 *
+	 * @param valor Valor a ser escrito.
+	 * @return Texto JSON.
+	 */
+	static String escrever(Object valor) {
+		StringBuilder sb = new StringBuilder();
+		escrever(sb, valor);
+		return sb.toString();
+	}
+
+	private static void escrever(StringBuilder sb, Object valor) {
+		if (valor == null) {
+			sb.append("null");
+		} else if (valor instanceof Boolean) {
+			sb.append(valor);
+		} else if (valor instanceof Double || valor instanceof Float) {
+			double numero = ((Number) valor).doubleValue();
+			if (Double.isFinite(numero)) {
+				sb.append(numero);
+			} else {
+				sb.append("null");
+			}
+		} else if (valor instanceof Number) {
+			sb.append(valor);
+		} else if (valor instanceof Map) {
+			sb.append('{');
+			boolean primeiro = true;
+			for (Map.Entry<?, ?> entrada : ((Map<?, ?>) valor).entrySet()) {
+				if (!primeiro) sb.append(',');
+				primeiro = false;
+				escreverTexto(sb, String.valueOf(entrada.getKey()));
+				sb.append(':');
+				escrever(sb, entrada.getValue());
+			}
+			sb.append('}');
+		} else if (valor instanceof Iterable) {
+			sb.append('[');
+			boolean primeiro = true;
+			for (Object item : (Iterable<?>) valor) {
+				if (!primeiro) sb.append(',');
+				primeiro = false;
+				escrever(sb, item);
+			}
+			sb.append(']');
+		} else {
+			escreverTexto(sb, valor.toString());
+		}
+	}
+
+	private static void escreverTexto(StringBuilder sb, String texto) {
+		sb.append('"');
+		for (int i = 0; i < texto.length(); i++) {
+			char c = texto.charAt(i);
+			switch (c) {
+			case '"' -> sb.append("\\\"");
+			case '\\' -> sb.append("\\\\");
+			case '\n' -> sb.append("\\n");
+			case '\r' -> sb.append("\\r");
+			case '\t' -> sb.append("\\t");
+			default -> {
+				if (c < 0x20) {
+					sb.append("\\u00").append(HEXADECIMAL[c >> 4]).append(HEXADECIMAL[c & 0xF]);
+				} else {
+					sb.append(c);
+				}
+			}
+			}
+		}
+		sb.append('"');
+	}
+
+	private static final class Leitor {
+		private final String texto;
+		private int posicao;
+
+		private Leitor(String texto) {
+			this.texto = texto;
+		}
+
+		private void pularEspacos() {
+			while (posicao < texto.length()) {
+				char c = texto.charAt(posicao);
+				if (c != ' ' && c != '\t' && c != '\n' && c != '\r') return;
+				posicao++;
+			}
+		}
+
+		private boolean consumir(char esperado) {
+			pularEspacos();
+			if (posicao < texto.length() && texto.charAt(posicao) == esperado) {
+				posicao++;
+				return true;
+			}
+			return false;
+		}
+
+		private void esperar(char esperado) {
+			if (!consumir(esperado)) throw new IllegalArgumentException(JSON_INVALIDO);
+		}
+
+		private void esperarFim() {
+			pularEspacos();
+			if (posicao != texto.length()) throw new IllegalArgumentException(JSON_INVALIDO);
+		}
+
+		private String lerValor() {
+			pularEspacos();
+			if (posicao >= texto.length()) throw new IllegalArgumentException(JSON_INVALIDO);
+			char c = texto.charAt(posicao);
+			if (c == '"') return lerTexto();
+			if (texto.startsWith("null", posicao)) {
+				posicao += 4;
+				return null;
+			}
+			if (texto.startsWith("true", posicao)) {
+				posicao += 4;
+				return "true";
+			}
+			if (texto.startsWith("false", posicao)) {
+				posicao += 5;
+				return "false";
+			}
+			return lerNumero();
+		}
+
+		private String lerNumero() {
+			int inicio = posicao;
+			while (posicao < texto.length() && "+-0123456789.eE".indexOf(texto.charAt(posicao)) >= 0) {
+				posicao++;
+			}
+			String numero = texto.substring(inicio, posicao);
+			try {
+				Double.parseDouble(numero);
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException(JSON_INVALIDO);
+			}
+			return numero;
+		}
+
+		private String lerTexto() {
+			esperar('"');
+			StringBuilder sb = null;
+			int inicio = posicao;
+			while (posicao < texto.length()) {
+				char c = texto.charAt(posicao++);
+				if (c == '"') {
+					return sb == null ? texto.substring(inicio, posicao - 1) : sb.toString();
+				}
+				if (c < 0x20) throw new IllegalArgumentException(JSON_INVALIDO);
+				if (c != '\\') {
+					if (sb != null) sb.append(c);
+					continue;
+				}
+				if (sb == null) sb = new StringBuilder(texto.substring(inicio, posicao - 1));
+				if (posicao >= texto.length()) throw new IllegalArgumentException(JSON_INVALIDO);
+				char escape = texto.charAt(posicao++);
+				switch (escape) {
+				case '"', '\\', '/' -> sb.append(escape);
+				case 'b' -> sb.append('\b');
+				case 'f' -> sb.append('\f');
+				case 'n' -> sb.append('\n');
+				case 'r' -> sb.append('\r');
+				case 't' -> sb.append('\t');
+				case 'u' -> {
+					if (posicao + 4 > texto.length()) throw new IllegalArgumentException(JSON_INVALIDO);
+					try {
+						sb.append((char) Integer.parseInt(texto.substring(posicao, posicao + 4), 16));
+					} catch (NumberFormatException e) {
+						throw new IllegalArgumentException(JSON_INVALIDO);
+					}
+					posicao += 4;
+				}
+				default -> throw new IllegalArgumentException(JSON_INVALIDO);
+				}
+			}
+			throw new IllegalArgumentException(JSON_INVALIDO);
+		}
+	}
+}
@@ -0,0 +1,310 @@
+package complementacao.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import complementacao.facade.Facade;
+import complementacao.metricas.ResumoOperacao;
+
+/**
+ * Servidor HTTP embutido que expõe as operações da {@link Facade} como JSON, usando apenas o
+ * {@code com.sun.net.httpserver} do JDK.
+ *
+ * Cada operação é acessada por {@code POST /<nomeDaOperacao>}, com os parâmetros em um objeto JSON plano
+ * no corpo da requisição, por exemplo {@code POST /criarEstudante} com
+ * {@code {"nome": "Ana", "cpf": "11111111111", "senha": "senha12345", "matricula": "2023.1"}}. Os nomes
+ * das operações e dos parâmetros são os mesmos da {@link Facade}; nas listagens paginadas, {@code inicio}
+ * e {@code quantidade} são opcionais. A resposta é {@code {"resultado": ...}} com status 200 ou
+ * {@code {"erro": "mensagem"}} com status 400 para argumentos inválidos, 403 para falhas de autenticação,
+ * 404 para operações desconhecidas, 405 para métodos diferentes de POST, 413 para corpos maiores que
+ * 64 KB e 500 para os demais erros. As operações que leem ou gravam arquivos no servidor não são expostas.
+ *
+ * As requisições são atendidas pelo executor informado, que chama a {@link Facade} diretamente: os
+ * controladores já permitem chamadas concorrentes. Por padrão é usado um grupo fixo de threads, duas por
+ * processador, já que o trabalho de cada requisição é dominado pelo cálculo do hash da senha; em um JDK com
+ * threads virtuais, um {@code Executors.newVirtualThreadPerTaskExecutor()} pode ser passado ao construtor.
+ *
+ * @author Isadora Lucena
+ */
+public class ServidorHttp {
+	private static final int TAMANHO_MAXIMO_CORPO = 64 * 1024;
+	private static final int FILA_CONEXOES = 16384;
+	private static final String TIPO_CONTEUDO = "application/json; charset=utf-8";
+
+	private final Facade facade;
+	private final HttpServer servidor;
+	private final ExecutorService executor;
+	private final Map<String, Operacao> operacoes;
+
+	/**
+	 * Cria um servidor que atende as requisições com duas threads por processador.
+	 *
+	 * @param facade Fachada cujas operações serão expostas.
+	 * @param porta  Porta em que o servidor escutará, ou 0 para uma porta livre qualquer.
+	 * @throws IOException se a porta não puder ser aberta.
+	 */
+	public ServidorHttp(Facade facade, int porta) throws IOException {
+		this(facade, porta, Executors.newFixedThreadPool(2 * Runtime.getRuntime().availableProcessors(), new FabricaThreads()));
+	}
+
+	/**
+	 * Cria um servidor que atende as requisições com o executor informado. O executor é encerrado junto
+	 * com o servidor.
+	 *
+	 * @param facade   Fachada cujas operações serão expostas.
+	 * @param porta    Porta em que o servidor escutará, ou 0 para uma porta livre qualquer.
+	 * @param executor Executor que atenderá as requisições.
+	 * @throws IOException se a porta não puder ser aberta.
+	 */
+	public ServidorHttp(Facade facade, int porta, ExecutorService executor) throws IOException {
+		this.facade = facade;
+		this.executor = executor;
+		this.operacoes = new HashMap<>();
+		registrarOperacoes();
+		this.servidor = HttpServer.create(new InetSocketAddress(porta), FILA_CONEXOES);
+		servidor.createContext("/", this::atender);
+		servidor.setExecutor(executor);
+	}
+
+	/**
+	 * Começa a aceitar requisições.
+	 */
+	public void iniciar() {
+		servidor.start();
+	}
+
+	/**
+	 * Para de aceitar requisições, aguarda as requisições em andamento pelo tempo informado e encerra o executor.
+	 *
+	 * @param esperaSegundos Tempo máximo de espera pelas requisições em andamento, em segundos.
+	 */
+	public void parar(int esperaSegundos) {
+		servidor.stop(esperaSegundos);
+		executor.shutdown();
+	}
+
+	/**
+	 * Retorna a porta em que o servidor escuta.
+	 *
+	 * @return Porta do servidor.
+	 */
+	public int getPorta() {
+		return servidor.getAddress().getPort();
+	}
+
+	@FunctionalInterface
+	private interface Operacao {
+		Object executar(Parametros parametros);
+	}
+
+	private void registrarOperacoes() {
+		operacoes.put("criarEstudante", p -> facade.criarEstudante(p.texto("nome"), p.texto("cpf"), p.texto("senha"), p.texto("matricula")));
+		operacoes.put("exibirEstudantes", p -> p.paginado()
+				? facade.exibirEstudantes(p.inteiro("inicio"), p.inteiro("quantidade"))
+				: facade.exibirEstudantes());
+		operacoes.put("exibirEstudantesPorPrefixo", p -> facade.exibirEstudantesPorPrefixo(p.texto("prefixo"), p.inteiro("inicio"), p.inteiro("quantidade")));
+		operacoes.put("alterarSenhaEstudante", p -> facade.alterarSenhaEstudante(p.texto("cpf"), p.texto("senhaAntiga"), p.texto("novaSenha")));
+
+		operacoes.put("adicionarDica", p -> facade.adicionarDica(p.texto("cpf"), p.texto("senha"), p.texto("tema")));
+		operacoes.put("adicionarElementoTextoDica", p -> facade.adicionarElementoTextoDica(p.texto("cpf"), p.texto("senha"),
+				p.inteiro("posicao"), p.texto("texto")));
+		operacoes.put("adicionarElementoMultimidiaDica", p -> facade.adicionarElementoMultimidiaDica(p.texto("cpf"), p.texto("senha"),
+				p.inteiro("posicao"), p.texto("link"), p.texto("cabecalho"), p.inteiro("tempo")));
+		operacoes.put("adicionarElementoReferenciaDica", p -> facade.adicionarElementoReferenciaDica(p.texto("cpf"), p.texto("senha"),
+				p.inteiro("posicao"), p.texto("titulo"), p.texto("fonte"), p.inteiro("ano"), p.booleano("conferida"), p.inteiro("importancia")));
+		operacoes.put("listarDicas", p -> p.paginado()
+				? facade.listarDicas(p.inteiro("inicio"), p.inteiro("quantidade"))
+				: facade.listarDicas());
+		operacoes.put("listarDicasDetalhes", p -> p.paginado()
+				? facade.listarDicasDetalhes(p.inteiro("inicio"), p.inteiro("quantidade"))
+				: facade.listarDicasDetalhes());
+		operacoes.put("listarDicasPorTema", p -> facade.listarDicasPorTema(p.texto("tema"), p.inteiro("inicio"), p.inteiro("quantidade")));
+		operacoes.put("listarDicasPorAutor", p -> facade.listarDicasPorAutor(p.texto("nomeAutor"), p.inteiro("inicio"), p.inteiro("quantidade")));
+		operacoes.put("buscarDicas", p -> facade.buscarDicas(p.texto("consulta"), p.inteiro("inicio"), p.inteiro("quantidade")));
+		operacoes.put("listarDica", p -> facade.listarDica(p.inteiro("posicao")));
+		operacoes.put("listarDicaDetalhes", p -> facade.listarDicaDetalhes(p.inteiro("posicao")));
+		operacoes.put("listarUsuariosRankingDicas", p -> p.paginado()
+				? facade.listarUsuariosRankingDicas(p.inteiro("inicio"), p.inteiro("quantidade"))
+				: facade.listarUsuariosRankingDicas());
+		operacoes.put("posicaoRankingDicas", p -> facade.posicaoRankingDicas(p.texto("cpf"), p.texto("senha")));
+
+		operacoes.put("alterarDescricaoAtividade", p -> facade.alterarDescricaoAtividade(p.texto("cpf"), p.texto("senha"),
+				p.texto("codigoAtividade"), p.texto("descricao")));
+		operacoes.put("alterarComprovacaoAtividade", p -> facade.alterarComprovacaoAtividade(p.texto("cpf"), p.texto("senha"),
+				p.texto("codigoAtividade"), p.texto("linkComprovacao")));
+		operacoes.put("criarAtividadeMonitoriaEmEstudante", p -> facade.criarAtividadeMonitoriaEmEstudante(p.texto("cpf"), p.texto("senha"),
+				p.inteiro("unidadeAcumulada"), p.texto("disciplina")));
+		operacoes.put("criarAtividadePesquisaExtensaoEmEstudante", p -> facade.criarAtividadePesquisaExtensaoEmEstudante(p.texto("cpf"),
+				p.texto("senha"), p.inteiro("unidadeAcumulada"), p.texto("subtipo")));
+		operacoes.put("criarAtividadeEstagioEmEstudante", p -> facade.criarAtividadeEstagioEmEstudante(p.texto("cpf"), p.texto("senha"),
+				p.inteiro("unidadeAcumulada"), p.texto("nomeEmpresa")));
+		operacoes.put("criarAtividadeRepresentacaoEstudantil", p -> facade.criarAtividadeRepresentacaoEstudantil(p.texto("cpf"),
+				p.texto("senha"), p.inteiro("unidadeAcumulada"), p.texto("subtipo")));
+		operacoes.put("creditosAtividade", p -> facade.creditosAtividade(p.texto("cpf"), p.texto("senha"), p.texto("tipo")));
+		operacoes.put("gerarMapaCreditosAtividades", p -> facade.gerarMapaCreditosAtividades(p.texto("cpf"), p.texto("senha")));
+		operacoes.put("percentualEstudantesNaMeta", p -> facade.percentualEstudantesNaMeta());
+		operacoes.put("mediaCreditosAtividade", p -> facade.mediaCreditosAtividade(p.texto("tipo")));
+		operacoes.put("distribuicaoCreditosAtividade", p -> facade.distribuicaoCreditosAtividade(p.texto("tipo")));
+
+		operacoes.put("verificarMetaAlcancada", p -> facade.verificarMetaAlcancada(p.texto("cpf"), p.texto("senha")));
+		operacoes.put("gerarRelatorioFinal", p -> facade.gerarRelatorioFinal(p.texto("cpf"), p.texto("senha")));
+		operacoes.put("gerarRelatorioFinalPorAtividade", p -> facade.gerarRelatorioFinalPorAtividade(p.texto("cpf"), p.texto("senha"),
+				p.texto("tipoAtividade")));
+		operacoes.put("gerarRelatorioParcial", p -> facade.gerarRelatorioParcial(p.texto("cpf"), p.texto("senha"), p.booleano("salvar")));
+		operacoes.put("gerarRelatorioParcialPorAtividade", p -> facade.gerarRelatorioParcialPorAtividade(p.texto("cpf"), p.texto("senha"),
+				p.booleano("salvar"), p.texto("tipoAtividade")));
+		operacoes.put("listarHistorico", p -> p.contem("de") || p.contem("ate")
+				? facade.listarHistorico(p.texto("cpf"), p.texto("senha"), p.texto("de"), p.texto("ate"))
+				: facade.listarHistorico(p.texto("cpf"), p.texto("senha")));
+		operacoes.put("excluirItemHistorico", p -> facade.excluirItemHistorico(p.texto("cpf"), p.texto("senha"), p.texto("data")));
+
+		operacoes.put("metricas", p -> resumirMetricas());
+	}
+
+	private Map<String, Object> resumirMetricas() {
+		Map<String, Object> resumos = new LinkedHashMap<>();
+		for (ResumoOperacao resumo : facade.metricas().values()) {
+			Map<String, Object> campos = new LinkedHashMap<>();
+			campos.put("chamadas", resumo.getChamadas());
+			campos.put("errosArgumento", resumo.getErrosArgumento());
+			campos.put("errosSeguranca", resumo.getErrosSeguranca());
+			campos.put("outrosErros", resumo.getOutrosErros());
+			campos.put("p50Nanos", resumo.getP50Nanos());
+			campos.put("p99Nanos", resumo.getP99Nanos());
+			campos.put("p999Nanos", resumo.getP999Nanos());
+			campos.put("maximoNanos", resumo.getMaximoNanos());
+			resumos.put(resumo.getNome(), campos);
+		}
+		return resumos;
+	}
+
+	private void atender(HttpExchange troca) throws IOException {
+		try (troca) {
+			if (!"POST".equals(troca.getRequestMethod())) {
+				troca.getResponseHeaders().set("Allow", "POST");
+				responder(troca, 405, "erro", "Método não permitido.");
+				return;
+			}
+			Operacao operacao = operacoes.get(nomeOperacao(troca.getRequestURI()));
+			if (operacao == null) {
+				responder(troca, 404, "erro", "Operação desconhecida.");
+				return;
+			}
+			byte[] corpo = lerCorpo(troca.getRequestBody());
+			if (corpo == null) {
+				responder(troca, 413, "erro", "Corpo da requisição muito grande.");
+				return;
+			}
+			Object resultado;
+			try {
+				String texto = new String(corpo, StandardCharsets.UTF_8);
+				Parametros parametros = new Parametros(texto.isBlank() ? Map.of() : Json.lerObjeto(texto));
+				resultado = operacao.executar(parametros);
+			} catch (IllegalArgumentException e) {
+				responder(troca, 400, "erro", e.getMessage());
+				return;
+			} catch (SecurityException e) {
+				responder(troca, 403, "erro", e.getMessage());
+				return;
+			} catch (RuntimeException e) {
+				responder(troca, 500, "erro", "Erro interno.");
+				return;
+			}
+			responder(troca, 200, "resultado", resultado);
+		}
+	}
+
+	private static String nomeOperacao(URI uri) {
+		String caminho = uri.getPath();
+		return caminho.length() > 1 ? caminho.substring(1) : "";
+	}
+
+	private static byte[] lerCorpo(InputStream entrada) throws IOException {
+		byte[] corpo = entrada.readNBytes(TAMANHO_MAXIMO_CORPO + 1);
+		return corpo.length > TAMANHO_MAXIMO_CORPO ? null : corpo;
+	}
+
+	private static void responder(HttpExchange troca, int status, String campo, Object valor) throws IOException {
+		Map<String, Object> resposta = new LinkedHashMap<>();
+		resposta.put(campo, valor);
+		byte[] corpo = Json.escrever(resposta).getBytes(StandardCharsets.UTF_8);
+		troca.getResponseHeaders().set("Content-Type", TIPO_CONTEUDO);
+		troca.sendResponseHeaders(status, corpo.length);
+		try (OutputStream saida = troca.getResponseBody()) {
+			saida.write(corpo);
+		}
+	}
+
+	private static final class Parametros {
+		private final Map<String, String> valores;
+
+		private Parametros(Map<String, String> valores) {
+			this.valores = valores;
+		}
+
+		private boolean contem(String nome) {
+			return valores.containsKey(nome);
+		}
+
+		private boolean paginado() {
+			return contem("inicio") || contem("quantidade");
+		}
+
+		private String texto(String nome) {
+			String valor = valores.get(nome);
+			if (valor == null) throw new IllegalArgumentException("Parâmetro obrigatório ausente: " + nome + ".");
+			return valor;
+		}
+
+		private int inteiro(String nome) {
+			try {
+				return Integer.parseInt(texto(nome));
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("Parâmetro inválido: " + nome + ".");
+			}
+		}
+
+		private boolean booleano(String nome) {
+			String valor = texto(nome);
+			if (valor.equals("true")) return true;
+			if (valor.equals("false")) return false;
+			throw new IllegalArgumentException("Parâmetro inválido: " + nome + ".");
+		}
+	}
+
+	private static final class FabricaThreads implements ThreadFactory {
+		private final AtomicInteger contador = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable tarefa) {
+			return new Thread(tarefa, "servidor-http-" + contador.incrementAndGet());
+		}
+	}
+
+	/**
+	 * Inicia um servidor com uma fachada vazia.
+	 *
+	 * @param args Porta opcional (padrão 8080).
+	 * @throws IOException se a porta não puder ser aberta.
+	 */
+	public static void main(String[] args) throws IOException {
+		ServidorHttp servidor = new ServidorHttp(new Facade(), args.length > 0 ? Integer.parseInt(args[0]) : 8080);
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> servidor.parar(1)));
+		servidor.iniciar();
+		System.out.println("Servidor ouvindo na porta " + servidor.getPorta());
+	}
+}
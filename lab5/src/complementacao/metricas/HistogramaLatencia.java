@@ -0,0 +1,130 @@
+package complementacao.metricas;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latências em nanossegundos, com faixas de tamanho logarítmico.
+ *
+ * Cada potência de dois é dividida em oito faixas iguais, então qualquer valor é contado em uma faixa cujo
+ * limite superior excede o valor real em no máximo 12,5%. São 488 faixas no total, suficientes para qualquer
+ * {@code long} positivo, e cada uma é contada por um {@link LongAdder}: registrar um valor é um incremento
+ * sem travas, e várias threads podem registrar ao mesmo tempo. Como as latências de uma operação se
+ * concentram em poucas faixas, um contador atômico único por faixa faria as threads disputarem a mesma linha
+ * de cache; o {@link LongAdder} passa a distribuir os incrementos entre células separadas assim que detecta
+ * a disputa, e sem disputa custa o mesmo que um incremento atômico.
+ *
+ * @author Isadora Lucena
+ */
+public class HistogramaLatencia {
+	private static final int BITS_SUBFAIXA = 3;
+	private static final int SUBFAIXAS = 1 << BITS_SUBFAIXA;
+	private static final int QUANTIDADE_FAIXAS = (64 - BITS_SUBFAIXA) * SUBFAIXAS;
+
+	private final LongAdder[] faixas;
+	private final LongAccumulator maximo;
+
+	/**
+	 * Cria um histograma vazio.
+	 */
+	public HistogramaLatencia() {
+		this.faixas = new LongAdder[QUANTIDADE_FAIXAS];
+		for (int i = 0; i < QUANTIDADE_FAIXAS; i++) {
+			faixas[i] = new LongAdder();
+		}
+		this.maximo = new LongAccumulator(Math::max, 0);
+	}
+
+	/**
+	 * Registra uma latência. Valores negativos são contados como zero.
+	 *
+	 * @param nanos Latência em nanossegundos.
+	 */
+	public void registrar(long nanos) {
+		long valor = Math.max(nanos, 0);
+		faixas[faixa(valor)].increment();
+		maximo.accumulate(valor);
+	}
+
+	/**
+	 * Retorna a quantidade de latências registradas.
+	 *
+	 * @return Quantidade de registros.
+	 */
+	public long quantidade() {
+		long total = 0;
+		for (int i = 0; i < QUANTIDADE_FAIXAS; i++) {
+			total += faixas[i].sum();
+		}
+		return total;
+	}
+
+	/**
+	 * Retorna a maior latência registrada.
+	 *
+	 * @return Maior latência, em nanossegundos, ou 0 se não houver registros.
+	 */
+	public long maximo() {
+		return maximo.get();
+	}
+
+	/**
+	 * Retorna o percentil informado: um valor que não é excedido pela fração {@code percentil} das latências
+	 * registradas, arredondado para o limite superior da faixa em que cai.
+	 *
+	 * @param percentil Fração entre 0 e 1 (por exemplo, 0.99 para o p99).
+	 * @return Latência do percentil, em nanossegundos, ou 0 se não houver registros.
+	 * @throws IllegalArgumentException se o percentil estiver fora do intervalo de 0 a 1.
+	 */
+	public long percentil(double percentil) {
+		return percentis(percentil)[0];
+	}
+
+	/**
+	 * Retorna vários percentis a partir de uma única leitura das faixas, de modo que sejam coerentes entre si
+	 * mesmo com registros concorrentes.
+	 *
+	 * @param percentis Frações entre 0 e 1.
+	 * @return Latências dos percentis, em nanossegundos, na ordem informada.
+	 * @throws IllegalArgumentException se algum percentil estiver fora do intervalo de 0 a 1.
+	 */
+	public long[] percentis(double... percentis) {
+		long[] copia = new long[QUANTIDADE_FAIXAS];
+		long total = 0;
+		for (int i = 0; i < QUANTIDADE_FAIXAS; i++) {
+			copia[i] = faixas[i].sum();
+			total += copia[i];
+		}
+		long maior = maximo.get();
+
+		long[] resultado = new long[percentis.length];
+		for (int p = 0; p < percentis.length; p++) {
+			if (percentis[p] < 0 || percentis[p] > 1) throw new IllegalArgumentException("Percentil inválido.");
+			if (total == 0) continue;
+			long alvo = Math.max(1, (long) Math.ceil(percentis[p] * total));
+			long acumulado = 0;
+			for (int i = 0; i < QUANTIDADE_FAIXAS; i++) {
+				acumulado += copia[i];
+				if (acumulado >= alvo) {
+					resultado[p] = Math.min(limiteSuperior(i), maior);
+					break;
+				}
+			}
+		}
+		return resultado;
+	}
+
+	private static int faixa(long valor) {
+		if (valor < SUBFAIXAS) return (int) valor;
+		int expoente = 63 - Long.numberOfLeadingZeros(valor) - BITS_SUBFAIXA;
+		return (expoente + 1) * SUBFAIXAS + (int) ((valor >>> expoente) - SUBFAIXAS);
+	}
+
+	private static long limiteSuperior(int faixa) {
+		if (faixa < SUBFAIXAS) return faixa;
+		int expoente = faixa / SUBFAIXAS - 1;
+		long mantissa = SUBFAIXAS + faixa % SUBFAIXAS;
+		long limite = ((mantissa + 1) << expoente) - 1;
+		return limite < 0 ? Long.MAX_VALUE : limite;
+	}
+}
@@ -0,0 +1,226 @@
+package complementacao.metricas;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Registra, para cada operação medida, a quantidade de chamadas, os erros separados por categoria
+ * ({@link IllegalArgumentException}, {@link SecurityException} e demais exceções) e um
+ * {@link HistogramaLatencia} com a duração das chamadas.
+ *
+ * O registro não usa travas: as métricas de cada operação são criadas na primeira chamada e, a partir daí,
+ * medir uma chamada custa duas leituras do relógio, uma consulta a um {@link ConcurrentHashMap} e incrementos
+ * atômicos. Quem mede sempre as mesmas operações pode obter uma vez a {@link Metrica} de cada uma, por
+ * {@link #metrica(String)}, e evitar a consulta ao mapa; com {@link Metrica#iniciar()} e
+ * {@link Metrica#concluir(long)}, evita também a chamada medida. As métricas podem ser lidas a qualquer momento
+ * por {@link #resumir()} ou impressas periodicamente por {@link #iniciarDespejoPeriodico(long, Consumer)}.
+ *
+ * @author Isadora Lucena
+ */
+public class MetricasOperacoes {
+	private final ConcurrentMap<String, Metrica> metricas;
+	private ScheduledExecutorService despejo;
+
+	/**
+	 * Cria um registro de métricas vazio.
+	 */
+	public MetricasOperacoes() {
+		this.metricas = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Chamada medida, que pode lançar uma exceção verificada.
+	 *
+	 * @param <T> Tipo do resultado.
+	 * @param <E> Tipo da exceção verificada lançada pela chamada.
+	 */
+	@FunctionalInterface
+	public interface Chamada<T, E extends Exception> {
+		/**
+		 * Executa a chamada.
+		 *
+		 * @return Resultado da chamada.
+		 * @throws E se a chamada falhar.
+		 */
+		T executar() throws E;
+	}
+
+	/**
+	 * Executa e mede uma chamada da operação informada. A exceção lançada pela chamada, se houver, é
+	 * contabilizada e relançada sem alterações.
+	 *
+	 * @param <T>      Tipo do resultado.
+	 * @param <E>      Tipo da exceção verificada lançada pela chamada.
+	 * @param operacao Nome da operação.
+	 * @param chamada  Chamada a ser executada.
+	 * @return Resultado da chamada.
+	 * @throws E se a chamada falhar.
+	 */
+	public <T, E extends Exception> T medir(String operacao, Chamada<T, E> chamada) throws E {
+		return metrica(operacao).medir(chamada);
+	}
+
+	/**
+	 * Retorna as métricas da operação informada, criando-as se ainda não existirem. O objeto retornado pode ser
+	 * guardado e usado em todas as chamadas seguintes da operação.
+	 *
+	 * @param operacao Nome da operação.
+	 * @return Métricas da operação.
+	 */
+	public Metrica metrica(String operacao) {
+		Metrica metrica = metricas.get(operacao);
+		return metrica != null ? metrica : metricas.computeIfAbsent(operacao, nome -> new Metrica());
+	}
+
+	/**
+	 * Retorna um retrato das métricas de todas as operações já chamadas, ordenadas pelo nome da operação.
+	 * Operações cujas métricas foram obtidas por {@link #metrica(String)}, mas que ainda não foram chamadas, não
+	 * aparecem.
+	 *
+	 * @return Resumo de cada operação, indexado pelo nome.
+	 */
+	public Map<String, ResumoOperacao> resumir() {
+		Map<String, ResumoOperacao> resumos = new TreeMap<>();
+		for (Map.Entry<String, Metrica> entrada : metricas.entrySet()) {
+			Metrica metrica = entrada.getValue();
+			if (metrica.latencias.quantidade() > 0) resumos.put(entrada.getKey(), metrica.resumir(entrada.getKey()));
+		}
+		return resumos;
+	}
+
+	/**
+	 * Formata as métricas de todas as operações como uma tabela de texto, com latências em microssegundos.
+	 *
+	 * @return Tabela com uma linha por operação.
+	 */
+	public String formatar() {
+		StringBuilder sb = new StringBuilder(String.format(Locale.ROOT, "%-45s %10s %8s %8s %8s %10s %10s %10s %10s%n",
+				"operacao", "chamadas", "erroArg", "erroSeg", "outros", "p50(us)", "p99(us)", "p999(us)", "max(us)"));
+		for (ResumoOperacao resumo : resumir().values()) {
+			sb.append(String.format(Locale.ROOT, "%-45s %10d %8d %8d %8d %10.1f %10.1f %10.1f %10.1f%n",
+					resumo.getNome(), resumo.getChamadas(), resumo.getErrosArgumento(), resumo.getErrosSeguranca(),
+					resumo.getOutrosErros(), resumo.getP50Nanos() / 1e3, resumo.getP99Nanos() / 1e3,
+					resumo.getP999Nanos() / 1e3, resumo.getMaximoNanos() / 1e3));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Passa a entregar a tabela de {@link #formatar()} ao destino informado a cada período, em uma thread
+	 * própria. Um despejo já ativo é substituído.
+	 *
+	 * @param periodoMillis Intervalo entre despejos, em milissegundos.
+	 * @param destino       Destino do texto, como {@code System.out::print}.
+	 * @throws IllegalArgumentException se o período não for positivo ou o destino for nulo.
+	 */
+	public synchronized void iniciarDespejoPeriodico(long periodoMillis, Consumer<String> destino) {
+		if (periodoMillis <= 0) throw new IllegalArgumentException("O período precisa ser positivo.");
+		if (destino == null) throw new IllegalArgumentException("Destino não pode ser nulo.");
+		pararDespejoPeriodico();
+		despejo = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+			Thread thread = new Thread(tarefa, "despejo-metricas");
+			thread.setDaemon(true);
+			return thread;
+		});
+		despejo.scheduleAtFixedRate(() -> destino.accept(formatar()), periodoMillis, periodoMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Interrompe o despejo periódico, se estiver ativo.
+	 */
+	public synchronized void pararDespejoPeriodico() {
+		if (despejo != null) {
+			despejo.shutdownNow();
+			despejo = null;
+		}
+	}
+
+	/**
+	 * Métricas de uma operação, obtidas por {@link MetricasOperacoes#metrica(String)}. Uma chamada é medida por
+	 * {@link #medir(Chamada)} ou, sem criar a chamada, por {@link #iniciar()} seguido de {@link #concluir(long)}
+	 * ou de {@link #falhar(long, Throwable)}.
+	 */
+	public static final class Metrica {
+		private final HistogramaLatencia latencias = new HistogramaLatencia();
+		private final LongAdder errosArgumento = new LongAdder();
+		private final LongAdder errosSeguranca = new LongAdder();
+		private final LongAdder outrosErros = new LongAdder();
+
+		private Metrica() {
+		}
+
+		/**
+		 * Executa e mede uma chamada da operação. A exceção lançada pela chamada, se houver, é contabilizada e
+		 * relançada sem alterações.
+		 *
+		 * @param <T>     Tipo do resultado.
+		 * @param <E>     Tipo da exceção verificada lançada pela chamada.
+		 * @param chamada Chamada a ser executada.
+		 * @return Resultado da chamada.
+		 * @throws E se a chamada falhar.
+		 */
+		public <T, E extends Exception> T medir(Chamada<T, E> chamada) throws E {
+			long inicio = iniciar();
+			try {
+				T resultado = chamada.executar();
+				concluir(inicio);
+				return resultado;
+			} catch (Throwable erro) {
+				falhar(inicio, erro);
+				throw erro;
+			}
+		}
+
+		/**
+		 * Marca o início de uma chamada.
+		 *
+		 * @return Instante de início, a ser informado ao concluir a chamada.
+		 */
+		public long iniciar() {
+			return System.nanoTime();
+		}
+
+		/**
+		 * Registra uma chamada concluída com sucesso.
+		 *
+		 * @param inicio Instante retornado por {@link #iniciar()}.
+		 */
+		public void concluir(long inicio) {
+			latencias.registrar(System.nanoTime() - inicio);
+		}
+
+		/**
+		 * Registra uma chamada que terminou com a exceção informada.
+		 *
+		 * @param <X>    Tipo da exceção.
+		 * @param inicio Instante retornado por {@link #iniciar()}.
+		 * @param erro   Exceção lançada pela chamada.
+		 * @return A própria exceção, para ser relançada.
+		 */
+		public <X extends Throwable> X falhar(long inicio, X erro) {
+			latencias.registrar(System.nanoTime() - inicio);
+			if (erro instanceof IllegalArgumentException) {
+				errosArgumento.increment();
+			} else if (erro instanceof SecurityException) {
+				errosSeguranca.increment();
+			} else {
+				outrosErros.increment();
+			}
+			return erro;
+		}
+
+		private ResumoOperacao resumir(String nome) {
+			long[] percentis = latencias.percentis(0.5, 0.99, 0.999);
+			return new ResumoOperacao(nome, latencias.quantidade(), errosArgumento.sum(), errosSeguranca.sum(),
+					outrosErros.sum(), percentis[0], percentis[1], percentis[2], latencias.maximo());
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package complementacao.metricas;
+
+/**
+ * Retrato imutável das métricas de uma operação em um instante: quantidade de chamadas, erros por
+ * categoria e percentis de latência.
+ *
+ * @author Isadora Lucena
+ */
+public class ResumoOperacao {
+	private final String nome;
+	private final long chamadas;
+	private final long errosArgumento;
+	private final long errosSeguranca;
+	private final long outrosErros;
+	private final long p50Nanos;
+	private final long p99Nanos;
+	private final long p999Nanos;
+	private final long maximoNanos;
+
+	ResumoOperacao(String nome, long chamadas, long errosArgumento, long errosSeguranca, long outrosErros,
+			long p50Nanos, long p99Nanos, long p999Nanos, long maximoNanos) {
+		this.nome = nome;
+		this.chamadas = chamadas;
+		this.errosArgumento = errosArgumento;
+		this.errosSeguranca = errosSeguranca;
+		this.outrosErros = outrosErros;
+		this.p50Nanos = p50Nanos;
+		this.p99Nanos = p99Nanos;
+		this.p999Nanos = p999Nanos;
+		this.maximoNanos = maximoNanos;
+	}
+
+	/**
+	 * Retorna o nome da operação.
+	 *
+	 * @return Nome da operação.
+	 */
+	public String getNome() {
+		return nome;
+	}
+
+	/**
+	 * Retorna a quantidade de chamadas concluídas, com sucesso ou com erro.
+	 *
+	 * @return Quantidade de chamadas.
+	 */
+	public long getChamadas() {
+		return chamadas;
+	}
+
+	/**
+	 * Retorna quantas chamadas terminaram com {@link IllegalArgumentException}.
+	 *
+	 * @return Quantidade de erros de argumento.
+	 */
+	public long getErrosArgumento() {
+		return errosArgumento;
+	}
+
+	/**
+	 * Retorna quantas chamadas terminaram com {@link SecurityException}.
+	 *
+	 * @return Quantidade de erros de segurança.
+	 */
+	public long getErrosSeguranca() {
+		return errosSeguranca;
+	}
+
+	/**
+	 * Retorna quantas chamadas terminaram com qualquer outra exceção.
+	 *
+	 * @return Quantidade de outros erros.
+	 */
+	public long getOutrosErros() {
+		return outrosErros;
+	}
+
+	/**
+	 * Retorna a mediana das latências.
+	 *
+	 * @return Latência p50, em nanossegundos.
+	 */
+	public long getP50Nanos() {
+		return p50Nanos;
+	}
+
+	/**
+	 * Retorna o percentil 99 das latências.
+	 *
+	 * @return Latência p99, em nanossegundos.
+	 */
+	public long getP99Nanos() {
+		return p99Nanos;
+	}
+
+	/**
+	 * Retorna o percentil 99,9 das latências.
+	 *
+	 * @return Latência p999, em nanossegundos.
+	 */
+	public long getP999Nanos() {
+		return p999Nanos;
+	}
+
+	/**
+	 * Retorna a maior latência registrada.
+	 *
+	 * @return Latência máxima, em nanossegundos.
+	 */
+	public long getMaximoNanos() {
+		return maximoNanos;
+	}
+
+	@Override
+	public String toString() {
+		return nome + ": chamadas=" + chamadas + ", errosArgumento=" + errosArgumento + ", errosSeguranca=" + errosSeguranca
+				+ ", outrosErros=" + outrosErros + ", p50=" + p50Nanos + "ns, p99=" + p99Nanos + "ns, p999=" + p999Nanos
+				+ "ns, max=" + maximoNanos + "ns";
+	}
+}
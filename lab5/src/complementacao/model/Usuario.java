@@ -1,20 +1,32 @@
 package complementacao.model;
 
+import java.security.MessageDigest;
+import java.text.Normalizer;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import complementacao.enums.TipoAtividade;
 import complementacao.model.atividade.Atividade;
+import complementacao.util.CodificadorSenha;
+import complementacao.util.CompressorTexto;
 import complementacao.util.Validador;
 
 /**
  * Representa um usuário do sistema. Cada usuário possui nome, CPF, matrícula e senha, 
  * sendo identificado unicamente pelo CPF. A autenticação é realizada com CPF e senha, garantindo o acesso seguro às funcionalidades.
+ * A senha não é armazenada: apenas um hash salgado gerado por um {@link CodificadorSenha}. Após uma autenticação
+ * bem-sucedida, uma sessão de curta duração evita recalcular o hash nas operações seguintes.
  * 
  * O usuário pode adicionar atividades complementares divididas por tipo, e cada atividade contribui com créditos e bonificações. 
  * Esses créditos são acumulados até um valor máximo permitido pelo sistema, tanto de forma geral quanto por tipo de atividade. 
@@ -26,21 +38,39 @@ import complementacao.util.Validador;
  * 
  * O usuário mantém ainda um histórico próprio e cronológico de relatórios, que registram suas atividades complementares ao longo do tempo. 
  * Esse histórico é exclusivo de cada usuário e permite salvar, listar e excluir registros conforme necessário, 
- * oferecendo uma visão organizada da sua trajetória no sistema.
+ * oferecendo uma visão organizada da sua trajetória no sistema. Ele é mantido ordenado por data, aceita vários
+ * relatórios no mesmo dia e guarda cada relatório compactado por um {@link CompressorTexto}.
+ * 
+ * Os métodos que leem ou alteram o estado mutável do usuário são sincronizados no próprio objeto,
+ * permitindo que usuários distintos sejam manipulados em paralelo sem disputa de trava.
  * 
  * @author Isadora
  */
 public class Usuario{
 	private String nome;
+	private String nomeNormalizado;
 	private String cpf;
 	private Map<TipoAtividade, List<Atividade>> atividades;
-	private Map<TipoAtividade, Integer> mapaCreditos;
-	private String senha;
+	private Map<String, Atividade> atividadesPorCodigo;
+	private int[] quantidadeAtividadesPorTipo;
+	private int[] creditosPorTipo;
+	private int[] creditoMaximoPorTipo;
+	private String prefixoCodigoAtividade;
+	private CodificadorSenha codificador;
+	private byte[] sal;
+	private byte[] hashSenha;
+	private byte[] resumoSessao;
+	private long validadeSessao;
 	private String matricula;
-	private int bonificacao;
+	private volatile int bonificacao;
 	private int creditosAcumulados;
 	private static final int MAXIMO_CREDITOS = 22;
-	private Map<LocalDate, String> historico; 
+	private static final TipoAtividade[] TIPOS_ATIVIDADE = TipoAtividade.values();
+	private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}");
+	private NavigableMap<LocalDate, List<byte[]>> historico; 
+	private long versao;
+	private long versaoRelatoriosEmCache;
+	private Map<Integer, String> relatoriosEmCache;
 	
 	/**
      * Constrói um novo usuário com os dados fornecidos.
@@ -54,16 +84,93 @@ public class Usuario{
      *                                  ou a matrícula for nula ou vazia.
      */
 	public Usuario(String nome, String cpf, String senha, String matricula) {
+		this(nome, cpf, senha, matricula, new CodificadorSenha());
+	}
+	
+	/**
+     * Constrói um novo usuário cuja senha é codificada pelo codificador informado.
+     * 
+     * @param nome        Nome completo do usuário.
+     * @param cpf         CPF do usuário.
+     * @param senha       Senha para autenticação.
+     * @param matricula   Matrícula acadêmica.
+     * @param codificador Codificador usado para gerar e conferir o hash da senha.
+     * 
+     * @throws IllegalArgumentException se o CPF for inválido, a senha for inválida 
+     *                                  ou a matrícula for nula ou vazia.
+     */
+	public Usuario(String nome, String cpf, String senha, String matricula, CodificadorSenha codificador) {
 		Validador.validarCPF(cpf);
         Validador.validarSenha(senha);
         Validador.validarString(matricula, "Matrícula não pode ser nula ou vazia.");
+        byte[] sal = codificador.gerarSal();
+        inicializar(nome, cpf, matricula, codificador, sal, codificador.codificar(senha.trim(), sal));
+	}
+	
+	/**
+     * Reconstrói um usuário a partir de uma senha já codificada, como ao restaurar o sistema
+     * de um arquivo. A senha não é recalculada.
+     * 
+     * @param nome        Nome completo do usuário.
+     * @param cpf         CPF do usuário.
+     * @param matricula   Matrícula acadêmica.
+     * @param sal         Sal usado na codificação da senha.
+     * @param hashSenha   Hash da senha, gerado pelo codificador com o sal informado.
+     * @param codificador Codificador usado para conferir o hash da senha.
+     * 
+     * @throws IllegalArgumentException se o CPF for inválido ou a matrícula for nula ou vazia.
+     */
+	public Usuario(String nome, String cpf, String matricula, byte[] sal, byte[] hashSenha, CodificadorSenha codificador) {
+		Validador.validarCPF(cpf);
+        Validador.validarString(matricula, "Matrícula não pode ser nula ou vazia.");
+        inicializar(nome, cpf, matricula, codificador, sal.clone(), hashSenha.clone());
+	}
+	
+	private Usuario() {
+	}
+	
+	/**
+     * Reconstrói um usuário a partir de dados gravados pelo próprio sistema, como ao restaurar um snapshot.
+     * Diferentemente do construtor equivalente, nenhum dado é validado de novo, pois todos foram validados
+     * quando o usuário foi criado, e os vetores do sal e do hash passam a pertencer ao usuário, sem cópia.
+     * Não deve ser usado com dados vindos de fora do sistema.
+     * 
+     * @param nome        Nome completo do usuário, como gravado.
+     * @param cpf         CPF do usuário, como gravado.
+     * @param matricula   Matrícula acadêmica, como gravada.
+     * @param sal         Sal usado na codificação da senha.
+     * @param hashSenha   Hash da senha, gerado pelo codificador com o sal informado.
+     * @param codificador Codificador usado para conferir o hash da senha.
+     * @return O usuário reconstruído.
+     */
+	public static Usuario restaurar(String nome, String cpf, String matricula, byte[] sal, byte[] hashSenha, CodificadorSenha codificador) {
+		Usuario usuario = new Usuario();
+		usuario.inicializar(nome, cpf, matricula, codificador, sal, hashSenha);
+		return usuario;
+	}
+	
+	private void inicializar(String nome, String cpf, String matricula, CodificadorSenha codificador, byte[] sal, byte[] hashSenha) {
 		this.nome = nome.trim();
+		this.nomeNormalizado = normalizarNome(this.nome);
 		this.cpf = cpf.trim();
-		this.senha = senha.trim();
-		this.atividades = new HashMap<>();
+		this.codificador = codificador;
+		this.sal = sal;
+		this.hashSenha = hashSenha;
 		this.matricula = matricula.trim();
-		this.historico = new HashMap<>();
-		this.mapaCreditos = new HashMap<>();
+	}
+	
+	/**
+	 * Cria as estruturas de atividades na primeira atividade cadastrada. Até lá, um usuário sem atividades,
+	 * relatórios no histórico ou relatórios em cache não guarda nenhuma dessas estruturas, o que reduz bastante
+	 * a memória ocupada por estudantes que ainda não usaram essas funcionalidades.
+	 */
+	private void criarEstruturasAtividades() {
+		if (atividades != null) return;
+		atividades = new EnumMap<>(TipoAtividade.class);
+		atividadesPorCodigo = new HashMap<>();
+		quantidadeAtividadesPorTipo = new int[TIPOS_ATIVIDADE.length];
+		creditosPorTipo = new int[TIPOS_ATIVIDADE.length];
+		creditoMaximoPorTipo = new int[TIPOS_ATIVIDADE.length];
 	}
 	
     /**
@@ -71,23 +178,71 @@ public class Usuario{
      * 
      * @param bonus valor a ser somado à bonificação.
      */
-	public void atualizaBonificacao(int bonus) {
+	public synchronized void atualizaBonificacao(int bonus) {
 		bonificacao += bonus;
 	}
 	
 	/**
-     * Autentica o usuário comparando CPF e senha.
+     * Autentica o usuário comparando CPF e senha. A senha é conferida contra o hash armazenado;
+     * se ela já tiver sido conferida em uma sessão ainda válida, o hash não é recalculado.
+     * 
+     * O hash é calculado fora do monitor do usuário, que só é usado para ler o sal e o hash e para
+     * publicar a sessão. Assim, tentativas repetidas com senhas erradas não bloqueiam as demais
+     * operações do usuário.
      * 
      * @param cpf   CPF informado.
      * @param senha Senha informada.
      * @return {@code true} se os dados coincidirem, caso contrário {@code false}.
      */
 	public boolean autenticar(String cpf, String senha) {
-		return Objects.equals(this.cpf, cpf) && Objects.equals(senha, this.senha);
+		return conferirSenha(cpf, senha) != null;
+	}
+	
+	/**
+	 * Confere a senha e, se ela estiver correta, retorna o sal contra o qual foi conferida. Se a senha for
+	 * alterada enquanto o hash é calculado, a conferência falha, como se a senha informada já fosse a nova.
+	 */
+	private byte[] conferirSenha(String cpf, String senha) {
+		if (!Objects.equals(this.cpf, cpf) || senha == null) return null;
+		
+		byte[] salAtual;
+		byte[] hashAtual;
+		synchronized (this) {
+			salAtual = sal;
+			hashAtual = hashSenha;
+		}
+		byte[] resumo = codificador.resumoSessao(senha, salAtual);
+		synchronized (this) {
+			if (sal == salAtual && sessaoValida(resumo)) return salAtual;
+		}
+		if (!codificador.confere(senha, salAtual, hashAtual)) return null;
+		
+		synchronized (this) {
+			if (sal != salAtual) return null;
+			iniciarSessao(resumo);
+		}
+		return salAtual;
+	}
+	
+	private boolean sessaoValida(byte[] resumo) {
+		return resumoSessao != null 
+				&& System.nanoTime() - validadeSessao < 0 
+				&& MessageDigest.isEqual(resumo, resumoSessao);
+	}
+	
+	private void iniciarSessao(byte[] resumo) {
+		if (codificador.getDuracaoSessaoNanos() == 0) return;
+		resumoSessao = resumo;
+		validadeSessao = System.nanoTime() + codificador.getDuracaoSessaoNanos();
+	}
+	
+	private void encerrarSessao() {
+		resumoSessao = null;
 	}
 
 	/**
 	 * Altera a senha do usuário, caso a autenticação com o CPF e a senha antiga seja bem-sucedida.
+	 * Como na autenticação, os hashes são calculados fora do monitor do usuário.
 	 * 
 	 * @param cpf         CPF do usuário.
 	 * @param senhaAntiga Senha atual do usuário.
@@ -96,12 +251,52 @@ public class Usuario{
 	 * @throws IllegalArgumentException se a nova senha for inválida.
 	 */
 	public boolean alterarSenhaEstudante(String cpf, String senhaAntiga, String novaSenha) {
-		if (!autenticar(cpf, senhaAntiga)) return false;
+		byte[] salConferido = conferirSenha(cpf, senhaAntiga);
+		if (salConferido == null) return false;
 		
-		this.setSenha(novaSenha);
+		Validador.validarSenha(novaSenha);
+		byte[] novoSal = codificador.gerarSal();
+		byte[] novoHash = codificador.codificar(novaSenha, novoSal);
+		synchronized (this) {
+			if (sal != salConferido) return false;
+			this.sal = novoSal;
+			this.hashSenha = novoHash;
+			encerrarSessao();
+		}
 		return true;
 	}
 	
+	/**
+	 * Substitui o sal e o hash da senha por valores gravados pelo próprio sistema, como ao reaplicar
+	 * o registro de operações, e encerra a sessão. Os vetores passam a pertencer ao usuário, sem cópia.
+	 *
+	 * @param sal       Sal usado na codificação da senha.
+	 * @param hashSenha Hash da senha, gerado pelo codificador do usuário com o sal informado.
+	 */
+	public synchronized void restaurarSenha(byte[] sal, byte[] hashSenha) {
+		this.sal = sal;
+		this.hashSenha = hashSenha;
+		encerrarSessao();
+	}
+	
+	/**
+	 * Retorna uma cópia do sal usado na codificação da senha.
+	 *
+	 * @return Sal da senha.
+	 */
+	public synchronized byte[] getSal() {
+		return sal.clone();
+	}
+	
+	/**
+	 * Retorna uma cópia do hash da senha.
+	 *
+	 * @return Hash da senha.
+	 */
+	public synchronized byte[] getHashSenha() {
+		return hashSenha.clone();
+	}
+	
 	/**
 	 * Retorna o número máximo de créditos que um usuário pode acumular.
 	 *
@@ -111,11 +306,6 @@ public class Usuario{
 	    return MAXIMO_CREDITOS;
 	}
 	
-	private void setSenha(String senha) {
-		Validador.validarSenha(senha);
-		this.senha = senha;
-	}
-	
 	/**
 	 * Retorna o nome do usuário.
 	 *
@@ -125,6 +315,36 @@ public class Usuario{
 		return nome;
 	}
 	
+	/**
+	 * Retorna o nome do usuário normalizado para ordenação e busca:
+	 * sem acentos e em letras minúsculas. O valor é calculado uma única vez, na construção.
+	 *
+	 * @return Nome normalizado do usuário.
+	 */
+	public String getNomeNormalizado() {
+		return nomeNormalizado;
+	}
+	
+	/**
+	 * Normaliza um nome (ou prefixo de nome) para comparação, removendo acentos,
+	 * espaços nas extremidades e diferenças de capitalização. Nomes só com caracteres ASCII,
+	 * que não têm acentos, não passam pelo {@link Normalizer}.
+	 *
+	 * @param nome Nome a ser normalizado.
+	 * @return Nome normalizado.
+	 */
+	public static String normalizarNome(String nome) {
+		String semEspacos = nome.trim();
+		for (int i = 0; i < semEspacos.length(); i++) {
+			if (semEspacos.charAt(i) >= 0x80) {
+				return MARCAS_DIACRITICAS.matcher(Normalizer.normalize(semEspacos, Normalizer.Form.NFD))
+				                         .replaceAll("")
+				                         .toLowerCase();
+			}
+		}
+		return semEspacos.toLowerCase();
+	}
+	
 	/**
 	 * Retorna o CPF do usuário.
 	 *
@@ -146,6 +366,9 @@ public class Usuario{
 	/**
 	 * Retorna a bonificação do usuário.
 	 *
+	 * A leitura não usa o monitor do usuário, pois o comparador do ranking de dicas a faz
+	 * enquanto mantém o monitor de outro usuário.
+	 *
 	 * @return Valor da bonificação.
 	 */
 	public int getBonificacao() {
@@ -157,12 +380,29 @@ public class Usuario{
 	 *
 	 * @return Créditos acumulados.
 	 */
-	public int getCreditosAcumulados(){
+	public synchronized int getCreditosAcumulados(){
 		return creditosAcumulados;
 	}
 	
 	private void atualizarMapaCreditos(TipoAtividade tipo, Atividade atividade) {
-		mapaCreditos.merge(tipo, atividade.getCreditos(), Integer::sum);
+		creditosPorTipo[tipo.ordinal()] += atividade.getCreditos();
+		if (quantidadeAtividadesPorTipo[tipo.ordinal()] == 1) {
+			creditoMaximoPorTipo[tipo.ordinal()] = atividade.getCreditoMaximo();
+		}
+	}
+
+	/**
+	 * Monta, na primeira vez em que um código é gerado, o prefixo comum a todos os códigos de atividade do
+	 * usuário: o CPF formatado seguido de "_". Usuários que nunca cadastram atividades não guardam o prefixo.
+	 */
+	private String getPrefixoCodigoAtividade() {
+		if (prefixoCodigoAtividade == null) {
+			prefixoCodigoAtividade = new StringBuilder(15)
+					.append(cpf, 0, 3).append('.').append(cpf, 3, 6).append('.').append(cpf, 6, 9).append('-').append(cpf, 9, cpf.length())
+					.append('_')
+					.toString();
+		}
+		return prefixoCodigoAtividade;
 	}
 
 	/**
@@ -171,9 +411,21 @@ public class Usuario{
      * @param tipo Tipo da atividade.
      * @return Código gerado no formato CPF_formatado + número sequencial.
      */
-	public String gerarCodigoAtividade(TipoAtividade tipo) {
-		int tamanho = atividades.getOrDefault(tipo, new ArrayList<>()).size() + 1;
-		return cpf.replaceAll("(\\d{3})(\\d{3})(\\d{3})(\\d{2})", "$1.$2.$3-$4")  + "_" + tamanho;
+	public synchronized String gerarCodigoAtividade(TipoAtividade tipo) {
+		return gerarCodigoAtividade(tipo, 0);
+	}
+	
+	/**
+     * Gera o código que uma atividade do tipo receberá quando já houver outras atividades
+     * desse tipo reservadas, mas ainda não adicionadas ao usuário (como em um cadastro em lote).
+     * 
+     * @param tipo       Tipo da atividade.
+     * @param reservadas Quantidade de atividades do tipo reservadas antes desta.
+     * @return Código gerado no formato CPF_formatado + número sequencial.
+     */
+	public synchronized String gerarCodigoAtividade(TipoAtividade tipo, int reservadas) {
+		int cadastradas = quantidadeAtividadesPorTipo == null ? 0 : quantidadeAtividadesPorTipo[tipo.ordinal()];
+		return getPrefixoCodigoAtividade() + (cadastradas + reservadas + 1);
 	}
 	
 	private void atualizarCreditosAcumulados(int creditos) {
@@ -188,24 +440,68 @@ public class Usuario{
 	 * @param atividade Atividade a ser registrada.
 	 * @return Mensagem de confirmação do cadastro.
 	 */
-	public String adicionarAtividadePorTipo(TipoAtividade tipo, Atividade atividade) {
+	public synchronized String adicionarAtividadePorTipo(TipoAtividade tipo, Atividade atividade) {
+		criarEstruturasAtividades();
 		atividades.computeIfAbsent(tipo, k -> new ArrayList<>()).add(atividade);
+		atividadesPorCodigo.putIfAbsent(atividade.getId(), atividade);
+		quantidadeAtividadesPorTipo[tipo.ordinal()]++;
 	    atualizarCreditosAcumulados(atividade.getCreditos());
 	    atualizarMapaCreditos(tipo, atividade);
+	    versao++;
 	    return "Atividade cadastrada com sucesso.";
 	}
 	
+	/**
+     * Retorna a versão do usuário, incrementada sempre que uma atividade é adicionada.
+     * Serve para reconhecer se dados derivados das atividades, como relatórios, ainda estão atualizados.
+     * 
+     * @return Versão atual do usuário.
+     */
+	public synchronized long getVersao() {
+		return versao;
+	}
+	
+	/**
+     * Retorna um relatório guardado em cache, desde que ele tenha sido gerado na versão atual do usuário.
+     * Se o usuário tiver mudado desde então, todos os relatórios em cache são descartados.
+     * 
+     * @param chave Chave que identifica o tipo de relatório.
+     * @return O relatório guardado, ou {@code null} se não houver relatório atualizado para a chave.
+     */
+	public synchronized String getRelatorioEmCache(int chave) {
+		descartarRelatoriosDesatualizados();
+		return relatoriosEmCache == null ? null : relatoriosEmCache.get(chave);
+	}
+	
+	/**
+     * Guarda em cache um relatório gerado na versão atual do usuário.
+     * 
+     * @param chave     Chave que identifica o tipo de relatório.
+     * @param relatorio Relatório gerado.
+     */
+	public synchronized void guardarRelatorioEmCache(int chave, String relatorio) {
+		descartarRelatoriosDesatualizados();
+		if (relatoriosEmCache == null) relatoriosEmCache = new HashMap<>();
+		relatoriosEmCache.put(chave, relatorio);
+	}
+	
+	private void descartarRelatoriosDesatualizados() {
+		if (versaoRelatoriosEmCache != versao) {
+			relatoriosEmCache = null;
+			versaoRelatoriosEmCache = versao;
+		}
+	}
+	
 	/**
      * Gera uma visualização do total de créditos obtidos por tipo de atividade,
      * seguido dos créditos totais acumulados.
      * 
      * @return String formatada com a distribuição de créditos.
      */
-	public String gerarMapaDeCreditos() {
+	public synchronized String gerarMapaDeCreditos() {
 		StringBuilder mapa = new StringBuilder();
-	    for (TipoAtividade tipo : TipoAtividade.values()) {
-	        int totalCreditos = mapaCreditos.getOrDefault(tipo, 0);
-	        mapa.append(tipo.name()).append(": ").append(totalCreditos).append("\n");
+	    for (TipoAtividade tipo : TIPOS_ATIVIDADE) {
+	        mapa.append(tipo.name()).append(": ").append(creditosAtividade(tipo)).append("\n");
 	    }
 
 	    mapa.append("Créditos Totais: ").append(creditosAcumulados).append("/").append(MAXIMO_CREDITOS);
@@ -217,7 +513,7 @@ public class Usuario{
      * 
      * @return {@code true} se os créditos acumulados forem iguais ao máximo.
      */
-	public boolean metaAlcancada() {
+	public synchronized boolean metaAlcancada() {
 		return creditosAcumulados == MAXIMO_CREDITOS;
 	}
 	
@@ -227,8 +523,8 @@ public class Usuario{
      * @param tipoAtividade Tipo da atividade.
      * @return {@code true} se os créditos atingirem o máximo permitido por esse tipo.
      */
-	public boolean metaAlcancadaPorAtividade(TipoAtividade tipoAtividade) {
-	    int creditosAtuais = mapaCreditos.getOrDefault(tipoAtividade, 0);
+	public synchronized boolean metaAlcancadaPorAtividade(TipoAtividade tipoAtividade) {
+	    int creditosAtuais = creditosAtividade(tipoAtividade);
 	    int creditoMaximo = getCreditoMaximoPorAtividade(tipoAtividade);
 	    return creditosAtuais >= creditoMaximo && creditoMaximo > 0;
 	}
@@ -239,10 +535,8 @@ public class Usuario{
      * @param tipo Tipo da atividade.
      * @return Valor máximo de créditos, ou 0 se não houver atividades cadastradas.
      */
-	public int getCreditoMaximoPorAtividade(TipoAtividade tipo) {
-	    List<Atividade> atividadesTipo = atividades.get(tipo);
-	    if (atividadesTipo == null || atividadesTipo.isEmpty()) return 0;
-	    return atividadesTipo.get(0).getCreditoMaximo();
+	public synchronized int getCreditoMaximoPorAtividade(TipoAtividade tipo) {
+	    return creditoMaximoPorTipo == null ? 0 : creditoMaximoPorTipo[tipo.ordinal()];
 	}
 
     /**
@@ -251,19 +545,50 @@ public class Usuario{
      * @param tipoAtividade Tipo da atividade.
      * @return Total de créditos acumulados desse tipo.
      */
-	public int creditosAtividade(TipoAtividade tipoAtividade) {
-		return mapaCreditos.getOrDefault(tipoAtividade, 0);
+	public synchronized int creditosAtividade(TipoAtividade tipoAtividade) {
+		return creditosPorTipo == null ? 0 : creditosPorTipo[tipoAtividade.ordinal()];
     }
 
 	private Atividade buscarAtividadePorCodigo(String codigoAtividade) {
-	    for (List<Atividade> lista : atividades.values()) {
-	        for (Atividade atividade : lista) {
-	            if (atividade.getId().equals(codigoAtividade)) {
-	                return atividade;
-	            }
-	        }
-	    }
-	    return null;
+	    if (codigoAtividade == null || atividadesPorCodigo == null) return null;
+	    return atividadesPorCodigo.get(codigoAtividade);
+	}
+
+	/**
+     * Retorna a atividade com o código informado.
+     * 
+     * @param codigoAtividade Código da atividade.
+     * @return A atividade, ou {@code null} se o usuário não tiver atividade com esse código.
+     */
+	public synchronized Atividade getAtividade(String codigoAtividade) {
+		return buscarAtividadePorCodigo(codigoAtividade);
+	}
+
+	/**
+     * Retorna a atividade do tipo informado com o código informado. Os códigos só são únicos dentro de um tipo:
+     * o primeiro estágio e a primeira monitoria do usuário, por exemplo, têm o mesmo código.
+     * 
+     * Como a n-ésima atividade de um tipo recebe o código terminado em n, a atividade é procurada primeiro
+     * nessa posição da lista do tipo, e só então na lista inteira.
+     * 
+     * @param tipo            Tipo da atividade.
+     * @param codigoAtividade Código da atividade.
+     * @return A atividade, ou {@code null} se o usuário não tiver atividade desse tipo com esse código.
+     */
+	public synchronized Atividade getAtividade(TipoAtividade tipo, String codigoAtividade) {
+		List<Atividade> doTipo = atividades == null ? null : atividades.get(tipo);
+		if (doTipo == null || codigoAtividade == null) return null;
+		int separador = codigoAtividade.lastIndexOf('_');
+		try {
+			int posicao = Integer.parseInt(codigoAtividade.substring(separador + 1)) - 1;
+			if (posicao >= 0 && posicao < doTipo.size() && doTipo.get(posicao).getId().equals(codigoAtividade)) return doTipo.get(posicao);
+		} catch (NumberFormatException e) {
+			// Código fora do formato gerado; a lista inteira é percorrida abaixo.
+		}
+		for (Atividade atividade : doTipo) {
+			if (atividade.getId().equals(codigoAtividade)) return atividade;
+		}
+		return null;
 	}
 
 	/**
@@ -273,7 +598,7 @@ public class Usuario{
      * @param novaDescricao   Nova descrição a ser atribuída.
      * @return {@code true} se a alteração foi realizada.
      */
-	public boolean alterarDescricaoAtividade(String codigoAtividade, String novaDescricao) {
+	public synchronized boolean alterarDescricaoAtividade(String codigoAtividade, String novaDescricao) {
 	    Atividade atividade = buscarAtividadePorCodigo(codigoAtividade);
 	    if (atividade != null) {
 	        atividade.setDescricao(novaDescricao);
@@ -289,7 +614,7 @@ public class Usuario{
      * @param linkComprovacao   Novo link de documentação.
      * @return {@code true} se a alteração foi realizada.
      */
-	public boolean alterarComprovacaoAtividade(String codigoAtividade, String linkComprovacao) {
+	public synchronized boolean alterarComprovacaoAtividade(String codigoAtividade, String linkComprovacao) {
 	    Atividade atividade = buscarAtividadePorCodigo(codigoAtividade);
 	    if (atividade != null) {
 	        atividade.setDocumentacaoComprobatoria(linkComprovacao);
@@ -299,40 +624,138 @@ public class Usuario{
 	}
 	
 	/**
-     * Lista o histórico de relatórios salvos pelo usuário.
+     * Altera a descrição de várias atividades de uma só vez.
+     * Códigos que não correspondem a nenhuma atividade são ignorados.
+     * 
+     * @param descricoesPorCodigo Mapa do código de cada atividade para sua nova descrição.
+     * @return Quantidade de atividades alteradas.
+     */
+	public synchronized int alterarDescricoesAtividades(Map<String, String> descricoesPorCodigo) {
+		int alteradas = 0;
+		for (Map.Entry<String, String> entrada : descricoesPorCodigo.entrySet()) {
+			if (alterarDescricaoAtividade(entrada.getKey(), entrada.getValue())) alteradas++;
+		}
+		return alteradas;
+	}
+	
+	/**
+     * Altera o link de comprovação de várias atividades de uma só vez.
+     * Códigos que não correspondem a nenhuma atividade são ignorados.
+     * 
+     * @param linksPorCodigo Mapa do código de cada atividade para seu novo link de comprovação.
+     * @return Quantidade de atividades alteradas.
+     */
+	public synchronized int alterarComprovacoesAtividades(Map<String, String> linksPorCodigo) {
+		int alteradas = 0;
+		for (Map.Entry<String, String> entrada : linksPorCodigo.entrySet()) {
+			if (alterarComprovacaoAtividade(entrada.getKey(), entrada.getValue())) alteradas++;
+		}
+		return alteradas;
+	}
+	
+	/**
+     * Retorna todas as atividades do usuário, agrupadas por tipo e, dentro de cada tipo,
+     * na ordem em que foram cadastradas.
+     * 
+     * @return Mapa não modificável de cada tipo para uma cópia de suas atividades.
+     */
+	public synchronized Map<TipoAtividade, List<Atividade>> getAtividades() {
+		Map<TipoAtividade, List<Atividade>> copia = new EnumMap<>(TipoAtividade.class);
+		if (atividades != null) atividades.forEach((tipo, lista) -> copia.put(tipo, List.copyOf(lista)));
+		return Collections.unmodifiableMap(copia);
+	}
+	
+	/**
+     * Percorre todo o histórico de relatórios do usuário, em ordem de data e, no mesmo dia, na ordem em que
+     * foram salvos.
+     * 
+     * @return Fluxo de pares formados pela data e pelo relatório.
+     */
+	public Stream<Map.Entry<LocalDate, String>> streamHistorico() {
+		return streamHistorico(LocalDate.MIN, LocalDate.MAX);
+	}
+	
+	/**
+     * Percorre os relatórios salvos entre as datas informadas, inclusive, em ordem de data e, no mesmo dia,
+     * na ordem em que foram salvos. O intervalo é localizado diretamente no mapa ordenado, e cada relatório
+     * só é descompactado quando o fluxo chega até ele.
+     * 
+     * @param de  Data inicial do intervalo.
+     * @param ate Data final do intervalo.
+     * @return Fluxo de pares formados pela data e pelo relatório.
+     * @throws IllegalArgumentException se alguma data for nula ou a data inicial for posterior à final.
+     */
+	public Stream<Map.Entry<LocalDate, String>> streamHistorico(LocalDate de, LocalDate ate) {
+		if (de == null || ate == null || de.isAfter(ate)) throw new IllegalArgumentException("Intervalo de datas inválido.");
+		
+		List<Map.Entry<LocalDate, byte[]>> selecionados = new ArrayList<>();
+		synchronized (this) {
+			if (historico == null) return Stream.empty();
+			for (Map.Entry<LocalDate, List<byte[]>> entrada : historico.subMap(de, true, ate, true).entrySet()) {
+				for (byte[] relatorio : entrada.getValue()) {
+					selecionados.add(Map.entry(entrada.getKey(), relatorio));
+				}
+			}
+		}
+		return selecionados.stream()
+				.map(entrada -> Map.entry(entrada.getKey(), CompressorTexto.descompactar(entrada.getValue())));
+	}
+	
+	/**
+     * Lista o histórico de relatórios salvos pelo usuário, em ordem de data.
      * 
      * @return String contendo os relatórios por data.
      */
 	public String listarHistorico() {
-		return historico.entrySet().stream()
+		return listarHistorico(LocalDate.MIN, LocalDate.MAX);
+	}
+	
+	/**
+     * Lista os relatórios salvos entre as datas informadas, inclusive, em ordem de data.
+     * 
+     * @param de  Data inicial do intervalo.
+     * @param ate Data final do intervalo.
+     * @return String contendo os relatórios por data.
+     * @throws IllegalArgumentException se alguma data for nula ou a data inicial for posterior à final.
+     */
+	public String listarHistorico(LocalDate de, LocalDate ate) {
+		return streamHistorico(de, ate)
                 .map(entry -> entry.getKey() + "\n" + entry.getValue())
                 .collect(Collectors.joining("\n\n"));
-
 	}
 	
     /**
-     * Exclui um relatório salvo do histórico.
+     * Exclui do histórico os relatórios salvos em uma data.
      * 
-     * @param data Data do relatório a ser excluído.
+     * @param data Data dos relatórios a serem excluídos.
      * @return {@code true} se a exclusão foi bem-sucedida.
      */
-	public boolean excluirItemHistorico(LocalDate data) {
-		if (historico.containsKey(data)) {
-	        historico.remove(data);
-	        return true;
-	    }
-	    return false;
+	public synchronized boolean excluirItemHistorico(LocalDate data) {
+		return historico != null && historico.remove(data) != null;
     }
 
+	/**
+     * Retorna quantos relatórios estão salvos no histórico em uma data.
+     * 
+     * @param data Data dos relatórios.
+     * @return Quantidade de relatórios salvos na data.
+     */
+	public synchronized int getQuantidadeRelatorios(LocalDate data) {
+		List<byte[]> relatorios = historico == null ? null : historico.get(data);
+		return relatorios == null ? 0 : relatorios.size();
+	}
+
 	/**
      * Salva um relatório no histórico associado a uma data.
+     * Relatórios já salvos na mesma data são mantidos.
      * 
      * @param data      Data de referência do relatório.
      * @param relatorio Conteúdo do relatório.
      * @return {@code true} se foi salvo com sucesso.
      */
-	public boolean salvarRelatorio(LocalDate data, String relatorio) {
-		historico.put(data, relatorio);	
+	public synchronized boolean salvarRelatorio(LocalDate data, String relatorio) {
+		if (historico == null) historico = new TreeMap<>();
+		historico.computeIfAbsent(data, dia -> new ArrayList<>(1)).add(CompressorTexto.compactar(relatorio));
 		return true;
 	}
 	
@@ -371,7 +794,7 @@ public class Usuario{
 	 * @return String com nome, matrícula e bônus.
 	 */
 	@Override
-	public String toString() {
+	public synchronized String toString() {
 		return "Nome: " + nome + ", matrícula: " + matricula + ", bônus: " + bonificacao;
 	}
 }
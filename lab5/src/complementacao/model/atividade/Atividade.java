@@ -1,5 +1,6 @@
 package complementacao.model.atividade;
 
+import complementacao.enums.TipoAtividade;
 import complementacao.util.Validador;
 
 /**
@@ -45,6 +46,25 @@ public abstract class Atividade {
 		this.creditos = calculaCreditos();
 	}
 	
+	/**
+	 * Cria a atividade concreta correspondente ao tipo informado.
+	 *
+	 * @param tipo             Tipo da atividade.
+	 * @param id               ID único da atividade.
+	 * @param unidadeAcumulada Quantidade de unidades acumuladas.
+	 * @param dadoComplementar Dado específico do tipo: nome da empresa, subtipo ou disciplina.
+	 * @return A atividade criada.
+	 * @throws IllegalArgumentException se algum dos dados for inválido para o tipo informado.
+	 */
+	public static Atividade criar(TipoAtividade tipo, String id, int unidadeAcumulada, String dadoComplementar) {
+	    return switch (tipo) {
+	        case ESTAGIO -> new AtividadeEstagio(id, unidadeAcumulada, dadoComplementar);
+	        case PESQUISA_EXTENSAO -> new AtividadePesquisaExtensao(id, unidadeAcumulada, dadoComplementar);
+	        case REPRESENTACAO_ESTUDANTIL -> new AtividadeRepresentacaoEstudantil(id, unidadeAcumulada, dadoComplementar);
+	        case MONITORIA -> new AtividadeMonitoria(id, unidadeAcumulada, dadoComplementar);
+	    };
+	}
+	
 	/**
 	 * Retorna o ID da atividade.
 	 *
@@ -99,6 +119,39 @@ public abstract class Atividade {
 	    return unidadeAcumulada;
 	}
 
+	/**
+	 * Retorna a descrição da atividade.
+	 *
+	 * @return Descrição da atividade, ou {@code null} se não tiver sido definida.
+	 */
+	public String getDescricao() {
+		return descricao;
+	}
+	
+	/**
+	 * Retorna a documentação que comprova a realização da atividade.
+	 *
+	 * @return Documento comprobatório, ou {@code null} se não tiver sido definido.
+	 */
+	public String getDocumentacaoComprobatoria() {
+		return documentacaoComprobatoria;
+	}
+	
+	/**
+	 * Retorna o dado específico do tipo da atividade, no formato aceito pelo seu construtor
+	 * (nome da empresa, subtipo ou disciplina).
+	 *
+	 * @return Dado complementar da atividade.
+	 */
+	public abstract String getDadoComplementar();
+	
+	/**
+	 * Retorna o tipo da atividade, o mesmo que a criaria em {@link #criar}.
+	 *
+	 * @return Tipo da atividade.
+	 */
+	public abstract TipoAtividade getTipo();
+	
 	/**
 	 * Define a descrição da atividade.
 	 *
@@ -1,5 +1,7 @@
 package complementacao.model.atividade;
 
+import complementacao.enums.TipoAtividade;
+import complementacao.util.PoolTextos;
 import complementacao.util.Validador;
 
 /**
@@ -7,6 +9,7 @@ import complementacao.util.Validador;
  * Essa atividade está vinculada a uma empresa, cujo nome deve ser informado e validado no momento da criação.
  * Herda as regras de conversão de unidades para créditos da classe {@link Atividade}, com parâmetros específicos para estágio:
  * 300 unidades mínimas, até 18 créditos, com a proporção de 60 unidades para 1 crédito.
+ * O nome da empresa passa pelo {@link PoolTextos} compartilhado, já que muitos estudantes estagiam nas mesmas empresas.
  * 
  * @author Isadora Lucena
  */
@@ -25,6 +28,26 @@ public class AtividadeEstagio extends Atividade{
 	public AtividadeEstagio(String id, int unidadeAcumulada, String nomeEmpresa) {
 		super(id, unidadeAcumulada, 300, 18, 60, 1);
 		Validador.validarString(nomeEmpresa, "Nome da empresa não pode ser nulo ou vazio");
-		this.nomeEmpresa = nomeEmpresa.trim();
-	}	
+		this.nomeEmpresa = PoolTextos.compartilhado().canonizar(nomeEmpresa.trim());
+	}
+	
+	/**
+	 * Retorna o nome da empresa onde o estágio foi realizado.
+	 *
+	 * @return Nome da empresa.
+	 */
+	@Override
+	public String getDadoComplementar() {
+		return nomeEmpresa;
+	}
+	
+	/**
+	 * Retorna o tipo da atividade.
+	 *
+	 * @return {@link TipoAtividade#ESTAGIO}.
+	 */
+	@Override
+	public TipoAtividade getTipo() {
+		return TipoAtividade.ESTAGIO;
+	}
 }
@@ -1,5 +1,7 @@
 package complementacao.model.atividade;
 
+import complementacao.enums.TipoAtividade;
+import complementacao.util.PoolTextos;
 import complementacao.util.Validador;
 
 /**
@@ -7,6 +9,7 @@ import complementacao.util.Validador;
  * Cada atividade de monitoria está vinculada a uma disciplina específica, cujo nome deve ser informado.
  * Herda as regras de conversão de unidades para créditos da classe {@link Atividade}, com parâmetros específicos:
  * mínimo de 1 unidade, máximo de 16 créditos, com a proporção de 1 unidade para 4 créditos.
+ * Monitorias de uma mesma disciplina compartilham o nome dela por meio do {@link PoolTextos}.
  * 
  * @author Isadora Lucena
  */
@@ -25,7 +28,26 @@ public class AtividadeMonitoria extends Atividade{
 	public AtividadeMonitoria(String id, int unidadeAcumulada, String nomeDisciplina) {
 		super(id, unidadeAcumulada, 1, 16, 1, 4);
 		Validador.validarString(nomeDisciplina, "Nome da disciplina não pode ser nulo ou vazio");
-		this.nomeDisciplina = nomeDisciplina.trim();
+		this.nomeDisciplina = PoolTextos.compartilhado().canonizar(nomeDisciplina.trim());
 	}
 	
+	/**
+	 * Retorna o nome da disciplina associada à monitoria.
+	 *
+	 * @return Nome da disciplina.
+	 */
+	@Override
+	public String getDadoComplementar() {
+		return nomeDisciplina;
+	}
+	
+	/**
+	 * Retorna o tipo da atividade.
+	 *
+	 * @return {@link TipoAtividade#MONITORIA}.
+	 */
+	@Override
+	public TipoAtividade getTipo() {
+		return TipoAtividade.MONITORIA;
+	}
 }
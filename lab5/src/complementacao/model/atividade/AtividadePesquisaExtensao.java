@@ -1,6 +1,7 @@
 package complementacao.model.atividade;
 
 import complementacao.enums.SubtipoPesquisaExtensao;
+import complementacao.enums.TipoAtividade;
 
 /**
  * Representa uma atividade complementar do tipo pesquisa ou extensão.
@@ -26,4 +27,24 @@ public class AtividadePesquisaExtensao extends Atividade{
 		super(id, unidadeAcumulada, 0, 18, 12, 10);
 		this.subtipo = SubtipoPesquisaExtensao.converterStringEmSubtipoPesquisaExtensao(subtipo);
 	}
+	
+	/**
+	 * Retorna o nome do subtipo da atividade.
+	 *
+	 * @return Nome do subtipo, como em {@link SubtipoPesquisaExtensao#name()}.
+	 */
+	@Override
+	public String getDadoComplementar() {
+		return subtipo.name();
+	}
+	
+	/**
+	 * Retorna o tipo da atividade.
+	 *
+	 * @return {@link TipoAtividade#PESQUISA_EXTENSAO}.
+	 */
+	@Override
+	public TipoAtividade getTipo() {
+		return TipoAtividade.PESQUISA_EXTENSAO;
+	}
 }
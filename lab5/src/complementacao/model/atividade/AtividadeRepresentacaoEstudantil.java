@@ -1,6 +1,7 @@
 package complementacao.model.atividade;
 
 import complementacao.enums.SubtipoRepresentacaoEstudantil;
+import complementacao.enums.TipoAtividade;
 
 /**
  * Representa uma atividade complementar do tipo representação estudantil.
@@ -25,4 +26,24 @@ public class AtividadeRepresentacaoEstudantil extends Atividade{
 		super(id, unidadeAcumulada, 1, 2, 1, 2);
 		this.subtipo = SubtipoRepresentacaoEstudantil.converterStringEmSubtipoPesquisaExtensao(subtipo);
 	}
+	
+	/**
+	 * Retorna o nome do subtipo da atividade.
+	 *
+	 * @return Nome do subtipo, como em {@link SubtipoRepresentacaoEstudantil#name()}.
+	 */
+	@Override
+	public String getDadoComplementar() {
+		return subtipo.name();
+	}
+	
+	/**
+	 * Retorna o tipo da atividade.
+	 *
+	 * @return {@link TipoAtividade#REPRESENTACAO_ESTUDANTIL}.
+	 */
+	@Override
+	public TipoAtividade getTipo() {
+		return TipoAtividade.REPRESENTACAO_ESTUDANTIL;
+	}
 }
@@ -0,0 +1,57 @@
+package complementacao.model.atividade;
+
+import complementacao.enums.TipoAtividade;
+
+/**
+ * Representa o pedido de cadastro de uma atividade complementar, usado no cadastro em lote.
+ * Guarda o tipo da atividade, a unidade acumulada e o dado complementar específico do tipo
+ * (nome da empresa, subtipo ou disciplina), sem ainda possuir um código.
+ *
+ * @author Isadora Lucena
+ */
+public class SolicitacaoAtividade {
+	private final TipoAtividade tipo;
+	private final int unidadeAcumulada;
+	private final String dadoComplementar;
+
+	/**
+	 * Cria um novo pedido de cadastro de atividade.
+	 *
+	 * @param tipo             Tipo da atividade, representado como uma string. Será convertido para {@link TipoAtividade}.
+	 * @param unidadeAcumulada Quantidade de unidades acumuladas pela atividade.
+	 * @param dadoComplementar Dado específico do tipo: nome da empresa, subtipo ou disciplina.
+	 * @throws IllegalArgumentException se o tipo não corresponder a um valor válido de {@link TipoAtividade}.
+	 */
+	public SolicitacaoAtividade(String tipo, int unidadeAcumulada, String dadoComplementar) {
+		this.tipo = TipoAtividade.converterStringEmAtividade(tipo);
+		this.unidadeAcumulada = unidadeAcumulada;
+		this.dadoComplementar = dadoComplementar;
+	}
+
+	/**
+	 * Retorna o tipo da atividade.
+	 *
+	 * @return Tipo da atividade.
+	 */
+	public TipoAtividade getTipo() {
+		return tipo;
+	}
+
+	/**
+	 * Retorna a quantidade de unidades acumuladas pela atividade.
+	 *
+	 * @return Unidade acumulada.
+	 */
+	public int getUnidadeAcumulada() {
+		return unidadeAcumulada;
+	}
+
+	/**
+	 * Retorna o dado complementar específico do tipo da atividade.
+	 *
+	 * @return Dado complementar.
+	 */
+	public String getDadoComplementar() {
+		return dadoComplementar;
+	}
+}
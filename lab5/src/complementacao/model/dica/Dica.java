@@ -3,9 +3,9 @@ package complementacao.model.dica;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import complementacao.enums.TipoAtividade;
+import complementacao.util.PoolTextos;
 import complementacao.util.Validador;
 
 /**
@@ -14,6 +14,13 @@ import complementacao.util.Validador;
  * de forma resumida ou detalhada.
  * 
  * Cada dica possui um autor, um tema relacionado a um tipo de atividade complementar e uma lista de elementos associados.
+ * O nome do autor é canonizado no {@link PoolTextos}, de modo que as dicas de um mesmo autor compartilham o mesmo texto.
+ * 
+ * As visualizações resumida e detalhada são formatadas apenas na primeira vez em que são pedidas e
+ * guardadas até que um novo elemento seja adicionado, já que os elementos não mudam depois de criados.
+ * 
+ * Os métodos que leem ou alteram os elementos são sincronizados na própria dica, de modo que vários
+ * autores podem adicionar elementos à mesma dica ao mesmo tempo.
  * 
  * @author Isadora Lucena
  */
@@ -21,6 +28,8 @@ public class Dica {
 	private String nomeAutor;
 	private TipoAtividade tema;
 	private List<ElementoDica> elementosDica;
+	private String visualizacaoResumida;
+	private String visualizacaoDetalhada;
 	
 	/**
 	 * Cria uma nova dica com o autor e o tema fornecidos.
@@ -33,16 +42,52 @@ public class Dica {
 	public Dica(String nomeAutor, TipoAtividade tema) {
 		elementosDica = new ArrayList<>();
 		Validador.validarString(nomeAutor, "Nome do autor não pode ser nulo ou vazio.");
-		this.nomeAutor = nomeAutor.trim();
+		this.nomeAutor = PoolTextos.compartilhado().canonizar(nomeAutor.trim());
 		this.tema = tema;
 	}
 	
+	/**
+	 * Retorna o nome do autor da dica.
+	 * 
+	 * @return Nome do autor.
+	 */
+	public String getNomeAutor() {
+		return nomeAutor;
+	}
+	
+	/**
+	 * Retorna o tema da dica.
+	 * 
+	 * @return Tema da dica.
+	 */
+	public TipoAtividade getTema() {
+		return tema;
+	}
+	
+	/**
+	 * Retorna os elementos da dica, na ordem em que foram adicionados.
+	 * 
+	 * @return Lista não modificável com os elementos da dica no momento da chamada.
+	 */
+	public synchronized List<ElementoDica> getElementos() {
+		return List.copyOf(elementosDica);
+	}
+	
+	/**
+	 * Retorna quantos elementos a dica possui.
+	 * 
+	 * @return Quantidade de elementos.
+	 */
+	public synchronized int getQuantidadeElementos() {
+		return elementosDica.size();
+	}
+	
 	/**
 	 * Retorna o valor (bônus) do último {@link ElementoDica} adicionado à dica.
 	 * 
 	 * @return Valor do último elemento, ou 0 se não houver elementos.
 	 */
-	public int getBonusUltimoElementoDica() {
+	public synchronized int getBonusUltimoElementoDica() {
 		if (elementosDica.isEmpty()) return 0;
 	    return elementosDica.get(elementosDica.size() - 1).getValor();
 	}
@@ -51,9 +96,13 @@ public class Dica {
 	 * Adiciona um novo {@link ElementoDica} à dica.
 	 * 
 	 * @param elemento Elemento a ser adicionado à dica.
+	 * @return Valor (bônus) do elemento adicionado.
 	 */
-	public void adicionarElementoDica(ElementoDica elemento) {
+	public synchronized int adicionarElementoDica(ElementoDica elemento) {
 		elementosDica.add(elemento);
+		visualizacaoResumida = null;
+		visualizacaoDetalhada = null;
+		return elemento.getValor();
 	}
 	
 	/**
@@ -61,8 +110,11 @@ public class Dica {
 	 * 
 	 * @return String formatada com a visualização resumida da dica.
 	 */
-	public String visualizacaoResumida() {
-		return formatarVisualizacao(ElementoDica::visualizacaoResumida);
+	public synchronized String visualizacaoResumida() {
+		if (visualizacaoResumida == null) {
+			visualizacaoResumida = formatarVisualizacao(ElementoDica::visualizacaoResumida);
+		}
+		return visualizacaoResumida;
 	}
 
 	/**
@@ -70,14 +122,20 @@ public class Dica {
 	 * 
 	 * @return String formatada com a visualização detalhada da dica.
 	 */
-	public String visualizacaoDetalhada() {
-		return formatarVisualizacao(ElementoDica::visualizacaoDetalhada);
+	public synchronized String visualizacaoDetalhada() {
+		if (visualizacaoDetalhada == null) {
+			visualizacaoDetalhada = formatarVisualizacao(ElementoDica::visualizacaoDetalhada);
+		}
+		return visualizacaoDetalhada;
 	}
 
 	private String formatarVisualizacao(Function<ElementoDica, String> formatador) {
-		return "Autor: " + nomeAutor + "\n" +
-		       elementosDica.stream()
-		                    .map(formatador)
-		                    .collect(Collectors.joining("\n"));
+		StringBuilder sb = new StringBuilder(64 * (elementosDica.size() + 1));
+		sb.append("Autor: ").append(nomeAutor).append('\n');
+		for (int i = 0; i < elementosDica.size(); i++) {
+			if (i > 0) sb.append('\n');
+			sb.append(formatador.apply(elementosDica.get(i)));
+		}
+		return sb.toString();
 	}
 }
@@ -45,4 +45,11 @@ public interface ElementoDica {
 	 * @return Valor de bônus.
 	 */
 	public int getValor();
+
+	/**
+	 * Retorna o conteúdo do elemento que pode ser encontrado na busca textual de dicas.
+	 * 
+	 * @return Texto pesquisável do elemento.
+	 */
+	public String getTextoPesquisavel();
 }
@@ -43,6 +43,34 @@ public class ElementoMultimidiaDica implements ElementoDica{
 		return "Link: " + link + "\nCabeçalho: " + cabecalho;
 	}
 	
+	/**
+	 * Retorna o link para o conteúdo multimídia.
+	 */
+	public String getLink() {
+		return link;
+	}
+	
+	/**
+	 * Retorna o cabeçalho do material.
+	 */
+	public String getCabecalho() {
+		return cabecalho;
+	}
+	
+	/**
+	 * Retorna o cabeçalho do material, que é o conteúdo pesquisável na busca de dicas.
+	 */
+	public String getTextoPesquisavel() {
+		return cabecalho;
+	}
+	
+	/**
+	 * Retorna o tempo total do material em segundos.
+	 */
+	public int getTamanhoMaterial() {
+		return tamanhoMaterial;
+	}
+	
 	/**
 	 * Retorna o valor de bônus atribuído a este elemento.
 	 */
@@ -71,6 +71,60 @@ public class ElementoReferenciaDica implements ElementoDica{
 		return visualizacaoResumida() + "\n" + conferidaTexto + "\nImportância: " +importancia;
 	}
 	
+	/**
+     * Retorna o título da referência.
+     * 
+     * @return Título da referência.
+     */
+	public String getTitulo() {
+		return titulo;
+	}
+	
+	/**
+     * Retorna a fonte da referência.
+     * 
+     * @return Fonte da referência.
+     */
+	public String getFonte() {
+		return fonte;
+	}
+	
+	/**
+     * Retorna o título e a fonte da referência, que são o conteúdo pesquisável na busca de dicas.
+     * 
+     * @return Título e fonte da referência.
+     */
+	public String getTextoPesquisavel() {
+		return titulo + " " + fonte;
+	}
+	
+	/**
+     * Retorna o ano de publicação da referência.
+     * 
+     * @return Ano da referência.
+     */
+	public int getAno() {
+		return ano;
+	}
+	
+	/**
+     * Indica se a referência foi conferida pelo autor.
+     * 
+     * @return {@code true} se a referência foi conferida.
+     */
+	public boolean isConferida() {
+		return conferida;
+	}
+	
+	/**
+     * Retorna o nível de importância da referência.
+     * 
+     * @return Importância, de 1 a 5.
+     */
+	public int getImportancia() {
+		return importancia;
+	}
+	
 	/**
      * Retorna o valor atribuído à referência.
      * 
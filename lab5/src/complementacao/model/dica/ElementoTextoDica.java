@@ -48,6 +48,24 @@ public class ElementoTextoDica implements ElementoDica{
 		return 0;
 	}
 	
+	/**
+	 * Retorna o texto do elemento.
+	 * 
+	 * @return o texto da dica
+	 */
+	public String getTexto() {
+		return texto;
+	}
+	
+	/**
+	 * Retorna o texto do elemento, que é o conteúdo pesquisável na busca de dicas.
+	 * 
+	 * @return o texto da dica
+	 */
+	public String getTextoPesquisavel() {
+		return texto;
+	}
+	
 	/**
 	 * Retorna o valor de bônus atribuído ao elemento textual.
 	 * 
@@ -0,0 +1,135 @@
+package complementacao.persistencia;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Escreve valores primitivos, textos e vetores de bytes em um canal (normalmente um
+ * {@link java.nio.channels.FileChannel}), acumulando-os em um buffer para que o canal
+ * receba escritas grandes e pouco frequentes.
+ * 
+ * Textos são gravados em UTF-8, precedidos de seu tamanho em bytes; o tamanho {@code -1}
+ * representa um texto nulo. Vetores de bytes seguem o mesmo formato.
+ * 
+ * @author Isadora Lucena
+ */
+public class EscritorBinario {
+	private static final int TAMANHO_BUFFER = 1 << 16;
+	private final WritableByteChannel canal;
+	private final ByteBuffer buffer;
+	
+	/**
+	 * Cria um escritor sobre o canal informado.
+	 * 
+	 * @param canal Canal aberto para escrita.
+	 */
+	public EscritorBinario(WritableByteChannel canal) {
+		this.canal = canal;
+		this.buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+	}
+	
+	/**
+	 * Cria um escritor sobre o canal informado, com um buffer comum (fora da memória direta)
+	 * do tamanho indicado. Indicado para escritas pequenas e de curta duração.
+	 * 
+	 * @param canal         Canal aberto para escrita.
+	 * @param tamanhoBuffer Tamanho do buffer, em bytes.
+	 */
+	public EscritorBinario(WritableByteChannel canal, int tamanhoBuffer) {
+		this.canal = canal;
+		this.buffer = ByteBuffer.allocate(tamanhoBuffer);
+	}
+	
+	/**
+	 * Escreve um inteiro.
+	 * 
+	 * @param valor Valor a ser escrito.
+	 * @throws IOException se a escrita no canal falhar.
+	 */
+	public void escreverInt(int valor) throws IOException {
+		garantirEspaco(Integer.BYTES);
+		buffer.putInt(valor);
+	}
+	
+	/**
+	 * Escreve um inteiro longo.
+	 * 
+	 * @param valor Valor a ser escrito.
+	 * @throws IOException se a escrita no canal falhar.
+	 */
+	public void escreverLong(long valor) throws IOException {
+		garantirEspaco(Long.BYTES);
+		buffer.putLong(valor);
+	}
+	
+	/**
+	 * Escreve um valor booleano, ocupando um byte.
+	 * 
+	 * @param valor Valor a ser escrito.
+	 * @throws IOException se a escrita no canal falhar.
+	 */
+	public void escreverBoolean(boolean valor) throws IOException {
+		escreverByte(valor ? 1 : 0);
+	}
+	
+	/**
+	 * Escreve um único byte.
+	 * 
+	 * @param valor Valor a ser escrito; apenas os 8 bits menos significativos são usados.
+	 * @throws IOException se a escrita no canal falhar.
+	 */
+	public void escreverByte(int valor) throws IOException {
+		garantirEspaco(1);
+		buffer.put((byte) valor);
+	}
+	
+	/**
+	 * Escreve um vetor de bytes precedido de seu tamanho.
+	 * 
+	 * @param bytes Vetor a ser escrito, ou {@code null}.
+	 * @throws IOException se a escrita no canal falhar.
+	 */
+	public void escreverBytes(byte[] bytes) throws IOException {
+		if (bytes == null) {
+			escreverInt(-1);
+			return;
+		}
+		escreverInt(bytes.length);
+		int posicao = 0;
+		while (posicao < bytes.length) {
+			if (!buffer.hasRemaining()) descarregar();
+			int quantidade = Math.min(buffer.remaining(), bytes.length - posicao);
+			buffer.put(bytes, posicao, quantidade);
+			posicao += quantidade;
+		}
+	}
+	
+	/**
+	 * Escreve um texto em UTF-8, precedido de seu tamanho em bytes.
+	 * 
+	 * @param texto Texto a ser escrito, ou {@code null}.
+	 * @throws IOException se a escrita no canal falhar.
+	 */
+	public void escreverString(String texto) throws IOException {
+		escreverBytes(texto == null ? null : texto.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Envia ao canal todo o conteúdo acumulado no buffer.
+	 * 
+	 * @throws IOException se a escrita no canal falhar.
+	 */
+	public void descarregar() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			canal.write(buffer);
+		}
+		buffer.clear();
+	}
+	
+	private void garantirEspaco(int bytes) throws IOException {
+		if (buffer.remaining() < bytes) descarregar();
+	}
+}
@@ -0,0 +1,135 @@
+package complementacao.persistencia;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import complementacao.controller.DicaController;
+import complementacao.controller.UsuarioController;
+import complementacao.facade.Facade;
+import complementacao.model.Usuario;
+import complementacao.model.dica.Dica;
+import complementacao.util.CodificadorSenha;
+
+/**
+ * Salva e restaura o estado completo do sistema (estudantes, atividades, históricos e dicas)
+ * em um arquivo binário compacto, chamado de snapshot.
+ *
+ * A gravação é feita em um arquivo temporário por meio de um {@link FileChannel} e só substitui
+ * o snapshot anterior depois de concluída, de modo que uma falha no meio da gravação não corrompe
+ * o último snapshot válido. A restauração lê o arquivo mapeado em memória e reconstrói os objetos
+ * diretamente, sem recalcular os hashes das senhas nem validar de novo os dados dos usuários, e registra
+ * todos os usuários de uma só vez, montando os índices do controlador a partir dos usuários ordenados.
+ *
+ * O formato aceita arquivos de até 2 GB, limite de um único mapeamento em memória.
+ *
+ * @author Isadora Lucena
+ */
+public class GerenciadorSnapshot {
+	private static final int IDENTIFICADOR = 0x434F4D50;
+	private static final int VERSAO = 1;
+	private final SerializadorEstado serializador = new SerializadorEstado();
+
+	/**
+	 * Grava o estado dos controladores no arquivo informado, substituindo-o se já existir.
+	 *
+	 * @param caminho           Caminho do arquivo de snapshot.
+	 * @param usuarioController Controlador de usuários a ser salvo.
+	 * @param dicaController    Controlador de dicas a ser salvo.
+	 * @throws IOException se a gravação falhar.
+	 * @throws IllegalArgumentException se alguma dica possuir um tipo de elemento desconhecido.
+	 */
+	public void salvar(Path caminho, UsuarioController usuarioController, DicaController dicaController) throws IOException {
+		Path temporario = caminho.resolveSibling(caminho.getFileName() + ".tmp");
+
+		try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			EscritorBinario escritor = new EscritorBinario(canal);
+			escreverCabecalho(escritor, usuarioController.getCodificadorSenha());
+			escreverUsuarios(escritor, usuarioController.listarUsuariosCadastrados());
+			escreverDicas(escritor, dicaController.getDicas());
+			escritor.descarregar();
+			canal.force(true);
+		}
+
+		Files.move(temporario, caminho, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Restaura o estado do sistema a partir de um snapshot.
+	 *
+	 * @param caminho Caminho do arquivo de snapshot.
+	 * @return Uma nova {@link Facade} com o estado restaurado.
+	 * @throws IOException se o arquivo não puder ser lido ou não for um snapshot válido.
+	 */
+	public Facade carregar(Path caminho) throws IOException {
+		try (FileChannel canal = FileChannel.open(caminho, StandardOpenOption.READ)) {
+			if (canal.size() > Integer.MAX_VALUE) throw new IOException("Snapshot grande demais para ser mapeado.");
+			MappedByteBuffer mapeamento = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+			LeitorBinario leitor = new LeitorBinario(mapeamento);
+
+			UsuarioController usuarioController = new UsuarioController(lerCabecalho(leitor));
+			DicaController dicaController = new DicaController(usuarioController);
+			lerUsuarios(leitor, usuarioController);
+			lerDicas(leitor, dicaController);
+			return new Facade(usuarioController, dicaController);
+		} catch (IllegalArgumentException e) {
+			throw new IOException("Snapshot com dados inválidos: " + e.getMessage(), e);
+		}
+	}
+
+	private void escreverCabecalho(EscritorBinario escritor, CodificadorSenha codificador) throws IOException {
+		escritor.escreverInt(IDENTIFICADOR);
+		escritor.escreverInt(VERSAO);
+		escritor.escreverString(codificador.getAlgoritmo());
+		escritor.escreverInt(codificador.getIteracoes());
+		escritor.escreverLong(codificador.getDuracaoSessaoNanos());
+	}
+
+	private CodificadorSenha lerCabecalho(LeitorBinario leitor) throws IOException {
+		if (leitor.lerInt() != IDENTIFICADOR) throw new IOException("Arquivo não é um snapshot.");
+		int versao = leitor.lerInt();
+		if (versao != VERSAO) throw new IOException("Versão de snapshot não suportada: " + versao);
+		return new CodificadorSenha(leitor.lerString(), leitor.lerInt(), leitor.lerLong());
+	}
+
+	private void escreverUsuarios(EscritorBinario escritor, List<Usuario> usuarios) throws IOException {
+		escritor.escreverInt(usuarios.size());
+		for (Usuario usuario : usuarios) {
+			synchronized (usuario) {
+				serializador.escreverUsuario(escritor, usuario);
+			}
+		}
+	}
+
+	private void lerUsuarios(LeitorBinario leitor, UsuarioController usuarioController) throws IOException {
+		int quantidade = leitor.lerInt();
+		Usuario[] usuarios = new Usuario[quantidade];
+		for (int i = 0; i < quantidade; i++) {
+			usuarios[i] = serializador.lerUsuario(leitor, usuarioController.getCodificadorSenha());
+		}
+		usuarioController.restaurarEstudantes(Arrays.asList(usuarios));
+	}
+
+	private void escreverDicas(EscritorBinario escritor, List<Dica> dicas) throws IOException {
+		escritor.escreverInt(dicas.size());
+		for (Dica dica : dicas) {
+			synchronized (dica) {
+				serializador.escreverDica(escritor, dica);
+			}
+		}
+	}
+
+	private void lerDicas(LeitorBinario leitor, DicaController dicaController) throws IOException {
+		int quantidade = leitor.lerInt();
+		for (int i = 0; i < quantidade; i++) {
+			dicaController.restaurarDica(serializador.lerDica(leitor));
+		}
+	}
+}
@@ -0,0 +1,358 @@
+package complementacao.persistencia;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import complementacao.controller.UsuarioController;
+import complementacao.model.atividade.SolicitacaoAtividade;
+
+/**
+ * Importa estudantes e atividades em lote a partir de um arquivo de texto com um registro por linha
+ * e campos separados por ponto e vírgula:
+ *
+ * <pre>
+ * estudante;cpf;nome;senha;matricula
+ * atividade;cpf;senha;tipo;unidadeAcumulada;dadoComplementar
+ * </pre>
+ *
+ * Linhas em branco são ignoradas e os espaços nas extremidades de cada campo são descartados. Um campo que
+ * contenha ponto e vírgula deve vir entre aspas duplas, como {@code "Empresa; Filial"}; dentro das aspas, os
+ * espaços são mantidos e uma aspa é escrita duas vezes. Um registro não pode ocupar mais de uma linha, e uma
+ * linha com aspas não fechadas ou com texto após as aspas de fechamento é rejeitada. Uma linha inválida é
+ * registrada no {@link ResultadoImportacao} com o motivo da rejeição, sem interromper a importação.
+ *
+ * O arquivo é lido sequencialmente por uma única thread, que agrupa as linhas em lotes e os entrega a
+ * faixas de processamento paralelas. As linhas de um mesmo CPF sempre vão para a mesma faixa, e cada faixa
+ * processa seus lotes na ordem de leitura, de modo que a atividade de um estudante é cadastrada depois do
+ * próprio estudante. A quantidade de lotes pendentes é limitada, o que mantém o consumo de memória constante
+ * mesmo em arquivos muito grandes.
+ *
+ * As atividades de um mesmo CPF e senha dentro de um lote são cadastradas com uma única chamada a
+ * {@link UsuarioController#criarAtividades}, e portanto com uma única autenticação, no fim do lote ou antes de
+ * uma linha de estudante com o mesmo CPF. Se o grupo for recusado por uma atividade inválida, suas linhas são
+ * cadastradas uma a uma, para que cada erro seja atribuído à sua linha.
+ *
+ * Cada faixa executa a ação informada ao criar o importador uma vez ao terminar cada lote, e não a cada linha:
+ * com o registro de operações ativo, a espera pela gravação no disco é paga uma vez por lote.
+ *
+ * Os estudantes são criados um a um, pois o custo de cada estudante é dominado pelo cálculo do hash da senha,
+ * definido pelo {@link complementacao.util.CodificadorSenha} do controlador, e não pela inserção no cadastro.
+ *
+ * @author Isadora Lucena
+ */
+public class ImportadorEstudantes {
+	private static final char SEPARADOR = ';';
+	private static final char ASPAS = '"';
+	private static final int TAMANHO_LOTE = 512;
+	private static final int LOTES_PENDENTES_POR_FAIXA = 2;
+
+	private final UsuarioController usuarioController;
+	private final Runnable aposLote;
+	private final int quantidadeFaixas;
+
+	/**
+	 * Cria um importador que usa uma faixa de processamento por processador disponível.
+	 *
+	 * @param usuarioController Controlador em que os estudantes e atividades serão cadastrados.
+	 */
+	public ImportadorEstudantes(UsuarioController usuarioController) {
+		this(usuarioController, () -> {}, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Cria um importador.
+	 *
+	 * @param usuarioController Controlador em que os estudantes e atividades serão cadastrados.
+	 * @param aposLote          Ação executada pela faixa depois de processar cada lote, como a confirmação do registro
+	 *                          das operações do lote.
+	 * @param quantidadeFaixas  Quantidade de faixas de processamento paralelas.
+	 * @throws IllegalArgumentException se a quantidade de faixas não for positiva.
+	 */
+	public ImportadorEstudantes(UsuarioController usuarioController, Runnable aposLote, int quantidadeFaixas) {
+		if (quantidadeFaixas <= 0) throw new IllegalArgumentException("A quantidade de faixas precisa ser positiva.");
+		this.usuarioController = usuarioController;
+		this.aposLote = aposLote;
+		this.quantidadeFaixas = quantidadeFaixas;
+	}
+
+	/**
+	 * Importa o arquivo informado.
+	 *
+	 * @param arquivo Caminho do arquivo, codificado em UTF-8.
+	 * @return Resultado da importação, com as quantidades cadastradas e os erros por linha.
+	 * @throws IOException se o arquivo não puder ser lido ou se a ação executada após um lote falhar.
+	 */
+	public ResultadoImportacao importar(Path arquivo) throws IOException {
+		ResultadoImportacao resultado = new ResultadoImportacao();
+		ExecutorService[] faixas = new ExecutorService[quantidadeFaixas];
+		for (int i = 0; i < faixas.length; i++) {
+			faixas[i] = Executors.newSingleThreadExecutor();
+		}
+		Semaphore vagas = new Semaphore(quantidadeFaixas * LOTES_PENDENTES_POR_FAIXA);
+		List<Future<?>> pendentes = new ArrayList<>();
+
+		try (BufferedReader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+			Lote[] lotes = new Lote[quantidadeFaixas];
+			String linha;
+			long numero = 0;
+			while ((linha = leitor.readLine()) != null) {
+				numero++;
+				if (linha.isBlank()) continue;
+				int faixa = faixaDaLinha(linha);
+				if (lotes[faixa] == null) lotes[faixa] = new Lote();
+				lotes[faixa].adicionar(numero, linha);
+				if (lotes[faixa].cheio()) {
+					pendentes.add(enviar(faixas[faixa], lotes[faixa], vagas, resultado));
+					lotes[faixa] = null;
+				}
+			}
+			for (int faixa = 0; faixa < lotes.length; faixa++) {
+				if (lotes[faixa] != null) pendentes.add(enviar(faixas[faixa], lotes[faixa], vagas, resultado));
+			}
+			aguardar(pendentes);
+		} finally {
+			for (ExecutorService faixa : faixas) {
+				faixa.shutdownNow();
+			}
+		}
+		return resultado;
+	}
+
+	private Future<?> enviar(ExecutorService faixa, Lote lote, Semaphore vagas, ResultadoImportacao resultado) throws IOException {
+		try {
+			vagas.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Importação interrompida.", e);
+		}
+		return faixa.submit(() -> {
+			try {
+				processarLote(lote, resultado);
+				aposLote.run();
+			} finally {
+				vagas.release();
+			}
+		});
+	}
+
+	private static void aguardar(List<Future<?>> pendentes) throws IOException {
+		try {
+			for (Future<?> pendente : pendentes) {
+				pendente.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Importação interrompida.", e);
+		} catch (ExecutionException e) {
+			Throwable causa = e.getCause();
+			if (causa instanceof UncheckedIOException) throw ((UncheckedIOException) causa).getCause();
+			if (causa instanceof RuntimeException) throw (RuntimeException) causa;
+			if (causa instanceof Error) throw (Error) causa;
+			throw new IOException(causa);
+		}
+	}
+
+	private void processarLote(Lote lote, ResultadoImportacao resultado) {
+		Map<String, GrupoAtividades> grupos = new LinkedHashMap<>();
+		for (int i = 0; i < lote.tamanho; i++) {
+			processarLinha(lote.numeros[i], lote.linhas[i], grupos, resultado);
+		}
+		for (GrupoAtividades grupo : grupos.values()) {
+			cadastrar(grupo, resultado);
+		}
+	}
+
+	private void processarLinha(long numero, String linha, Map<String, GrupoAtividades> grupos, ResultadoImportacao resultado) {
+		try {
+			String[] campos = separarCampos(linha);
+			String registro = campos[0].toLowerCase();
+			if (registro.equals("estudante")) {
+				exigirCampos(campos, 5);
+				GrupoAtividades pendente = grupos.remove(campos[1]);
+				if (pendente != null) cadastrar(pendente, resultado);
+				usuarioController.criarEstudante(campos[2], campos[1], campos[3], campos[4]);
+				resultado.registrarEstudante();
+			} else if (registro.equals("atividade")) {
+				exigirCampos(campos, 6);
+				SolicitacaoAtividade solicitacao = new SolicitacaoAtividade(campos[3], converterUnidade(campos[4]), campos[5]);
+				GrupoAtividades grupo = grupos.get(campos[1]);
+				if (grupo != null && !grupo.senha.equals(campos[2])) {
+					cadastrar(grupos.remove(campos[1]), resultado);
+					grupo = null;
+				}
+				if (grupo == null) {
+					grupo = new GrupoAtividades(campos[1], campos[2]);
+					grupos.put(campos[1], grupo);
+				}
+				grupo.adicionar(numero, solicitacao);
+			} else {
+				throw new IllegalArgumentException("Tipo de registro inválido.");
+			}
+		} catch (IllegalArgumentException | SecurityException e) {
+			resultado.registrarErro(numero, e.getMessage());
+		}
+	}
+
+	private void cadastrar(GrupoAtividades grupo, ResultadoImportacao resultado) {
+		try {
+			usuarioController.criarAtividades(grupo.cpf, grupo.senha, grupo.solicitacoes);
+			for (int i = 0; i < grupo.solicitacoes.size(); i++) {
+				resultado.registrarAtividade();
+			}
+		} catch (SecurityException e) {
+			for (long numero : grupo.numeros) {
+				resultado.registrarErro(numero, e.getMessage());
+			}
+		} catch (IllegalArgumentException e) {
+			if (grupo.solicitacoes.size() == 1) {
+				resultado.registrarErro(grupo.numeros.get(0), e.getMessage());
+			} else {
+				cadastrarUmaAUma(grupo, resultado);
+			}
+		}
+	}
+
+	private void cadastrarUmaAUma(GrupoAtividades grupo, ResultadoImportacao resultado) {
+		for (int i = 0; i < grupo.solicitacoes.size(); i++) {
+			GrupoAtividades individual = new GrupoAtividades(grupo.cpf, grupo.senha);
+			individual.adicionar(grupo.numeros.get(i), grupo.solicitacoes.get(i));
+			cadastrar(individual, resultado);
+		}
+	}
+
+	private int faixaDaLinha(String linha) {
+		int inicio = linha.indexOf(SEPARADOR) + 1;
+		int fim = linha.indexOf(SEPARADOR, inicio);
+		if (inicio == 0) return 0;
+		int hash = 0;
+		for (int i = inicio, limite = fim < 0 ? linha.length() : fim; i < limite; i++) {
+			char c = linha.charAt(i);
+			if (c > ' ' && c != ASPAS) hash = 31 * hash + c;
+		}
+		return Math.floorMod(hash, quantidadeFaixas);
+	}
+
+	private static String[] separarCampos(String linha) {
+		if (linha.indexOf(ASPAS) >= 0) return separarCamposComAspas(linha);
+		int quantidade = 1;
+		for (int i = 0; i < linha.length(); i++) {
+			if (linha.charAt(i) == SEPARADOR) quantidade++;
+		}
+		String[] campos = new String[quantidade];
+		int inicio = 0;
+		for (int i = 0; i < quantidade; i++) {
+			int fim = linha.indexOf(SEPARADOR, inicio);
+			if (fim < 0) fim = linha.length();
+			campos[i] = linha.substring(inicio, fim).trim();
+			inicio = fim + 1;
+		}
+		return campos;
+	}
+
+	private static String[] separarCamposComAspas(String linha) {
+		List<String> campos = new ArrayList<>();
+		StringBuilder campo = new StringBuilder();
+		int i = 0;
+		while (true) {
+			while (i < linha.length() && linha.charAt(i) <= ' ') i++;
+			if (i < linha.length() && linha.charAt(i) == ASPAS) {
+				campo.setLength(0);
+				i++;
+				while (true) {
+					if (i >= linha.length()) throw new IllegalArgumentException("Aspas não fechadas.");
+					char c = linha.charAt(i++);
+					if (c != ASPAS) {
+						campo.append(c);
+					} else if (i < linha.length() && linha.charAt(i) == ASPAS) {
+						campo.append(ASPAS);
+						i++;
+					} else {
+						break;
+					}
+				}
+				while (i < linha.length() && linha.charAt(i) <= ' ') i++;
+				if (i < linha.length() && linha.charAt(i) != SEPARADOR) {
+					throw new IllegalArgumentException("Texto após as aspas de fechamento.");
+				}
+				campos.add(campo.toString());
+			} else {
+				int fim = linha.indexOf(SEPARADOR, i);
+				if (fim < 0) fim = linha.length();
+				campos.add(linha.substring(i, fim).trim());
+				i = fim;
+			}
+			if (i >= linha.length()) return campos.toArray(new String[0]);
+			i++;
+		}
+	}
+
+	private static void exigirCampos(String[] campos, int quantidade) {
+		if (campos.length != quantidade) {
+			throw new IllegalArgumentException("Quantidade de campos inválida: esperados " + quantidade + ", encontrados " + campos.length + ".");
+		}
+	}
+
+	private static int converterUnidade(String texto) {
+		if (texto.isEmpty() || texto.length() > 9) throw new IllegalArgumentException("Unidade acumulada inválida.");
+		int valor = 0;
+		for (int i = 0; i < texto.length(); i++) {
+			char c = texto.charAt(i);
+			if (c < '0' || c > '9') throw new IllegalArgumentException("Unidade acumulada inválida.");
+			valor = valor * 10 + (c - '0');
+		}
+		return valor;
+	}
+
+	/**
+	 * Linhas lidas do arquivo e ainda não processadas, com os respectivos números de linha.
+	 */
+	private static final class Lote {
+		private final long[] numeros = new long[TAMANHO_LOTE];
+		private final String[] linhas = new String[TAMANHO_LOTE];
+		private int tamanho;
+
+		private void adicionar(long numero, String linha) {
+			numeros[tamanho] = numero;
+			linhas[tamanho] = linha;
+			tamanho++;
+		}
+
+		private boolean cheio() {
+			return tamanho == TAMANHO_LOTE;
+		}
+	}
+
+	/**
+	 * Atividades de um mesmo CPF e senha a serem cadastradas juntas, com os números de suas linhas.
+	 */
+	private static final class GrupoAtividades {
+		private final String cpf;
+		private final String senha;
+		private final List<Long> numeros = new ArrayList<>();
+		private final List<SolicitacaoAtividade> solicitacoes = new ArrayList<>();
+
+		private GrupoAtividades(String cpf, String senha) {
+			this.cpf = cpf;
+			this.senha = senha;
+		}
+
+		private void adicionar(long numero, SolicitacaoAtividade solicitacao) {
+			numeros.add(numero);
+			solicitacoes.add(solicitacao);
+		}
+	}
+}
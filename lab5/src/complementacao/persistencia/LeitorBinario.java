@@ -0,0 +1,117 @@
+package complementacao.persistencia;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Lê, de um {@link ByteBuffer}, valores gravados por um {@link EscritorBinario}.
+ * O buffer costuma ser um mapeamento em memória do arquivo, de modo que a leitura
+ * não precisa copiar o arquivo inteiro antes de começar.
+ * 
+ * @author Isadora Lucena
+ */
+public class LeitorBinario {
+	private final ByteBuffer buffer;
+	
+	/**
+	 * Cria um leitor sobre o buffer informado, a partir de sua posição atual.
+	 * 
+	 * @param buffer Buffer com os dados gravados.
+	 */
+	public LeitorBinario(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+	
+	/**
+	 * Lê um inteiro.
+	 * 
+	 * @return Valor lido.
+	 * @throws IOException se os dados terminarem antes do esperado.
+	 */
+	public int lerInt() throws IOException {
+		try {
+			return buffer.getInt();
+		} catch (BufferUnderflowException e) {
+			throw fimInesperado();
+		}
+	}
+	
+	/**
+	 * Lê um inteiro longo.
+	 * 
+	 * @return Valor lido.
+	 * @throws IOException se os dados terminarem antes do esperado.
+	 */
+	public long lerLong() throws IOException {
+		try {
+			return buffer.getLong();
+		} catch (BufferUnderflowException e) {
+			throw fimInesperado();
+		}
+	}
+	
+	/**
+	 * Lê um único byte, sem sinal.
+	 * 
+	 * @return Valor lido, entre 0 e 255.
+	 * @throws IOException se os dados terminarem antes do esperado.
+	 */
+	public int lerByte() throws IOException {
+		try {
+			return buffer.get() & 0xFF;
+		} catch (BufferUnderflowException e) {
+			throw fimInesperado();
+		}
+	}
+	
+	/**
+	 * Lê um valor booleano.
+	 * 
+	 * @return Valor lido.
+	 * @throws IOException se os dados terminarem antes do esperado.
+	 */
+	public boolean lerBoolean() throws IOException {
+		return lerByte() != 0;
+	}
+	
+	/**
+	 * Lê um vetor de bytes precedido de seu tamanho.
+	 * 
+	 * @return Vetor lido, ou {@code null} se um vetor nulo tiver sido gravado.
+	 * @throws IOException se os dados terminarem antes do esperado ou o tamanho for inválido.
+	 */
+	public byte[] lerBytes() throws IOException {
+		int tamanho = lerInt();
+		if (tamanho == -1) return null;
+		if (tamanho < 0 || tamanho > buffer.remaining()) throw new IOException("Tamanho de registro inválido: " + tamanho);
+		byte[] bytes = new byte[tamanho];
+		buffer.get(bytes);
+		return bytes;
+	}
+	
+	/**
+	 * Lê um texto em UTF-8 precedido de seu tamanho em bytes.
+	 * 
+	 * @return Texto lido, ou {@code null} se um texto nulo tiver sido gravado.
+	 * @throws IOException se os dados terminarem antes do esperado ou o tamanho for inválido.
+	 */
+	public String lerString() throws IOException {
+		byte[] bytes = lerBytes();
+		return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Indica se ainda há dados a serem lidos.
+	 * 
+	 * @return {@code true} se houver dados restantes.
+	 */
+	public boolean temDados() {
+		return buffer.hasRemaining();
+	}
+	
+	private IOException fimInesperado() {
+		return new IOException("Fim inesperado dos dados.");
+	}
+}
@@ -0,0 +1,557 @@
+package complementacao.persistencia;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import complementacao.controller.DicaController;
+import complementacao.controller.ObservadorAlteracoes;
+import complementacao.controller.UsuarioController;
+import complementacao.model.Usuario;
+import complementacao.model.atividade.Atividade;
+import complementacao.model.dica.Dica;
+import complementacao.model.dica.ElementoDica;
+
+/**
+ * Registro de operações (write-ahead log) que garante a durabilidade das alterações feitas
+ * entre dois snapshots.
+ *
+ * O registro observa os controladores ({@link ObservadorAlteracoes}) e guarda cada alteração em si, e não
+ * o estado completo do usuário ou da dica: o estudante criado, as atividades criadas ou alteradas, o relatório
+ * salvo, a nova bonificação, a dica criada, o elemento acrescentado a uma dica. O tamanho de cada registro não
+ * depende de quantas atividades o estudante ou quantos elementos a dica já possuem; o estado completo só é
+ * gravado nos snapshots. Senhas nunca são registradas, apenas o sal e o hash já gravados no usuário.
+ *
+ * Os registros de um mesmo usuário ou dica são enfileirados sob o monitor dele, na ordem das alterações.
+ * Cada registro identifica o que alterou (o código da atividade, a posição do relatório na data, o índice do
+ * elemento na dica) ou traz o valor final (a bonificação, a senha), de modo que a reaplicação é idempotente:
+ * os registros gravados logo após o início de um snapshot podem já estar refletidos nele, e são ignorados.
+ *
+ * Enfileirar um registro não espera pelo disco: depois da operação, e fora de qualquer monitor, a thread chama
+ * {@link #confirmarAlteracoes()} para aguardar que seus registros estejam gravados.
+ *
+ * Os registros são gravados com confirmação em grupo: a primeira thread que encontra registros
+ * pendentes espera a janela configurada, grava e sincroniza com o disco todos os registros
+ * acumulados até então, e libera as demais threads cujos registros foram incluídos. A espera termina antes
+ * do fim da janela quando o grupo chega a {@value #LIMITE_GRUPO} registros ou quando todas as threads com
+ * registros ainda não confirmados já estão aguardando a gravação, pois nenhuma outra alteração é esperada;
+ * assim, uma thread sozinha não espera a janela. Com janela zero, a gravação começa assim que chega a primeira
+ * thread, e as que chegam durante a sincronização formam o grupo seguinte.
+ *
+ * O registro é dividido em segmentos numerados ({@code base.1}, {@code base.2}, ...). Ao iniciar
+ * um snapshot, um novo segmento é aberto; depois que o snapshot é concluído, os segmentos
+ * anteriores podem ser apagados, pois seu conteúdo já está no snapshot.
+ *
+ * Uma thread interrompida enquanto espera a gravação deixa de esperar e recebe uma
+ * {@link InterruptedIOException}, com o estado de interrupção preservado; seu registro continua pendente e é
+ * gravado pelo próximo grupo, mas a operação não tem a durabilidade confirmada.
+ *
+ * Cada registro é gravado como tamanho, CRC32 e conteúdo, de modo que um registro incompleto no
+ * fim do arquivo (por exemplo, após uma queda de energia) é reconhecido e descartado na reaplicação.
+ *
+ * @author Isadora Lucena
+ */
+public class RegistroOperacoes implements ObservadorAlteracoes, AutoCloseable {
+	private static final int REGISTRO_ESTUDANTE = 1;
+	private static final int REGISTRO_SENHA = 2;
+	private static final int REGISTRO_ATIVIDADES = 3;
+	private static final int REGISTRO_RELATORIO = 4;
+	private static final int REGISTRO_EXCLUSAO_HISTORICO = 5;
+	private static final int REGISTRO_BONIFICACAO = 6;
+	private static final int REGISTRO_DICA = 7;
+	private static final int REGISTRO_ELEMENTO_DICA = 8;
+	private static final int TAMANHO_CABECALHO_REGISTRO = 2 * Integer.BYTES;
+	private static final int TAMANHO_BUFFER_REGISTRO = 512;
+	private static final int LIMITE_GRUPO = 256;
+	private static final int SEQUENCIA = 0;
+	private static final int PENDENTE = 1;
+
+	private final Path base;
+	private final long janelaGrupoNanos;
+	private final SerializadorEstado serializador;
+	/** Última sequência registrada pela thread e se ela ainda não confirmou seus registros. */
+	private final ThreadLocal<long[]> registrosDaThread = ThreadLocal.withInitial(() -> new long[2]);
+	private FileChannel canal;
+	private int segmentoAtual;
+	private List<ByteBuffer> pendentes;
+	private long ultimaSequencia;
+	private long sequenciaDuravel;
+	private boolean gravando;
+	private boolean janelaAberta;
+	private int escritores;
+	private int aguardando;
+	private IOException falha;
+
+	/**
+	 * Abre o registro de operações com a base de nome informada, iniciando um novo segmento
+	 * após os segmentos já existentes.
+	 *
+	 * @param base             Caminho base dos segmentos do registro.
+	 * @param janelaGrupoNanos Tempo máximo, em nanossegundos, que a gravação em grupo espera por outros registros
+	 *                         antes de sincronizar com o disco. Zero começa a gravação sem esperar.
+	 * @throws IOException se o segmento não puder ser criado.
+	 * @throws IllegalArgumentException se a janela for negativa.
+	 */
+	public RegistroOperacoes(Path base, long janelaGrupoNanos) throws IOException {
+		if (janelaGrupoNanos < 0) throw new IllegalArgumentException("A janela de gravação não pode ser negativa.");
+		this.base = base;
+		this.janelaGrupoNanos = janelaGrupoNanos;
+		this.serializador = new SerializadorEstado();
+		this.pendentes = new ArrayList<>();
+		List<Integer> existentes = listarSegmentos(base);
+		this.segmentoAtual = existentes.isEmpty() ? 0 : existentes.get(existentes.size() - 1);
+		abrirNovoSegmento();
+	}
+
+	@Override
+	public void estudanteCriado(Usuario usuario) {
+		registrar(REGISTRO_ESTUDANTE, escritor -> {
+			escritor.escreverString(usuario.getNome());
+			escritor.escreverString(usuario.getCpf());
+			escritor.escreverString(usuario.getMatricula());
+			escritor.escreverBytes(usuario.getSal());
+			escritor.escreverBytes(usuario.getHashSenha());
+		});
+	}
+
+	@Override
+	public void senhaAlterada(Usuario usuario) {
+		registrar(REGISTRO_SENHA, escritor -> {
+			escritor.escreverString(usuario.getCpf());
+			escritor.escreverBytes(usuario.getSal());
+			escritor.escreverBytes(usuario.getHashSenha());
+		});
+	}
+
+	@Override
+	public void atividadesAlteradas(Usuario usuario, List<Atividade> atividades) {
+		registrar(REGISTRO_ATIVIDADES, escritor -> {
+			escritor.escreverString(usuario.getCpf());
+			escritor.escreverInt(atividades.size());
+			for (Atividade atividade : atividades) {
+				escritor.escreverInt(atividade.getTipo().ordinal());
+				serializador.escreverAtividade(escritor, atividade);
+			}
+		});
+	}
+
+	@Override
+	public void relatorioSalvo(Usuario usuario, LocalDate data, int indice, String relatorio) {
+		registrar(REGISTRO_RELATORIO, escritor -> {
+			escritor.escreverString(usuario.getCpf());
+			escritor.escreverLong(data.toEpochDay());
+			escritor.escreverInt(indice);
+			escritor.escreverString(relatorio);
+		});
+	}
+
+	@Override
+	public void historicoExcluido(Usuario usuario, LocalDate data) {
+		registrar(REGISTRO_EXCLUSAO_HISTORICO, escritor -> {
+			escritor.escreverString(usuario.getCpf());
+			escritor.escreverLong(data.toEpochDay());
+		});
+	}
+
+	@Override
+	public void bonificacaoAlterada(Usuario usuario) {
+		registrar(REGISTRO_BONIFICACAO, escritor -> {
+			escritor.escreverString(usuario.getCpf());
+			escritor.escreverInt(usuario.getBonificacao());
+		});
+	}
+
+	@Override
+	public void dicaAdicionada(int posicao, Dica dica) {
+		registrar(REGISTRO_DICA, escritor -> {
+			escritor.escreverInt(posicao);
+			escritor.escreverString(dica.getNomeAutor());
+			escritor.escreverInt(dica.getTema().ordinal());
+		});
+	}
+
+	@Override
+	public void elementoAdicionado(int posicao, int indice, ElementoDica elemento) {
+		registrar(REGISTRO_ELEMENTO_DICA, escritor -> {
+			escritor.escreverInt(posicao);
+			escritor.escreverInt(indice);
+			serializador.escreverElemento(escritor, elemento);
+		});
+	}
+
+	/**
+	 * Aguarda até que os registros de todas as alterações feitas pela thread atual estejam gravados no disco.
+	 * Não deve ser chamado sob o monitor de um usuário ou de uma dica.
+	 *
+	 * @throws InterruptedIOException se a thread for interrompida antes da confirmação da gravação.
+	 * @throws IOException se a gravação falhar.
+	 */
+	public void confirmarAlteracoes() throws IOException {
+		long[] daThread = registrosDaThread.get();
+		try {
+			if (daThread[SEQUENCIA] > 0) aguardarGravacao(daThread[SEQUENCIA]);
+		} finally {
+			if (daThread[PENDENTE] != 0) encerrarEscrita(daThread);
+		}
+	}
+
+	/**
+	 * Grava os registros pendentes e passa a gravar em um novo segmento.
+	 * Deve ser chamado imediatamente antes de iniciar um snapshot.
+	 *
+	 * @return Número do último segmento cujo conteúdo estará coberto pelo snapshot.
+	 * @throws IOException se a gravação ou a criação do segmento falharem.
+	 */
+	public synchronized int iniciarNovoSegmento() throws IOException {
+		gravarPendentesComMonitor();
+		int anterior = segmentoAtual;
+		canal.close();
+		abrirNovoSegmento();
+		return anterior;
+	}
+
+	/**
+	 * Apaga os segmentos até o número informado, inclusive.
+	 * Deve ser chamado depois que um snapshot iniciado após {@link #iniciarNovoSegmento()} for concluído.
+	 *
+	 * @param ultimoSegmento Último segmento a ser apagado.
+	 * @throws IOException se algum segmento não puder ser apagado.
+	 */
+	public void descartarSegmentos(int ultimoSegmento) throws IOException {
+		for (int numero : listarSegmentos(base)) {
+			if (numero <= ultimoSegmento) Files.deleteIfExists(caminhoSegmento(base, numero));
+		}
+	}
+
+	/**
+	 * Grava os registros pendentes e fecha o segmento atual.
+	 *
+	 * @throws IOException se a gravação falhar.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		try {
+			gravarPendentesComMonitor();
+		} finally {
+			canal.close();
+		}
+	}
+
+	/**
+	 * Reaplica, sobre os controladores informados, todos os registros dos segmentos existentes.
+	 * Um registro incompleto ou corrompido encerra a leitura do segmento em que se encontra.
+	 *
+	 * @param base              Caminho base dos segmentos do registro.
+	 * @param usuarioController Controlador de usuários a ser atualizado.
+	 * @param dicaController    Controlador de dicas a ser atualizado.
+	 * @return Quantidade de registros reaplicados.
+	 * @throws IOException se algum segmento não puder ser lido ou contiver dados inválidos.
+	 */
+	public static int reaplicar(Path base, UsuarioController usuarioController, DicaController dicaController) throws IOException {
+		SerializadorEstado serializador = new SerializadorEstado();
+		int aplicados = 0;
+
+		for (int numero : listarSegmentos(base)) {
+			ByteBuffer segmento = ByteBuffer.wrap(Files.readAllBytes(caminhoSegmento(base, numero)));
+			byte[] conteudo;
+			while ((conteudo = lerRegistro(segmento)) != null) {
+				try {
+					aplicar(new LeitorBinario(ByteBuffer.wrap(conteudo)), serializador, usuarioController, dicaController);
+				} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+					throw new IOException("Registro com dados inválidos: " + e.getMessage(), e);
+				}
+				aplicados++;
+			}
+		}
+		return aplicados;
+	}
+
+	private static void aplicar(LeitorBinario registro, SerializadorEstado serializador,
+			UsuarioController usuarioController, DicaController dicaController) throws IOException {
+		int tipo = registro.lerByte();
+		switch (tipo) {
+			case REGISTRO_ESTUDANTE -> {
+				String nome = registro.lerString();
+				String cpf = registro.lerString();
+				String matricula = registro.lerString();
+				Usuario usuario = Usuario.restaurar(nome, cpf, matricula, registro.lerBytes(), registro.lerBytes(),
+						usuarioController.getCodificadorSenha());
+				if (usuarioController.buscarUsuario(cpf) == null) usuarioController.restaurarEstudante(usuario);
+			}
+			case REGISTRO_SENHA -> usuarioController.restaurarSenha(registro.lerString(), registro.lerBytes(), registro.lerBytes());
+			case REGISTRO_ATIVIDADES -> {
+				String cpf = registro.lerString();
+				int quantidade = registro.lerInt();
+				List<Atividade> atividades = new ArrayList<>(quantidade);
+				for (int i = 0; i < quantidade; i++) {
+					atividades.add(serializador.lerAtividade(registro, serializador.lerTipo(registro)));
+				}
+				usuarioController.restaurarAtividades(cpf, atividades);
+			}
+			case REGISTRO_RELATORIO -> usuarioController.restaurarRelatorio(registro.lerString(),
+					LocalDate.ofEpochDay(registro.lerLong()), registro.lerInt(), registro.lerString());
+			case REGISTRO_EXCLUSAO_HISTORICO -> usuarioController.restaurarExclusaoHistorico(registro.lerString(),
+					LocalDate.ofEpochDay(registro.lerLong()));
+			case REGISTRO_BONIFICACAO -> usuarioController.restaurarBonificacao(registro.lerString(), registro.lerInt());
+			case REGISTRO_DICA -> dicaController.restaurarDica(registro.lerInt(), registro.lerString(), serializador.lerTipo(registro));
+			case REGISTRO_ELEMENTO_DICA -> dicaController.restaurarElemento(registro.lerInt(), registro.lerInt(),
+					serializador.lerElemento(registro));
+			default -> throw new IOException("Tipo de registro desconhecido: " + tipo);
+		}
+	}
+
+	private interface Serializacao {
+		void escrever(EscritorBinario escritor) throws IOException;
+	}
+
+	/**
+	 * Serializa e enfileira um registro, sem esperar pela gravação. Se o registro já estiver indisponível por
+	 * uma falha anterior, a alteração não é enfileirada, e a próxima confirmação da thread informa a falha.
+	 */
+	private void registrar(int tipo, Serializacao serializacao) {
+		ByteBuffer registro;
+		try {
+			registro = serializar(tipo, serializacao);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		enfileirar(registro, registrosDaThread.get());
+	}
+
+	private static ByteBuffer serializar(int tipo, Serializacao serializacao) throws IOException {
+		CanalMemoria conteudo = new CanalMemoria(TAMANHO_BUFFER_REGISTRO);
+		EscritorBinario escritor = new EscritorBinario(conteudo, TAMANHO_BUFFER_REGISTRO);
+		escritor.escreverByte(tipo);
+		serializacao.escrever(escritor);
+		escritor.descarregar();
+
+		byte[] bytes = conteudo.toByteArray();
+		CRC32 crc = new CRC32();
+		crc.update(bytes);
+		ByteBuffer registro = ByteBuffer.allocate(TAMANHO_CABECALHO_REGISTRO + bytes.length);
+		registro.putInt(bytes.length).putInt((int) crc.getValue()).put(bytes).flip();
+		return registro;
+	}
+
+	/**
+	 * Canal sobre um vetor em memória. Diferentemente do canal de {@link java.nio.channels.Channels#newChannel},
+	 * não é fechado se a thread que escreve nele estiver interrompida.
+	 */
+	private static final class CanalMemoria extends ByteArrayOutputStream implements WritableByteChannel {
+		private CanalMemoria(int tamanho) {
+			super(tamanho);
+		}
+
+		@Override
+		public int write(ByteBuffer origem) {
+			int quantidade = origem.remaining();
+			write(origem.array(), origem.arrayOffset() + origem.position(), quantidade);
+			origem.position(origem.limit());
+			return quantidade;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return true;
+		}
+	}
+
+	private static byte[] lerRegistro(ByteBuffer segmento) {
+		if (segmento.remaining() < TAMANHO_CABECALHO_REGISTRO) return null;
+		int tamanho = segmento.getInt();
+		int crcEsperado = segmento.getInt();
+		if (tamanho < 0 || tamanho > segmento.remaining()) return null;
+
+		byte[] conteudo = new byte[tamanho];
+		segmento.get(conteudo);
+		CRC32 crc = new CRC32();
+		crc.update(conteudo);
+		return (int) crc.getValue() == crcEsperado ? conteudo : null;
+	}
+
+	private synchronized void enfileirar(ByteBuffer registro, long[] daThread) {
+		if (falha != null) {
+			daThread[SEQUENCIA] = Long.MAX_VALUE;
+			return;
+		}
+		pendentes.add(registro);
+		daThread[SEQUENCIA] = ++ultimaSequencia;
+		if (daThread[PENDENTE] == 0) {
+			daThread[PENDENTE] = 1;
+			escritores++;
+		}
+		if (pendentes.size() >= LIMITE_GRUPO) fecharJanela();
+	}
+
+	private synchronized void encerrarEscrita(long[] daThread) {
+		daThread[PENDENTE] = 0;
+		escritores--;
+		if (aguardando + 1 >= escritores) fecharJanela();
+	}
+
+	/**
+	 * Encerra antes do tempo a espera da thread que está formando um grupo, se houver uma.
+	 */
+	private synchronized void fecharJanela() {
+		if (!janelaAberta) return;
+		janelaAberta = false;
+		notifyAll();
+	}
+
+	private void aguardarGravacao(long sequencia) throws IOException {
+		synchronized (this) {
+			while (sequenciaDuravel < sequencia) {
+				if (falha != null) throw new IOException("Falha ao gravar o registro de operações.", falha);
+				if (!gravando) {
+					// O canal do segmento é fechado se a thread que grava nele estiver interrompida.
+					if (Thread.currentThread().isInterrupted()) throw interrompida();
+					gravando = true;
+					break;
+				}
+				aguardando++;
+				try {
+					if (aguardando + 1 >= escritores) fecharJanela();
+					aguardar();
+				} finally {
+					aguardando--;
+				}
+			}
+			if (sequenciaDuravel >= sequencia) return;
+		}
+		gravarGrupo();
+	}
+
+	private void gravarGrupo() throws IOException {
+		if (janelaGrupoNanos > 0) {
+			try {
+				aguardarJanela();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				synchronized (this) {
+					gravando = false;
+					notifyAll();
+				}
+				throw interrompida();
+			}
+		}
+
+		List<ByteBuffer> grupo;
+		long sequenciaGrupo;
+		synchronized (this) {
+			grupo = retirarPendentes();
+			sequenciaGrupo = ultimaSequencia;
+		}
+
+		try {
+			gravar(grupo);
+			synchronized (this) {
+				sequenciaDuravel = sequenciaGrupo;
+			}
+		} catch (IOException e) {
+			synchronized (this) {
+				falha = e;
+			}
+			throw e;
+		} finally {
+			synchronized (this) {
+				gravando = false;
+				notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Espera outros registros pelo tempo da janela, até que o grupo esteja cheio ou que todas as outras threads
+	 * com registros não confirmados estejam aguardando esta gravação.
+	 */
+	private synchronized void aguardarJanela() throws InterruptedException {
+		long limite = System.nanoTime() + janelaGrupoNanos;
+		long restante = janelaGrupoNanos;
+		janelaAberta = pendentes.size() < LIMITE_GRUPO && escritores > aguardando + 1;
+		try {
+			while (janelaAberta && restante > 0) {
+				TimeUnit.NANOSECONDS.timedWait(this, restante);
+				restante = limite - System.nanoTime();
+			}
+		} finally {
+			janelaAberta = false;
+		}
+	}
+
+	private synchronized void gravarPendentesComMonitor() throws IOException {
+		while (gravando) aguardar();
+		try {
+			gravar(retirarPendentes());
+			sequenciaDuravel = ultimaSequencia;
+		} catch (IOException e) {
+			falha = e;
+			throw e;
+		} finally {
+			notifyAll();
+		}
+	}
+
+	private synchronized List<ByteBuffer> retirarPendentes() {
+		List<ByteBuffer> retirados = pendentes;
+		pendentes = new ArrayList<>();
+		return retirados;
+	}
+
+	private void gravar(List<ByteBuffer> registros) throws IOException {
+		if (registros.isEmpty()) return;
+		ByteBuffer[] buffers = registros.toArray(new ByteBuffer[0]);
+		long restante = 0;
+		for (ByteBuffer buffer : buffers) restante += buffer.remaining();
+		while (restante > 0) {
+			restante -= canal.write(buffers);
+		}
+		canal.force(false);
+	}
+
+	private void aguardar() throws InterruptedIOException {
+		try {
+			wait();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw interrompida();
+		}
+	}
+
+	private static InterruptedIOException interrompida() {
+		return new InterruptedIOException("Interrompido antes de confirmar a gravação do registro de operações.");
+	}
+
+	private void abrirNovoSegmento() throws IOException {
+		segmentoAtual++;
+		canal = FileChannel.open(caminhoSegmento(base, segmentoAtual), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+	}
+
+	private static Path caminhoSegmento(Path base, int numero) {
+		return base.resolveSibling(base.getFileName() + "." + numero);
+	}
+
+	private static List<Integer> listarSegmentos(Path base) throws IOException {
+		Path diretorio = base.toAbsolutePath().getParent();
+		String prefixo = base.getFileName() + ".";
+		try (Stream<Path> arquivos = Files.list(diretorio)) {
+			return arquivos.map(arquivo -> arquivo.getFileName().toString())
+					.filter(nome -> nome.startsWith(prefixo) && nome.substring(prefixo.length()).matches("\\d+"))
+					.map(nome -> Integer.parseInt(nome.substring(prefixo.length())))
+					.sorted()
+					.toList();
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package complementacao.persistencia;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resultado de uma importação em lote: quantos estudantes e atividades foram cadastrados e quais
+ * linhas do arquivo foram rejeitadas, com o motivo de cada rejeição.
+ *
+ * Pode ser preenchido por várias threads ao mesmo tempo; os erros são mantidos ordenados pelo
+ * número da linha, independentemente da ordem em que as linhas foram processadas.
+ *
+ * @author Isadora Lucena
+ */
+public class ResultadoImportacao {
+	private final LongAdder estudantesImportados;
+	private final LongAdder atividadesImportadas;
+	private final ConcurrentNavigableMap<Long, String> errosPorLinha;
+
+	/**
+	 * Cria um resultado vazio.
+	 */
+	public ResultadoImportacao() {
+		this.estudantesImportados = new LongAdder();
+		this.atividadesImportadas = new LongAdder();
+		this.errosPorLinha = new ConcurrentSkipListMap<>();
+	}
+
+	void registrarEstudante() {
+		estudantesImportados.increment();
+	}
+
+	void registrarAtividade() {
+		atividadesImportadas.increment();
+	}
+
+	void registrarErro(long linha, String mensagem) {
+		errosPorLinha.put(linha, mensagem);
+	}
+
+	/**
+	 * Retorna a quantidade de estudantes cadastrados.
+	 *
+	 * @return Quantidade de estudantes.
+	 */
+	public long getEstudantesImportados() {
+		return estudantesImportados.sum();
+	}
+
+	/**
+	 * Retorna a quantidade de atividades cadastradas.
+	 *
+	 * @return Quantidade de atividades.
+	 */
+	public long getAtividadesImportadas() {
+		return atividadesImportadas.sum();
+	}
+
+	/**
+	 * Retorna a quantidade de linhas rejeitadas.
+	 *
+	 * @return Quantidade de erros.
+	 */
+	public int getQuantidadeErros() {
+		return errosPorLinha.size();
+	}
+
+	/**
+	 * Retorna os erros encontrados, no formato "Linha N: motivo", em ordem crescente de linha.
+	 *
+	 * @return Lista de erros.
+	 */
+	public List<String> getErros() {
+		List<String> erros = new ArrayList<>(errosPorLinha.size());
+		for (Map.Entry<Long, String> erro : errosPorLinha.entrySet()) {
+			erros.add("Linha " + erro.getKey() + ": " + erro.getValue());
+		}
+		return erros;
+	}
+}
@@ -0,0 +1,194 @@
+package complementacao.persistencia;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import complementacao.enums.TipoAtividade;
+import complementacao.model.Usuario;
+import complementacao.model.atividade.Atividade;
+import complementacao.model.dica.Dica;
+import complementacao.model.dica.ElementoDica;
+import complementacao.model.dica.ElementoMultimidiaDica;
+import complementacao.model.dica.ElementoReferenciaDica;
+import complementacao.model.dica.ElementoTextoDica;
+import complementacao.util.CodificadorSenha;
+
+/**
+ * Converte usuários e dicas para o formato binário usado pelos snapshots, e os reconstrói a partir dele.
+ * O registro de operações usa o mesmo formato para as atividades e os elementos de dicas que grava.
+ *
+ * Usuários são reconstruídos com o sal e o hash de senha gravados, sem recalcular a senha,
+ * e dicas são reconstruídas sem conceder novamente a bonificação de seus elementos.
+ *
+ * @author Isadora Lucena
+ */
+public class SerializadorEstado {
+	private static final int ELEMENTO_TEXTO = 1;
+	private static final int ELEMENTO_MULTIMIDIA = 2;
+	private static final int ELEMENTO_REFERENCIA = 3;
+	private static final TipoAtividade[] TIPOS_ATIVIDADE = TipoAtividade.values();
+
+	/**
+	 * Escreve o estado completo de um usuário. O chamador deve manter o monitor do usuário
+	 * para que o estado gravado seja consistente.
+	 *
+	 * @param escritor Destino dos dados.
+	 * @param usuario  Usuário a ser escrito.
+	 * @throws IOException se a escrita falhar.
+	 */
+	public void escreverUsuario(EscritorBinario escritor, Usuario usuario) throws IOException {
+		escritor.escreverString(usuario.getNome());
+		escritor.escreverString(usuario.getCpf());
+		escritor.escreverString(usuario.getMatricula());
+		escritor.escreverBytes(usuario.getSal());
+		escritor.escreverBytes(usuario.getHashSenha());
+		escritor.escreverInt(usuario.getBonificacao());
+
+		Map<TipoAtividade, List<Atividade>> atividades = usuario.getAtividades();
+		escritor.escreverInt(atividades.size());
+		for (Map.Entry<TipoAtividade, List<Atividade>> entrada : atividades.entrySet()) {
+			escritor.escreverInt(entrada.getKey().ordinal());
+			escritor.escreverInt(entrada.getValue().size());
+			for (Atividade atividade : entrada.getValue()) {
+				escreverAtividade(escritor, atividade);
+			}
+		}
+
+		List<Map.Entry<LocalDate, String>> historico = usuario.streamHistorico().toList();
+		escritor.escreverInt(historico.size());
+		for (Map.Entry<LocalDate, String> entrada : historico) {
+			escritor.escreverLong(entrada.getKey().toEpochDay());
+			escritor.escreverString(entrada.getValue());
+		}
+	}
+
+	/**
+	 * Reconstrói um usuário gravado por {@link #escreverUsuario}. Os dados do usuário não são validados
+	 * de novo, pois foram gravados pelo próprio sistema; as atividades passam pelas validações do modelo.
+	 *
+	 * @param leitor      Origem dos dados.
+	 * @param codificador Codificador que conferirá a senha do usuário.
+	 * @return O usuário reconstruído.
+	 * @throws IOException se os dados estiverem incompletos ou forem inválidos.
+	 * @throws IllegalArgumentException se algum dado gravado não passar nas validações do modelo.
+	 */
+	public Usuario lerUsuario(LeitorBinario leitor, CodificadorSenha codificador) throws IOException {
+		String nome = leitor.lerString();
+		String cpf = leitor.lerString();
+		String matricula = leitor.lerString();
+		Usuario usuario = Usuario.restaurar(nome, cpf, matricula, leitor.lerBytes(), leitor.lerBytes(), codificador);
+		usuario.atualizaBonificacao(leitor.lerInt());
+
+		int quantidadeTipos = leitor.lerInt();
+		for (int i = 0; i < quantidadeTipos; i++) {
+			TipoAtividade tipo = lerTipo(leitor);
+			int quantidadeAtividades = leitor.lerInt();
+			for (int j = 0; j < quantidadeAtividades; j++) {
+				usuario.adicionarAtividadePorTipo(tipo, lerAtividade(leitor, tipo));
+			}
+		}
+
+		int quantidadeRelatorios = leitor.lerInt();
+		for (int i = 0; i < quantidadeRelatorios; i++) {
+			usuario.salvarRelatorio(LocalDate.ofEpochDay(leitor.lerLong()), leitor.lerString());
+		}
+		return usuario;
+	}
+
+	/**
+	 * Escreve os dados de uma atividade, exceto o tipo.
+	 */
+	void escreverAtividade(EscritorBinario escritor, Atividade atividade) throws IOException {
+		escritor.escreverString(atividade.getId());
+		escritor.escreverInt(atividade.getUnidadeAcumulada());
+		escritor.escreverString(atividade.getDadoComplementar());
+		escritor.escreverString(atividade.getDescricao());
+		escritor.escreverString(atividade.getDocumentacaoComprobatoria());
+	}
+
+	/**
+	 * Reconstrói uma atividade gravada por {@link #escreverAtividade}, do tipo informado.
+	 */
+	Atividade lerAtividade(LeitorBinario leitor, TipoAtividade tipo) throws IOException {
+		Atividade atividade = Atividade.criar(tipo, leitor.lerString(), leitor.lerInt(), leitor.lerString());
+		atividade.setDescricao(leitor.lerString());
+		atividade.setDocumentacaoComprobatoria(leitor.lerString());
+		return atividade;
+	}
+
+	/**
+	 * Escreve uma dica com todos os seus elementos.
+	 *
+	 * @param escritor Destino dos dados.
+	 * @param dica     Dica a ser escrita.
+	 * @throws IOException se a escrita falhar.
+	 * @throws IllegalArgumentException se a dica possuir um tipo de elemento desconhecido.
+	 */
+	public void escreverDica(EscritorBinario escritor, Dica dica) throws IOException {
+		escritor.escreverString(dica.getNomeAutor());
+		escritor.escreverInt(dica.getTema().ordinal());
+
+		List<ElementoDica> elementos = dica.getElementos();
+		escritor.escreverInt(elementos.size());
+		for (ElementoDica elemento : elementos) {
+			escreverElemento(escritor, elemento);
+		}
+	}
+
+	/**
+	 * Reconstrói uma dica gravada por {@link #escreverDica}.
+	 *
+	 * @param leitor Origem dos dados.
+	 * @return A dica reconstruída.
+	 * @throws IOException se os dados estiverem incompletos ou forem inválidos.
+	 * @throws IllegalArgumentException se algum dado gravado não passar nas validações do modelo.
+	 */
+	public Dica lerDica(LeitorBinario leitor) throws IOException {
+		Dica dica = new Dica(leitor.lerString(), lerTipo(leitor));
+		int quantidadeElementos = leitor.lerInt();
+		for (int i = 0; i < quantidadeElementos; i++) {
+			dica.adicionarElementoDica(lerElemento(leitor));
+		}
+		return dica;
+	}
+
+	void escreverElemento(EscritorBinario escritor, ElementoDica elemento) throws IOException {
+		if (elemento instanceof ElementoTextoDica texto) {
+			escritor.escreverByte(ELEMENTO_TEXTO);
+			escritor.escreverString(texto.getTexto());
+		} else if (elemento instanceof ElementoMultimidiaDica multimidia) {
+			escritor.escreverByte(ELEMENTO_MULTIMIDIA);
+			escritor.escreverString(multimidia.getLink());
+			escritor.escreverString(multimidia.getCabecalho());
+			escritor.escreverInt(multimidia.getTamanhoMaterial());
+		} else if (elemento instanceof ElementoReferenciaDica referencia) {
+			escritor.escreverByte(ELEMENTO_REFERENCIA);
+			escritor.escreverString(referencia.getTitulo());
+			escritor.escreverString(referencia.getFonte());
+			escritor.escreverInt(referencia.getAno());
+			escritor.escreverBoolean(referencia.isConferida());
+			escritor.escreverInt(referencia.getImportancia());
+		} else {
+			throw new IllegalArgumentException("Tipo de elemento de dica desconhecido: " + elemento.getClass().getName());
+		}
+	}
+
+	ElementoDica lerElemento(LeitorBinario leitor) throws IOException {
+		int tipo = leitor.lerByte();
+		return switch (tipo) {
+			case ELEMENTO_TEXTO -> new ElementoTextoDica(leitor.lerString());
+			case ELEMENTO_MULTIMIDIA -> new ElementoMultimidiaDica(leitor.lerString(), leitor.lerString(), leitor.lerInt());
+			case ELEMENTO_REFERENCIA -> new ElementoReferenciaDica(leitor.lerString(), leitor.lerString(),
+					leitor.lerInt(), leitor.lerBoolean(), leitor.lerInt());
+			default -> throw new IOException("Tipo de elemento de dica desconhecido: " + tipo);
+		};
+	}
+
+	TipoAtividade lerTipo(LeitorBinario leitor) throws IOException {
+		int ordinal = leitor.lerInt();
+		if (ordinal < 0 || ordinal >= TIPOS_ATIVIDADE.length) throw new IOException("Tipo de atividade inválido: " + ordinal);
+		return TIPOS_ATIVIDADE[ordinal];
+	}
+}
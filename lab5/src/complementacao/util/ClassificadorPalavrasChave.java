@@ -0,0 +1,234 @@
+package complementacao.util;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Function;
+
+/**
+ * Classifica textos a partir de palavras-chave, ignorando acentos e diferenças entre maiúsculas e
+ * minúsculas.
+ *
+ * As palavras-chave de todos os valores são compiladas uma única vez em um autômato de Aho-Corasick,
+ * de modo que um texto é classificado em uma só passagem, sem expressões regulares e sem percorrer a
+ * lista de palavras de cada valor. Textos ASCII são convertidos caractere a caractere; apenas textos
+ * com outros caracteres passam pelo {@link Normalizer}. Os resultados das entradas recentes ficam
+ * guardados em uma cache de tamanho fixo, com duas posições por código de hash, de modo que dois textos
+ * frequentes com o mesmo código não se expulsam a cada chamada.
+ *
+ * Quando um texto contém palavras-chave de mais de um valor, prevalece o valor que aparece primeiro na
+ * lista informada na criação do classificador.
+ *
+ * @param <T> Tipo dos valores associados às palavras-chave.
+ * @author Isadora Lucena
+ */
+public class ClassificadorPalavrasChave<T> {
+	private static final int TAMANHO_ALFABETO = 128;
+	private static final int TAMANHO_CACHE = 64;
+	private static final int TAMANHO_MAXIMO_ENTRADA_CACHE = 128;
+	private static final int SEM_VALOR = Integer.MAX_VALUE;
+
+	private final List<T> valores;
+	private final int[][] filhos;
+	private final int[][] transicoes;
+	private final int[] valorTerminal;
+	private final int[] melhorValor;
+	private final EntradaCache<T>[] cacheContem;
+	private final EntradaCache<T>[] cacheExato;
+
+	/**
+	 * Cria um classificador.
+	 *
+	 * @param valores       Valores possíveis, em ordem de prioridade.
+	 * @param palavrasChave Função que informa as palavras-chave de cada valor.
+	 * @throws IllegalArgumentException se não houver valores ou se alguma palavra-chave for vazia.
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public ClassificadorPalavrasChave(List<T> valores, Function<T, List<String>> palavrasChave) {
+		if (valores == null || valores.isEmpty()) throw new IllegalArgumentException("Valores não podem ser vazios.");
+		this.valores = List.copyOf(valores);
+
+		List<int[]> trie = new ArrayList<>();
+		List<Integer> terminais = new ArrayList<>();
+		trie.add(novoEstado());
+		terminais.add(SEM_VALOR);
+		for (int prioridade = 0; prioridade < this.valores.size(); prioridade++) {
+			for (String palavra : palavrasChave.apply(this.valores.get(prioridade))) {
+				String normalizada = normalizar(palavra, 0, palavra.length());
+				if (normalizada.isEmpty()) throw new IllegalArgumentException("Palavra-chave não pode ser vazia.");
+				int estado = 0;
+				for (int i = 0; i < normalizada.length(); i++) {
+					int simbolo = simbolo(normalizada.charAt(i));
+					if (simbolo < 0) throw new IllegalArgumentException("Palavra-chave deve ser ASCII: " + palavra);
+					if (trie.get(estado)[simbolo] == 0) {
+						trie.get(estado)[simbolo] = trie.size();
+						trie.add(novoEstado());
+						terminais.add(SEM_VALOR);
+					}
+					estado = trie.get(estado)[simbolo];
+				}
+				terminais.set(estado, Math.min(terminais.get(estado), prioridade));
+			}
+		}
+
+		int quantidadeEstados = trie.size();
+		this.filhos = trie.toArray(new int[0][]);
+		this.valorTerminal = terminais.stream().mapToInt(Integer::intValue).toArray();
+		this.transicoes = new int[quantidadeEstados][];
+		this.melhorValor = valorTerminal.clone();
+		construirTransicoes();
+
+		this.cacheContem = new EntradaCache[TAMANHO_CACHE];
+		this.cacheExato = new EntradaCache[TAMANHO_CACHE];
+	}
+
+	/**
+	 * Retorna o valor de maior prioridade cuja palavra-chave aparece em qualquer ponto do texto.
+	 *
+	 * @param texto Texto a ser classificado.
+	 * @return Valor encontrado, ou {@code null} se o texto não contiver nenhuma palavra-chave.
+	 */
+	public T classificar(String texto) {
+		if (texto == null) return null;
+		EntradaCache<T> emCache = consultarCache(cacheContem, texto);
+		if (emCache != null) return emCache.valor;
+
+		String normalizado = normalizar(texto, 0, texto.length());
+		int estado = 0;
+		int melhor = SEM_VALOR;
+		for (int i = 0; i < normalizado.length() && melhor != 0; i++) {
+			int simbolo = simbolo(normalizado.charAt(i));
+			estado = simbolo < 0 ? 0 : transicoes[estado][simbolo];
+			melhor = Math.min(melhor, melhorValor[estado]);
+		}
+		return guardarEmCache(cacheContem, texto, melhor);
+	}
+
+	/**
+	 * Retorna o valor cuja palavra-chave é exatamente o texto informado, desconsiderando espaços nas
+	 * extremidades.
+	 *
+	 * @param texto Texto a ser identificado.
+	 * @return Valor encontrado, ou {@code null} se o texto não for uma palavra-chave.
+	 */
+	public T identificar(String texto) {
+		if (texto == null) return null;
+		EntradaCache<T> emCache = consultarCache(cacheExato, texto);
+		if (emCache != null) return emCache.valor;
+
+		int inicio = 0;
+		int fim = texto.length();
+		while (inicio < fim && texto.charAt(inicio) <= ' ') inicio++;
+		while (fim > inicio && texto.charAt(fim - 1) <= ' ') fim--;
+		String normalizado = normalizar(texto, inicio, fim);
+		int estado = 0;
+		for (int i = 0; i < normalizado.length() && estado >= 0; i++) {
+			int simbolo = simbolo(normalizado.charAt(i));
+			estado = simbolo < 0 || filhos[estado][simbolo] == 0 ? -1 : filhos[estado][simbolo];
+		}
+		return guardarEmCache(cacheExato, texto, estado < 0 ? SEM_VALOR : valorTerminal[estado]);
+	}
+
+	private void construirTransicoes() {
+		int[] falhas = new int[filhos.length];
+		transicoes[0] = new int[TAMANHO_ALFABETO];
+		Queue<Integer> fila = new ArrayDeque<>();
+		for (int simbolo = 0; simbolo < TAMANHO_ALFABETO; simbolo++) {
+			int filho = filhos[0][simbolo];
+			transicoes[0][simbolo] = filho;
+			if (filho != 0) fila.add(filho);
+		}
+
+		while (!fila.isEmpty()) {
+			int estado = fila.remove();
+			melhorValor[estado] = Math.min(melhorValor[estado], melhorValor[falhas[estado]]);
+			transicoes[estado] = new int[TAMANHO_ALFABETO];
+			for (int simbolo = 0; simbolo < TAMANHO_ALFABETO; simbolo++) {
+				int filho = filhos[estado][simbolo];
+				if (filho == 0) {
+					transicoes[estado][simbolo] = transicoes[falhas[estado]][simbolo];
+				} else {
+					transicoes[estado][simbolo] = filho;
+					falhas[filho] = transicoes[falhas[estado]][simbolo];
+					fila.add(filho);
+				}
+			}
+		}
+	}
+
+	private EntradaCache<T> consultarCache(EntradaCache<T>[] cache, String texto) {
+		int base = posicaoCache(texto);
+		EntradaCache<T> entrada = cache[base];
+		if (entrada != null && entrada.texto.equals(texto)) return entrada;
+		entrada = cache[base + 1];
+		return entrada != null && entrada.texto.equals(texto) ? entrada : null;
+	}
+
+	private T guardarEmCache(EntradaCache<T>[] cache, String texto, int prioridade) {
+		T valor = prioridade == SEM_VALOR ? null : valores.get(prioridade);
+		if (texto.length() <= TAMANHO_MAXIMO_ENTRADA_CACHE) {
+			int base = posicaoCache(texto);
+			cache[base + 1] = cache[base];
+			cache[base] = new EntradaCache<>(texto, valor);
+		}
+		return valor;
+	}
+
+	/**
+	 * Primeira das duas posições da cache que podem guardar o texto; a entrada mais recente fica na primeira.
+	 */
+	private static int posicaoCache(String texto) {
+		return texto.hashCode() & (TAMANHO_CACHE - 2);
+	}
+
+	private static int[] novoEstado() {
+		return new int[TAMANHO_ALFABETO];
+	}
+
+	private static int simbolo(char c) {
+		return c < TAMANHO_ALFABETO ? c : -1;
+	}
+
+	/**
+	 * Converte o trecho do texto para letras minúsculas e sem acentos. Trechos ASCII são convertidos
+	 * diretamente; os demais são decompostos pelo {@link Normalizer} e têm as marcas de acentuação descartadas.
+	 */
+	private static String normalizar(String texto, int inicio, int fim) {
+		char[] convertido = new char[fim - inicio];
+		for (int i = inicio; i < fim; i++) {
+			char c = texto.charAt(i);
+			if (c >= TAMANHO_ALFABETO) return normalizarComAcentos(texto.substring(inicio, fim));
+			convertido[i - inicio] = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+		}
+		return new String(convertido);
+	}
+
+	private static String normalizarComAcentos(String texto) {
+		String decomposto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+		StringBuilder resultado = new StringBuilder(decomposto.length());
+		for (int i = 0; i < decomposto.length(); i++) {
+			char c = decomposto.charAt(i);
+			int tipo = Character.getType(c);
+			if (tipo == Character.NON_SPACING_MARK || tipo == Character.ENCLOSING_MARK
+					|| tipo == Character.COMBINING_SPACING_MARK) continue;
+			resultado.append(Character.toLowerCase(c));
+		}
+		return resultado.toString();
+	}
+
+	/**
+	 * Entrada imutável da cache; os campos finais garantem que outras threads vejam a entrada completa
+	 * mesmo sem sincronização.
+	 */
+	private static final class EntradaCache<T> {
+		private final String texto;
+		private final T valor;
+
+		private EntradaCache(String texto, T valor) {
+			this.texto = texto;
+			this.valor = valor;
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package complementacao.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * Responsável por transformar senhas em hashes salgados por meio de uma função de derivação
+ * de chaves (KDF) configurável, e por comparar hashes em tempo constante.
+ *
+ * Também define a duração das sessões autenticadas: depois que uma senha é conferida pela KDF,
+ * um resumo rápido dela pode ser reaproveitado durante esse intervalo, evitando executar a KDF
+ * novamente a cada operação do mesmo usuário.
+ *
+ * @author Isadora Lucena
+ */
+public class CodificadorSenha {
+	/**
+	 * Algoritmo de derivação usado por padrão.
+	 */
+	public static final String ALGORITMO_PADRAO = "PBKDF2WithHmacSHA256";
+	/**
+	 * Quantidade de iterações usada por padrão.
+	 */
+	public static final int ITERACOES_PADRAO = 10000;
+	/**
+	 * Duração padrão de uma sessão autenticada, em minutos.
+	 */
+	public static final int DURACAO_SESSAO_PADRAO_MINUTOS = 5;
+	private static final int TAMANHO_SAL = 16;
+	private static final int TAMANHO_HASH_BITS = 256;
+	private static final SecureRandom GERADOR_SAL = new SecureRandom();
+
+	private final String algoritmo;
+	private final int iteracoes;
+	private final long duracaoSessaoNanos;
+
+	/**
+	 * Cria um codificador com o algoritmo, as iterações e a duração de sessão padrão.
+	 */
+	public CodificadorSenha() {
+		this(ALGORITMO_PADRAO, ITERACOES_PADRAO, TimeUnit.MINUTES.toNanos(DURACAO_SESSAO_PADRAO_MINUTOS));
+	}
+
+	/**
+	 * Cria um codificador com a configuração informada.
+	 *
+	 * @param algoritmo          Nome do algoritmo de derivação, aceito por {@link SecretKeyFactory}.
+	 * @param iteracoes          Quantidade de iterações da derivação.
+	 * @param duracaoSessaoNanos Duração de uma sessão autenticada, em nanossegundos. Zero desativa as sessões.
+	 * @throws IllegalArgumentException se o algoritmo for inválido, as iterações não forem positivas
+	 *                                  ou a duração da sessão for negativa.
+	 */
+	public CodificadorSenha(String algoritmo, int iteracoes, long duracaoSessaoNanos) {
+		Validador.validarString(algoritmo, "Algoritmo não pode ser nulo ou vazio.");
+		if (iteracoes <= 0) throw new IllegalArgumentException("A quantidade de iterações precisa ser positiva.");
+		if (duracaoSessaoNanos < 0) throw new IllegalArgumentException("A duração da sessão não pode ser negativa.");
+		try {
+			SecretKeyFactory.getInstance(algoritmo);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalArgumentException("Algoritmo de senha não suportado: " + algoritmo);
+		}
+		this.algoritmo = algoritmo;
+		this.iteracoes = iteracoes;
+		this.duracaoSessaoNanos = duracaoSessaoNanos;
+	}
+
+	/**
+	 * Gera um novo sal aleatório.
+	 *
+	 * @return Sal gerado.
+	 */
+	public byte[] gerarSal() {
+		byte[] sal = new byte[TAMANHO_SAL];
+		GERADOR_SAL.nextBytes(sal);
+		return sal;
+	}
+
+	/**
+	 * Deriva o hash da senha com o sal informado.
+	 *
+	 * @param senha Senha em texto.
+	 * @param sal   Sal do usuário.
+	 * @return Hash derivado da senha.
+	 */
+	public byte[] codificar(String senha, byte[] sal) {
+		PBEKeySpec especificacao = new PBEKeySpec(senha.toCharArray(), sal, iteracoes, TAMANHO_HASH_BITS);
+		try {
+			return SecretKeyFactory.getInstance(algoritmo).generateSecret(especificacao).getEncoded();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Falha ao codificar a senha.", e);
+		} finally {
+			especificacao.clearPassword();
+		}
+	}
+
+	/**
+	 * Verifica, em tempo constante, se a senha corresponde ao hash armazenado.
+	 *
+	 * @param senha Senha informada.
+	 * @param sal   Sal do usuário.
+	 * @param hash  Hash armazenado.
+	 * @return {@code true} se a senha corresponder ao hash.
+	 */
+	public boolean confere(String senha, byte[] sal, byte[] hash) {
+		if (senha == null) return false;
+		return MessageDigest.isEqual(codificar(senha, sal), hash);
+	}
+
+	/**
+	 * Calcula um resumo rápido (SHA-256) da senha com o sal, usado apenas para reconhecer
+	 * uma senha já conferida durante uma sessão.
+	 *
+	 * @param senha Senha informada.
+	 * @param sal   Sal do usuário.
+	 * @return Resumo da senha.
+	 */
+	public byte[] resumoSessao(String senha, byte[] sal) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(sal);
+			return digest.digest(senha.getBytes(StandardCharsets.UTF_8));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Falha ao calcular o resumo da senha.", e);
+		}
+	}
+
+	/**
+	 * Retorna o nome do algoritmo de derivação.
+	 *
+	 * @return Algoritmo de derivação.
+	 */
+	public String getAlgoritmo() {
+		return algoritmo;
+	}
+
+	/**
+	 * Retorna a quantidade de iterações da derivação.
+	 *
+	 * @return Quantidade de iterações.
+	 */
+	public int getIteracoes() {
+		return iteracoes;
+	}
+
+	/**
+	 * Retorna a duração de uma sessão autenticada.
+	 *
+	 * @return Duração da sessão, em nanossegundos.
+	 */
+	public long getDuracaoSessaoNanos() {
+		return duracaoSessaoNanos;
+	}
+}
@@ -0,0 +1,87 @@
+package complementacao.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compacta textos para mantê-los em memória ocupando menos espaço, como os relatórios do histórico.
+ *
+ * O texto é convertido para UTF-8 e comprimido com {@link Deflater}. Textos curtos, em que a
+ * compressão não traz ganho, são guardados sem compressão; o primeiro byte do resultado indica
+ * qual dos dois formatos foi usado.
+ *
+ * @author Isadora Lucena
+ */
+public class CompressorTexto {
+	private static final byte SEM_COMPRESSAO = 0;
+	private static final byte COMPRIMIDO = 1;
+
+	/**
+	 * Compacta um texto.
+	 *
+	 * @param texto Texto a ser compactado.
+	 * @return Bytes compactados.
+	 * @throws IllegalArgumentException se o texto for nulo.
+	 */
+	public static byte[] compactar(String texto) {
+		if (texto == null) throw new IllegalArgumentException("Texto não pode ser nulo.");
+		byte[] original = texto.getBytes(StandardCharsets.UTF_8);
+
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+		try {
+			deflater.setInput(original);
+			deflater.finish();
+			byte[] comprimido = new byte[original.length + 1];
+			comprimido[0] = COMPRIMIDO;
+			int tamanho = deflater.deflate(comprimido, 1, original.length);
+			if (deflater.finished() && tamanho < original.length) {
+				return Arrays.copyOf(comprimido, tamanho + 1);
+			}
+		} finally {
+			deflater.end();
+		}
+
+		byte[] semCompressao = new byte[original.length + 1];
+		semCompressao[0] = SEM_COMPRESSAO;
+		System.arraycopy(original, 0, semCompressao, 1, original.length);
+		return semCompressao;
+	}
+
+	/**
+	 * Recupera um texto compactado por {@link #compactar(String)}.
+	 *
+	 * @param compactado Bytes compactados.
+	 * @return Texto original.
+	 * @throws IllegalArgumentException se os bytes não tiverem sido gerados por {@link #compactar(String)}.
+	 */
+	public static String descompactar(byte[] compactado) {
+		if (compactado == null || compactado.length == 0) throw new IllegalArgumentException("Texto compactado inválido.");
+		if (compactado[0] == SEM_COMPRESSAO) {
+			return new String(compactado, 1, compactado.length - 1, StandardCharsets.UTF_8);
+		}
+		if (compactado[0] != COMPRIMIDO) throw new IllegalArgumentException("Texto compactado inválido.");
+
+		Inflater inflater = new Inflater(true);
+		try {
+			inflater.setInput(compactado, 1, compactado.length - 1);
+			ByteArrayOutputStream saida = new ByteArrayOutputStream(compactado.length * 4);
+			byte[] bloco = new byte[Math.max(64, compactado.length * 4)];
+			while (!inflater.finished()) {
+				int tamanho = inflater.inflate(bloco);
+				if (tamanho == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IllegalArgumentException("Texto compactado inválido.");
+				}
+				saida.write(bloco, 0, tamanho);
+			}
+			return saida.toString(StandardCharsets.UTF_8);
+		} catch (DataFormatException e) {
+			throw new IllegalArgumentException("Texto compactado inválido.", e);
+		} finally {
+			inflater.end();
+		}
+	}
+}
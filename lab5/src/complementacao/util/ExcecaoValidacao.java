@@ -0,0 +1,32 @@
+package complementacao.util;
+
+/**
+ * Exceção lançada quando um dado informado pelo usuário não passa em uma validação.
+ *
+ * Falhas de validação são esperadas e frequentes, e a mensagem já identifica o problema, então a
+ * exceção não captura a pilha de chamadas: criá-la custa o mesmo que criar um objeto comum.
+ *
+ * @author Isadora Lucena
+ */
+public class ExcecaoValidacao extends IllegalArgumentException {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Cria a exceção com a mensagem informada.
+	 *
+	 * @param mensagem Motivo da falha de validação.
+	 */
+	public ExcecaoValidacao(String mensagem) {
+		super(mensagem);
+	}
+
+	/**
+	 * Não captura a pilha de chamadas.
+	 *
+	 * @return Esta exceção.
+	 */
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return this;
+	}
+}
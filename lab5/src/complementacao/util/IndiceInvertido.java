@@ -0,0 +1,232 @@
+package complementacao.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice invertido para busca textual: associa cada termo aos documentos em que ele aparece
+ * e à quantidade de vezes que aparece em cada um (frequência do termo).
+ *
+ * Documentos são identificados por números inteiros e podem receber texto aos poucos, à medida
+ * que seu conteúdo cresce. Os termos são extraídos sem acentos e em letras minúsculas, com a mesma
+ * normalização usada na conversão de tipos de atividade, de modo que "Estágio" e "estagio" são o
+ * mesmo termo. Textos que já são ASCII não passam pelo {@link Normalizer}.
+ *
+ * Cada termo guarda seus documentos em vetores de inteiros ordenados, o que permite responder uma
+ * consulta percorrendo apenas a menor lista de documentos entre os termos pesquisados, avançando nas
+ * demais em saltos. Apenas os melhores resultados até o fim da página pedida são mantidos e ordenados.
+ *
+ * @author Isadora Lucena
+ */
+public class IndiceInvertido {
+	private static final int TAMANHO_MINIMO_TERMO = 2;
+	private final Map<String, Postagens> postagensPorTermo;
+
+	/**
+	 * Cria um índice vazio.
+	 */
+	public IndiceInvertido() {
+		this.postagensPorTermo = new HashMap<>();
+	}
+
+	/**
+	 * Acrescenta um texto ao conteúdo de um documento.
+	 *
+	 * @param documento Identificador do documento.
+	 * @param texto     Texto a ser indexado.
+	 */
+	public synchronized void indexar(int documento, String texto) {
+		if (texto == null) return;
+		for (String termo : extrairTermos(texto)) {
+			postagensPorTermo.computeIfAbsent(termo, t -> new Postagens()).incrementar(documento);
+		}
+	}
+
+	/**
+	 * Retorna os documentos que contêm todos os termos da consulta, do mais relevante para o menos
+	 * relevante. A relevância é a soma das frequências dos termos da consulta no documento; documentos
+	 * igualmente relevantes aparecem em ordem crescente de identificador.
+	 *
+	 * @param consulta   Termos procurados.
+	 * @param inicio     Posição do primeiro resultado desejado (começando em 0).
+	 * @param quantidade Quantidade máxima de resultados.
+	 * @return Identificadores dos documentos encontrados.
+	 * @throws IllegalArgumentException se a consulta for nula ou vazia ou se a paginação for inválida.
+	 */
+	public synchronized List<Integer> buscar(String consulta, int inicio, int quantidade) {
+		Validador.validarString(consulta, "Consulta não pode ser nula ou vazia.");
+		Validador.validarPaginacao(inicio, quantidade);
+
+		List<String> termos = extrairTermos(consulta);
+		if (termos.isEmpty()) return new ArrayList<>();
+		Postagens[] listas = new Postagens[termos.size()];
+		for (int i = 0; i < listas.length; i++) {
+			listas[i] = postagensPorTermo.get(termos.get(i));
+			if (listas[i] == null) return new ArrayList<>();
+		}
+		Arrays.sort(listas, (a, b) -> Integer.compare(a.tamanho, b.tamanho));
+
+		int limite = (int) Math.min((long) inicio + quantidade, listas[0].tamanho);
+		if (limite == 0) return new ArrayList<>();
+		MelhoresResultados melhores = new MelhoresResultados(limite);
+		Postagens menor = listas[0];
+		int[] cursores = new int[listas.length];
+		for (int i = 0; i < menor.tamanho; i++) {
+			int documento = menor.documentos[i];
+			long relevancia = menor.frequencias[i];
+			for (int j = 1; j < listas.length && relevancia > 0; j++) {
+				cursores[j] = listas[j].avancar(cursores[j], documento);
+				boolean contem = cursores[j] < listas[j].tamanho && listas[j].documentos[cursores[j]] == documento;
+				relevancia = contem ? relevancia + listas[j].frequencias[cursores[j]] : 0;
+			}
+			if (relevancia > 0) {
+				melhores.oferecer((relevancia << 32) | (Integer.MAX_VALUE - documento));
+			}
+		}
+
+		long[] ordenados = melhores.ordenarDecrescente();
+		List<Integer> pagina = new ArrayList<>();
+		for (int i = inicio; i < ordenados.length; i++) {
+			pagina.add(Integer.MAX_VALUE - (int) ordenados[i]);
+		}
+		return pagina;
+	}
+
+	/**
+	 * Retorna a quantidade de termos distintos no índice.
+	 *
+	 * @return Quantidade de termos.
+	 */
+	public synchronized int quantidadeTermos() {
+		return postagensPorTermo.size();
+	}
+
+	/**
+	 * Separa um texto em termos normalizados: sequências de letras ou dígitos, sem acentos e em letras
+	 * minúsculas, com pelo menos dois caracteres. Termos repetidos aparecem uma vez para cada ocorrência.
+	 *
+	 * @param texto Texto a ser separado.
+	 * @return Termos do texto, na ordem em que aparecem.
+	 */
+	public static List<String> extrairTermos(String texto) {
+		String normalizado = normalizar(texto);
+		List<String> termos = new ArrayList<>();
+		int inicio = -1;
+		for (int i = 0; i <= normalizado.length(); i++) {
+			boolean parteDoTermo = i < normalizado.length() && Character.isLetterOrDigit(normalizado.charAt(i));
+			if (parteDoTermo && inicio < 0) {
+				inicio = i;
+			} else if (!parteDoTermo && inicio >= 0) {
+				if (i - inicio >= TAMANHO_MINIMO_TERMO) termos.add(normalizado.substring(inicio, i));
+				inicio = -1;
+			}
+		}
+		return termos;
+	}
+
+	private static String normalizar(String texto) {
+		for (int i = 0; i < texto.length(); i++) {
+			if (texto.charAt(i) > 0x7F) {
+				return Normalizer.normalize(texto, Normalizer.Form.NFD).replaceAll("\\p{M}", "").toLowerCase();
+			}
+		}
+		return texto.toLowerCase();
+	}
+
+	/**
+	 * Mantém os maiores valores oferecidos, até o limite informado, em um heap mínimo sobre um vetor de
+	 * inteiros longos. Cada valor combina a relevância (parte alta) e o documento (parte baixa), de modo
+	 * que a ordem numérica é a ordem dos resultados.
+	 */
+	private static class MelhoresResultados {
+		private final long[] heap;
+		private int tamanho;
+
+		private MelhoresResultados(int limite) {
+			this.heap = new long[limite];
+		}
+
+		private void oferecer(long valor) {
+			if (tamanho < heap.length) {
+				int i = tamanho++;
+				while (i > 0 && heap[(i - 1) / 2] > valor) {
+					heap[i] = heap[(i - 1) / 2];
+					i = (i - 1) / 2;
+				}
+				heap[i] = valor;
+			} else if (valor > heap[0]) {
+				int i = 0;
+				while (true) {
+					int filho = 2 * i + 1;
+					if (filho >= tamanho) break;
+					if (filho + 1 < tamanho && heap[filho + 1] < heap[filho]) filho++;
+					if (heap[filho] >= valor) break;
+					heap[i] = heap[filho];
+					i = filho;
+				}
+				heap[i] = valor;
+			}
+		}
+
+		private long[] ordenarDecrescente() {
+			long[] ordenados = Arrays.copyOf(heap, tamanho);
+			Arrays.sort(ordenados);
+			for (int i = 0, j = ordenados.length - 1; i < j; i++, j--) {
+				long troca = ordenados[i];
+				ordenados[i] = ordenados[j];
+				ordenados[j] = troca;
+			}
+			return ordenados;
+		}
+	}
+
+	private static class Postagens {
+		private int[] documentos = new int[4];
+		private int[] frequencias = new int[4];
+		private int tamanho;
+
+		private void incrementar(int documento) {
+			if (tamanho > 0 && documentos[tamanho - 1] == documento) {
+				frequencias[tamanho - 1]++;
+				return;
+			}
+			int indice = Arrays.binarySearch(documentos, 0, tamanho, documento);
+			if (indice >= 0) {
+				frequencias[indice]++;
+				return;
+			}
+
+			int posicao = -indice - 1;
+			if (tamanho == documentos.length) {
+				documentos = Arrays.copyOf(documentos, tamanho * 2);
+				frequencias = Arrays.copyOf(frequencias, tamanho * 2);
+			}
+			System.arraycopy(documentos, posicao, documentos, posicao + 1, tamanho - posicao);
+			System.arraycopy(frequencias, posicao, frequencias, posicao + 1, tamanho - posicao);
+			documentos[posicao] = documento;
+			frequencias[posicao] = 1;
+			tamanho++;
+		}
+
+		/**
+		 * Retorna a primeira posição, a partir de {@code cursor}, cujo documento é maior ou igual ao informado.
+		 * A busca avança em saltos exponenciais, de modo que percorrer a lista inteira em ordem crescente de
+		 * documentos custa proporcionalmente ao tamanho da menor lista da consulta.
+		 */
+		private int avancar(int cursor, int documento) {
+			int salto = 1;
+			int limite = cursor;
+			while (limite < tamanho && documentos[limite] < documento) {
+				cursor = limite + 1;
+				limite += salto;
+				salto <<= 1;
+			}
+			int indice = Arrays.binarySearch(documentos, cursor, Math.min(limite + 1, tamanho), documento);
+			return indice >= 0 ? indice : -indice - 1;
+		}
+	}
+}
@@ -0,0 +1,184 @@
+package complementacao.util;
+
+import java.lang.ref.WeakReference;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool de canonização de textos repetidos, como nomes de empresas, disciplinas e autores, que se repetem
+ * entre muitos estudantes: textos iguais passam a compartilhar a mesma instância de {@link String}, e a
+ * cópia recebida fica livre para ser coletada.
+ *
+ * O pool é uma tabela de tamanho fixo com endereçamento aberto, cujas posições guardam
+ * {@link WeakReference}s; assim, um texto que não é mais usado por nenhum objeto pode ser coletado, e sua
+ * posição é reaproveitada. Cada texto é procurado em poucas posições consecutivas a partir de seu hash; se
+ * todas estiverem ocupadas por outros textos vivos, a primeira delas é substituída. O pool nunca cresce além
+ * da capacidade informada, e um texto substituído apenas deixa de ser compartilhado com as próximas cópias.
+ *
+ * As posições são lidas e trocadas atomicamente, sem travas. Duas threads que canonizam o mesmo texto ao
+ * mesmo tempo podem guardar instâncias diferentes, o que só reduz a economia, já que os textos são iguais.
+ *
+ * O pool conta as consultas, os acertos e a memória estimada das cópias descartadas nos acertos.
+ *
+ * @author Isadora Lucena
+ */
+public class PoolTextos {
+	private static final int POSICOES_SONDADAS = 8;
+	private static final int CAPACIDADE_COMPARTILHADO = 1 << 16;
+	private static final PoolTextos COMPARTILHADO = new PoolTextos(CAPACIDADE_COMPARTILHADO);
+
+	private final AtomicReferenceArray<WeakReference<String>> posicoes;
+	private final int mascara;
+	private final int deslocamento;
+	private final LongAdder consultas = new LongAdder();
+	private final LongAdder acertos = new LongAdder();
+	private final LongAdder bytesEconomizados = new LongAdder();
+
+	/**
+	 * Cria um pool vazio.
+	 *
+	 * @param capacidade Quantidade máxima de textos guardados, arredondada para a próxima potência de dois.
+	 * @throws IllegalArgumentException se a capacidade não for positiva ou for maior que 2^30.
+	 */
+	public PoolTextos(int capacidade) {
+		if (capacidade <= 0 || capacidade > 1 << 30) throw new IllegalArgumentException("Capacidade inválida.");
+		int tamanho = Integer.highestOneBit(capacidade);
+		if (tamanho < capacidade) tamanho <<= 1;
+		this.posicoes = new AtomicReferenceArray<>(tamanho);
+		this.mascara = tamanho - 1;
+		this.deslocamento = 32 - Integer.numberOfTrailingZeros(tamanho);
+	}
+
+	/**
+	 * Retorna o pool compartilhado pelos detalhes das atividades e das dicas.
+	 *
+	 * @return Pool compartilhado.
+	 */
+	public static PoolTextos compartilhado() {
+		return COMPARTILHADO;
+	}
+
+	/**
+	 * Retorna a instância canônica de um texto: a já guardada no pool, se houver uma igual, ou o próprio
+	 * texto, que passa a ser guardado.
+	 *
+	 * @param texto Texto a ser canonizado.
+	 * @return Texto igual ao informado, compartilhado com as demais cópias; {@code null} se o texto for nulo.
+	 */
+	public String canonizar(String texto) {
+		if (texto == null) return null;
+		consultas.increment();
+		int inicio = posicaoInicial(texto.hashCode());
+		int livre = -1;
+		for (int i = 0; i < POSICOES_SONDADAS; i++) {
+			int indice = (inicio + i) & mascara;
+			WeakReference<String> referencia = posicoes.get(indice);
+			String guardado = referencia == null ? null : referencia.get();
+			if (guardado == null) {
+				if (livre < 0) livre = indice;
+			} else if (guardado.equals(texto)) {
+				if (guardado != texto) {
+					acertos.increment();
+					bytesEconomizados.add(tamanhoEstimado(texto));
+				}
+				return guardado;
+			}
+		}
+		posicoes.set(livre >= 0 ? livre : inicio, new WeakReference<>(texto));
+		return texto;
+	}
+
+	/**
+	 * Espalha o hash pela tabela. Textos que diferem só no último caractere, como "Empresa 1" e "Empresa 2",
+	 * têm hashes consecutivos; sem a multiplicação, eles ocupariam posições vizinhas e esgotariam as posições
+	 * sondadas uns dos outros.
+	 */
+	private int posicaoInicial(int hash) {
+		return deslocamento == 32 ? 0 : (hash * 0x9E3779B9) >>> deslocamento;
+	}
+
+	/**
+	 * Estima a memória de uma {@link String}: o objeto e o vetor de bytes, com uma compactação de 8 bytes.
+	 * Textos com caracteres fora do Latin-1 ocupam dois bytes por caractere.
+	 */
+	private static long tamanhoEstimado(String texto) {
+		boolean latin1 = true;
+		for (int i = 0; i < texto.length() && latin1; i++) {
+			latin1 = texto.charAt(i) <= 0xFF;
+		}
+		long bytesVetor = 16 + (long) texto.length() * (latin1 ? 1 : 2);
+		return 24 + ((bytesVetor + 7) & ~7L);
+	}
+
+	/**
+	 * Retorna quantas vezes o pool foi consultado.
+	 *
+	 * @return Quantidade de consultas.
+	 */
+	public long getConsultas() {
+		return consultas.sum();
+	}
+
+	/**
+	 * Retorna quantas consultas devolveram uma instância já guardada no lugar da recebida.
+	 *
+	 * @return Quantidade de acertos.
+	 */
+	public long getAcertos() {
+		return acertos.sum();
+	}
+
+	/**
+	 * Retorna a fração das consultas em que a cópia recebida foi descartada.
+	 *
+	 * @return Taxa de deduplicação, entre 0 e 1.
+	 */
+	public double getTaxaDeduplicacao() {
+		long total = consultas.sum();
+		return total == 0 ? 0 : (double) acertos.sum() / total;
+	}
+
+	/**
+	 * Retorna a memória estimada, em bytes, das cópias descartadas nos acertos.
+	 *
+	 * @return Bytes economizados.
+	 */
+	public long getBytesEconomizados() {
+		return bytesEconomizados.sum();
+	}
+
+	/**
+	 * Retorna a capacidade do pool.
+	 *
+	 * @return Quantidade máxima de textos guardados.
+	 */
+	public int getCapacidade() {
+		return mascara + 1;
+	}
+
+	/**
+	 * Conta os textos guardados que ainda não foram coletados, percorrendo toda a tabela.
+	 *
+	 * @return Quantidade de textos vivos no pool.
+	 */
+	public int contarTextosGuardados() {
+		int quantidade = 0;
+		for (int i = 0; i <= mascara; i++) {
+			WeakReference<String> referencia = posicoes.get(i);
+			if (referencia != null && referencia.get() != null) quantidade++;
+		}
+		return quantidade;
+	}
+
+	/**
+	 * Formata as estatísticas do pool em uma linha.
+	 *
+	 * @return Consultas, acertos, taxa de deduplicação, memória economizada e ocupação do pool.
+	 */
+	public String formatarEstatisticas() {
+		return String.format(Locale.ROOT, "consultas=%d acertos=%d deduplicacao=%.1f%% economia=%.1fMB textos=%d/%d",
+				getConsultas(), getAcertos(), getTaxaDeduplicacao() * 100, getBytesEconomizados() / (1024.0 * 1024),
+				contarTextosGuardados(), getCapacidade());
+	}
+}
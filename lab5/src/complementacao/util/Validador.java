@@ -1,12 +1,18 @@
 package complementacao.util;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
 /**
  * Classe utilitária responsável pela validação de dados comuns,
  * como CPF, senha, texto, datas, importância e tempo.
+ * 
+ * Os métodos {@code validar*} lançam uma {@link ExcecaoValidacao}, que não captura a pilha de chamadas.
+ * Para os dados verificados com mais frequência (CPF, senha, textos e datas) há também métodos que apenas
+ * informam se o dado é válido, sem lançar exceções nem alocar objetos. As verificações são feitas
+ * caractere a caractere, sem expressões regulares, e o formatador de datas é criado uma única vez.
  */
 public class Validador {
 	/**
@@ -25,6 +31,10 @@ public class Validador {
      * Valor máximo permitido para a importância de uma dica.
      */
     public static final int VALOR_MAXIMO_IMPORTANCIA = 5;
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final String MENSAGEM_SENHA = "A senha deve ter pelo menos " + TAMANHO_MINIMO_SENHA + " caracteres.";
+    private static final String MENSAGEM_TEXTO_DICA = "O texto deve ter no máximo " + VALOR_MAXIMO_DICA_TEXTO + " caracteres.";
+    private static final String MENSAGEM_DATA = "Data inválida! Use o formato dd/MM/yyyy.";
     
     /**
      * Construtor privado para impedir instanciação da classe.
@@ -40,11 +50,26 @@ public class Validador {
      * @throws IllegalArgumentException se o CPF for nulo, vazio, tiver tamanho incorreto ou conter caracteres não numéricos.
      */
     public static void validarCPF(String cpf) {
-        if (cpf == null || cpf.isBlank() ||cpf.length() != MAX_DIGITOS_CPF || !cpf.matches("\\d+")) {
-            throw new IllegalArgumentException("CPF inválido.");
+        if (!cpfValido(cpf)) {
+            throw new ExcecaoValidacao("CPF inválido.");
         }
     }
     
+    /**
+     * Informa se o CPF é composto por exatamente 11 dígitos numéricos, sem lançar exceções.
+     *
+     * @param cpf CPF a ser verificado.
+     * @return true se o CPF for válido.
+     */
+    public static boolean cpfValido(String cpf) {
+        if (cpf == null || cpf.length() != MAX_DIGITOS_CPF) return false;
+        for (int i = 0; i < MAX_DIGITOS_CPF; i++) {
+            char c = cpf.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+    
     /**
      * Valida se o ID informado é válido.
      * O ID não pode ser nulo, vazio ou composto apenas por espaços em branco.
@@ -54,7 +79,7 @@ public class Validador {
      */
     public static void validaId(String id) {
         if (id == null || id.isBlank()) {
-            throw new IllegalArgumentException("ID inválido.");
+            throw new ExcecaoValidacao("ID inválido.");
         }
     }
     
@@ -66,11 +91,21 @@ public class Validador {
      * @throws IllegalArgumentException se o texto for nulo ou em branco.
      */
     public static void validarString(String texto, String mensagem) {
-        if (texto == null || texto.isBlank()) {
-            throw new IllegalArgumentException(mensagem);
+        if (!stringValida(texto)) {
+            throw new ExcecaoValidacao(mensagem);
         }
     }
     
+    /**
+     * Informa se uma string não é nula nem composta apenas por espaços em branco, sem lançar exceções.
+     *
+     * @param texto Texto a ser verificado.
+     * @return true se o texto for válido.
+     */
+    public static boolean stringValida(String texto) {
+        return texto != null && !texto.isBlank();
+    }
+    
     /**
      * Valida se uma senha não é nula, nem vazia, e possui o tamanho mínimo requerido.
      *
@@ -78,12 +113,21 @@ public class Validador {
      * @throws IllegalArgumentException se a senha for inválida.
      */
     public static void validarSenha(String senha) {
-        if (senha == null || senha.isBlank() || senha.length() < TAMANHO_MINIMO_SENHA) {
-            throw new IllegalArgumentException("A senha deve ter pelo menos " 
-                + TAMANHO_MINIMO_SENHA + " caracteres.");
+        if (!senhaValida(senha)) {
+            throw new ExcecaoValidacao(MENSAGEM_SENHA);
         }
     }
     
+    /**
+     * Informa se uma senha não é nula, nem vazia, e possui o tamanho mínimo requerido, sem lançar exceções.
+     *
+     * @param senha Senha a ser verificada.
+     * @return true se a senha for válida.
+     */
+    public static boolean senhaValida(String senha) {
+        return senha != null && senha.length() >= TAMANHO_MINIMO_SENHA && !senha.isBlank();
+    }
+    
     /**
      * Valida o texto de uma dica, verificando se é válido e se está dentro do tamanho permitido.
      *
@@ -94,8 +138,7 @@ public class Validador {
     	validarString(texto, "O texto não pode ser nulo ou vazio.");
         
         if (texto.length() > VALOR_MAXIMO_DICA_TEXTO) {
-            throw new IllegalArgumentException("O texto deve ter no máximo " 
-                + VALOR_MAXIMO_DICA_TEXTO + " caracteres.");
+            throw new ExcecaoValidacao(MENSAGEM_TEXTO_DICA);
         }
     }
     
@@ -107,7 +150,7 @@ public class Validador {
      */
     public static void validarTempoPositivo(int tempo) {
     	if (tempo <= 0) {
-            throw new IllegalArgumentException("O tempo precisa ser um valor positivo.");
+            throw new ExcecaoValidacao("O tempo precisa ser um valor positivo.");
         }
     }
     
@@ -119,7 +162,7 @@ public class Validador {
      */
     public static void validarBonificacaoPositiva(int bonificacao) {
         if (bonificacao < 0) {
-            throw new IllegalArgumentException("A bonificação precisa ser um valor positivo.");
+            throw new ExcecaoValidacao("A bonificação precisa ser um valor positivo.");
         }
     }
     
@@ -131,7 +174,7 @@ public class Validador {
      */
     public static void validarUnidadeAcumuladaPositiva(int unidadeAcumulada) {
         if (unidadeAcumulada <= 0) {
-            throw new IllegalArgumentException("A unidade acumulada precisa ser um valor positivo.");
+            throw new ExcecaoValidacao("A unidade acumulada precisa ser um valor positivo.");
         }
     }
     
@@ -143,7 +186,20 @@ public class Validador {
      */
     public static void validarImportanciaDica(int importancia) {
     	if (importancia <= 0 || importancia > VALOR_MAXIMO_IMPORTANCIA) {
-            throw new IllegalArgumentException("Importância precisa estar entre 1 e 5.");
+            throw new ExcecaoValidacao("Importância precisa estar entre 1 e 5.");
+        }
+    }
+    
+    /**
+     * Valida os parâmetros de uma listagem paginada.
+     *
+     * @param inicio     Posição do primeiro item da página.
+     * @param quantidade Quantidade máxima de itens da página.
+     * @throws IllegalArgumentException se o início ou a quantidade forem negativos.
+     */
+    public static void validarPaginacao(int inicio, int quantidade) {
+        if (inicio < 0 || quantidade < 0) {
+            throw new ExcecaoValidacao("Paginação inválida.");
         }
     }
     
@@ -155,11 +211,46 @@ public class Validador {
      * @throws IllegalArgumentException se o formato da data for inválido.
      */
     public static LocalDate validarEConverterData(String data) {
+        LocalDate convertida = converterDataOuNulo(data);
+        if (convertida == null) throw new ExcecaoValidacao(MENSAGEM_DATA);
+        return convertida;
+    }
+    
+    /**
+     * Converte uma data no formato "dd/MM/yyyy" para um {@link LocalDate}, sem lançar exceções.
+     * 
+     * Datas no formato exato de dez caracteres são lidas diretamente, caractere a caractere; as demais
+     * passam pelo formatador, que segue as mesmas regras (um dia além do fim do mês, como 31/02, é
+     * ajustado para o último dia do mês).
+     *
+     * @param data String representando a data.
+     * @return A data convertida, ou {@code null} se a string for nula ou não representar uma data válida.
+     */
+    public static LocalDate converterDataOuNulo(String data) {
+        if (data == null) return null;
+        if (data.length() == 10 && data.charAt(2) == '/' && data.charAt(5) == '/') {
+            int dia = digitos(data, 0, 2);
+            int mes = digitos(data, 3, 5);
+            int ano = digitos(data, 6, 10);
+            if (dia < 0 || mes < 0 || ano < 0) return null;
+            if (dia >= 1 && dia <= 31 && mes >= 1 && mes <= 12 && ano >= 1) {
+                return LocalDate.of(ano, mes, Math.min(dia, YearMonth.of(ano, mes).lengthOfMonth()));
+            }
+        }
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-            return LocalDate.parse(data, formatter);
+            return LocalDate.parse(data, FORMATO_DATA);
         } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException("Data inválida! Use o formato dd/MM/yyyy.");
+            return null;
+        }
+    }
+    
+    private static int digitos(String texto, int inicio, int fim) {
+        int valor = 0;
+        for (int i = inicio; i < fim; i++) {
+            char c = texto.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            valor = valor * 10 + (c - '0');
         }
+        return valor;
     }
 }
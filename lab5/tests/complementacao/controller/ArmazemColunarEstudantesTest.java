@@ -0,0 +1,149 @@
+package complementacao.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import complementacao.util.CodificadorSenha;
+
+class ArmazemColunarEstudantesTest {
+	private static final String SENHA = "senha12345";
+	private ArmazemColunarEstudantes armazem;
+
+	@BeforeEach
+	public void setUp() {
+		armazem = new ArmazemColunarEstudantes(new CodificadorSenha("PBKDF2WithHmacSHA256", 1000, 1_000_000_000L));
+	}
+
+	private static String cpf(int numero) {
+		return String.format("%011d", numero);
+	}
+
+	@Test
+	public void testCriarEstudanteEAutenticar() {
+		assertTrue(armazem.criarEstudante(" João ", "00000000001", SENHA, " 2023.1 "));
+		assertEquals("João", armazem.getNome("00000000001", SENHA));
+		assertTrue(armazem.autenticar("00000000001", SENHA));
+		assertFalse(armazem.autenticar("00000000001", "outrasenha1"));
+		assertFalse(armazem.autenticar("00000000002", SENHA));
+		assertFalse(armazem.autenticar(null, SENHA));
+		assertFalse(armazem.autenticar("00000000001", null));
+		assertThrows(SecurityException.class, () -> armazem.getNome("00000000001", "outrasenha1"));
+		assertEquals(1, armazem.quantidadeEstudantes());
+	}
+
+	@Test
+	public void testCriarEstudanteInvalido() {
+		armazem.criarEstudante("Maria", "12345678900", SENHA, "2023");
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> armazem.criarEstudante("Outra", "12345678900", SENHA, "2024"));
+		assertEquals("Usuário com este CPF já existe.", e.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> armazem.criarEstudante("Ana", "123", SENHA, "2023"));
+		assertThrows(IllegalArgumentException.class, () -> armazem.criarEstudante("Ana", "12345678901", "curta", "2023"));
+		assertThrows(IllegalArgumentException.class, () -> armazem.criarEstudante("Ana", "12345678901", SENHA, " "));
+		assertThrows(IllegalArgumentException.class, () -> armazem.criarEstudante(null, "12345678901", SENHA, "2023"));
+		assertEquals(1, armazem.quantidadeEstudantes());
+	}
+
+	@Test
+	public void testAlterarSenha() {
+		armazem.criarEstudante("Ana", "11111111111", SENHA, "2023");
+		assertThrows(IllegalArgumentException.class, () -> armazem.alterarSenhaEstudante("11111111111", SENHA, "curta"));
+		assertTrue(armazem.alterarSenhaEstudante("11111111111", SENHA, "novaSenha123"));
+		assertFalse(armazem.autenticar("11111111111", SENHA));
+		assertTrue(armazem.autenticar("11111111111", "novaSenha123"));
+		assertThrows(SecurityException.class, () -> armazem.alterarSenhaEstudante("11111111111", SENHA, "outra12345"));
+	}
+
+	@Test
+	public void testAtividadesECreditos() {
+		armazem.criarEstudante("Ana", "11111111111", SENHA, "2023");
+		assertEquals("Atividade cadastrada com sucesso.", armazem.criarAtividadeEstagio("11111111111", SENHA, 300, "Empresa"));
+		armazem.criarAtividadeMonitoria("11111111111", SENHA, 1, "P1");
+		armazem.criarAtividadePesquisaExtensao("11111111111", SENHA, 12, "PIBIC");
+		armazem.criarAtividadeRepresentacaoEstudantil("11111111111", SENHA, 2, "Diretoria");
+
+		assertEquals(5, armazem.creditosAtividade("11111111111", SENHA, "estagio"));
+		assertEquals(4, armazem.creditosAtividade("11111111111", SENHA, "monitoria"));
+		assertEquals("PESQUISA_EXTENSAO: 10\nMONITORIA: 4\nESTAGIO: 5\nREPRESENTACAO_ESTUDANTIL: 2\nCréditos Totais: 21/22",
+				armazem.gerarMapaCreditosAtividades("11111111111", SENHA));
+		assertFalse(armazem.verificarMetaAlcancada("11111111111", SENHA));
+		armazem.criarAtividadeMonitoria("11111111111", SENHA, 1, "P2");
+		assertTrue(armazem.verificarMetaAlcancada("11111111111", SENHA));
+		assertThrows(IllegalArgumentException.class, () -> armazem.creditosAtividade("11111111111", SENHA, "nada"));
+		assertThrows(IllegalArgumentException.class, () -> armazem.criarAtividadeMonitoria("11111111111", SENHA, -1, "P3"));
+	}
+
+	@Test
+	public void testAlterarAtividade() {
+		armazem.criarEstudante("Ana", "11111111111", SENHA, "2023");
+		armazem.criarAtividadeMonitoria("11111111111", SENHA, 1, "P1");
+		armazem.criarAtividadeMonitoria("11111111111", SENHA, 1, "P2");
+		assertTrue(armazem.alterarDescricaoAtividade("11111111111", SENHA, "111.111.111-11_2", "Monitoria de P2"));
+		assertTrue(armazem.alterarComprovacaoAtividade("11111111111", SENHA, "111.111.111-11_1", "http://comprovante"));
+		assertFalse(armazem.alterarDescricaoAtividade("11111111111", SENHA, "111.111.111-11_3", "Inexistente"));
+		armazem.criarEstudante("Bia", "22222222222", SENHA, "2023");
+		assertFalse(armazem.alterarDescricaoAtividade("22222222222", SENHA, "111.111.111-11_1", "De outro estudante"));
+	}
+
+	@Test
+	public void testBonificacaoEListagem() {
+		armazem.criarEstudante("Ana", "11111111111", SENHA, "2023.1");
+		armazem.criarEstudante("Bia", "22222222222", SENHA, "2023.2");
+		armazem.atualizarBonificacao("22222222222", SENHA, 3);
+		assertThrows(IllegalArgumentException.class, () -> armazem.atualizarBonificacao("22222222222", SENHA, -1));
+		assertEquals(List.of("Nome: Ana, matrícula: 2023.1, bônus: 0", "Nome: Bia, matrícula: 2023.2, bônus: 3"),
+				armazem.exibirEstudantes(0, 10));
+		assertEquals(List.of("Nome: Bia, matrícula: 2023.2, bônus: 3"), armazem.exibirEstudantes(1, 10));
+		assertTrue(armazem.exibirEstudantes(5, 10).isEmpty());
+		assertThrows(IllegalArgumentException.class, () -> armazem.exibirEstudantes(-1, 10));
+	}
+
+	@Test
+	public void testVariasPaginasECrescimentoDoIndice() {
+		ArmazemColunarEstudantes rapido = new ArmazemColunarEstudantes(new CodificadorSenha("PBKDF2WithHmacSHA256", 1, 0));
+		String nomeLongo = "Á".repeat(200);
+		for (int i = 0; i < 10000; i++) {
+			rapido.criarEstudante(i % 1000 == 0 ? nomeLongo : "Estudante " + i, cpf(i), SENHA, "M" + i);
+		}
+		assertEquals(10000, rapido.quantidadeEstudantes());
+		assertEquals("Estudante 9999", rapido.getNome(cpf(9999), SENHA));
+		assertEquals(nomeLongo, rapido.getNome(cpf(5000), SENHA));
+		assertEquals(List.of("Nome: Estudante 4097, matrícula: M4097, bônus: 0"), rapido.exibirEstudantes(4097, 1));
+		assertThrows(IllegalArgumentException.class, () -> rapido.criarEstudante("Repetido", cpf(7777), SENHA, "M"));
+	}
+
+	@Test
+	public void testCadastroConcorrente() throws Exception {
+		ArmazemColunarEstudantes rapido = new ArmazemColunarEstudantes(new CodificadorSenha("PBKDF2WithHmacSHA256", 1, 0));
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			Future<?>[] tarefas = new Future<?>[4];
+			for (int t = 0; t < tarefas.length; t++) {
+				int inicio = t * 2000;
+				tarefas[t] = executor.submit(() -> {
+					for (int i = inicio; i < inicio + 2000; i++) {
+						rapido.criarEstudante("Estudante " + i, cpf(i), SENHA, "M" + i);
+						rapido.criarAtividadeMonitoria(cpf(i), SENHA, 1, "P1");
+					}
+				});
+			}
+			for (Future<?> tarefa : tarefas) {
+				tarefa.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(8000, rapido.quantidadeEstudantes());
+		for (int i = 0; i < 8000; i += 97) {
+			assertEquals("Estudante " + i, rapido.getNome(cpf(i), SENHA));
+			assertEquals(4, rapido.creditosAtividade(cpf(i), SENHA, "monitoria"));
+		}
+	}
+}
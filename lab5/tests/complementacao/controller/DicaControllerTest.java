@@ -2,11 +2,18 @@ package complementacao.controller;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import complementacao.model.dica.Dica;
+import complementacao.model.dica.ElementoDica;
+
 class DicaControllerTest {
 
 	private DicaController dicaController;
@@ -184,4 +191,121 @@ class DicaControllerTest {
             dicaController.adicionarElementoTextoDica("00000000000", SENHA_VALIDA, 0, "Texto de dica");
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testListarDicasPorTemaPaginado() {
+        usuarioController.criarEstudante("Bruno", "98765432100", "outrasenha123", "7654321");
+        for (int i = 0; i < 5; i++) {
+            dicaController.adicionarDica(CPF_VALIDO, SENHA_VALIDA, i % 2 == 0 ? "monitoria" : "estagio");
+        }
+        dicaController.adicionarDica("98765432100", "outrasenha123", "monitoria");
+
+        assertEquals(4, dicaController.listarDicasPorTema("monitoria", 0, 10).size());
+        assertEquals(2, dicaController.listarDicasPorTema("estagio", 0, 10).size());
+        assertEquals(List.of(dicaController.listarDica(4), dicaController.listarDica(5)),
+                dicaController.listarDicasPorTema("monitoria", 2, 2));
+        assertTrue(dicaController.listarDicasPorTema("monitoria", 10, 2).isEmpty());
+        assertTrue(dicaController.listarDicasPorTema("representacao_estudantil", 0, 2).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> dicaController.listarDicasPorTema("monitoria", -1, 2));
+    }
+
+    @Test
+    public void testListarDicasPorAutor() {
+        usuarioController.criarEstudante("Bruno", "98765432100", "outrasenha123", "7654321");
+        dicaController.adicionarDica(CPF_VALIDO, SENHA_VALIDA, "monitoria");
+        dicaController.adicionarDica("98765432100", "outrasenha123", "estagio");
+        dicaController.adicionarDica(CPF_VALIDO, SENHA_VALIDA, "estagio");
+
+        List<String> dicasIsadora = dicaController.listarDicasPorAutor("isadora", 0, 10);
+        assertEquals(List.of(dicaController.listarDica(0), dicaController.listarDica(2)), dicasIsadora);
+        assertEquals(1, dicaController.listarDicasPorAutor("Bruno", 0, 10).size());
+        assertTrue(dicaController.listarDicasPorAutor("Carla", 0, 10).isEmpty());
+    }
+
+    @Test
+    public void testListarDicasPaginado() {
+        for (int i = 0; i < 5; i++) {
+            dicaController.adicionarDica(CPF_VALIDO, SENHA_VALIDA, "monitoria");
+        }
+
+        assertEquals(dicaController.listarDicas().subList(1, 3), dicaController.listarDicas(1, 2));
+        assertEquals(dicaController.listarDicasDetalhes().subList(3, 5), dicaController.listarDicasDetalhes(3, 20));
+        assertTrue(dicaController.listarDicas(5, 2).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> dicaController.listarDicas(0, -1));
+    }
+
+    @Test
+    public void testAdicionarElementoComAutenticacaoInvalidaNaoAlteraDica() {
+        dicaController.adicionarDica(CPF_VALIDO, SENHA_VALIDA, "monitoria");
+        assertThrows(SecurityException.class, () ->
+            dicaController.adicionarElementoTextoDica(CPF_VALIDO, "senhaErrada", 0, "x".repeat(150)));
+        assertTrue(dicaController.getDica(0).getElementos().isEmpty());
+    }
+
+    @Test
+    public void testVariosAutoresCreditamBonificacaoExata() throws Exception {
+        int autores = 8;
+        int elementosPorAutor = 200;
+        List<String> cpfs = new ArrayList<>();
+        for (int i = 0; i < autores; i++) {
+            String cpf = String.format("%011d", i + 1);
+            usuarioController.criarEstudante("Autor " + i, cpf, SENHA_VALIDA, "m" + i);
+            cpfs.add(cpf);
+        }
+        dicaController.adicionarDica(CPF_VALIDO, SENHA_VALIDA, "monitoria");
+        dicaController.adicionarDica(CPF_VALIDO, SENHA_VALIDA, "estagio");
+
+        ExecutorService executor = Executors.newFixedThreadPool(autores);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int i = 0; i < autores; i++) {
+                String cpf = cpfs.get(i);
+                int autor = i;
+                tarefas.add(executor.submit(() -> {
+                    for (int j = 0; j < elementosPorAutor; j++) {
+                        int posicao = j % 2;
+                        if (j % 3 == 0) {
+                            dicaController.adicionarElementoMultimidiaDica(cpf, SENHA_VALIDA, posicao, "http://v", "Aula", 60 * (1 + j % 15));
+                        } else {
+                            dicaController.adicionarElementoTextoDica(cpf, SENHA_VALIDA, posicao, "t".repeat(100 + (autor * 37 + j) % 400));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) tarefa.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        int somaElementos = 0;
+        int quantidadeElementos = 0;
+        for (Dica dica : dicaController.getDicas()) {
+            for (ElementoDica elemento : dica.getElementos()) {
+                somaElementos += elemento.getValor();
+                quantidadeElementos++;
+            }
+        }
+        int somaBonificacoes = 0;
+        for (String cpf : cpfs) {
+            somaBonificacoes += usuarioController.buscarUsuario(cpf).getBonificacao();
+        }
+
+        assertEquals(autores * elementosPorAutor, quantidadeElementos);
+        assertEquals(somaElementos, somaBonificacoes);
+        assertEquals(usuarioController.listarUsuariosRankingDicas().size(), autores + 1);
+    }
+
+    @Test
+    public void testBuscarDicasPorPalavras() {
+        dicaController.adicionarDica(CPF_VALIDO, SENHA_VALIDA, "estagio");
+        dicaController.adicionarDica(CPF_VALIDO, SENHA_VALIDA, "monitoria");
+        dicaController.adicionarElementoTextoDica(CPF_VALIDO, SENHA_VALIDA, 0, "Procure um estágio cedo. " + "x".repeat(100));
+        dicaController.adicionarElementoMultimidiaDica(CPF_VALIDO, SENHA_VALIDA, 1, "http://v", "Como ser monitor e conseguir estágio", 60);
+        dicaController.adicionarElementoReferenciaDica(CPF_VALIDO, SENHA_VALIDA, 1, "Guia do Estágio", "Editora Universitária", 2020, true, 3);
+
+        assertEquals(List.of(dicaController.listarDica(1), dicaController.listarDica(0)),
+                dicaController.buscarDicas("ESTAGIO", 0, 10));
+        assertEquals(List.of(dicaController.listarDica(1)), dicaController.buscarDicas("editora universitaria", 0, 10));
+        assertTrue(dicaController.buscarDicas("pesquisa", 0, 10).isEmpty());
+    }
+}
@@ -0,0 +1,111 @@
+package complementacao.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import complementacao.model.Usuario;
+import complementacao.util.CodificadorSenha;
+
+class IndiceNomesTest {
+	private static final CodificadorSenha CODIFICADOR = new CodificadorSenha(CodificadorSenha.ALGORITMO_PADRAO, 1, 0);
+
+	private static Usuario usuario(int numero) {
+		return new Usuario("Estudante " + numero, String.format("%011d", numero), "senha123", "2023." + numero, CODIFICADOR);
+	}
+
+	private static String chave(int numero) {
+		return String.format("estudante %04d", numero);
+	}
+
+	@Test
+	void testPaginasEIntervalos() {
+		IndiceNomes indice = new IndiceNomes();
+		Usuario ana = usuario(1);
+		Usuario bia = usuario(2);
+		Usuario caio = usuario(3);
+		assertTrue(indice.adicionar("caio", caio));
+		assertTrue(indice.adicionar("ana", ana));
+		assertTrue(indice.adicionar("bia", bia));
+		assertFalse(indice.adicionar("bia", usuario(4)));
+
+		assertEquals(3, indice.tamanho());
+		assertEquals(List.of(ana, bia, caio), indice.pagina(null, null, 0, Integer.MAX_VALUE));
+		assertEquals(List.of(bia), indice.pagina(null, null, 1, 1));
+		assertEquals(List.of(), indice.pagina(null, null, 3, 10));
+		assertEquals(List.of(bia, caio), indice.pagina("b", null, 0, 10));
+		assertEquals(List.of(caio), indice.pagina("b", "d", 1, 10));
+		assertEquals(List.of(ana, bia), indice.pagina(null, "c", 0, 10));
+		assertEquals(List.of(), indice.pagina("d", "e", 0, 10));
+	}
+
+	@Test
+	void testEquivaleAUmMapaOrdenado() {
+		IndiceNomes indice = new IndiceNomes();
+		TreeMap<String, Usuario> esperado = new TreeMap<>();
+		Random aleatorio = new Random(42);
+		for (int i = 0; i < 1000; i++) {
+			int numero = aleatorio.nextInt(2000);
+			Usuario usuario = usuario(numero);
+			assertEquals(esperado.putIfAbsent(chave(numero), usuario) == null, indice.adicionar(chave(numero), usuario));
+		}
+
+		List<Usuario> ordenados = new ArrayList<>(esperado.values());
+		assertEquals(ordenados.size(), indice.tamanho());
+		for (int inicio = 0; inicio <= ordenados.size(); inicio += 37) {
+			int fim = Math.min(ordenados.size(), inicio + 25);
+			assertEquals(ordenados.subList(inicio, fim), indice.pagina(null, null, inicio, 25));
+		}
+		List<Usuario> intervalo = new ArrayList<>(esperado.subMap("estudante 05", "estudante 12").values());
+		assertEquals(intervalo.subList(10, 30), indice.pagina("estudante 05", "estudante 12", 10, 20));
+
+		List<Usuario> percorridos = new ArrayList<>();
+		for (Usuario usuario : indice) percorridos.add(usuario);
+		assertEquals(ordenados, percorridos);
+	}
+
+	@Test
+	void testMontarSubstituiOConteudo() {
+		IndiceNomes indice = new IndiceNomes();
+		indice.adicionar("zeca", usuario(9));
+		List<Map.Entry<String, Usuario>> entradas = new ArrayList<>();
+		for (int i = 0; i < 600; i++) {
+			entradas.add(new AbstractMap.SimpleEntry<>(chave(i), usuario(i)));
+		}
+		indice.montar(entradas);
+
+		assertEquals(600, indice.tamanho());
+		assertEquals(List.of(entradas.get(300).getValue()), indice.pagina(null, null, 300, 1));
+		assertTrue(indice.adicionar("estudante 0299a", usuario(1000)));
+		assertEquals(601, indice.tamanho());
+		assertEquals(usuario(1000).getCpf(), indice.pagina(null, null, 300, 1).get(0).getCpf());
+
+		indice.montar(List.of());
+		assertEquals(0, indice.tamanho());
+		assertFalse(indice.iterator().hasNext());
+	}
+
+	@Test
+	void testIteracaoIncluiChavesAdicionadasAdiante() {
+		IndiceNomes indice = new IndiceNomes();
+		for (int i = 0; i < 300; i++) {
+			indice.adicionar(chave(2 * i), usuario(2 * i));
+		}
+		int percorridos = 0;
+		for (Usuario usuario : indice) {
+			if (percorridos++ == 10) {
+				indice.adicionar(chave(1), usuario(1));
+				indice.adicionar(chave(599), usuario(599));
+			}
+		}
+		assertEquals(301, percorridos);
+		assertEquals(302, indice.tamanho());
+	}
+}
@@ -0,0 +1,107 @@
+package complementacao.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import complementacao.model.Usuario;
+import complementacao.util.CodificadorSenha;
+
+class RankingBonificacaoTest {
+	private static final CodificadorSenha CODIFICADOR = new CodificadorSenha(CodificadorSenha.ALGORITMO_PADRAO, 1, 0);
+	private static final Comparator<Usuario> ORDEM =
+			Comparator.comparingInt(Usuario::getBonificacao).reversed().thenComparing(Usuario::getCpf);
+
+	private static Usuario usuario(int numero) {
+		return new Usuario("Estudante " + numero, String.format("%011d", numero), "senha123", "2023." + numero, CODIFICADOR);
+	}
+
+	@Test
+	void testPosicaoEPaginas() {
+		RankingBonificacao ranking = new RankingBonificacao();
+		Usuario ana = usuario(3);
+		Usuario bia = usuario(1);
+		Usuario caio = usuario(2);
+		ana.atualizaBonificacao(10);
+		caio.atualizaBonificacao(10);
+		assertTrue(ranking.adicionar(ana));
+		assertTrue(ranking.adicionar(bia));
+		assertTrue(ranking.adicionar(caio));
+		assertFalse(ranking.adicionar(caio));
+
+		assertEquals(3, ranking.tamanho());
+		assertEquals(List.of(caio, ana, bia), ranking.pagina(0, 10));
+		assertEquals(List.of(ana), ranking.pagina(1, 1));
+		assertEquals(List.of(), ranking.pagina(3, 10));
+		assertEquals(1, ranking.posicao(caio.getBonificacao(), caio.getCpf()));
+		assertEquals(3, ranking.posicao(bia.getBonificacao(), bia.getCpf()));
+
+		assertTrue(ranking.remover(bia));
+		bia.atualizaBonificacao(20);
+		assertTrue(ranking.adicionar(bia));
+		assertEquals(List.of(bia, caio, ana), ranking.pagina(0, Integer.MAX_VALUE));
+		assertFalse(ranking.remover(usuario(4)));
+	}
+
+	@Test
+	void testEquivaleAUmaOrdenacaoCompleta() {
+		RankingBonificacao ranking = new RankingBonificacao();
+		List<Usuario> usuarios = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			Usuario usuario = usuario(i);
+			usuarios.add(usuario);
+			ranking.adicionar(usuario);
+		}
+		Random aleatorio = new Random(42);
+		for (int i = 0; i < 2000; i++) {
+			Usuario usuario = usuarios.get(aleatorio.nextInt(usuarios.size()));
+			assertTrue(ranking.remover(usuario));
+			usuario.atualizaBonificacao(aleatorio.nextInt(5));
+			ranking.adicionar(usuario);
+		}
+
+		List<Usuario> esperado = new ArrayList<>(usuarios);
+		esperado.sort(ORDEM);
+		assertEquals(esperado, ranking.pagina(0, Integer.MAX_VALUE));
+		assertEquals(esperado.subList(120, 150), ranking.pagina(120, 30));
+		for (int i = 0; i < esperado.size(); i++) {
+			Usuario usuario = esperado.get(i);
+			assertEquals(i + 1, ranking.posicao(usuario.getBonificacao(), usuario.getCpf()));
+		}
+	}
+
+	@Test
+	void testMontarAPartirDeUsuariosOrdenados() {
+		List<Usuario> usuarios = new ArrayList<>();
+		Random aleatorio = new Random(7);
+		for (int i = 0; i < 500; i++) {
+			Usuario usuario = usuario(i);
+			usuario.atualizaBonificacao(aleatorio.nextInt(4));
+			usuarios.add(usuario);
+		}
+		usuarios.sort(RankingBonificacao::comparar);
+		RankingBonificacao ranking = new RankingBonificacao();
+		ranking.montar(usuarios);
+		assertEquals(500, ranking.tamanho());
+		assertEquals(usuarios, ranking.pagina(0, Integer.MAX_VALUE));
+
+		for (int i = 0; i < 1000; i++) {
+			Usuario usuario = usuarios.get(aleatorio.nextInt(usuarios.size()));
+			assertTrue(ranking.remover(usuario));
+			usuario.atualizaBonificacao(aleatorio.nextInt(3));
+			assertTrue(ranking.adicionar(usuario));
+		}
+		List<Usuario> esperado = new ArrayList<>(usuarios);
+		esperado.sort(ORDEM);
+		assertEquals(esperado, ranking.pagina(0, Integer.MAX_VALUE));
+		for (int i = 0; i < esperado.size(); i++) {
+			Usuario usuario = esperado.get(i);
+			assertEquals(i + 1, ranking.posicao(usuario.getBonificacao(), usuario.getCpf()));
+		}
+	}
+}
@@ -2,11 +2,24 @@ package complementacao.controller;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import complementacao.model.atividade.AtividadeEstagio;
+import complementacao.model.atividade.SolicitacaoAtividade;
+
 class UsuarioControllerTest {
 	private UsuarioController controller;
 
@@ -112,6 +125,101 @@ class UsuarioControllerTest {
 	        assertTrue(relatorio.contains("ESTAGIO: 18/18"));
 	    }
 
+    @Test
+    void testEstatisticasDeCreditosIncrementais() {
+        assertEquals(0.0, controller.percentualEstudantesNaMeta());
+        assertEquals(0.0, controller.mediaCreditosAtividade("estagio"));
+
+        controller.criarEstudante("Bia", "00011122233", "senha1234567", "20230002");
+        controller.criarAtividadePesquisaExtensao("00011122233", "senha1234567", 24, "Pet");
+        controller.criarAtividadeEstagio("00011122233", "senha1234567", 1080, "Empresa ABC");
+        controller.criarEstudante("Caio", "44455566677", "senha1234567", "20230003");
+        controller.criarAtividades("44455566677", "senha1234567", List.of(
+                new SolicitacaoAtividade("monitoria", 1, "P1"),
+                new SolicitacaoAtividade("monitoria", 1, "P2")));
+        controller.criarEstudante("Davi", "77788899900", "senha1234567", "20230004");
+        controller.criarEstudante("Eva", "11122233344", "senha1234567", "20230005");
+
+        assertEquals(25.0, controller.percentualEstudantesNaMeta());
+        assertEquals(2.0, controller.mediaCreditosAtividade("monitoria"));
+        assertEquals(18.0 / 4, controller.mediaCreditosAtividade("estágio"));
+        List<Long> distribuicao = controller.distribuicaoCreditosAtividade("monitoria");
+        assertEquals(23, distribuicao.size());
+        assertEquals(3L, distribuicao.get(0));
+        assertEquals(1L, distribuicao.get(8));
+        assertEquals(4L, distribuicao.stream().mapToLong(Long::longValue).sum());
+        assertThrows(IllegalArgumentException.class, () -> controller.mediaCreditosAtividade("esporte"));
+    }
+
+    @Test
+    void testEstatisticasAcompanhamAtividadesRestauradas() {
+        controller.criarEstudante("Bia", "00011122233", "senha1234567", "20230002");
+        controller.restaurarAtividades("00011122233", List.of(new AtividadeEstagio("000.111.222-33_1", 1080, "Empresa ABC")));
+        assertEquals(18.0, controller.mediaCreditosAtividade("estagio"));
+
+        AtividadeEstagio alterada = new AtividadeEstagio("000.111.222-33_1", 1080, "Empresa ABC");
+        alterada.setDescricao("estágio de verão");
+        controller.restaurarAtividades("00011122233", List.of(alterada));
+        assertEquals(18.0, controller.mediaCreditosAtividade("estagio"));
+        assertEquals(List.of("000.111.222-33_2"), controller.criarAtividades("00011122233", "senha1234567",
+                List.of(new SolicitacaoAtividade("estagio", 300, "Empresa ABC"))));
+        assertThrows(IllegalArgumentException.class, () -> controller.restaurarAtividades("99999999999", List.of()));
+    }
+
+    @Test
+    void testExportarRelatoriosFinaisEmOrdemDeNome() throws IOException {
+        StringBuilder esperado = new StringBuilder();
+        for (int i = 0; i < 600; i++) {
+            String cpf = String.format("%011d", i);
+            controller.criarEstudante("Aluno " + String.format("%04d", 599 - i), cpf, "senha1234567", "2023." + i);
+            if (i % 3 == 0) {
+                controller.criarAtividadePesquisaExtensao(cpf, "senha1234567", 24, "Pet");
+                controller.criarAtividadeEstagio(cpf, "senha1234567", 1080, "Empresa ABC");
+            }
+        }
+        for (int i = 599; i >= 0; i--) {
+            if (i % 3 == 0) esperado.append(controller.gerarRelatorioFinal(String.format("%011d", i), "senha1234567")).append('\n');
+        }
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        assertEquals(200, controller.exportarRelatoriosFinais(saida));
+        assertEquals(esperado.toString(), saida.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testExportarRelatoriosFinaisNoExecutorInformado() throws IOException {
+        for (int i = 0; i < 1500; i++) {
+            String cpf = String.format("%011d", i);
+            controller.criarEstudante("Aluno " + i, cpf, "senha1234567", "2023." + i);
+            if (i % 2 == 0) {
+                controller.criarAtividadePesquisaExtensao(cpf, "senha1234567", 24, "Pet");
+                controller.criarAtividadeEstagio(cpf, "senha1234567", 1080, "Empresa Ação " + i);
+            }
+        }
+        ByteArrayOutputStream compartilhado = new ByteArrayOutputStream();
+        assertEquals(750, controller.exportarRelatoriosFinais(compartilhado));
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (int repeticao = 0; repeticao < 2; repeticao++) {
+                ByteArrayOutputStream saida = new ByteArrayOutputStream();
+                assertEquals(750, controller.exportarRelatoriosFinais(saida, executor));
+                assertEquals(compartilhado.toString(StandardCharsets.UTF_8), saida.toString(StandardCharsets.UTF_8));
+            }
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testExportarRelatoriosFinaisSemEstudantesNaMeta() throws IOException {
+        controller.criarEstudante("Ana", "12345678900", "senha1234567", "2023.1");
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        assertEquals(0, controller.exportarRelatoriosFinais(saida));
+        assertEquals(0, saida.size());
+    }
+
     @Test
     public void testGerarRelatorioFinalGeralComMeta() {
         controller.criarEstudante("Bia", "00011122233", "senha12345671233456", "20230002");
@@ -510,4 +618,260 @@ class UsuarioControllerTest {
         String mapa = controller.gerarMapaCreditosAtividades("12345678900", "senha1234567");
         assertTrue(mapa.contains("0"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCriarEstudantesConcorrentementeSemPerderCadastros() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Boolean>> tarefas = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            String cpf = String.format("%011d", i);
+            tarefas.add(() -> controller.criarEstudante("Aluno " + cpf, cpf, "senha1234567", "2023.1"));
+        }
+
+        for (Future<Boolean> resultado : executor.invokeAll(tarefas)) {
+            assertTrue(resultado.get());
+        }
+        executor.shutdown();
+
+        assertEquals(400, controller.exibirEstudantes().size());
+    }
+
+    @Test
+    void testCriarEstudanteDuplicadoConcorrentementeAceitaApenasUm() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Boolean>> tarefas = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tarefas.add(() -> controller.criarEstudante("Ana", "12345678900", "senha1234567", "2023.1"));
+        }
+
+        int sucessos = 0;
+        for (Future<Boolean> resultado : executor.invokeAll(tarefas)) {
+            try {
+                if (resultado.get()) sucessos++;
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalArgumentException);
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(1, sucessos);
+    }
+
+    @Test
+    void testCriarAtividadesConcorrentementeNoMesmoEstudanteGeraCodigosDistintos() throws Exception {
+        controller.criarEstudante("Ana", "12345678900", "senha1234567", "2023.1");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<String>> tarefas = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tarefas.add(() -> controller.criarAtividadeMonitoria("12345678900", "senha1234567", 1, "P2"));
+            tarefas.add(() -> {
+                controller.atualizarBonificacao("12345678900", "senha1234567", 1);
+                return controller.gerarRelatorioParcial("12345678900", "senha1234567", false);
+            });
+        }
+
+        for (Future<String> resultado : executor.invokeAll(tarefas)) {
+            assertNotNull(resultado.get());
+        }
+        executor.shutdown();
+
+        for (int i = 1; i <= 200; i++) {
+            assertTrue(controller.alterarDescricaoAtividade("12345678900", "senha1234567", "123.456.789-00_" + i, "descricao"));
+        }
+        assertFalse(controller.alterarDescricaoAtividade("12345678900", "senha1234567", "123.456.789-00_201", "descricao"));
+        assertEquals("Nome: Ana, matrícula: 2023.1, bônus: 200", controller.listarUsuariosRankingDicas().get(0));
+    }
+
+    @Test
+    void testRankingDicasPaginado() {
+        controller.criarEstudante("Ana", "12345678900", "senha1234567", "2023.1");
+        controller.criarEstudante("Bruna", "12345678911", "senha1234567", "2023.2");
+        controller.criarEstudante("Caio", "12345678922", "senha1234567", "2023.3");
+        controller.atualizarBonificacao("12345678911", "senha1234567", 30);
+        controller.atualizarBonificacao("12345678900", "senha1234567", 10);
+        controller.atualizarBonificacao("12345678922", "senha1234567", 20);
+
+        assertEquals(List.of("Nome: Bruna, matrícula: 2023.2, bônus: 30",
+                "Nome: Caio, matrícula: 2023.3, bônus: 20"), controller.listarUsuariosRankingDicas(0, 2));
+        assertEquals(List.of("Nome: Ana, matrícula: 2023.1, bônus: 10"), controller.listarUsuariosRankingDicas(2, 5));
+        assertTrue(controller.listarUsuariosRankingDicas(3, 5).isEmpty());
+    }
+
+    @Test
+    void testRankingDicasReordenaAposNovaBonificacao() {
+        controller.criarEstudante("Ana", "12345678900", "senha1234567", "2023.1");
+        controller.criarEstudante("Bruna", "12345678911", "senha1234567", "2023.2");
+        controller.atualizarBonificacao("12345678911", "senha1234567", 15);
+        assertEquals(2, controller.posicaoRankingDicas("12345678900", "senha1234567"));
+
+        controller.atualizarBonificacao("12345678900", "senha1234567", 20);
+
+        assertEquals(1, controller.posicaoRankingDicas("12345678900", "senha1234567"));
+        assertEquals(2, controller.posicaoRankingDicas("12345678911", "senha1234567"));
+        assertEquals(2, controller.listarUsuariosRankingDicas().size());
+    }
+
+    @Test
+    void testRankingDicasPaginacaoInvalida() {
+        assertThrows(IllegalArgumentException.class, () -> controller.listarUsuariosRankingDicas(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> controller.listarUsuariosRankingDicas(0, -1));
+    }
+
+    @Test
+    void testExibirEstudantesIgnoraAcentosECapitalizacao() {
+        controller.criarEstudante("bruno", "12345678900", "senha1234567", "1");
+        controller.criarEstudante("Álvaro", "12345678911", "senha1234567", "2");
+        controller.criarEstudante("Carla", "12345678922", "senha1234567", "3");
+
+        List<String> lista = controller.exibirEstudantes();
+
+        assertTrue(lista.get(0).contains("Álvaro"));
+        assertTrue(lista.get(1).contains("bruno"));
+        assertTrue(lista.get(2).contains("Carla"));
+    }
+
+    @Test
+    void testExibirEstudantesPaginado() {
+        controller.criarEstudante("Carla", "12345678922", "senha1234567", "3");
+        controller.criarEstudante("Ana", "12345678900", "senha1234567", "1");
+        controller.criarEstudante("Bruna", "12345678911", "senha1234567", "2");
+
+        assertEquals(List.of("Nome: Bruna, matrícula: 2, bônus: 0", "Nome: Carla, matrícula: 3, bônus: 0"),
+                controller.exibirEstudantes(1, 5));
+        assertTrue(controller.exibirEstudantes(3, 5).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> controller.exibirEstudantes(-1, 5));
+    }
+
+    @Test
+    void testExibirEstudantesPorPrefixo() {
+        controller.criarEstudante("Mariana", "12345678900", "senha1234567", "1");
+        controller.criarEstudante("Márcio", "12345678911", "senha1234567", "2");
+        controller.criarEstudante("Mateus", "12345678922", "senha1234567", "3");
+        controller.criarEstudante("Lucas", "12345678933", "senha1234567", "4");
+
+        List<String> lista = controller.exibirEstudantesPorPrefixo("ma", 0, 10);
+
+        assertEquals(3, lista.size());
+        assertTrue(lista.get(0).contains("Márcio"));
+        assertTrue(lista.get(1).contains("Mariana"));
+        assertTrue(lista.get(2).contains("Mateus"));
+        assertEquals(1, controller.exibirEstudantesPorPrefixo("MAR", 1, 10).size());
+        assertTrue(controller.exibirEstudantesPorPrefixo("Z", 0, 10).isEmpty());
+    }
+
+    @Test
+    void testExibirEstudantesPorPrefixoNulo() {
+        assertThrows(IllegalArgumentException.class, () -> controller.exibirEstudantesPorPrefixo(null, 0, 10));
+    }
+
+    @Test
+    void testAlterarDescricoesAtividadesEmLote() {
+        controller.criarEstudante("Ana", "12345678900", "senha1234567", "2023.1");
+        controller.criarAtividadeMonitoria("12345678900", "senha1234567", 1, "P2");
+        controller.criarAtividadeEstagio("12345678900", "senha1234567", 300, "Empresa");
+
+        int alteradas = controller.alterarDescricoesAtividades("12345678900", "senha1234567", Map.of(
+                "123.456.789-00_1", "monitoria de P2",
+                "123.456.789-00_2", "inexistente",
+                "codigo invalido", "inexistente"));
+
+        assertEquals(1, alteradas);
+    }
+
+    @Test
+    void testAlterarComprovacoesAtividadesEmLote() {
+        controller.criarEstudante("Ana", "12345678900", "senha1234567", "2023.1");
+        controller.criarAtividadeMonitoria("12345678900", "senha1234567", 1, "P2");
+        controller.criarAtividadeMonitoria("12345678900", "senha1234567", 1, "LP2");
+
+        int alteradas = controller.alterarComprovacoesAtividades("12345678900", "senha1234567", Map.of(
+                "123.456.789-00_1", "http://comprovante/1",
+                "123.456.789-00_2", "http://comprovante/2"));
+
+        assertEquals(2, alteradas);
+    }
+
+    @Test
+    void testAlterarAtividadesEmLoteSemAutenticacao() {
+        controller.criarEstudante("Ana", "12345678900", "senha1234567", "2023.1");
+        assertThrows(SecurityException.class, () ->
+                controller.alterarDescricoesAtividades("12345678900", "senhaErrada", Map.of()));
+        assertThrows(IllegalArgumentException.class, () ->
+                controller.alterarComprovacoesAtividades("12345678900", "senha1234567", null));
+    }
+
+    @Test
+    void testCriarAtividadesEmLote() {
+        controller.criarEstudante("Ana", "12345678900", "senha1234567", "2023.1");
+        controller.criarAtividadeMonitoria("12345678900", "senha1234567", 1, "P2");
+
+        List<String> codigos = controller.criarAtividades("12345678900", "senha1234567", List.of(
+                new SolicitacaoAtividade("monitoria", 1, "LP2"),
+                new SolicitacaoAtividade("estagio", 300, "Empresa"),
+                new SolicitacaoAtividade("monitoria", 1, "EDA")));
+
+        assertEquals(List.of("123.456.789-00_2", "123.456.789-00_1", "123.456.789-00_3"), codigos);
+        assertEquals(12, controller.creditosAtividade("12345678900", "senha1234567", "monitoria"));
+        assertEquals(5, controller.creditosAtividade("12345678900", "senha1234567", "estagio"));
+    }
+
+    @Test
+    void testCriarAtividadesEmLoteComPedidoInvalidoNaoCadastraNenhuma() {
+        controller.criarEstudante("Ana", "12345678900", "senha1234567", "2023.1");
+
+        assertThrows(IllegalArgumentException.class, () ->
+                controller.criarAtividades("12345678900", "senha1234567", List.of(
+                        new SolicitacaoAtividade("monitoria", 1, "LP2"),
+                        new SolicitacaoAtividade("estagio", 300, " "))));
+
+        assertEquals(0, controller.creditosAtividade("12345678900", "senha1234567", "monitoria"));
+        assertEquals("123.456.789-00_1", controller.criarAtividades("12345678900", "senha1234567",
+                List.of(new SolicitacaoAtividade("monitoria", 1, "LP2"))).get(0));
+    }
+
+    @Test
+    void testCriarAtividadesEmLoteSemAutenticacao() {
+        controller.criarEstudante("Ana", "12345678900", "senha1234567", "2023.1");
+        assertThrows(SecurityException.class, () ->
+                controller.criarAtividades("12345678900", "errada", List.of()));
+        assertThrows(IllegalArgumentException.class, () ->
+                controller.criarAtividades("12345678900", "senha1234567", null));
+    }
+
+	@Test
+	public void testCacheDeRelatorios() {
+		controller.criarEstudante("Ana", "00011122233", "senha12345671233456", "20230001");
+		controller.criarAtividadeMonitoria("00011122233", "senha12345671233456", 1, "P2");
+
+		String primeiro = controller.gerarRelatorioParcial("00011122233", "senha12345671233456", false);
+		String segundo = controller.gerarRelatorioParcial("00011122233", "senha12345671233456", true);
+		assertSame(primeiro, segundo);
+		assertEquals(1L, controller.getAcertosCacheRelatorios());
+		assertEquals(1L, controller.getFalhasCacheRelatorios());
+
+		String porAtividade = controller.gerarRelatorioParcialPorAtividade("00011122233", "senha12345671233456", false, "monitoria");
+		assertNotEquals(primeiro, porAtividade);
+		assertEquals(2L, controller.getFalhasCacheRelatorios());
+
+		controller.criarAtividadeMonitoria("00011122233", "senha12345671233456", 1, "LP2");
+		String atualizado = controller.gerarRelatorioParcial("00011122233", "senha12345671233456", false);
+		assertTrue(atualizado.contains("MONITORIA: 8/16"));
+		assertEquals(3L, controller.getFalhasCacheRelatorios());
+		assertEquals(1L, controller.getAcertosCacheRelatorios());
+	}
+
+	@Test
+	public void testListarHistoricoPorIntervalo() {
+		controller.criarEstudante("Ana", "00011122233", "senha12345671233456", "20230001");
+		controller.gerarRelatorioParcial("00011122233", "senha12345671233456", true);
+		controller.gerarRelatorioParcial("00011122233", "senha12345671233456", true);
+
+		String hoje = java.time.LocalDate.now().format(java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+		String historico = controller.listarHistorico("00011122233", "senha12345671233456", hoje, hoje);
+		assertEquals(controller.listarHistorico("00011122233", "senha12345671233456"), historico);
+		assertEquals(2, historico.split("\n\n").length);
+		assertEquals("", controller.listarHistorico("00011122233", "senha12345671233456", "01/01/2000", "31/12/2000"));
+		assertThrows(IllegalArgumentException.class,
+				() -> controller.listarHistorico("00011122233", "senha12345671233456", "2000-01-01", hoje));
+	}
+}
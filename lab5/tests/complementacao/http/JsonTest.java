@@ -0,0 +1,54 @@
+package complementacao.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class JsonTest {
+
+	@Test
+	void testLerObjetoPlano() {
+		Map<String, String> valores = Json.lerObjeto(" { \"nome\" : \"Ana\", \"posicao\": 3, \"conferida\": true, \"vazio\": null } ");
+		assertEquals(Map.of("nome", "Ana", "posicao", "3", "conferida", "true"), valores);
+		assertTrue(Json.lerObjeto("{}").isEmpty());
+	}
+
+	@Test
+	void testLerEscapes() {
+		Map<String, String> valores = Json.lerObjeto("{\"texto\": \"linha\\n\\\"aspas\\\" \\u00e7\\\\\"}");
+		assertEquals("linha\n\"aspas\" ç\\", valores.get("texto"));
+	}
+
+	@Test
+	void testLerObjetoInvalido() {
+		assertThrows(IllegalArgumentException.class, () -> Json.lerObjeto("[]"));
+		assertThrows(IllegalArgumentException.class, () -> Json.lerObjeto("{\"a\": {\"b\": 1}}"));
+		assertThrows(IllegalArgumentException.class, () -> Json.lerObjeto("{\"a\": 1"));
+		assertThrows(IllegalArgumentException.class, () -> Json.lerObjeto("{\"a\": 1} x"));
+		assertThrows(IllegalArgumentException.class, () -> Json.lerObjeto("{\"a\": \"sem fim}"));
+		assertThrows(IllegalArgumentException.class, () -> Json.lerObjeto("{\"a\": 1.2.3}"));
+		assertThrows(IllegalArgumentException.class, () -> Json.lerObjeto("{\"a\": \"\\x\"}"));
+	}
+
+	@Test
+	void testEscrever() {
+		Map<String, Object> valor = new LinkedHashMap<>();
+		valor.put("texto", "a\"b\\c\n\u0001");
+		valor.put("lista", List.of(1, 2L, 0.5));
+		valor.put("booleano", false);
+		valor.put("nulo", null);
+		valor.put("infinito", Double.POSITIVE_INFINITY);
+		assertEquals("{\"texto\":\"a\\\"b\\\\c\\n\\u0001\",\"lista\":[1,2,0.5],\"booleano\":false,\"nulo\":null,\"infinito\":null}",
+				Json.escrever(valor));
+	}
+
+	@Test
+	void testEscreverELerSaoCompativeis() {
+		String original = "Dica: \"use\" \\ barras\ttabulação";
+		assertEquals(original, Json.lerObjeto(Json.escrever(Map.of("v", original))).get("v"));
+	}
+}
@@ -0,0 +1,131 @@
+package complementacao.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import complementacao.facade.Facade;
+
+class ServidorHttpTest {
+	private ServidorHttp servidor;
+	private HttpClient cliente;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		servidor = new ServidorHttp(new Facade(), 0);
+		servidor.iniciar();
+		cliente = HttpClient.newHttpClient();
+	}
+
+	@AfterEach
+	void tearDown() {
+		servidor.parar(0);
+	}
+
+	private HttpResponse<String> enviar(String metodo, String operacao, String corpo) throws IOException, InterruptedException {
+		HttpRequest requisicao = HttpRequest.newBuilder(URI.create("http://localhost:" + servidor.getPorta() + "/" + operacao))
+				.method(metodo, HttpRequest.BodyPublishers.ofString(corpo))
+				.build();
+		return cliente.send(requisicao, HttpResponse.BodyHandlers.ofString());
+	}
+
+	private HttpResponse<String> post(String operacao, String corpo) throws IOException, InterruptedException {
+		return enviar("POST", operacao, corpo);
+	}
+
+	@Test
+	void testCriarEListarEstudantes() throws IOException, InterruptedException {
+		HttpResponse<String> resposta = post("criarEstudante",
+				"{\"nome\": \"Ana\", \"cpf\": \"11111111111\", \"senha\": \"senha12345\", \"matricula\": \"2023.1\"}");
+		assertEquals(200, resposta.statusCode());
+		assertEquals("{\"resultado\":true}", resposta.body());
+		assertTrue(resposta.headers().firstValue("Content-Type").orElse("").startsWith("application/json"));
+
+		resposta = post("exibirEstudantes", "");
+		assertEquals("{\"resultado\":[\"Nome: Ana, matrícula: 2023.1, bônus: 0\"]}", resposta.body());
+		resposta = post("exibirEstudantes", "{\"inicio\": 1, \"quantidade\": 10}");
+		assertEquals("{\"resultado\":[]}", resposta.body());
+	}
+
+	@Test
+	void testDicasEAtividades() throws IOException, InterruptedException {
+		post("criarEstudante", "{\"nome\": \"Ana\", \"cpf\": \"11111111111\", \"senha\": \"senha12345\", \"matricula\": \"2023.1\"}");
+		String credenciais = "\"cpf\": \"11111111111\", \"senha\": \"senha12345\"";
+
+		assertEquals("{\"resultado\":0}", post("adicionarDica", "{" + credenciais + ", \"tema\": \"monitoria\"}").body());
+		assertEquals("{\"resultado\":true}",
+				post("adicionarElementoTextoDica", "{" + credenciais + ", \"posicao\": 0, \"texto\": \"Estude todos os dias\"}").body());
+		assertTrue(post("listarDica", "{\"posicao\": 0}").body().contains("Estude todos os dias"));
+
+		HttpResponse<String> resposta = post("criarAtividadeMonitoriaEmEstudante",
+				"{" + credenciais + ", \"unidadeAcumulada\": 1, \"disciplina\": \"P1\"}");
+		assertEquals(200, resposta.statusCode());
+		assertEquals("{\"resultado\":\"Atividade cadastrada com sucesso.\"}", resposta.body());
+		assertEquals("{\"resultado\":false}", post("verificarMetaAlcancada", "{" + credenciais + "}").body());
+	}
+
+	@Test
+	void testErros() throws IOException, InterruptedException {
+		post("criarEstudante", "{\"nome\": \"Ana\", \"cpf\": \"11111111111\", \"senha\": \"senha12345\", \"matricula\": \"2023.1\"}");
+
+		HttpResponse<String> resposta = post("verificarMetaAlcancada", "{\"cpf\": \"11111111111\", \"senha\": \"errada12345\"}");
+		assertEquals(403, resposta.statusCode());
+		assertTrue(resposta.body().startsWith("{\"erro\":"));
+
+		assertEquals(400, post("criarEstudante",
+				"{\"nome\": \"Bia\", \"cpf\": \"11111111111\", \"senha\": \"senha12345\", \"matricula\": \"2023.2\"}").statusCode());
+		assertEquals("{\"erro\":\"Parâmetro obrigatório ausente: tema.\"}",
+				post("adicionarDica", "{\"cpf\": \"11111111111\", \"senha\": \"senha12345\"}").body());
+		assertEquals("{\"erro\":\"Parâmetro inválido: posicao.\"}", post("listarDica", "{\"posicao\": \"um\"}").body());
+		assertEquals("{\"erro\":\"JSON inválido.\"}", post("listarDica", "{posicao: 1}").body());
+		assertEquals(404, post("salvarEstado", "{\"caminho\": \"/tmp/x\"}").statusCode());
+		assertEquals(404, post("", "").statusCode());
+		assertEquals(405, enviar("GET", "exibirEstudantes", "").statusCode());
+		assertEquals(413, post("listarDica", "{\"posicao\": \"" + "1".repeat(70 * 1024) + "\"}").statusCode());
+	}
+
+	@Test
+	void testMetricas() throws IOException, InterruptedException {
+		post("exibirEstudantes", "");
+		String corpo = post("metricas", "").body();
+		assertTrue(corpo.contains("\"exibirEstudantes()\":{\"chamadas\":1,"));
+	}
+
+	@Test
+	void testRequisicoesConcorrentes() throws InterruptedException {
+		Thread[] clientes = new Thread[8];
+		int[] criados = new int[clientes.length];
+		for (int t = 0; t < clientes.length; t++) {
+			int indice = t;
+			clientes[t] = new Thread(() -> {
+				for (int i = 0; i < 5; i++) {
+					String cpf = String.format("%011d", indice * 100 + i);
+					try {
+						HttpResponse<String> resposta = post("criarEstudante",
+								"{\"nome\": \"Estudante\", \"cpf\": \"" + cpf + "\", \"senha\": \"senha12345\", \"matricula\": \"2023.1\"}");
+						if (resposta.statusCode() == 200) criados[indice]++;
+					} catch (IOException | InterruptedException e) {
+						return;
+					}
+				}
+			});
+			clientes[t].start();
+		}
+		for (Thread thread : clientes) {
+			thread.join();
+		}
+		int total = 0;
+		for (int criado : criados) {
+			total += criado;
+		}
+		assertEquals(40, total);
+	}
+}
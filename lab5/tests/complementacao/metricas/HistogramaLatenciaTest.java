@@ -0,0 +1,82 @@
+package complementacao.metricas;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class HistogramaLatenciaTest {
+
+	@Test
+	void testHistogramaVazio() {
+		HistogramaLatencia histograma = new HistogramaLatencia();
+		assertEquals(0L, histograma.quantidade());
+		assertEquals(0L, histograma.maximo());
+		assertEquals(0L, histograma.percentil(0.99));
+	}
+
+	@Test
+	void testValoresPequenosSaoExatos() {
+		HistogramaLatencia histograma = new HistogramaLatencia();
+		for (int i = 0; i < 8; i++) {
+			histograma.registrar(i);
+		}
+		assertEquals(8L, histograma.quantidade());
+		assertEquals(3L, histograma.percentil(0.5));
+		assertEquals(7L, histograma.percentil(1));
+		assertEquals(0L, histograma.percentil(0));
+	}
+
+	@Test
+	void testPercentisDentroDaPrecisao() {
+		HistogramaLatencia histograma = new HistogramaLatencia();
+		for (int i = 1; i <= 100000; i++) {
+			histograma.registrar(i * 1000L);
+		}
+		long[] percentis = histograma.percentis(0.5, 0.99, 0.999);
+		assertDentroDaPrecisao(50000000L, percentis[0]);
+		assertDentroDaPrecisao(99000000L, percentis[1]);
+		assertDentroDaPrecisao(99900000L, percentis[2]);
+		assertEquals(100000000L, histograma.maximo());
+		assertEquals(100000000L, histograma.percentil(1));
+	}
+
+	@Test
+	void testValoresExtremos() {
+		HistogramaLatencia histograma = new HistogramaLatencia();
+		histograma.registrar(-5);
+		histograma.registrar(Long.MAX_VALUE);
+		assertEquals(2L, histograma.quantidade());
+		assertEquals(0L, histograma.percentil(0.5));
+		assertEquals(Long.MAX_VALUE, histograma.percentil(1));
+	}
+
+	@Test
+	void testPercentilInvalido() {
+		HistogramaLatencia histograma = new HistogramaLatencia();
+		assertThrows(IllegalArgumentException.class, () -> histograma.percentil(-0.1));
+		assertThrows(IllegalArgumentException.class, () -> histograma.percentil(1.5));
+	}
+
+	@Test
+	void testRegistroConcorrente() throws InterruptedException {
+		HistogramaLatencia histograma = new HistogramaLatencia();
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < 10000; i++) {
+					histograma.registrar(i);
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(40000L, histograma.quantidade());
+		assertEquals(9999L, histograma.maximo());
+	}
+
+	private static void assertDentroDaPrecisao(long esperado, long obtido) {
+		assertTrue(obtido >= esperado && obtido <= esperado * 1.125, "obtido " + obtido + " para " + esperado);
+	}
+}
@@ -0,0 +1,129 @@
+package complementacao.metricas;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import complementacao.facade.Facade;
+
+class MetricasOperacoesTest {
+	private final MetricasOperacoes metricas = new MetricasOperacoes();
+
+	@Test
+	void testContaChamadasEErrosPorCategoria() {
+		assertEquals("ok", metricas.medir("operacao", () -> "ok"));
+		assertThrows(IllegalArgumentException.class, () -> metricas.medir("operacao", () -> {
+			throw new IllegalArgumentException("Inválido.");
+		}));
+		assertThrows(SecurityException.class, () -> metricas.medir("operacao", () -> {
+			throw new SecurityException("Senha inválida.");
+		}));
+		assertThrows(IllegalStateException.class, () -> metricas.medir("operacao", () -> {
+			throw new IllegalStateException();
+		}));
+
+		ResumoOperacao resumo = metricas.resumir().get("operacao");
+		assertEquals("operacao", resumo.getNome());
+		assertEquals(4L, resumo.getChamadas());
+		assertEquals(1L, resumo.getErrosArgumento());
+		assertEquals(1L, resumo.getErrosSeguranca());
+		assertEquals(1L, resumo.getOutrosErros());
+	}
+
+	@Test
+	void testRelancaExcecaoVerificadaSemAlterar() {
+		IOException erro = new IOException("Falha.");
+		IOException lancada = assertThrows(IOException.class, () -> metricas.medir("io", () -> {
+			throw erro;
+		}));
+		assertSame(erro, lancada);
+		assertEquals(1L, metricas.resumir().get("io").getOutrosErros());
+	}
+
+	@Test
+	void testLatenciasRegistradas() throws InterruptedException {
+		metricas.medir("lenta", () -> {
+			Thread.sleep(5);
+			return null;
+		});
+		ResumoOperacao resumo = metricas.resumir().get("lenta");
+		assertTrue(resumo.getMaximoNanos() >= TimeUnit.MILLISECONDS.toNanos(5));
+		assertEquals(resumo.getMaximoNanos(), resumo.getP50Nanos());
+		assertTrue(resumo.getP99Nanos() <= resumo.getMaximoNanos());
+	}
+
+	@Test
+	void testMetricaObtidaUmaVezMedeComInicioEConclusao() {
+		MetricasOperacoes.Metrica metrica = metricas.metrica("operacao");
+		assertSame(metrica, metricas.metrica("operacao"));
+		assertFalse(metricas.resumir().containsKey("operacao"));
+
+		metrica.concluir(metrica.iniciar());
+		SecurityException erro = new SecurityException("Senha inválida.");
+		assertSame(erro, metrica.falhar(metrica.iniciar(), erro));
+		assertEquals("ok", metrica.medir(() -> "ok"));
+		metricas.medir("operacao", () -> null);
+
+		ResumoOperacao resumo = metricas.resumir().get("operacao");
+		assertEquals(4L, resumo.getChamadas());
+		assertEquals(1L, resumo.getErrosSeguranca());
+		assertEquals(0L, resumo.getErrosArgumento() + resumo.getOutrosErros());
+	}
+
+	@Test
+	void testFormatar() {
+		metricas.medir("b", () -> 1);
+		metricas.medir("a", () -> 2);
+		String[] linhas = metricas.formatar().split("\n");
+		assertEquals(3, linhas.length);
+		assertTrue(linhas[0].startsWith("operacao"));
+		assertTrue(linhas[1].startsWith("a "));
+		assertTrue(linhas[2].startsWith("b "));
+	}
+
+	@Test
+	void testDespejoPeriodico() throws InterruptedException {
+		metricas.medir("operacao", () -> null);
+		CountDownLatch despejos = new CountDownLatch(2);
+		AtomicReference<String> ultimo = new AtomicReference<>();
+		metricas.iniciarDespejoPeriodico(10, texto -> {
+			ultimo.set(texto);
+			despejos.countDown();
+		});
+		try {
+			assertTrue(despejos.await(5, TimeUnit.SECONDS));
+			assertTrue(ultimo.get().contains("operacao"));
+		} finally {
+			metricas.pararDespejoPeriodico();
+		}
+	}
+
+	@Test
+	void testDespejoPeriodicoInvalido() {
+		assertThrows(IllegalArgumentException.class, () -> metricas.iniciarDespejoPeriodico(0, System.out::print));
+		assertThrows(IllegalArgumentException.class, () -> metricas.iniciarDespejoPeriodico(10, null));
+	}
+
+	@Test
+	void testMetricasDaFacade() {
+		Facade facade = new Facade();
+		facade.criarEstudante("Ana", "11111111111", "senha12345", "2023.1");
+		assertThrows(IllegalArgumentException.class, () -> facade.criarEstudante("Bia", "11111111111", "senha12345", "2023.2"));
+		assertThrows(SecurityException.class, () -> facade.verificarMetaAlcancada("11111111111", "senhaerrada"));
+		facade.exibirEstudantes();
+		facade.exibirEstudantes(0, 10);
+
+		Map<String, ResumoOperacao> resumos = facade.metricas();
+		assertEquals(2L, resumos.get("criarEstudante").getChamadas());
+		assertEquals(1L, resumos.get("criarEstudante").getErrosArgumento());
+		assertEquals(1L, resumos.get("verificarMetaAlcancada").getErrosSeguranca());
+		assertEquals(1L, resumos.get("exibirEstudantes()").getChamadas());
+		assertEquals(1L, resumos.get("exibirEstudantes(int,int)").getChamadas());
+	}
+}
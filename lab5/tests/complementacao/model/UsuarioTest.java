@@ -3,6 +3,8 @@ package complementacao.model;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +13,7 @@ import complementacao.enums.TipoAtividade;
 import complementacao.model.atividade.Atividade;
 import complementacao.model.atividade.AtividadeEstagio;
 import complementacao.model.atividade.AtividadeMonitoria;
+import complementacao.util.CodificadorSenha;
 
 class UsuarioTest {
     private Usuario usuario;
@@ -219,6 +222,29 @@ class UsuarioTest {
         assertTrue(historico.contains("Relatório completo"));
     }
 
+    @Test
+    void testHistoricoOrdenadoComVariosRelatoriosPorDia() {
+        usuario.salvarRelatorio(LocalDate.of(2025, 5, 2), "segundo dia");
+        usuario.salvarRelatorio(LocalDate.of(2025, 5, 1), "primeiro");
+        usuario.salvarRelatorio(LocalDate.of(2025, 5, 1), "primeiro de novo");
+
+        assertEquals("2025-05-01\nprimeiro\n\n2025-05-01\nprimeiro de novo\n\n2025-05-02\nsegundo dia",
+                usuario.listarHistorico());
+    }
+
+    @Test
+    void testHistoricoPorIntervalo() {
+        for (int dia = 1; dia <= 10; dia++) {
+            usuario.salvarRelatorio(LocalDate.of(2025, 5, dia), "relatorio " + dia);
+        }
+
+        assertEquals(3L, usuario.streamHistorico(LocalDate.of(2025, 5, 3), LocalDate.of(2025, 5, 5)).count());
+        assertEquals("2025-05-10\nrelatorio 10", usuario.listarHistorico(LocalDate.of(2025, 5, 10), LocalDate.of(2025, 6, 1)));
+        assertEquals("", usuario.listarHistorico(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30)));
+        assertThrows(IllegalArgumentException.class,
+                () -> usuario.listarHistorico(LocalDate.of(2025, 5, 5), LocalDate.of(2025, 5, 4)));
+    }
+
     @Test
     void testExcluirRelatorio() {
         LocalDate data = LocalDate.of(2025, 4, 7);
@@ -274,4 +300,98 @@ class UsuarioTest {
         assertTrue(saida.contains("202312345"));
         assertTrue(saida.contains(String.valueOf(usuario.getBonificacao())));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testNomeNormalizadoSemAcentosEMinusculo() {
+        Usuario usuario = new Usuario("  Ângela Conceição ", "12345678900", "senha123", "2023");
+        assertEquals("angela conceicao", usuario.getNomeNormalizado());
+        assertEquals("jose", Usuario.normalizarNome(" JOSÉ "));
+    }
+
+    @Test
+    void testSessaoInvalidadaAoAlterarSenha() {
+        assertTrue(usuario.autenticar("12345678909", "senha123"));
+        assertTrue(usuario.alterarSenhaEstudante("12345678909", "senha123", "novaSenhaSegura123"));
+
+        assertFalse(usuario.autenticar("12345678909", "senha123"));
+        assertTrue(usuario.autenticar("12345678909", "novaSenhaSegura123"));
+    }
+
+    @Test
+    void testAutenticarSemSessaoConfigurada() {
+        Usuario semSessao = new Usuario("Bia", "12345678900", "senha123", "2023",
+                new CodificadorSenha("PBKDF2WithHmacSHA256", 1000, 0));
+        assertTrue(semSessao.autenticar("12345678900", "senha123"));
+        assertTrue(semSessao.autenticar("12345678900", "senha123"));
+        assertFalse(semSessao.autenticar("12345678900", "senha1234"));
+        assertFalse(semSessao.autenticar("12345678900", null));
+    }
+
+    @Test
+    void testConferenciaDaSenhaNaoBloqueiaOutrasOperacoes() throws InterruptedException {
+        CountDownLatch conferindo = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CodificadorSenha lento = new CodificadorSenha("PBKDF2WithHmacSHA256", 1000, 0) {
+            @Override
+            public boolean confere(String senha, byte[] sal, byte[] hash) {
+                conferindo.countDown();
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.confere(senha, sal, hash);
+            }
+        };
+        Usuario usuario = new Usuario("Bia", "12345678900", "senha123", "2023", lento);
+        Thread tentativa = new Thread(() -> usuario.autenticar("12345678900", "senhaErrada"));
+        tentativa.start();
+        assertTrue(conferindo.await(10, TimeUnit.SECONDS));
+
+        Thread operacao = new Thread(() -> usuario.atualizaBonificacao(5));
+        operacao.start();
+        operacao.join(10_000);
+        assertFalse(operacao.isAlive());
+        assertEquals(5, usuario.getBonificacao());
+
+        liberar.countDown();
+        tentativa.join(10_000);
+    }
+
+    @Test
+    void testGerarCodigoAtividadeComReservadas() {
+        assertEquals("123.456.789-09_1", usuario.gerarCodigoAtividade(TipoAtividade.MONITORIA));
+        assertEquals("123.456.789-09_3", usuario.gerarCodigoAtividade(TipoAtividade.MONITORIA, 2));
+
+        usuario.adicionarAtividadePorTipo(TipoAtividade.MONITORIA, new AtividadeMonitoria("123.456.789-09_1", 1, "P2"));
+
+        assertEquals("123.456.789-09_2", usuario.gerarCodigoAtividade(TipoAtividade.MONITORIA));
+        assertEquals("123.456.789-09_1", usuario.gerarCodigoAtividade(TipoAtividade.ESTAGIO));
+    }
+
+    @Test
+    void testCreditosPorTipoIndependentes() {
+        usuario.adicionarAtividadePorTipo(TipoAtividade.MONITORIA, new AtividadeMonitoria("M1", 2, "P2"));
+        usuario.adicionarAtividadePorTipo(TipoAtividade.MONITORIA, new AtividadeMonitoria("M2", 1, "LP2"));
+
+        assertEquals(12, usuario.creditosAtividade(TipoAtividade.MONITORIA));
+        assertEquals(16, usuario.getCreditoMaximoPorAtividade(TipoAtividade.MONITORIA));
+        assertEquals(0, usuario.creditosAtividade(TipoAtividade.ESTAGIO));
+        assertEquals(0, usuario.getCreditoMaximoPorAtividade(TipoAtividade.ESTAGIO));
+        assertEquals("PESQUISA_EXTENSAO: 0\nMONITORIA: 12\nESTAGIO: 0\nREPRESENTACAO_ESTUDANTIL: 0\nCréditos Totais: 12/22",
+                usuario.gerarMapaDeCreditos());
+    }
+
+    @Test
+    void testCacheDeRelatoriosInvalidadoPorNovaAtividade() {
+        usuario.guardarRelatorioEmCache(1, "relatorio");
+        assertEquals("relatorio", usuario.getRelatorioEmCache(1));
+        assertNull(usuario.getRelatorioEmCache(2));
+
+        long versao = usuario.getVersao();
+        usuario.adicionarAtividadePorTipo(TipoAtividade.MONITORIA, new AtividadeMonitoria("M1", 1, "P2"));
+
+        assertEquals(versao + 1, usuario.getVersao());
+        assertNull(usuario.getRelatorioEmCache(1));
+    }
+}
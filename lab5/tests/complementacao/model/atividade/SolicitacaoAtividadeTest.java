@@ -0,0 +1,24 @@
+package complementacao.model.atividade;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import complementacao.enums.TipoAtividade;
+
+class SolicitacaoAtividadeTest {
+
+	@Test
+	void testConstrutorConverteTipo() {
+		SolicitacaoAtividade solicitacao = new SolicitacaoAtividade("Estágio", 300, "Empresa X");
+		assertEquals(TipoAtividade.ESTAGIO, solicitacao.getTipo());
+		assertEquals(300, solicitacao.getUnidadeAcumulada());
+		assertEquals("Empresa X", solicitacao.getDadoComplementar());
+	}
+
+	@Test
+	void testConstrutorComTipoInvalido() {
+		assertThrows(IllegalArgumentException.class, () -> new SolicitacaoAtividade("futebol", 1, "Time"));
+		assertThrows(IllegalArgumentException.class, () -> new SolicitacaoAtividade(null, 1, "Time"));
+	}
+}
@@ -112,4 +112,24 @@ class DicaTest {
 
         assertEquals(esperado, dica.visualizacaoDetalhada());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testVisualizacaoGuardadaAteNovoElemento() {
+        dica.adicionarElementoDica(new ElementoTextoDica("A".repeat(100)));
+        String resumida = dica.visualizacaoResumida();
+        String detalhada = dica.visualizacaoDetalhada();
+
+        assertSame(resumida, dica.visualizacaoResumida());
+        assertSame(detalhada, dica.visualizacaoDetalhada());
+
+        dica.adicionarElementoDica(new ElementoTextoDica("B".repeat(100)));
+
+        assertNotEquals(resumida, dica.visualizacaoResumida());
+        assertTrue(dica.visualizacaoDetalhada().startsWith(detalhada + "\n"));
+    }
+
+    @Test
+    void testVisualizacaoSemElementos() {
+        assertEquals("Autor: Isadora\n", dica.visualizacaoResumida());
+    }
+}
@@ -0,0 +1,97 @@
+package complementacao.persistencia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import complementacao.facade.Facade;
+import complementacao.model.atividade.SolicitacaoAtividade;
+
+class GerenciadorSnapshotTest {
+	private static final String CPF = "12345678900";
+	private static final String SENHA = "senha1234567";
+	private Facade facade;
+	private Path arquivo;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		facade = new Facade();
+		arquivo = Files.createTempFile("snapshot", ".bin");
+
+		facade.criarEstudante("Ana Conceição", CPF, SENHA, "2023.1");
+		facade.criarEstudante("Bruno", "98765432100", "outrasenha123", "2023.2");
+		facade.criarAtividadeMonitoriaEmEstudante(CPF, SENHA, 2, "P2");
+		facade.criarAtividadeEstagioEmEstudante(CPF, SENHA, 600, "Empresa X");
+		facade.criarAtividadePesquisaExtensaoEmEstudante(CPF, SENHA, 12, "pibic");
+		facade.alterarDescricaoAtividade(CPF, SENHA, "123.456.789-00_1", "monitoria de P2");
+		facade.gerarRelatorioParcial(CPF, SENHA, true);
+
+		int dica = facade.adicionarDica(CPF, SENHA, "monitoria");
+		facade.adicionarElementoTextoDica(CPF, SENHA, dica, "x".repeat(150));
+		facade.adicionarElementoMultimidiaDica(CPF, SENHA, dica, "http://video", "Aula", 600);
+		facade.adicionarElementoReferenciaDica(CPF, SENHA, dica, "Livro", "Editora", 2020, true, 4);
+	}
+
+	@Test
+	void testRestauraEstudantesAtividadesEHistorico() throws IOException {
+		facade.salvarEstado(arquivo.toString());
+		Facade restaurada = new GerenciadorSnapshot().carregar(arquivo);
+
+		assertEquals(facade.exibirEstudantes(), restaurada.exibirEstudantes());
+		assertEquals(facade.listarUsuariosRankingDicas(), restaurada.listarUsuariosRankingDicas());
+		assertEquals(facade.gerarMapaCreditosAtividades(CPF, SENHA), restaurada.gerarMapaCreditosAtividades(CPF, SENHA));
+		assertEquals(facade.listarHistorico(CPF, SENHA), restaurada.listarHistorico(CPF, SENHA));
+		assertEquals("123.456.789-00_2", restaurada.criarAtividadesEmEstudante(CPF, SENHA,
+				List.of(new SolicitacaoAtividade("monitoria", 1, "LP2"))).get(0));
+		Files.delete(arquivo);
+	}
+
+	@Test
+	void testRestauraIndicesPorNomeERanking() throws IOException {
+		facade.salvarEstado(arquivo.toString());
+		Facade restaurada = new GerenciadorSnapshot().carregar(arquivo);
+
+		assertEquals(facade.exibirEstudantesPorPrefixo("ana conc", 0, 10), restaurada.exibirEstudantesPorPrefixo("Âna Conc", 0, 10));
+		assertEquals(1, restaurada.exibirEstudantesPorPrefixo("ana", 0, 10).size());
+		assertEquals(facade.posicaoRankingDicas(CPF, SENHA), restaurada.posicaoRankingDicas(CPF, SENHA));
+		restaurada.criarEstudante("Carla", "11122233344", SENHA, "2023.3");
+		assertEquals(3, restaurada.exibirEstudantes().size());
+		assertThrows(IllegalArgumentException.class, () -> restaurada.criarEstudante("Outra Ana", CPF, SENHA, "2023.4"));
+		Files.delete(arquivo);
+	}
+
+	@Test
+	void testRestauraSenhasSemAlteracao() throws IOException {
+		facade.salvarEstado(arquivo.toString());
+		Facade restaurada = new GerenciadorSnapshot().carregar(arquivo);
+
+		assertEquals(8, restaurada.creditosAtividade(CPF, SENHA, "monitoria"));
+		assertThrows(SecurityException.class, () -> restaurada.creditosAtividade(CPF, "senhaErrada", "monitoria"));
+		assertTrue(restaurada.alterarSenhaEstudante("98765432100", "outrasenha123", "novasenha123"));
+		Files.delete(arquivo);
+	}
+
+	@Test
+	void testRestauraDicas() throws IOException {
+		facade.salvarEstado(arquivo.toString());
+		facade.carregarEstado(arquivo.toString());
+
+		assertEquals(1, facade.listarDicas().size());
+		assertEquals(facade.listarDicaDetalhes(0), new GerenciadorSnapshot().carregar(arquivo).listarDicaDetalhes(0));
+		assertTrue(facade.listarDicaDetalhes(0).contains("Importância: 4"));
+		Files.delete(arquivo);
+	}
+
+	@Test
+	void testCarregarArquivoInvalido() throws IOException {
+		Files.write(arquivo, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+		assertThrows(IOException.class, () -> new GerenciadorSnapshot().carregar(arquivo));
+		Files.delete(arquivo);
+	}
+}
@@ -0,0 +1,153 @@
+package complementacao.persistencia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import complementacao.controller.UsuarioController;
+import complementacao.util.CodificadorSenha;
+
+class ImportadorEstudantesTest {
+	private UsuarioController controller;
+	private Path arquivo;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		controller = new UsuarioController(new CodificadorSenha(CodificadorSenha.ALGORITMO_PADRAO, 1, TimeUnit.MINUTES.toNanos(5)));
+		arquivo = Files.createTempFile("importacao", ".csv");
+	}
+
+	private void escrever(List<String> linhas) throws IOException {
+		Files.write(arquivo, linhas, StandardCharsets.UTF_8);
+	}
+
+	@Test
+	void testImportaEstudantesEAtividades() throws IOException {
+		escrever(List.of(
+				"estudante;12345678900;Ana Conceição;senha1234567;2023.1",
+				"atividade;12345678900;senha1234567;monitoria;2;P2",
+				"",
+				"estudante ; 98765432100 ; Bruno ; outrasenha123 ; 2023.2",
+				"atividade;98765432100;outrasenha123;estágio;300;Empresa X",
+				"atividade;12345678900;senha1234567;pesquisa;12;pibic"));
+
+		ResultadoImportacao resultado = new ImportadorEstudantes(controller).importar(arquivo);
+
+		assertEquals(2L, resultado.getEstudantesImportados());
+		assertEquals(3L, resultado.getAtividadesImportadas());
+		assertTrue(resultado.getErros().isEmpty());
+		assertEquals(List.of("Nome: Ana Conceição, matrícula: 2023.1, bônus: 0", "Nome: Bruno, matrícula: 2023.2, bônus: 0"),
+				controller.exibirEstudantes());
+		assertEquals(8, controller.creditosAtividade("12345678900", "senha1234567", "monitoria"));
+		assertEquals(10, controller.creditosAtividade("12345678900", "senha1234567", "pesquisa"));
+	}
+
+	@Test
+	void testLinhasInvalidasSaoRelatadasSemInterromper() throws IOException {
+		escrever(List.of(
+				"estudante;123;Ana;senha1234567;2023.1",
+				"estudante;12345678900;Ana;senha1234567;2023.1",
+				"estudante;12345678900;Ana de novo;senha1234567;2023.1",
+				"atividade;12345678900;senhaerrada;monitoria;2;P2",
+				"atividade;12345678900;senha1234567;monitoria;dois;P2",
+				"atividade;12345678900;senha1234567;esporte;2;P2",
+				"professor;12345678900",
+				"atividade;12345678900;senha1234567;monitoria;2",
+				"atividade;12345678900;senha1234567;monitoria;2;P2"));
+
+		ResultadoImportacao resultado = new ImportadorEstudantes(controller).importar(arquivo);
+
+		assertEquals(1L, resultado.getEstudantesImportados());
+		assertEquals(1L, resultado.getAtividadesImportadas());
+		assertEquals(List.of(
+				"Linha 1: CPF inválido.",
+				"Linha 3: Usuário com este CPF já existe.",
+				"Linha 4: Autenticação falhou.",
+				"Linha 5: Unidade acumulada inválida.",
+				"Linha 6: Atividade inválida",
+				"Linha 7: Tipo de registro inválido.",
+				"Linha 8: Quantidade de campos inválida: esperados 6, encontrados 5."), resultado.getErros());
+	}
+
+	@Test
+	void testMantemOrdemPorEstudanteEmParaleloENotificaLotes() throws IOException {
+		List<String> linhas = new ArrayList<>();
+		for (int i = 0; i < 3000; i++) {
+			String cpf = String.format("%011d", i);
+			linhas.add("estudante;" + cpf + ";Aluno " + i + ";senha1234567;2023.1");
+			linhas.add("atividade;" + cpf + ";senha1234567;monitoria;1;P" + i);
+		}
+		escrever(linhas);
+		AtomicInteger lotes = new AtomicInteger();
+
+		ResultadoImportacao resultado = new ImportadorEstudantes(controller, lotes::incrementAndGet, 4).importar(arquivo);
+
+		assertEquals(3000L, resultado.getEstudantesImportados());
+		assertEquals(3000L, resultado.getAtividadesImportadas());
+		assertEquals(0, resultado.getQuantidadeErros());
+		assertTrue(lotes.get() >= 12 && lotes.get() <= 15, "lotes: " + lotes.get());
+		assertEquals(3000, controller.exibirEstudantes().size());
+	}
+
+	@Test
+	void testAgrupaAtividadesDoMesmoEstudanteEmUmaChamada() throws IOException {
+		escrever(List.of(
+				"estudante;12345678900;Ana;senha1234567;2023.1",
+				"atividade;12345678900;senha1234567;monitoria;1;P1",
+				"atividade;12345678900;senha1234567;monitoria;1;P2",
+				"atividade;12345678900;senha1234567;pesquisa;12;inexistente",
+				"atividade;12345678900;senha1234567;estágio;300;Empresa"));
+		AtomicInteger lotes = new AtomicInteger();
+
+		ResultadoImportacao resultado = new ImportadorEstudantes(controller, lotes::incrementAndGet, 1).importar(arquivo);
+
+		assertEquals(3L, resultado.getAtividadesImportadas());
+		assertEquals(1, resultado.getQuantidadeErros());
+		assertTrue(resultado.getErros().get(0).startsWith("Linha 4: "));
+		assertEquals(8, controller.creditosAtividade("12345678900", "senha1234567", "monitoria"));
+		assertEquals(1, lotes.get());
+
+		escrever(List.of(
+				"atividade;12345678900;senha1234567;monitoria;1;P3",
+				"atividade;12345678900;senha1234567;monitoria;1;P4"));
+		resultado = new ImportadorEstudantes(controller, lotes::incrementAndGet, 1).importar(arquivo);
+
+		assertEquals(2L, resultado.getAtividadesImportadas());
+		assertEquals(2, lotes.get());
+	}
+
+	@Test
+	void testCamposEntreAspas() throws IOException {
+		escrever(List.of(
+				"estudante;\"12345678900\";\"Ana; a \"\"Aninha\"\"\";senha1234567;2023.1",
+				"atividade;12345678900;senha1234567;estágio;300; \"Empresa; Filial\" ",
+				"estudante;98765432100;\"Bruno;senha1234567;2023.2",
+				"estudante;98765432100;\"Bruno\" Silva;senha1234567;2023.2"));
+
+		ResultadoImportacao resultado = new ImportadorEstudantes(controller).importar(arquivo);
+
+		assertEquals(1L, resultado.getEstudantesImportados());
+		assertEquals(1L, resultado.getAtividadesImportadas());
+		assertEquals(List.of(
+				"Linha 3: Aspas não fechadas.",
+				"Linha 4: Texto após as aspas de fechamento."), resultado.getErros());
+		assertEquals(List.of("Nome: Ana; a \"Aninha\", matrícula: 2023.1, bônus: 0"), controller.exibirEstudantes());
+		assertEquals("Empresa; Filial", controller.listarUsuariosCadastrados().get(0).getAtividade("123.456.789-00_1").getDadoComplementar());
+	}
+
+	@Test
+	void testArquivoInexistenteEFaixasInvalidas() {
+		assertThrows(IOException.class, () -> new ImportadorEstudantes(controller).importar(arquivo.resolveSibling("nao-existe.csv")));
+		assertThrows(IllegalArgumentException.class, () -> new ImportadorEstudantes(controller, () -> {}, 0));
+	}
+}
@@ -0,0 +1,70 @@
+package complementacao.persistencia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+
+class LeitorBinarioTest {
+
+	private LeitorBinario lerArquivo(Path arquivo) throws IOException {
+		return new LeitorBinario(ByteBuffer.wrap(Files.readAllBytes(arquivo)));
+	}
+
+	@Test
+	void testLeValoresGravadosPeloEscritor() throws IOException {
+		Path arquivo = Files.createTempFile("binario", ".bin");
+		try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.WRITE)) {
+			EscritorBinario escritor = new EscritorBinario(canal);
+			escritor.escreverInt(42);
+			escritor.escreverLong(-7L);
+			escritor.escreverBoolean(true);
+			escritor.escreverString("Conceição");
+			escritor.escreverString(null);
+			escritor.escreverBytes(new byte[] {1, 2, 3});
+			escritor.descarregar();
+		}
+
+		LeitorBinario leitor = lerArquivo(arquivo);
+		assertEquals(42, leitor.lerInt());
+		assertEquals(-7L, leitor.lerLong());
+		assertTrue(leitor.lerBoolean());
+		assertEquals("Conceição", leitor.lerString());
+		assertNull(leitor.lerString());
+		assertEquals(3, leitor.lerBytes().length);
+		assertFalse(leitor.temDados());
+		Files.delete(arquivo);
+	}
+
+	@Test
+	void testEscreveTextoMaiorQueOBuffer() throws IOException {
+		Path arquivo = Files.createTempFile("binario", ".bin");
+		String texto = "a".repeat(200_000);
+		try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.WRITE)) {
+			EscritorBinario escritor = new EscritorBinario(canal);
+			escritor.escreverString(texto);
+			escritor.escreverInt(1);
+			escritor.descarregar();
+		}
+
+		LeitorBinario leitor = lerArquivo(arquivo);
+		assertEquals(texto, leitor.lerString());
+		assertEquals(1, leitor.lerInt());
+		Files.delete(arquivo);
+	}
+
+	@Test
+	void testDadosTruncados() {
+		LeitorBinario leitor = new LeitorBinario(ByteBuffer.wrap(new byte[] {0, 0}));
+		assertThrows(IOException.class, () -> leitor.lerInt());
+
+		LeitorBinario tamanhoInvalido = new LeitorBinario(ByteBuffer.wrap(new byte[] {0, 0, 0, 9, 1}));
+		assertThrows(IOException.class, () -> tamanhoInvalido.lerString());
+	}
+}
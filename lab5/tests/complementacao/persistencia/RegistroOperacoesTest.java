@@ -0,0 +1,345 @@
+package complementacao.persistencia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import complementacao.controller.DicaController;
+import complementacao.controller.UsuarioController;
+import complementacao.facade.Facade;
+import complementacao.model.Usuario;
+import complementacao.util.CodificadorSenha;
+
+class RegistroOperacoesTest {
+	private static final String CPF = "12345678900";
+	private static final String SENHA = "senha1234567";
+	private Path diretorio;
+	private String registro;
+	private String snapshot;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		diretorio = Files.createTempDirectory("registro");
+		registro = diretorio.resolve("operacoes.log").toString();
+		snapshot = diretorio.resolve("estado.bin").toString();
+	}
+
+	private void apagarDiretorio() throws IOException {
+		try (var arquivos = Files.list(diretorio)) {
+			for (Path arquivo : arquivos.toList()) Files.delete(arquivo);
+		}
+		Files.delete(diretorio);
+	}
+
+	private Facade popular(long janelaMillis) throws IOException {
+		Facade facade = new Facade();
+		facade.ativarRegistroOperacoes(registro, janelaMillis);
+		facade.criarEstudante("Ana", CPF, SENHA, "2023.1");
+		facade.criarAtividadeMonitoriaEmEstudante(CPF, SENHA, 2, "P2");
+		facade.alterarDescricaoAtividade(CPF, SENHA, "123.456.789-00_1", "monitoria de P2");
+		int dica = facade.adicionarDica(CPF, SENHA, "monitoria");
+		facade.adicionarElementoTextoDica(CPF, SENHA, dica, "x".repeat(150));
+		return facade;
+	}
+
+	@Test
+	void testRecuperaSemSnapshot() throws IOException {
+		Facade facade = popular(0);
+		facade.desativarRegistroOperacoes();
+
+		Facade recuperada = new Facade();
+		assertEquals(6, recuperada.recuperarEstado(snapshot, registro));
+		assertEquals(facade.exibirEstudantes(), recuperada.exibirEstudantes());
+		assertEquals(facade.listarUsuariosRankingDicas(), recuperada.listarUsuariosRankingDicas());
+		assertEquals(facade.listarDicaDetalhes(0), recuperada.listarDicaDetalhes(0));
+		assertEquals(facade.gerarRelatorioParcial(CPF, SENHA, false), recuperada.gerarRelatorioParcial(CPF, SENHA, false));
+		apagarDiretorio();
+	}
+
+	@Test
+	void testRecuperaSnapshotMaisRegistro() throws IOException {
+		Facade facade = popular(1);
+		facade.salvarEstado(snapshot);
+		facade.alterarSenhaEstudante(CPF, SENHA, "novasenha123");
+		facade.criarEstudante("Bruno", "98765432100", "outrasenha123", "2023.2");
+		facade.desativarRegistroOperacoes();
+
+		Facade recuperada = new Facade();
+		assertEquals(2, recuperada.recuperarEstado(snapshot, registro));
+		assertEquals(2, recuperada.exibirEstudantes().size());
+		assertThrows(SecurityException.class, () -> recuperada.gerarRelatorioFinal(CPF, SENHA));
+		assertEquals(8, recuperada.creditosAtividade(CPF, "novasenha123", "monitoria"));
+		assertEquals(1L, recuperada.metricas().get("recuperarEstado").getChamadas());
+		assertFalse(recuperada.metricas().containsKey("carregarEstado"));
+		assertEquals(1L, facade.metricas().get("desativarRegistroOperacoes").getChamadas());
+		apagarDiretorio();
+	}
+
+	@Test
+	void testReaplicacaoIgnoraAlteracoesJaNoSnapshot() throws IOException {
+		Facade facade = popular(0);
+		facade.adicionarElementoReferenciaDica(CPF, SENHA, 0, "Livro", "Editora", 2020, true, 4);
+		facade.gerarRelatorioParcial(CPF, SENHA, true);
+		facade.gerarRelatorioParcial(CPF, SENHA, true);
+		facade.alterarSenhaEstudante(CPF, SENHA, "novasenha123");
+		Path segmento = Path.of(registro + ".1");
+		byte[] registrosAnteriores = Files.readAllBytes(segmento);
+		facade.salvarEstado(snapshot);
+		facade.desativarRegistroOperacoes();
+		Files.write(segmento, registrosAnteriores);
+
+		Facade recuperada = new Facade();
+		assertEquals(11, recuperada.recuperarEstado(snapshot, registro));
+		assertEquals(facade.listarDicaDetalhes(0), recuperada.listarDicaDetalhes(0));
+		assertEquals(facade.listarUsuariosRankingDicas(), recuperada.listarUsuariosRankingDicas());
+		assertEquals(facade.listarHistorico(CPF, "novasenha123"), recuperada.listarHistorico(CPF, "novasenha123"));
+		assertEquals(facade.gerarMapaCreditosAtividades(CPF, "novasenha123"), recuperada.gerarMapaCreditosAtividades(CPF, "novasenha123"));
+		apagarDiretorio();
+	}
+
+	@Test
+	void testReaplicaAtividadesDeTiposDiferentesComOMesmoCodigo() throws IOException {
+		Facade facade = new Facade();
+		facade.ativarRegistroOperacoes(registro, 0);
+		facade.criarEstudante("Ana", CPF, SENHA, "2023.1");
+		facade.criarAtividadeEstagioEmEstudante(CPF, SENHA, 300, "Empresa");
+		facade.criarAtividadeMonitoriaEmEstudante(CPF, SENHA, 2, "P2");
+		facade.alterarDescricaoAtividade(CPF, SENHA, "123.456.789-00_1", "primeira atividade");
+		facade.desativarRegistroOperacoes();
+
+		Facade recuperada = new Facade();
+		assertEquals(4, recuperada.recuperarEstado(snapshot, registro));
+		assertEquals(8, recuperada.creditosAtividade(CPF, SENHA, "monitoria"));
+		assertEquals(facade.gerarMapaCreditosAtividades(CPF, SENHA), recuperada.gerarMapaCreditosAtividades(CPF, SENHA));
+		assertEquals(facade.gerarRelatorioParcial(CPF, SENHA, false), recuperada.gerarRelatorioParcial(CPF, SENHA, false));
+		apagarDiretorio();
+	}
+
+	@Test
+	void testRegistroDeElementoNaoCresceComADica() throws IOException {
+		Facade facade = popular(0);
+		Path segmento = Path.of(registro + ".1");
+		List<Long> crescimentos = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			long antes = Files.size(segmento);
+			facade.adicionarElementoTextoDica(CPF, SENHA, 0, "y".repeat(150));
+			crescimentos.add(Files.size(segmento) - antes);
+		}
+		facade.desativarRegistroOperacoes();
+		assertEquals(crescimentos.get(0), crescimentos.get(199));
+
+		Facade recuperada = new Facade();
+		recuperada.recuperarEstado(snapshot, registro);
+		assertEquals(facade.listarDicaDetalhes(0), recuperada.listarDicaDetalhes(0));
+		assertEquals(facade.listarUsuariosRankingDicas(), recuperada.listarUsuariosRankingDicas());
+		apagarDiretorio();
+	}
+
+	@Test
+	void testRegistroNaoGuardaSenhaEmTexto() throws IOException {
+		popular(0).desativarRegistroOperacoes();
+		try (var arquivos = Files.list(diretorio)) {
+			for (Path arquivo : arquivos.toList()) {
+				assertFalse(new String(Files.readAllBytes(arquivo), "ISO-8859-1").contains(SENHA));
+			}
+		}
+		apagarDiretorio();
+	}
+
+	@Test
+	void testDescartaRegistroIncompleto() throws IOException {
+		popular(0).desativarRegistroOperacoes();
+		Path segmento = Path.of(registro + ".1");
+		Files.write(segmento, new byte[] {0, 0, 0, 50, 1, 2, 3}, StandardOpenOption.APPEND);
+
+		Facade recuperada = new Facade();
+		assertEquals(6, recuperada.recuperarEstado(snapshot, registro));
+		assertEquals(1, recuperada.exibirEstudantes().size());
+		apagarDiretorio();
+	}
+
+	@Test
+	void testDescartaRegistroCorrompido() throws IOException {
+		popular(0).desativarRegistroOperacoes();
+		Path segmento = Path.of(registro + ".1");
+		byte[] conteudo = Files.readAllBytes(segmento);
+		conteudo[conteudo.length - 1] ^= 1;
+		Files.write(segmento, conteudo);
+
+		Facade recuperada = new Facade();
+		assertEquals(5, recuperada.recuperarEstado(snapshot, registro));
+		assertTrue(recuperada.listarDicaDetalhes(0).contains("x".repeat(150)));
+		apagarDiretorio();
+	}
+
+	@Test
+	void testSnapshotDescartaSegmentosAnteriores() throws IOException {
+		Facade facade = popular(0);
+		facade.salvarEstado(snapshot);
+		facade.desativarRegistroOperacoes();
+
+		assertFalse(Files.exists(Path.of(registro + ".1")));
+		assertTrue(Files.exists(Path.of(registro + ".2")));
+		apagarDiretorio();
+	}
+
+	@Test
+	void testGravacaoEmGrupoConcorrente() throws Exception {
+		Facade facade = new Facade();
+		facade.ativarRegistroOperacoes(registro, 2);
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			String cpf = String.format("%011d", i);
+			Thread thread = new Thread(() -> {
+				facade.criarEstudante("Estudante " + cpf, cpf, SENHA, "2023." + cpf);
+				for (int j = 0; j < 5; j++) {
+					facade.criarAtividadeMonitoriaEmEstudante(cpf, SENHA, 1, "P" + j);
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) thread.join();
+		facade.desativarRegistroOperacoes();
+
+		Facade recuperada = new Facade();
+		assertEquals(48, recuperada.recuperarEstado(snapshot, registro));
+		assertEquals(8, recuperada.exibirEstudantes().size());
+		assertEquals(20, recuperada.creditosAtividade(String.format("%011d", 3), SENHA, "monitoria"));
+		apagarDiretorio();
+	}
+
+	@Test
+	void testImportacaoConfirmaOsRegistrosUmaVezPorLote() throws IOException {
+		CodificadorSenha codificador = new CodificadorSenha(CodificadorSenha.ALGORITMO_PADRAO, 1, 0);
+		UsuarioController usuarioController = new UsuarioController(codificador);
+		Facade facade = new Facade(usuarioController, new DicaController(usuarioController));
+		facade.ativarRegistroOperacoes(registro, 20);
+		List<String> linhas = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			String cpf = String.format("%011d", i);
+			linhas.add("estudante;" + cpf + ";Aluno " + i + ";" + SENHA + ";2023.1");
+			linhas.add("atividade;" + cpf + ";" + SENHA + ";monitoria;1;P" + i);
+		}
+		Path arquivo = diretorio.resolve("importacao.csv");
+		Files.write(arquivo, linhas);
+
+		long inicio = System.nanoTime();
+		ResultadoImportacao resultado = facade.importarEstudantes(arquivo.toString());
+		long duracaoMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+		facade.desativarRegistroOperacoes();
+
+		assertEquals(1000L, resultado.getEstudantesImportados());
+		assertEquals(1000L, resultado.getAtividadesImportadas());
+		// Confirmando a cada linha, as 2000 linhas esperariam 2000 janelas de 20 ms.
+		assertTrue(duracaoMillis < 10_000, "duração: " + duracaoMillis + " ms");
+
+		UsuarioController usuariosRecuperados = new UsuarioController(codificador);
+		Facade recuperada = new Facade(usuariosRecuperados, new DicaController(usuariosRecuperados));
+		assertEquals(2000, recuperada.recuperarEstado(snapshot, registro));
+		assertEquals(facade.exibirEstudantes(), recuperada.exibirEstudantes());
+		assertEquals(4, recuperada.creditosAtividade(String.format("%011d", 999), SENHA, "monitoria"));
+		apagarDiretorio();
+	}
+
+	private static void aguardarEstado(Thread thread, Thread.State estado) throws InterruptedException {
+		while (thread.getState() != estado) Thread.sleep(1);
+	}
+
+	@Test
+	void testInterrupcaoEncerraEsperaDaGravacao() throws Exception {
+		CodificadorSenha codificador = new CodificadorSenha(CodificadorSenha.ALGORITMO_PADRAO, 1, 0);
+		RegistroOperacoes operacoes = new RegistroOperacoes(Path.of(registro), TimeUnit.MINUTES.toNanos(10));
+		List<Throwable> falhas = new CopyOnWriteArrayList<>();
+		List<Boolean> interrompidas = new CopyOnWriteArrayList<>();
+		List<Thread> threads = new ArrayList<>();
+		// Um registro ainda não confirmado da thread do teste faz a primeira thread esperar a janela.
+		operacoes.estudanteCriado(new Usuario("Estudante 3", "00000000003", SENHA, "2023.3", codificador));
+		for (int i = 0; i < 2; i++) {
+			Usuario usuario = new Usuario("Estudante " + i, String.format("%011d", i), SENHA, "2023." + i, codificador);
+			threads.add(new Thread(() -> {
+				try {
+					operacoes.estudanteCriado(usuario);
+					operacoes.confirmarAlteracoes();
+				} catch (IOException e) {
+					falhas.add(e);
+					interrompidas.add(Thread.currentThread().isInterrupted());
+				}
+			}));
+		}
+
+		threads.get(0).start();
+		aguardarEstado(threads.get(0), Thread.State.TIMED_WAITING);
+		threads.get(1).start();
+		aguardarEstado(threads.get(1), Thread.State.WAITING);
+		for (Thread thread : threads) {
+			thread.interrupt();
+			thread.join(5000);
+			assertFalse(thread.isAlive());
+		}
+		assertEquals(2, falhas.size());
+		assertTrue(falhas.stream().allMatch(falha -> falha instanceof InterruptedIOException));
+		assertEquals(List.of(true, true), interrompidas);
+
+		Thread.currentThread().interrupt();
+		operacoes.estudanteCriado(new Usuario("Estudante 2", "00000000002", SENHA, "2023.2", codificador));
+		assertThrows(InterruptedIOException.class, operacoes::confirmarAlteracoes);
+		assertTrue(Thread.interrupted());
+
+		operacoes.close();
+		UsuarioController usuarioController = new UsuarioController(codificador);
+		assertEquals(4, RegistroOperacoes.reaplicar(Path.of(registro), usuarioController, new DicaController(usuarioController)));
+		apagarDiretorio();
+	}
+
+	@Test
+	void testGrupoNaoEsperaAJanelaQuandoTodosAguardam() throws Exception {
+		CodificadorSenha codificador = new CodificadorSenha(CodificadorSenha.ALGORITMO_PADRAO, 1, 0);
+		RegistroOperacoes operacoes = new RegistroOperacoes(Path.of(registro), TimeUnit.MINUTES.toNanos(10));
+		List<Throwable> falhas = new CopyOnWriteArrayList<>();
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			Usuario usuario = new Usuario("Estudante " + i, String.format("%011d", i), SENHA, "2023." + i, codificador);
+			threads.add(new Thread(() -> {
+				try {
+					for (int j = 0; j < 10; j++) {
+						operacoes.estudanteCriado(usuario);
+						operacoes.confirmarAlteracoes();
+					}
+				} catch (IOException e) {
+					falhas.add(e);
+				}
+			}));
+		}
+
+		for (Thread thread : threads) thread.start();
+		for (Thread thread : threads) {
+			thread.join(10_000);
+			assertFalse(thread.isAlive());
+		}
+		assertTrue(falhas.isEmpty());
+
+		operacoes.close();
+		UsuarioController usuarioController = new UsuarioController(codificador);
+		assertEquals(40, RegistroOperacoes.reaplicar(Path.of(registro), usuarioController, new DicaController(usuarioController)));
+		assertEquals(4, usuarioController.exibirEstudantes().size());
+		apagarDiretorio();
+	}
+
+	@Test
+	void testJanelaNegativa() throws IOException {
+		assertThrows(IllegalArgumentException.class, () -> new RegistroOperacoes(Path.of(registro), -1));
+		apagarDiretorio();
+	}
+}
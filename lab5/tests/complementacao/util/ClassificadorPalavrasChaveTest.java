@@ -0,0 +1,65 @@
+package complementacao.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ClassificadorPalavrasChaveTest {
+	private final Map<String, List<String>> palavras = Map.of(
+			"fruta", List.of("maca", "banana"),
+			"cor", List.of("verde", "amarelo"),
+			"curta", List.of("an"));
+	private final ClassificadorPalavrasChave<String> classificador =
+			new ClassificadorPalavrasChave<>(List.of("fruta", "cor", "curta"), palavras::get);
+
+	@Test
+	void testClassificaPorPalavraContida() {
+		assertEquals("cor", classificador.classificar("um carro VERDE escuro"));
+		assertEquals("fruta", classificador.classificar("comi uma maçã"));
+		assertNull(classificador.classificar("nada a ver"));
+		assertNull(classificador.classificar(null));
+	}
+
+	@Test
+	void testPrioridadeSegueOrdemDosValores() {
+		assertEquals("fruta", classificador.classificar("amarelo como banana"));
+		assertEquals("fruta", classificador.classificar("banana"));
+		assertEquals("curta", classificador.classificar("ano"));
+	}
+
+	@Test
+	void testPalavrasSobrepostas() {
+		ClassificadorPalavrasChave<Integer> sobrepostas =
+				new ClassificadorPalavrasChave<>(List.of(1, 2), v -> v == 1 ? List.of("abcd") : List.of("bc"));
+		assertEquals(2, sobrepostas.classificar("xabcx"));
+		assertEquals(1, sobrepostas.classificar("xabcd"));
+	}
+
+	@Test
+	void testIdentificaTextoExato() {
+		assertEquals("fruta", classificador.identificar("  Maçã "));
+		assertEquals("cor", classificador.identificar("AMARELO"));
+		assertNull(classificador.identificar("maca verde"));
+		assertNull(classificador.identificar("mac"));
+		assertNull(classificador.identificar(""));
+	}
+
+	@Test
+	void testResultadoEmCacheIgualAoCalculado() {
+		for (int i = 0; i < 3; i++) {
+			assertEquals("cor", classificador.classificar("Amarelo"));
+			assertNull(classificador.classificar("Árvore"));
+			assertEquals("cor", classificador.identificar("verde"));
+		}
+	}
+
+	@Test
+	void testPalavrasChaveInvalidas() {
+		assertThrows(IllegalArgumentException.class, () -> new ClassificadorPalavrasChave<String>(List.of(), v -> List.of("a")));
+		assertThrows(IllegalArgumentException.class, () -> new ClassificadorPalavrasChave<>(List.of("x"), v -> List.of("")));
+		assertThrows(IllegalArgumentException.class, () -> new ClassificadorPalavrasChave<>(List.of("x"), v -> List.of("ß")));
+	}
+}
@@ -0,0 +1,59 @@
+package complementacao.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CodificadorSenhaTest {
+	private CodificadorSenha codificador;
+
+	@BeforeEach
+	void setUp() {
+		codificador = new CodificadorSenha("PBKDF2WithHmacSHA256", 1000, 1_000_000_000L);
+	}
+
+	@Test
+	void testSenhaCorretaConfere() {
+		byte[] sal = codificador.gerarSal();
+		byte[] hash = codificador.codificar("senha1234", sal);
+		assertTrue(codificador.confere("senha1234", sal, hash));
+	}
+
+	@Test
+	void testSenhaIncorretaNaoConfere() {
+		byte[] sal = codificador.gerarSal();
+		byte[] hash = codificador.codificar("senha1234", sal);
+		assertFalse(codificador.confere("senha12345", sal, hash));
+		assertFalse(codificador.confere(null, sal, hash));
+	}
+
+	@Test
+	void testSaisDiferentesGeramHashesDiferentes() {
+		byte[] hash1 = codificador.codificar("senha1234", codificador.gerarSal());
+		byte[] hash2 = codificador.codificar("senha1234", codificador.gerarSal());
+		assertFalse(Arrays.equals(hash1, hash2));
+	}
+
+	@Test
+	void testResumoSessaoDeterministico() {
+		byte[] sal = codificador.gerarSal();
+		assertTrue(Arrays.equals(codificador.resumoSessao("senha1234", sal), codificador.resumoSessao("senha1234", sal)));
+		assertFalse(Arrays.equals(codificador.resumoSessao("senha1234", sal), codificador.resumoSessao("senha4321", sal)));
+	}
+
+	@Test
+	void testConfiguracaoInvalida() {
+		assertThrows(IllegalArgumentException.class, () -> new CodificadorSenha("AlgoritmoInexistente", 1000, 0));
+		assertThrows(IllegalArgumentException.class, () -> new CodificadorSenha("PBKDF2WithHmacSHA256", 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> new CodificadorSenha("PBKDF2WithHmacSHA256", 1000, -1));
+		assertThrows(IllegalArgumentException.class, () -> new CodificadorSenha(null, 1000, 0));
+	}
+
+	@Test
+	void testDuracaoSessao() {
+		assertEquals(1_000_000_000L, codificador.getDuracaoSessaoNanos());
+	}
+}
@@ -0,0 +1,38 @@
+package complementacao.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class CompressorTextoTest {
+
+	@Test
+	void testTextoCurtoSemCompressao() {
+		byte[] compactado = CompressorTexto.compactar("abc");
+		assertEquals(4, compactado.length);
+		assertEquals("abc", CompressorTexto.descompactar(compactado));
+	}
+
+	@Test
+	void testTextoRepetitivoComprimido() {
+		String relatorio = "Ana, 12345678900, 2023.1.\nMONITORIA: 8/16\nESTAGIO: 0/18\n".repeat(20);
+		byte[] compactado = CompressorTexto.compactar(relatorio);
+		assertTrue(compactado.length < relatorio.length() / 4);
+		assertEquals(relatorio, CompressorTexto.descompactar(compactado));
+	}
+
+	@Test
+	void testTextoComAcentosEVazio() {
+		String texto = "Conceição, atenção: relatório final de extensão.";
+		assertEquals(texto, CompressorTexto.descompactar(CompressorTexto.compactar(texto)));
+		assertEquals("", CompressorTexto.descompactar(CompressorTexto.compactar("")));
+	}
+
+	@Test
+	void testDadosInvalidos() {
+		assertThrows(IllegalArgumentException.class, () -> CompressorTexto.compactar(null));
+		assertThrows(IllegalArgumentException.class, () -> CompressorTexto.descompactar(new byte[0]));
+		assertThrows(IllegalArgumentException.class, () -> CompressorTexto.descompactar(new byte[] {7, 1, 2}));
+		assertThrows(IllegalArgumentException.class, () -> CompressorTexto.descompactar(new byte[] {1, 5}));
+	}
+}
@@ -0,0 +1,60 @@
+package complementacao.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IndiceInvertidoTest {
+	private IndiceInvertido indice;
+
+	@BeforeEach
+	void setUp() {
+		indice = new IndiceInvertido();
+		indice.indexar(0, "Dicas de estágio em empresa de software");
+		indice.indexar(1, "Monitoria de programação: estagio, estágio e ESTÁGIO");
+		indice.indexar(2, "Pesquisa em software livre");
+		indice.indexar(0, "Como conseguir um estágio");
+	}
+
+	@Test
+	void testExtrairTermosSemAcentos() {
+		assertEquals(List.of("programacao", "em", "c1", "estagio"), IndiceInvertido.extrairTermos("Programação em C1, a ESTÁGIO!"));
+		assertTrue(IndiceInvertido.extrairTermos("  -- ").isEmpty());
+	}
+
+	@Test
+	void testBuscaOrdenadaPorFrequencia() {
+		assertEquals(List.of(1, 0), indice.buscar("Estágio", 0, 10));
+		assertEquals(List.of(0, 2), indice.buscar("software", 0, 10));
+	}
+
+	@Test
+	void testBuscaExigeTodosOsTermos() {
+		assertEquals(List.of(0), indice.buscar("estagio empresa", 0, 10));
+		assertTrue(indice.buscar("estagio pesquisa", 0, 10).isEmpty());
+		assertTrue(indice.buscar("inexistente", 0, 10).isEmpty());
+	}
+
+	@Test
+	void testBuscaPaginada() {
+		assertEquals(List.of(0), indice.buscar("estagio", 1, 10));
+		assertEquals(List.of(1), indice.buscar("estagio", 0, 1));
+		assertTrue(indice.buscar("estagio", 5, 1).isEmpty());
+	}
+
+	@Test
+	void testDocumentosForaDeOrdem() {
+		indice.indexar(7, "software");
+		indice.indexar(5, "software software");
+		assertEquals(List.of(5, 0, 2, 7), indice.buscar("software", 0, 10));
+	}
+
+	@Test
+	void testConsultaInvalida() {
+		assertThrows(IllegalArgumentException.class, () -> indice.buscar(" ", 0, 10));
+		assertThrows(IllegalArgumentException.class, () -> indice.buscar("estagio", -1, 10));
+	}
+}
@@ -0,0 +1,77 @@
+package complementacao.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import complementacao.model.atividade.AtividadeEstagio;
+import complementacao.model.atividade.AtividadeMonitoria;
+
+class PoolTextosTest {
+
+	@Test
+	void testTextosIguaisCompartilhamInstancia() {
+		PoolTextos pool = new PoolTextos(64);
+		String primeiro = new String("Empresa Júnior");
+		String segundo = new String("Empresa Júnior");
+		assertSame(primeiro, pool.canonizar(primeiro));
+		assertSame(primeiro, pool.canonizar(segundo));
+		assertSame(primeiro, pool.canonizar(primeiro));
+		assertEquals("Outra", pool.canonizar("Outra"));
+		assertNull(pool.canonizar(null));
+	}
+
+	@Test
+	void testEstatisticas() {
+		PoolTextos pool = new PoolTextos(64);
+		assertEquals(0.0, pool.getTaxaDeduplicacao());
+		for (int i = 0; i < 4; i++) {
+			pool.canonizar(new String("Programação 2"));
+		}
+		assertEquals(4L, pool.getConsultas());
+		assertEquals(3L, pool.getAcertos());
+		assertEquals(0.75, pool.getTaxaDeduplicacao());
+		assertEquals(3L * (24 + 32), pool.getBytesEconomizados());
+		assertEquals(1, pool.contarTextosGuardados());
+		assertTrue(pool.formatarEstatisticas().contains("deduplicacao=75.0%"));
+	}
+
+	@Test
+	void testCapacidadeLimitada() {
+		PoolTextos pool = new PoolTextos(5);
+		assertEquals(8, pool.getCapacidade());
+		String[] textos = new String[1000];
+		for (int i = 0; i < textos.length; i++) {
+			textos[i] = "Disciplina " + i;
+			assertSame(textos[i], pool.canonizar(textos[i]));
+		}
+		assertEquals(8, pool.contarTextosGuardados());
+		assertEquals("Disciplina 7", pool.canonizar(new String("Disciplina 7")));
+		assertThrows(IllegalArgumentException.class, () -> new PoolTextos(0));
+		assertThrows(IllegalArgumentException.class, () -> new PoolTextos((1 << 30) + 1));
+	}
+
+	@Test
+	void testTextosSemUsoSaoColetados() throws InterruptedException {
+		PoolTextos pool = new PoolTextos(16);
+		for (int i = 0; i < 10; i++) {
+			pool.canonizar(new String("Empresa " + i));
+		}
+		for (int i = 0; i < 20 && pool.contarTextosGuardados() > 0; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertEquals(0, pool.contarTextosGuardados());
+	}
+
+	@Test
+	void testAtividadesCompartilhamDetalhes() {
+		AtividadeEstagio primeiro = new AtividadeEstagio("1", 300, new String(" Empresa Pool Teste "));
+		AtividadeEstagio segundo = new AtividadeEstagio("2", 300, new String("Empresa Pool Teste"));
+		assertEquals("Empresa Pool Teste", primeiro.getDadoComplementar());
+		assertSame(primeiro.getDadoComplementar(), segundo.getDadoComplementar());
+
+		AtividadeMonitoria monitoria = new AtividadeMonitoria("3", 1, new String("Empresa Pool Teste"));
+		assertSame(primeiro.getDadoComplementar(), monitoria.getDadoComplementar());
+	}
+}
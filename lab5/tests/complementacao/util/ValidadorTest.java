@@ -144,4 +144,47 @@ class ValidadorTest {
         assertThrows(IllegalArgumentException.class, () -> Validador.validarEConverterData("2025/04/07"));
         assertThrows(IllegalArgumentException.class, () -> Validador.validarEConverterData("99/99/9999"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testValidarPaginacaoValida() {
+        assertDoesNotThrow(() -> Validador.validarPaginacao(0, 0));
+        assertDoesNotThrow(() -> Validador.validarPaginacao(10, 20));
+    }
+
+    @Test
+    void testValidarPaginacaoInvalida() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> Validador.validarPaginacao(-1, 10));
+        assertEquals("Paginação inválida.", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> Validador.validarPaginacao(0, -1));
+    }
+
+    @Test
+    void testVerificacoesSemExcecao() {
+        assertTrue(Validador.cpfValido("12345678901"));
+        assertFalse(Validador.cpfValido("1234567890a"));
+        assertFalse(Validador.cpfValido("123"));
+        assertFalse(Validador.cpfValido(null));
+        assertTrue(Validador.senhaValida("senha1234"));
+        assertFalse(Validador.senhaValida("curta"));
+        assertFalse(Validador.senhaValida("        "));
+        assertTrue(Validador.stringValida("x"));
+        assertFalse(Validador.stringValida(" "));
+    }
+
+    @Test
+    void testConverterDataOuNulo() {
+        assertEquals(LocalDate.of(2024, 2, 29), Validador.converterDataOuNulo("29/02/2024"));
+        assertEquals(LocalDate.of(2023, 2, 28), Validador.converterDataOuNulo("31/02/2023"));
+        assertNull(Validador.converterDataOuNulo("32/01/2023"));
+        assertNull(Validador.converterDataOuNulo("1/1/2023"));
+        assertNull(Validador.converterDataOuNulo(null));
+        assertThrows(IllegalArgumentException.class, () -> Validador.validarEConverterData(null));
+    }
+
+    @Test
+    void testExcecaoDeValidacaoSemPilha() {
+        ExcecaoValidacao e = assertThrows(ExcecaoValidacao.class, () -> Validador.validarCPF("abc"));
+        assertEquals("CPF inválido.", e.getMessage());
+        assertEquals(0, e.getStackTrace().length);
+    }
+}